@@ -1,6 +1,7 @@
 export type KeyframeResponse = {
   timeMillis: number;
   value: number;
+  color?: string;
   easing: string;
 };
 
@@ -3,8 +3,11 @@ package com.dev.canvas.application.assembler;
 import com.dev.canvas.application.dto.CirclePropertiesResponse;
 import com.dev.canvas.application.dto.DominoPropertiesResponse;
 import com.dev.canvas.application.dto.ElementResponse;
+import com.dev.canvas.application.dto.GroupPropertiesResponse;
 import com.dev.canvas.application.dto.KeyframeResponse;
 import com.dev.canvas.application.dto.LinePropertiesResponse;
+import com.dev.canvas.application.dto.ParticlePropertiesResponse;
+import com.dev.canvas.application.dto.PathPropertiesResponse;
 import com.dev.canvas.application.dto.PropertyTweenResponse;
 import com.dev.canvas.application.dto.RectPropertiesResponse;
 import com.dev.canvas.application.dto.SceneResponse;
@@ -14,21 +17,26 @@ import com.dev.canvas.application.dto.TextPropertiesResponse;
 import com.dev.canvas.domain.animation.AnimationScene;
 import com.dev.canvas.domain.animation.CircleProperties;
 import com.dev.canvas.domain.animation.DominoProperties;
+import com.dev.canvas.domain.animation.GroupProperties;
 import com.dev.canvas.domain.animation.Keyframe;
 import com.dev.canvas.domain.animation.LineProperties;
+import com.dev.canvas.domain.animation.ParticleProperties;
+import com.dev.canvas.domain.animation.PathProperties;
+import com.dev.canvas.domain.animation.PropertyPath;
 import com.dev.canvas.domain.animation.PropertyTween;
 import com.dev.canvas.domain.animation.RectProperties;
 import com.dev.canvas.domain.animation.SceneElement;
 import com.dev.canvas.domain.animation.Shadow;
 import com.dev.canvas.domain.animation.Style;
 import com.dev.canvas.domain.animation.TextProperties;
+import com.dev.canvas.domain.color.PackedColors;
 import java.util.List;
 
 public final class SceneAssembler {
 
     public SceneResponse toResponse(AnimationScene scene) {
         List<ElementResponse> elements = scene.getElements().stream()
-            .map(this::mapElement)
+            .map(this::toElementResponse)
             .toList();
 
         return new SceneResponse(
@@ -41,12 +49,15 @@ public final class SceneAssembler {
         );
     }
 
-    private ElementResponse mapElement(SceneElement element) {
+    public ElementResponse toElementResponse(SceneElement element) {
         CirclePropertiesResponse circle = null;
         RectPropertiesResponse rect = null;
         LinePropertiesResponse line = null;
         TextPropertiesResponse text = null;
         DominoPropertiesResponse domino = null;
+        GroupPropertiesResponse group = null;
+        PathPropertiesResponse path = null;
+        ParticlePropertiesResponse particles = null;
 
         switch (element.getProperties()) {
             case CircleProperties props -> circle = mapCircle(props);
@@ -54,6 +65,9 @@ public final class SceneAssembler {
             case LineProperties props -> line = mapLine(props);
             case TextProperties props -> text = mapText(props);
             case DominoProperties props -> domino = mapDomino(props);
+            case GroupProperties props -> group = new GroupPropertiesResponse(props.x(), props.y());
+            case PathProperties props -> path = new PathPropertiesResponse(props.getData(), props.getLength(), mapStyle(props.getStyle()));
+            case ParticleProperties props -> particles = mapParticles(props);
         }
 
         List<PropertyTweenResponse> tweens = element.getTweens().stream()
@@ -65,18 +79,22 @@ public final class SceneAssembler {
             element.getPrimitiveType(),
             element.getStartMillis(),
             element.getDurationMillis(),
+            element.getParentId().orElse(null),
             circle,
             rect,
             line,
             text,
             domino,
+            group,
+            path,
+            particles,
             tweens
         );
     }
 
     private PropertyTweenResponse mapTween(PropertyTween tween) {
         List<KeyframeResponse> keyframes = tween.getKeyframes().stream()
-            .map(this::mapKeyframe)
+            .map(keyframe -> mapKeyframe(tween.getPropertyPath(), keyframe))
             .toList();
 
         return new PropertyTweenResponse(
@@ -85,10 +103,11 @@ public final class SceneAssembler {
         );
     }
 
-    private KeyframeResponse mapKeyframe(Keyframe keyframe) {
+    private KeyframeResponse mapKeyframe(PropertyPath path, Keyframe keyframe) {
         return new KeyframeResponse(
             keyframe.getTimeMillis(),
             keyframe.getValue(),
+            path.isColor() ? PackedColors.format(keyframe.getColor()) : null,
             keyframe.getEasing().getValue()
         );
     }
@@ -123,6 +142,22 @@ public final class SceneAssembler {
         );
     }
 
+    private ParticlePropertiesResponse mapParticles(ParticleProperties properties) {
+        return new ParticlePropertiesResponse(
+            properties.x(),
+            properties.y(),
+            properties.rate(),
+            properties.lifetimeMillis(),
+            properties.minVelocityX(),
+            properties.maxVelocityX(),
+            properties.minVelocityY(),
+            properties.maxVelocityY(),
+            properties.size(),
+            properties.seed(),
+            mapStyle(properties.style())
+        );
+    }
+
     private TextPropertiesResponse mapText(TextProperties properties) {
         return new TextPropertiesResponse(
             properties.getText(),
@@ -0,0 +1,52 @@
+package com.dev.canvas.application.assembler;
+
+import com.dev.canvas.application.dto.ElementResponse;
+import com.dev.canvas.application.dto.TimelineSegmentResponse;
+import com.dev.canvas.application.dto.TimelineWindowResponse;
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.SchemaVersion;
+import com.dev.canvas.domain.timeline.TimelineSegment;
+import com.dev.canvas.domain.timeline.TimelineWindow;
+import java.util.List;
+import java.util.Objects;
+
+public final class TimelineAssembler {
+
+    private final SceneAssembler sceneAssembler;
+
+    public TimelineAssembler(SceneAssembler sceneAssembler) {
+        this.sceneAssembler = Objects.requireNonNull(sceneAssembler);
+    }
+
+    public TimelineWindowResponse toResponse(TimelineWindow window) {
+        List<TimelineSegmentResponse> segments = window.getSegments().stream()
+            .map(this::mapSegment)
+            .toList();
+
+        List<ElementResponse> elements = window.getElements().stream()
+            .map(sceneAssembler::toElementResponse)
+            .toList();
+
+        return new TimelineWindowResponse(
+            window.getTimeline().getTimelineId(),
+            window.getTimeline().getName(),
+            SchemaVersion.current().getValue(),
+            window.getTimeline().getDurationMillis(),
+            window.getFromMillis(),
+            window.getToMillis(),
+            segments,
+            elements
+        );
+    }
+
+    private TimelineSegmentResponse mapSegment(TimelineSegment segment) {
+        AnimationScene scene = segment.getScene();
+        return new TimelineSegmentResponse(
+            scene.getSceneId(),
+            scene.getName(),
+            segment.getOffsetMillis(),
+            scene.getDurationMillis(),
+            scene.getBackground()
+        );
+    }
+}
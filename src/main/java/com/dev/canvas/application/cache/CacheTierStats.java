@@ -0,0 +1,17 @@
+package com.dev.canvas.application.cache;
+
+public record CacheTierStats(
+    String tier,
+    long hits,
+    long misses,
+    long evictions,
+    int entries,
+    long retainedBytes,
+    long maximumBytes
+) {
+
+    public double hitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,199 @@
+package com.dev.canvas.application.cache;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class DiskSpillTier<K> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(DiskSpillTier.class);
+
+    private static final String TIER = "disk";
+    private static final String SPILL_GLOB = "*.spill";
+
+    private final Path directory;
+    private final long maximumBytes;
+    private final Map<K, SpillFile> files;
+    private long sequence;
+    private long retainedBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public DiskSpillTier(Path directory, long maximumBytes) {
+        if (maximumBytes <= 0) {
+            throw new IllegalArgumentException("Spill maximum bytes must be positive");
+        }
+        this.directory = directory.toAbsolutePath().normalize();
+        this.maximumBytes = maximumBytes;
+        this.files = new LinkedHashMap<>();
+        try {
+            Files.createDirectories(this.directory);
+            deleteSpillFiles();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot prepare spill directory " + this.directory, e);
+        }
+    }
+
+    public byte[] get(K key) {
+        SpillFile file;
+        synchronized (this) {
+            file = files.get(key);
+            if (file == null) {
+                misses++;
+                return null;
+            }
+        }
+        try {
+            byte[] payload = read(file);
+            synchronized (this) {
+                hits++;
+            }
+            return payload;
+        } catch (NoSuchFileException e) {
+            synchronized (this) {
+                misses++;
+            }
+            return null;
+        } catch (IOException e) {
+            log.warn("Failed to read spilled payload {}", file.path(), e);
+            discard(key, file);
+            synchronized (this) {
+                misses++;
+            }
+            return null;
+        }
+    }
+
+    public void put(K key, byte[] payload) {
+        if (payload.length > maximumBytes) {
+            return;
+        }
+        Path path;
+        synchronized (this) {
+            if (files.containsKey(key)) {
+                return;
+            }
+            path = directory.resolve(Long.toString(sequence++, 36) + ".spill");
+        }
+        try {
+            write(path, payload);
+        } catch (IOException e) {
+            log.warn("Failed to spill payload to {}", path, e);
+            delete(path);
+            return;
+        }
+
+        List<SpillFile> evicted = new ArrayList<>();
+        synchronized (this) {
+            SpillFile replaced = files.put(key, new SpillFile(path, payload.length));
+            if (replaced != null) {
+                retainedBytes -= replaced.length();
+                evicted.add(replaced);
+            }
+            retainedBytes += payload.length;
+            Iterator<SpillFile> oldest = files.values().iterator();
+            while (retainedBytes > maximumBytes) {
+                SpillFile file = oldest.next();
+                oldest.remove();
+                retainedBytes -= file.length();
+                evictions++;
+                evicted.add(file);
+            }
+        }
+        evicted.forEach(file -> delete(file.path()));
+    }
+
+    public void invalidateIf(Predicate<K> keys) {
+        List<SpillFile> removed = new ArrayList<>();
+        synchronized (this) {
+            files.entrySet().removeIf(entry -> {
+                if (!keys.test(entry.getKey())) {
+                    return false;
+                }
+                retainedBytes -= entry.getValue().length();
+                removed.add(entry.getValue());
+                return true;
+            });
+        }
+        removed.forEach(file -> delete(file.path()));
+    }
+
+    public synchronized CacheTierStats stats() {
+        return new CacheTierStats(TIER, hits, misses, evictions, files.size(), retainedBytes, maximumBytes);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            files.clear();
+            retainedBytes = 0;
+        }
+        deleteSpillFiles();
+    }
+
+    private void discard(K key, SpillFile file) {
+        synchronized (this) {
+            if (!files.remove(key, file)) {
+                return;
+            }
+            retainedBytes -= file.length();
+        }
+        delete(file.path());
+    }
+
+    private void deleteSpillFiles() throws IOException {
+        try (DirectoryStream<Path> spilled = Files.newDirectoryStream(directory, SPILL_GLOB)) {
+            for (Path path : spilled) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static byte[] read(SpillFile file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(file.length());
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Spilled payload truncated: " + file.path());
+                }
+            }
+            return buffer.array();
+        }
+    }
+
+    private static void write(Path path, byte[] payload) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(payload);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete spilled payload {}", path, e);
+        }
+    }
+
+    private record SpillFile(Path path, int length) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.dev.canvas.application.cache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public final class SceneCache<K> implements AutoCloseable {
+
+    private final WindowTinyLfuCache<K> memory;
+    private final DiskSpillTier<K> disk;
+    private final AtomicLong generation;
+
+    private SceneCache(long maximumBytes, DiskSpillTier<K> disk) {
+        this.disk = disk;
+        this.generation = new AtomicLong();
+        this.memory = new WindowTinyLfuCache<>(maximumBytes, disk == null ? (key, payload) -> { } : disk::put);
+    }
+
+    public static <K> SceneCache<K> inMemory(long maximumBytes) {
+        return new SceneCache<>(maximumBytes, null);
+    }
+
+    public static <K> SceneCache<K> spilling(long maximumBytes, DiskSpillTier<K> disk) {
+        return new SceneCache<>(maximumBytes, disk);
+    }
+
+    public byte[] get(K key, Supplier<byte[]> build) {
+        byte[] payload = memory.get(key);
+        if (payload != null) {
+            return payload;
+        }
+        long observed = generation.get();
+        payload = disk == null ? null : disk.get(key);
+        if (payload == null) {
+            payload = build.get();
+        }
+        if (generation.get() == observed) {
+            memory.put(key, payload);
+            if (generation.get() != observed) {
+                memory.invalidateIf(key::equals);
+            }
+        }
+        return payload;
+    }
+
+    public void invalidateIf(Predicate<K> keys) {
+        generation.incrementAndGet();
+        memory.invalidateIf(keys);
+        if (disk != null) {
+            disk.invalidateIf(keys);
+        }
+    }
+
+    public List<CacheTierStats> stats() {
+        List<CacheTierStats> stats = new ArrayList<>();
+        stats.add(memory.stats());
+        if (disk != null) {
+            stats.add(disk.stats());
+        }
+        return stats;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (disk != null) {
+            disk.close();
+        }
+    }
+}
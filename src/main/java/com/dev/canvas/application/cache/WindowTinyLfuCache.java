@@ -0,0 +1,299 @@
+package com.dev.canvas.application.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+public final class WindowTinyLfuCache<K> {
+
+    private static final String TIER = "memory";
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+    private static final long ASSUMED_ENTRY_BYTES = 16 * 1024;
+    private static final double WINDOW_SHARE = 0.01;
+    private static final double PROTECTED_SHARE = 0.8;
+
+    private final long maximumBytes;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final BiConsumer<K, byte[]> evictionListener;
+    private final Map<K, Node<K>> nodes;
+    private final FrequencySketch sketch;
+    private final NodeList<K> window;
+    private final NodeList<K> probation;
+    private final NodeList<K> protectedSegment;
+    private final ReadWriteLock spillLock;
+    private List<Node<K>> pendingEvictions;
+    private long invalidations;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public WindowTinyLfuCache(long maximumBytes, BiConsumer<K, byte[]> evictionListener) {
+        if (maximumBytes <= 0) {
+            throw new IllegalArgumentException("Cache maximum bytes must be positive");
+        }
+        this.maximumBytes = maximumBytes;
+        this.windowMaximum = (long) (maximumBytes * WINDOW_SHARE);
+        this.protectedMaximum = (long) ((maximumBytes - windowMaximum) * PROTECTED_SHARE);
+        this.evictionListener = Objects.requireNonNull(evictionListener);
+        this.nodes = new HashMap<>();
+        this.sketch = new FrequencySketch((int) Math.clamp(maximumBytes / ASSUMED_ENTRY_BYTES, 64, 1 << 20));
+        this.window = new NodeList<>();
+        this.probation = new NodeList<>();
+        this.protectedSegment = new NodeList<>();
+        this.spillLock = new ReentrantReadWriteLock();
+        this.pendingEvictions = new ArrayList<>();
+    }
+
+    public static long retainedBytes(byte[] payload) {
+        return align(ARRAY_HEADER_BYTES + payload.length) + ENTRY_OVERHEAD_BYTES;
+    }
+
+    public synchronized byte[] get(K key) {
+        sketch.increment(key);
+        Node<K> node = nodes.get(key);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        onHit(node);
+        return node.payload;
+    }
+
+    public void put(K key, byte[] payload) {
+        Objects.requireNonNull(payload);
+        List<Node<K>> evicted;
+        long observed;
+        synchronized (this) {
+            insert(key, payload);
+            evicted = pendingEvictions;
+            pendingEvictions = new ArrayList<>();
+            observed = invalidations;
+        }
+        if (evicted.isEmpty()) {
+            return;
+        }
+        // An invalidation that ran after these nodes left the map could not see them, so they are dropped
+        // rather than handed to the listener; one that starts later waits for the listener to finish.
+        spillLock.readLock().lock();
+        try {
+            if (invalidations() != observed) {
+                return;
+            }
+            for (Node<K> node : evicted) {
+                evictionListener.accept(node.key, node.payload);
+            }
+        } finally {
+            spillLock.readLock().unlock();
+        }
+    }
+
+    public void invalidateIf(Predicate<K> keys) {
+        spillLock.writeLock().lock();
+        try {
+            synchronized (this) {
+                invalidations++;
+                nodes.values().removeIf(node -> {
+                    if (!keys.test(node.key)) {
+                        return false;
+                    }
+                    segmentOf(node).unlink(node);
+                    return true;
+                });
+            }
+        } finally {
+            spillLock.writeLock().unlock();
+        }
+    }
+
+    public synchronized CacheTierStats stats() {
+        long retained = window.bytes + probation.bytes + protectedSegment.bytes;
+        return new CacheTierStats(TIER, hits, misses, evictions, nodes.size(), retained, maximumBytes);
+    }
+
+    private synchronized long invalidations() {
+        return invalidations;
+    }
+
+    private void insert(K key, byte[] payload) {
+        Node<K> existing = nodes.remove(key);
+        if (existing != null) {
+            segmentOf(existing).unlink(existing);
+        }
+        long weight = retainedBytes(payload);
+        if (weight > maximumBytes - windowMaximum) {
+            evict(new Node<>(key, payload, weight));
+            return;
+        }
+        sketch.increment(key);
+        Node<K> node = new Node<>(key, payload, weight);
+        nodes.put(key, node);
+        window.addFirst(node);
+        drainWindow();
+    }
+
+    private void onHit(Node<K> node) {
+        if (node.segment == Segment.PROBATION) {
+            probation.unlink(node);
+            node.segment = Segment.PROTECTED;
+            protectedSegment.addFirst(node);
+            while (protectedSegment.bytes > protectedMaximum) {
+                Node<K> demoted = protectedSegment.removeLast();
+                demoted.segment = Segment.PROBATION;
+                probation.addFirst(demoted);
+            }
+        } else {
+            segmentOf(node).moveToFirst(node);
+        }
+    }
+
+    private void drainWindow() {
+        while (window.bytes > windowMaximum) {
+            Node<K> candidate = window.removeLast();
+            if (admit(candidate)) {
+                candidate.segment = Segment.PROBATION;
+                probation.addFirst(candidate);
+            } else {
+                nodes.remove(candidate.key);
+                evict(candidate);
+            }
+        }
+    }
+
+    private boolean admit(Node<K> candidate) {
+        long mainMaximum = maximumBytes - windowMaximum;
+        long excess = probation.bytes + protectedSegment.bytes + candidate.weight - mainMaximum;
+        if (excess <= 0) {
+            return true;
+        }
+        int candidateFrequency = sketch.frequency(candidate.key);
+        int victimCount = 0;
+        Node<K> victim = probation.last();
+        boolean scanningProtected = false;
+        for (long freed = 0; freed < excess; victimCount++) {
+            if (victim == null && !scanningProtected) {
+                scanningProtected = true;
+                victim = protectedSegment.last();
+            }
+            if (victim == null) {
+                return false;
+            }
+            if (candidateFrequency <= sketch.frequency(victim.key)) {
+                return false;
+            }
+            freed += victim.weight;
+            victim = victim.previous;
+        }
+        for (int i = 0; i < victimCount; i++) {
+            NodeList<K> victims = probation.isEmpty() ? protectedSegment : probation;
+            Node<K> evicted = victims.last();
+            victims.unlink(evicted);
+            nodes.remove(evicted.key);
+            evict(evicted);
+        }
+        return true;
+    }
+
+    private void evict(Node<K> node) {
+        evictions++;
+        pendingEvictions.add(node);
+    }
+
+    private NodeList<K> segmentOf(Node<K> node) {
+        return switch (node.segment) {
+            case WINDOW -> window;
+            case PROBATION -> probation;
+            case PROTECTED -> protectedSegment;
+        };
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private enum Segment {
+        WINDOW,
+        PROBATION,
+        PROTECTED
+    }
+
+    private static final class Node<K> {
+
+        private final K key;
+        private final byte[] payload;
+        private final long weight;
+        private Segment segment = Segment.WINDOW;
+        private Node<K> previous;
+        private Node<K> next;
+
+        private Node(K key, byte[] payload, long weight) {
+            this.key = key;
+            this.payload = payload;
+            this.weight = weight;
+        }
+    }
+
+    private static final class NodeList<K> {
+
+        private Node<K> first;
+        private Node<K> last;
+        private long bytes;
+
+        boolean isEmpty() {
+            return first == null;
+        }
+
+        Node<K> last() {
+            return last;
+        }
+
+        void addFirst(Node<K> node) {
+            node.previous = null;
+            node.next = first;
+            if (first != null) {
+                first.previous = node;
+            } else {
+                last = node;
+            }
+            first = node;
+            bytes += node.weight;
+        }
+
+        Node<K> removeLast() {
+            Node<K> node = last;
+            unlink(node);
+            return node;
+        }
+
+        void moveToFirst(Node<K> node) {
+            if (node != first) {
+                unlink(node);
+                addFirst(node);
+            }
+        }
+
+        void unlink(Node<K> node) {
+            if (node.previous != null) {
+                node.previous.next = node.next;
+            } else {
+                first = node.next;
+            }
+            if (node.next != null) {
+                node.next.previous = node.previous;
+            } else {
+                last = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            bytes -= node.weight;
+        }
+    }
+}
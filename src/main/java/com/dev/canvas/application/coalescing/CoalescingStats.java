@@ -0,0 +1,12 @@
+package com.dev.canvas.application.coalescing;
+
+public record CoalescingStats(String name, long requests, long computations, int inFlight) {
+
+    public long coalesced() {
+        return requests - computations;
+    }
+
+    public double coalescingRatio() {
+        return requests == 0 ? 0 : (double) coalesced() / requests;
+    }
+}
@@ -0,0 +1,6 @@
+package com.dev.canvas.application.coalescing;
+
+import com.dev.canvas.domain.animation.SceneParameters;
+
+public record FrameRequest(String name, SceneParameters parameters, int t) {
+}
@@ -0,0 +1,90 @@
+package com.dev.canvas.application.coalescing;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public final class RequestCoalescer<K, V> {
+
+    private final String name;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight;
+    private final LongAdder requests;
+    private final LongAdder computations;
+
+    public RequestCoalescer(String name) {
+        this.name = Objects.requireNonNull(name);
+        this.inFlight = new ConcurrentHashMap<>();
+        this.requests = new LongAdder();
+        this.computations = new LongAdder();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V execute(K key, Supplier<V> computation) {
+        requests.increment();
+        while (true) {
+            CompletableFuture<V> flight = new CompletableFuture<>();
+            CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+            if (leader == null) {
+                return lead(key, flight, computation);
+            }
+            try {
+                return await(leader);
+            } catch (CancellationException e) {
+                if (!leader.isCancelled()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private V lead(K key, CompletableFuture<V> flight, Supplier<V> computation) {
+        computations.increment();
+        try {
+            V value = computation.get();
+            flight.complete(value);
+            return value;
+        } catch (CancellationException e) {
+            inFlight.remove(key, flight);
+            flight.cancel(false);
+            throw e;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public void detach(Predicate<K> keys) {
+        inFlight.keySet().removeIf(keys);
+    }
+
+    public CoalescingStats stats() {
+        long requestCount = requests.sum();
+        long computationCount = computations.sum();
+        return new CoalescingStats(name, requestCount, computationCount, inFlight.size());
+    }
+
+    private static <V> V await(CompletableFuture<V> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
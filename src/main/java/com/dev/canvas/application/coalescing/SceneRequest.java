@@ -0,0 +1,9 @@
+package com.dev.canvas.application.coalescing;
+
+import com.dev.canvas.application.writer.SceneField;
+import com.dev.canvas.domain.animation.SceneParameters;
+import com.dev.canvas.domain.animation.SchemaVersion;
+import java.util.Set;
+
+public record SceneRequest(String name, SceneParameters parameters, SchemaVersion schemaVersion, Set<SceneField> fields) {
+}
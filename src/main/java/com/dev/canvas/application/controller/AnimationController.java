@@ -1,37 +1,250 @@
 package com.dev.canvas.application.controller;
 
-import com.dev.canvas.application.assembler.SceneAssembler;
-import com.dev.canvas.application.dto.SceneResponse;
-import com.dev.canvas.domain.animation.SceneFactory;
+import com.dev.canvas.application.cache.SceneCache;
+import com.dev.canvas.application.coalescing.RequestCoalescer;
+import com.dev.canvas.application.coalescing.SceneRequest;
+import com.dev.canvas.application.dto.SceneBatchEntry;
+import com.dev.canvas.application.dto.SceneBatchRequest;
+import com.dev.canvas.application.dto.SceneParameterResponse;
+import com.dev.canvas.application.execution.BuildExecutor;
+import com.dev.canvas.application.writer.SceneField;
+import com.dev.canvas.application.writer.SceneWriter;
+import com.dev.canvas.application.writer.SceneWriters;
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.SceneCatalog;
+import com.dev.canvas.domain.animation.SceneParameter;
+import com.dev.canvas.domain.animation.SceneParameters;
+import com.dev.canvas.domain.animation.SchemaVersion;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/api/v1/animations")
 public class AnimationController {
 
-    private final SceneFactory sceneFactory;
-    private final SceneAssembler sceneAssembler;
+    private static final int MAX_BATCH_SCENES = 256;
+    private static final int MAX_BATCH_IN_FLIGHT = 8;
+    private static final Set<String> RESERVED_QUERY_PARAMETERS = Set.of("schemaVersion", "fields");
 
-    public AnimationController(SceneFactory sceneFactory, SceneAssembler sceneAssembler) {
-        this.sceneFactory = sceneFactory;
-        this.sceneAssembler = sceneAssembler;
+    private final SceneCatalog sceneCatalog;
+    private final SceneWriters sceneWriters;
+    private final RequestCoalescer<SceneRequest, byte[]> sceneRequests;
+    private final SceneCache<SceneRequest> sceneCache;
+    private final BuildExecutor buildExecutor;
+
+    public AnimationController(
+        SceneCatalog sceneCatalog,
+        SceneWriters sceneWriters,
+        RequestCoalescer<SceneRequest, byte[]> sceneRequests,
+        SceneCache<SceneRequest> sceneCache,
+        BuildExecutor buildExecutor
+    ) {
+        this.sceneCatalog = sceneCatalog;
+        this.sceneWriters = sceneWriters;
+        this.sceneRequests = sceneRequests;
+        this.sceneCache = sceneCache;
+        this.buildExecutor = buildExecutor;
     }
 
-    @GetMapping("/circle-slide")
-    public SceneResponse getCircleSlideScene() {
-        return sceneAssembler.toResponse(sceneFactory.createCircleSlideScene());
+    @GetMapping
+    public List<String> getSceneNames() {
+        return sceneCatalog.sceneNames();
     }
 
-    @GetMapping("/client-server")
-    public SceneResponse getClientServerScene() {
-        return sceneAssembler.toResponse(sceneFactory.createClientServerScene());
+    @GetMapping(value = "/{name}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getScene(
+        @PathVariable String name,
+        @RequestParam(required = false) String schemaVersion,
+        @RequestParam(required = false) String fields,
+        @RequestParam Map<String, String> query,
+        HttpServletResponse response
+    ) throws IOException {
+        SceneWriter writer = resolveWriter(schemaVersion, fields);
+        Set<SceneField> selectedFields = parseFields(fields);
+        Map<String, String> parameters = new HashMap<>(query);
+        parameters.keySet().removeAll(RESERVED_QUERY_PARAMETERS);
+
+        byte[] body = fetchScene(name, parameters, writer, selectedFields);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
     }
 
-    @GetMapping("/domino-fall")
-    public SceneResponse getDominoFallScene() {
-        return sceneAssembler.toResponse(sceneFactory.createDominoFallScene());
+    @GetMapping("/{name}/parameters")
+    public List<SceneParameterResponse> getSceneParameters(@PathVariable String name) {
+        return sceneCatalog.findParameters(name)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown scene: " + name))
+            .stream()
+            .map(AnimationController::toResponse)
+            .toList();
+    }
+
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getScenes(@RequestBody SceneBatchRequest batch, HttpServletResponse response) throws IOException {
+        List<SceneBatchEntry> entries = batchEntries(batch);
+        SceneWriter writer = resolveWriter(batch.schemaVersion(), batch.fields());
+        Set<SceneField> selectedFields = parseFields(batch.fields());
+
+        try (ExecutorService fetches = Executors.newFixedThreadPool(MAX_BATCH_IN_FLIGHT, Thread.ofVirtual().factory())) {
+            List<Future<byte[]>> scenes = new ArrayList<>(entries.size());
+            for (SceneBatchEntry entry : entries) {
+                Map<String, String> parameters = entry.parameters() != null ? entry.parameters() : Map.of();
+                scenes.add(fetches.submit(() -> fetchScene(entry.name(), parameters, writer, selectedFields)));
+            }
+            try {
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                writeBatch(entries, scenes, response.getOutputStream());
+            } finally {
+                scenes.forEach(scene -> scene.cancel(true));
+            }
+        }
+    }
+
+    private byte[] fetchScene(String name, Map<String, String> requested, SceneWriter writer, Set<SceneField> selectedFields) {
+        SceneParameters parameters = resolveParameters(name, requested);
+        SceneRequest request = new SceneRequest(name, parameters, writer.getSchemaVersion(), selectedFields);
+        return sceneRequests.execute(request, () -> sceneCache.get(request,
+            () -> buildExecutor.call(() -> renderScene(name, parameters, writer, selectedFields))));
+    }
+
+    private SceneParameters resolveParameters(String name, Map<String, String> requested) {
+        List<SceneParameter> declared = sceneCatalog.findParameters(name)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown scene: " + name));
+        try {
+            return SceneParameters.resolve(declared, requested);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    private void writeBatch(List<SceneBatchEntry> entries, List<Future<byte[]>> scenes, OutputStream out) throws IOException {
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        out.write(ascii("{\"scenes\":["));
+        for (int i = 0; i < entries.size(); i++) {
+            out.write(ascii(i == 0 ? "{\"name\":\"" : ",{\"name\":\""));
+            out.write(encoder.quoteAsUTF8(entries.get(i).name()));
+            try {
+                byte[] scene = awaitScene(scenes.get(i));
+                out.write(ascii("\",\"status\":200,\"scene\":"));
+                out.write(scene);
+            } catch (ResponseStatusException e) {
+                out.write(ascii("\",\"status\":" + e.getStatusCode().value() + ",\"error\":\""));
+                out.write(encoder.quoteAsUTF8(String.valueOf(e.getReason())));
+                out.write('"');
+            }
+            out.write('}');
+            out.flush();
+        }
+        out.write(ascii("]}"));
+    }
+
+    private static byte[] awaitScene(Future<byte[]> scene) {
+        if (Thread.currentThread().isInterrupted()) {
+            scene.cancel(true);
+        }
+        try {
+            return scene.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            scene.cancel(true);
+            throw interrupted();
+        } catch (CancellationException e) {
+            throw interrupted();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ResponseStatusException cause) {
+                throw cause;
+            }
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getCause().getMessage(), e.getCause());
+        }
     }
-}
 
+    private static ResponseStatusException interrupted() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Request interrupted while waiting for batch scene");
+    }
+
+    private static List<SceneBatchEntry> batchEntries(SceneBatchRequest batch) {
+        if (batch.scenes() == null || batch.scenes().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch must list at least one scene");
+        }
+        if (batch.scenes().size() > MAX_BATCH_SCENES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Batch lists " + batch.scenes().size() + " scenes, at most " + MAX_BATCH_SCENES + " are allowed");
+        }
+        for (SceneBatchEntry entry : batch.scenes()) {
+            if (entry == null || entry.name() == null || entry.name().isBlank()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch entries must name a scene");
+            }
+        }
+        return batch.scenes();
+    }
+
+    private static SceneParameterResponse toResponse(SceneParameter parameter) {
+        return new SceneParameterResponse(
+            parameter.getName(),
+            parameter.getType().getValue(),
+            parameter.getDefaultValue(),
+            parameter.getMinimum(),
+            parameter.getMaximum()
+        );
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private byte[] renderScene(String name, SceneParameters parameters, SceneWriter writer, Set<SceneField> selectedFields) {
+        AnimationScene scene = sceneCatalog.findScene(name, parameters)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown scene: " + name));
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try {
+            writer.write(scene, selectedFields, body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return body.toByteArray();
+    }
+
+    private SceneWriter resolveWriter(String schemaVersion, String fields) {
+        SchemaVersion requested = schemaVersion == null ? SchemaVersion.current() : SchemaVersion.of(schemaVersion);
+        SceneWriter writer = sceneWriters.find(requested)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE, "Unsupported schema version: " + requested));
+        if (fields != null && !fields.isBlank() && !writer.supportsFieldSelection()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Field selection requires schema version " + SchemaVersion.columnar());
+        }
+        return writer;
+    }
+
+    private Set<SceneField> parseFields(String fields) {
+        try {
+            return SceneField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.dev.canvas.application.controller;
+
+import com.dev.canvas.application.execution.BuildExecutor;
+import com.dev.canvas.application.export.SceneExporter;
+import com.dev.canvas.application.export.SceneExporters;
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.SceneCatalog;
+import com.dev.canvas.domain.animation.SceneParameter;
+import com.dev.canvas.domain.animation.SceneParameters;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/v1/animations")
+public class ExportController {
+
+    private final SceneCatalog sceneCatalog;
+    private final SceneExporters sceneExporters;
+    private final BuildExecutor buildExecutor;
+
+    public ExportController(SceneCatalog sceneCatalog, SceneExporters sceneExporters, BuildExecutor buildExecutor) {
+        this.sceneCatalog = sceneCatalog;
+        this.sceneExporters = sceneExporters;
+        this.buildExecutor = buildExecutor;
+    }
+
+    @GetMapping("/{name}/export/{format}")
+    public void export(
+        @PathVariable String name,
+        @PathVariable String format,
+        @RequestParam Map<String, String> query,
+        HttpServletResponse response
+    ) throws IOException {
+        SceneExporter exporter = sceneExporters.find(format)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE,
+                "Unsupported export format: " + format + ", expected one of " + sceneExporters.formats()));
+        SceneParameters parameters = resolveParameters(name, query);
+        AnimationScene scene = buildExecutor.call(() -> sceneCatalog.findScene(name, parameters)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown scene: " + name)));
+
+        response.setContentType(exporter.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        exporter.export(scene, response.getOutputStream());
+    }
+
+    private SceneParameters resolveParameters(String name, Map<String, String> requested) {
+        List<SceneParameter> declared = sceneCatalog.findParameters(name)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown scene: " + name));
+        try {
+            return SceneParameters.resolve(declared, requested);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
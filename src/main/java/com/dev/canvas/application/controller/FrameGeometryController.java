@@ -0,0 +1,86 @@
+package com.dev.canvas.application.controller;
+
+import com.dev.canvas.application.coalescing.FrameRequest;
+import com.dev.canvas.application.coalescing.RequestCoalescer;
+import com.dev.canvas.application.execution.BuildExecutor;
+import com.dev.canvas.domain.animation.SceneCatalog;
+import com.dev.canvas.domain.animation.SceneDerivedCache;
+import com.dev.canvas.domain.animation.SceneParameters;
+import com.dev.canvas.domain.projection.DominoBatch;
+import com.dev.canvas.domain.projection.DominoProjectionKernel;
+import com.dev.canvas.domain.projection.ProjectedFrame;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/v1/animations/{name}")
+public class FrameGeometryController {
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final SceneCatalog sceneCatalog;
+    private final SceneDerivedCache<DominoBatch> dominoBatches;
+    private final DominoProjectionKernel projectionKernel;
+    private final RequestCoalescer<FrameRequest, byte[]> frameRequests;
+    private final BuildExecutor buildExecutor;
+
+    public FrameGeometryController(
+        SceneCatalog sceneCatalog,
+        SceneDerivedCache<DominoBatch> dominoBatches,
+        DominoProjectionKernel projectionKernel,
+        RequestCoalescer<FrameRequest, byte[]> frameRequests,
+        BuildExecutor buildExecutor
+    ) {
+        this.sceneCatalog = sceneCatalog;
+        this.dominoBatches = dominoBatches;
+        this.projectionKernel = projectionKernel;
+        this.frameRequests = frameRequests;
+        this.buildExecutor = buildExecutor;
+    }
+
+    @GetMapping(value = "/frame-geometry", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public byte[] frameGeometry(
+        @PathVariable String name,
+        @RequestParam(defaultValue = "0") int t,
+        @RequestParam Map<String, String> query
+    ) {
+        Map<String, String> requested = new HashMap<>(query);
+        requested.remove("t");
+        SceneParameters parameters = resolveParameters(name, requested);
+        return frameRequests.execute(new FrameRequest(name, parameters, t),
+            () -> buildExecutor.call(() -> projectFrame(name, parameters, t)));
+    }
+
+    private SceneParameters resolveParameters(String name, Map<String, String> requested) {
+        try {
+            return sceneCatalog.resolveParameters(name, requested)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown scene: " + name));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    private byte[] projectFrame(String name, SceneParameters parameters, int t) {
+        DominoBatch batch = dominoBatches.find(name, parameters)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown scene: " + name));
+        ProjectedFrame frame = projectionKernel.projectAt(batch, t);
+
+        int floatCount = 2 * frame.getCount() * frame.getCornerCount();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + floatCount * Float.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(frame.getCount());
+        buffer.putInt(frame.getCornerCount());
+        frame.copyTo(buffer.asFloatBuffer());
+        return buffer.array();
+    }
+}
@@ -0,0 +1,65 @@
+package com.dev.canvas.application.controller;
+
+import com.dev.canvas.application.cache.CacheTierStats;
+import com.dev.canvas.application.cache.SceneCache;
+import com.dev.canvas.application.coalescing.CoalescingStats;
+import com.dev.canvas.application.coalescing.RequestCoalescer;
+import com.dev.canvas.application.coalescing.SceneRequest;
+import com.dev.canvas.application.dto.CacheTierStatsResponse;
+import com.dev.canvas.application.dto.CoalescingStatsResponse;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/metrics")
+public class MetricsController {
+
+    private final List<RequestCoalescer<?, ?>> coalescers;
+    private final SceneCache<SceneRequest> sceneCache;
+
+    public MetricsController(List<RequestCoalescer<?, ?>> coalescers, SceneCache<SceneRequest> sceneCache) {
+        this.coalescers = coalescers;
+        this.sceneCache = sceneCache;
+    }
+
+    @GetMapping("/coalescing")
+    public List<CoalescingStatsResponse> coalescing() {
+        return coalescers.stream()
+            .map(RequestCoalescer::stats)
+            .map(MetricsController::toResponse)
+            .toList();
+    }
+
+    @GetMapping("/scene-cache")
+    public List<CacheTierStatsResponse> sceneCache() {
+        return sceneCache.stats().stream()
+            .map(MetricsController::toResponse)
+            .toList();
+    }
+
+    private static CoalescingStatsResponse toResponse(CoalescingStats stats) {
+        return new CoalescingStatsResponse(
+            stats.name(),
+            stats.requests(),
+            stats.computations(),
+            stats.coalesced(),
+            stats.inFlight(),
+            stats.coalescingRatio()
+        );
+    }
+
+    private static CacheTierStatsResponse toResponse(CacheTierStats stats) {
+        return new CacheTierStatsResponse(
+            stats.tier(),
+            stats.hits(),
+            stats.misses(),
+            stats.evictions(),
+            stats.hitRatio(),
+            stats.entries(),
+            stats.retainedBytes(),
+            stats.maximumBytes()
+        );
+    }
+}
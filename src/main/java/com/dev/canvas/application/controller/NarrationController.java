@@ -0,0 +1,56 @@
+package com.dev.canvas.application.controller;
+
+import com.dev.canvas.application.dto.NarrationBeatsResponse;
+import com.dev.canvas.application.dto.SilenceGapResponse;
+import com.dev.canvas.application.execution.BuildExecutor;
+import com.dev.canvas.application.narration.NarrationLibrary;
+import com.dev.canvas.domain.audio.BeatList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.util.Arrays;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/v1/narration")
+public class NarrationController {
+
+    private final NarrationLibrary narrationLibrary;
+    private final BuildExecutor buildExecutor;
+
+    public NarrationController(NarrationLibrary narrationLibrary, BuildExecutor buildExecutor) {
+        this.narrationLibrary = narrationLibrary;
+        this.buildExecutor = buildExecutor;
+    }
+
+    @GetMapping("/{file}/beats")
+    public NarrationBeatsResponse getBeats(@PathVariable String file) {
+        BeatList beats = buildExecutor.call(() -> analyze(file));
+        return new NarrationBeatsResponse(
+            file,
+            beats.getSampleRate(),
+            beats.getDurationMillis(),
+            Arrays.stream(beats.getOnsetMillis()).boxed().toList(),
+            beats.getSilences().stream()
+                .map(gap -> new SilenceGapResponse(gap.startMillis(), gap.endMillis()))
+                .toList()
+        );
+    }
+
+    private BeatList analyze(String file) {
+        try {
+            return narrationLibrary.beats(file);
+        } catch (NoSuchFileException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown narration: " + file, e);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.dev.canvas.application.controller;
+
+import com.dev.canvas.application.execution.BuildExecutor;
+import com.dev.canvas.domain.animation.SceneDerivedCache;
+import com.dev.canvas.domain.graph.ParticleEmitters;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/v1/animations/{name}")
+public class ParticleController {
+
+    private static final int HEADER_BYTES = Integer.BYTES;
+
+    private final SceneDerivedCache<ParticleEmitters> particleEmitters;
+    private final BuildExecutor buildExecutor;
+
+    public ParticleController(SceneDerivedCache<ParticleEmitters> particleEmitters, BuildExecutor buildExecutor) {
+        this.particleEmitters = particleEmitters;
+        this.buildExecutor = buildExecutor;
+    }
+
+    @GetMapping(value = "/particles/{elementId}", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public byte[] particles(
+        @PathVariable String name,
+        @PathVariable String elementId,
+        @RequestParam(defaultValue = "0") int t,
+        @RequestParam Map<String, String> query
+    ) {
+        Map<String, String> requested = new HashMap<>(query);
+        requested.remove("t");
+        ParticleEmitters.Emitter emitter = buildExecutor.call(() -> findEmitter(name, requested, elementId));
+        int count = emitter.countAt(t);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + 2 * count * Float.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(count);
+        if (count > 0) {
+            float[] positions = new float[2 * count];
+            emitter.worldPositionsAt(t, positions);
+            buffer.asFloatBuffer().put(positions);
+        }
+        return buffer.array();
+    }
+
+    private ParticleEmitters.Emitter findEmitter(String name, Map<String, String> requested, String elementId) {
+        ParticleEmitters emitters;
+        try {
+            emitters = particleEmitters.find(name, requested)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown scene: " + name));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        return emitters.find(elementId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown particle emitter: " + elementId));
+    }
+}
@@ -0,0 +1,111 @@
+package com.dev.canvas.application.controller;
+
+import com.dev.canvas.application.dto.RenderChunkResponse;
+import com.dev.canvas.application.dto.RenderJobRequest;
+import com.dev.canvas.application.dto.RenderJobResponse;
+import com.dev.canvas.application.execution.BuildExecutor;
+import com.dev.canvas.application.render.RenderChunk;
+import com.dev.canvas.application.render.RenderChunkPlanner;
+import com.dev.canvas.application.render.RenderJob;
+import com.dev.canvas.application.render.RenderScheduler;
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.SceneCatalog;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/v1/render-jobs")
+public class RenderJobController {
+
+    private static final int DEFAULT_FPS = 60;
+    private static final int DEFAULT_FRAMES_PER_CHUNK = 120;
+
+    private final SceneCatalog sceneCatalog;
+    private final RenderChunkPlanner renderChunkPlanner;
+    private final RenderScheduler renderScheduler;
+    private final BuildExecutor buildExecutor;
+
+    public RenderJobController(
+        SceneCatalog sceneCatalog,
+        RenderChunkPlanner renderChunkPlanner,
+        RenderScheduler renderScheduler,
+        BuildExecutor buildExecutor
+    ) {
+        this.sceneCatalog = sceneCatalog;
+        this.renderChunkPlanner = renderChunkPlanner;
+        this.renderScheduler = renderScheduler;
+        this.buildExecutor = buildExecutor;
+    }
+
+    @PostMapping
+    public ResponseEntity<RenderJobResponse> submit(@RequestBody RenderJobRequest request) {
+        if (request.scene() == null || request.scene().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Render job must name a scene");
+        }
+        int fps = request.fps() != null ? request.fps() : DEFAULT_FPS;
+        int framesPerChunk = request.framesPerChunk() != null ? request.framesPerChunk() : DEFAULT_FRAMES_PER_CHUNK;
+
+        List<RenderChunk> chunks = buildExecutor.call(() -> plan(request.scene(), fps, framesPerChunk));
+        RenderJob job = renderScheduler.submit(request.scene(), chunks);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/render-jobs/" + job.getJobId()))
+            .body(toResponse(job));
+    }
+
+    @GetMapping("/{id}")
+    public RenderJobResponse getJob(@PathVariable String id) {
+        return renderScheduler.find(id)
+            .map(RenderJobController::toResponse)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown render job: " + id));
+    }
+
+    private List<RenderChunk> plan(String name, int fps, int framesPerChunk) {
+        AnimationScene scene = sceneCatalog.findScene(name)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown scene: " + name));
+        try {
+            return renderChunkPlanner.plan(scene, fps, framesPerChunk);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    private static RenderJobResponse toResponse(RenderJob job) {
+        List<RenderChunk> chunks = job.getChunks();
+        List<RenderChunkResponse> chunkResponses = new ArrayList<>(chunks.size());
+        for (RenderChunk chunk : chunks) {
+            Path output = job.chunkOutput(chunk.index());
+            chunkResponses.add(new RenderChunkResponse(
+                chunk.index(),
+                chunk.fromFrame(),
+                chunk.toFrame(),
+                chunk.contentHash(),
+                job.chunkState(chunk.index()).name(),
+                job.chunkAttempts(chunk.index()),
+                output != null ? output.toString() : null
+            ));
+        }
+        return new RenderJobResponse(
+            job.getJobId(),
+            job.getSceneName(),
+            job.getState().name(),
+            chunks.getFirst().fps(),
+            chunks.size(),
+            job.count(RenderJob.ChunkState.RENDERED),
+            job.count(RenderJob.ChunkState.CACHED),
+            job.count(RenderJob.ChunkState.FAILED),
+            job.elapsedMillis(),
+            chunkResponses
+        );
+    }
+}
@@ -0,0 +1,92 @@
+package com.dev.canvas.application.controller;
+
+import com.dev.canvas.application.dto.SpatialQueryResponse;
+import com.dev.canvas.domain.animation.SceneDerivedCache;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.spatial.Bounds;
+import com.dev.canvas.domain.spatial.SpatialIndex;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/v1/animations/{name}")
+public class SpatialController {
+
+    private static final Set<String> RESERVED_QUERY_PARAMETERS = Set.of("x", "y", "t", "viewport");
+
+    private final SceneDerivedCache<SpatialIndex> spatialIndexes;
+
+    public SpatialController(SceneDerivedCache<SpatialIndex> spatialIndexes) {
+        this.spatialIndexes = spatialIndexes;
+    }
+
+    @GetMapping("/hit")
+    public SpatialQueryResponse hit(
+        @PathVariable String name,
+        @RequestParam double x,
+        @RequestParam double y,
+        @RequestParam(defaultValue = "0") int t,
+        @RequestParam Map<String, String> query
+    ) {
+        return toResponse(name, t, findIndex(name, query).hit(x, y, t));
+    }
+
+    @GetMapping("/visible")
+    public SpatialQueryResponse visible(
+        @PathVariable String name,
+        @RequestParam String viewport,
+        @RequestParam(defaultValue = "0") int t,
+        @RequestParam Map<String, String> query
+    ) {
+        return toResponse(name, t, findIndex(name, query).visible(parseViewport(viewport), t));
+    }
+
+    private SpatialIndex findIndex(String name, Map<String, String> query) {
+        Map<String, String> requested = new HashMap<>(query);
+        requested.keySet().removeAll(RESERVED_QUERY_PARAMETERS);
+        try {
+            return spatialIndexes.find(name, requested)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown scene: " + name));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    private Bounds parseViewport(String viewport) {
+        String[] parts = viewport.split(",");
+        if (parts.length != 4) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Viewport must be minX,minY,maxX,maxY");
+        }
+        try {
+            Bounds bounds = new Bounds(
+                Double.parseDouble(parts[0].trim()),
+                Double.parseDouble(parts[1].trim()),
+                Double.parseDouble(parts[2].trim()),
+                Double.parseDouble(parts[3].trim())
+            );
+            if (bounds.width() < 0 || bounds.height() < 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Viewport min must not exceed max");
+            }
+            return bounds;
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Viewport must be numeric", e);
+        }
+    }
+
+    private SpatialQueryResponse toResponse(String name, int timeMillis, List<SceneElement> elements) {
+        return new SpatialQueryResponse(
+            name,
+            timeMillis,
+            elements.stream().map(SceneElement::getElementId).toList()
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.dev.canvas.application.controller;
+
+import com.dev.canvas.application.assembler.TimelineAssembler;
+import com.dev.canvas.application.dto.TimelineWindowResponse;
+import com.dev.canvas.domain.timeline.Timeline;
+import com.dev.canvas.domain.timeline.TimelineFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/v1/timelines")
+public class TimelineController {
+
+    private final TimelineFactory timelineFactory;
+    private final TimelineAssembler timelineAssembler;
+
+    public TimelineController(TimelineFactory timelineFactory, TimelineAssembler timelineAssembler) {
+        this.timelineFactory = timelineFactory;
+        this.timelineAssembler = timelineAssembler;
+    }
+
+    @GetMapping("/{id}")
+    public TimelineWindowResponse getTimelineWindow(
+        @PathVariable String id,
+        @RequestParam(defaultValue = "0") int from,
+        @RequestParam(required = false) Integer to
+    ) {
+        Timeline timeline = timelineFactory.findTimeline(id)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown timeline: " + id));
+
+        int toMillis = to != null ? to : timeline.getDurationMillis();
+        if (from < 0 || toMillis <= from) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Window must satisfy 0 <= from < to");
+        }
+        return timelineAssembler.toResponse(timeline.window(from, toMillis));
+    }
+}
@@ -0,0 +1,4 @@
+package com.dev.canvas.application.definition;
+
+public record CircleDefinition(int centerX, int centerY, int radius, StyleDefinition style) {
+}
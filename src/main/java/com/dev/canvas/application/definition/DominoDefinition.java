@@ -0,0 +1,4 @@
+package com.dev.canvas.application.definition;
+
+public record DominoDefinition(int x, int y, int z, int width, int height, int depth, double rotationX, StyleDefinition style) {
+}
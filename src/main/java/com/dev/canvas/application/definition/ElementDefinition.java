@@ -0,0 +1,6 @@
+package com.dev.canvas.application.definition;
+
+import java.util.List;
+
+public record ElementDefinition(String id, String parent, int startMillis, int durationMillis, CircleDefinition circle, RectDefinition rect, LineDefinition line, TextDefinition text, DominoDefinition domino, GroupDefinition group, PathDefinition path, ParticlesDefinition particles, List<TweenDefinition> tweens) {
+}
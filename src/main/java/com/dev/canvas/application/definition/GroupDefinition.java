@@ -0,0 +1,4 @@
+package com.dev.canvas.application.definition;
+
+public record GroupDefinition(int x, int y) {
+}
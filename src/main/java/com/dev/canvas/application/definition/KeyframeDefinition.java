@@ -0,0 +1,4 @@
+package com.dev.canvas.application.definition;
+
+public record KeyframeDefinition(int timeMillis, double value, String color, String easing) {
+}
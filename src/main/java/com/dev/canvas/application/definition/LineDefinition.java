@@ -0,0 +1,4 @@
+package com.dev.canvas.application.definition;
+
+public record LineDefinition(int startX, int startY, int endX, int endY, StyleDefinition style) {
+}
@@ -0,0 +1,4 @@
+package com.dev.canvas.application.definition;
+
+public record NarrationDefinition(String file, Integer snapToleranceMillis) {
+}
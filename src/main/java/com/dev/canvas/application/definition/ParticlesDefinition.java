@@ -0,0 +1,4 @@
+package com.dev.canvas.application.definition;
+
+public record ParticlesDefinition(int x, int y, int rate, int lifetimeMillis, int minVelocityX, int maxVelocityX, int minVelocityY, int maxVelocityY, int size, long seed, StyleDefinition style) {
+}
@@ -0,0 +1,4 @@
+package com.dev.canvas.application.definition;
+
+public record RectDefinition(int centerX, int centerY, int width, int height, int radius, StyleDefinition style) {
+}
@@ -0,0 +1,6 @@
+package com.dev.canvas.application.definition;
+
+import java.util.List;
+
+public record SceneDefinition(String name, String background, int durationMillis, NarrationDefinition narration, List<ElementDefinition> elements) {
+}
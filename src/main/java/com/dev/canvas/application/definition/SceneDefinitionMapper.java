@@ -0,0 +1,272 @@
+package com.dev.canvas.application.definition;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.CircleProperties;
+import com.dev.canvas.domain.animation.DominoProperties;
+import com.dev.canvas.domain.animation.EasingFunction;
+import com.dev.canvas.domain.animation.GroupProperties;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.LineProperties;
+import com.dev.canvas.domain.animation.ParticleProperties;
+import com.dev.canvas.domain.animation.PathProperties;
+import com.dev.canvas.domain.animation.PrimitiveProperties;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.RectProperties;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.SceneId;
+import com.dev.canvas.domain.animation.Shadow;
+import com.dev.canvas.domain.animation.Style;
+import com.dev.canvas.domain.animation.TextProperties;
+import com.dev.canvas.domain.audio.BeatList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntUnaryOperator;
+
+public final class SceneDefinitionMapper {
+
+    private static final int DEFAULT_SNAP_TOLERANCE_MILLIS = 120;
+
+    public AnimationScene toScene(SceneDefinition definition) {
+        return toScene(definition, null);
+    }
+
+    public AnimationScene toScene(SceneDefinition definition, BeatList beats) {
+        if (definition.name() == null || definition.name().isBlank()) {
+            throw new IllegalArgumentException("Scene definition requires a name");
+        }
+
+        AnimationScene.Builder builder = AnimationScene.builder()
+            .sceneId(SceneId.generate(definition.name()).getValue())
+            .name(definition.name())
+            .background(definition.background())
+            .durationMillis(definition.durationMillis());
+
+        IntUnaryOperator snap = beats == null ? IntUnaryOperator.identity() : beats.snapping(snapTolerance(definition));
+        List<ElementDefinition> elements = orEmpty(definition.elements());
+        Map<String, String> elementIds = new HashMap<>();
+        for (int i = 0; i < elements.size(); i++) {
+            SceneElement element = mapElement(definition.name(), elements.get(i), i, elementIds, snap);
+            if (elements.get(i).id() != null) {
+                elementIds.putIfAbsent(elements.get(i).id(), element.getElementId());
+            }
+            builder.addElement(element);
+        }
+        return builder.build();
+    }
+
+    private static int snapTolerance(SceneDefinition definition) {
+        if (definition.narration() == null || definition.narration().snapToleranceMillis() == null) {
+            return DEFAULT_SNAP_TOLERANCE_MILLIS;
+        }
+        return definition.narration().snapToleranceMillis();
+    }
+
+    private SceneElement mapElement(String sceneName, ElementDefinition definition, int index, Map<String, String> elementIds,
+                                    IntUnaryOperator snap) {
+        String localId = Objects.requireNonNullElse(definition.id(), "element");
+        String parentId = null;
+        if (definition.parent() != null) {
+            parentId = elementIds.get(definition.parent());
+            if (parentId == null) {
+                throw new IllegalArgumentException("Element '" + localId + "' references unknown parent '" + definition.parent() + "'");
+            }
+        }
+
+        int endMillis = definition.startMillis() + definition.durationMillis();
+        int startMillis = snap.applyAsInt(definition.startMillis());
+        if (startMillis >= endMillis) {
+            startMillis = definition.startMillis();
+        }
+
+        SceneElement.Builder builder = SceneElement.builder()
+            .elementId(SceneId.generateForElement(sceneName, localId, index).getValue())
+            .parentId(parentId)
+            .startMillis(startMillis)
+            .durationMillis(endMillis - startMillis)
+            .properties(mapProperties(localId, definition));
+
+        for (TweenDefinition tween : orEmpty(definition.tweens())) {
+            builder.addTween(mapTween(tween, snap));
+        }
+        return builder.build();
+    }
+
+    private PrimitiveProperties mapProperties(String localId, ElementDefinition definition) {
+        List<PrimitiveProperties> slots = new ArrayList<>(1);
+        if (definition.circle() != null) {
+            slots.add(mapCircle(definition.circle()));
+        }
+        if (definition.rect() != null) {
+            slots.add(mapRect(definition.rect()));
+        }
+        if (definition.line() != null) {
+            slots.add(mapLine(definition.line()));
+        }
+        if (definition.text() != null) {
+            slots.add(mapText(definition.text()));
+        }
+        if (definition.domino() != null) {
+            slots.add(mapDomino(definition.domino()));
+        }
+        if (definition.group() != null) {
+            slots.add(GroupProperties.builder().x(definition.group().x()).y(definition.group().y()).build());
+        }
+        if (definition.path() != null) {
+            slots.add(mapPath(definition.path()));
+        }
+        if (definition.particles() != null) {
+            slots.add(mapParticles(definition.particles()));
+        }
+        if (slots.size() != 1) {
+            throw new IllegalArgumentException("Element '" + localId + "' must define exactly one of circle, rect, line, text, domino, group, path, particles");
+        }
+        return slots.getFirst();
+    }
+
+    private PropertyTween mapTween(TweenDefinition definition, IntUnaryOperator snap) {
+        PropertyPath path = PropertyPath.fromValue(definition.propertyPath());
+        PropertyTween.Builder builder = PropertyTween.builder()
+            .propertyPath(path);
+
+        List<KeyframeDefinition> keyframes = orEmpty(definition.keyframes());
+        for (int i = 1; i < keyframes.size(); i++) {
+            if (keyframes.get(i).timeMillis() < keyframes.get(i - 1).timeMillis()) {
+                throw new IllegalArgumentException("Keyframes of '" + definition.propertyPath() + "' must be ordered by time");
+            }
+        }
+
+        int previousTime = Integer.MIN_VALUE;
+        for (int i = 0; i < keyframes.size(); i++) {
+            int timeMillis = snappedKeyframeTime(keyframes, i, previousTime, snap);
+            builder.addKeyframe(mapKeyframe(path, keyframes.get(i), timeMillis));
+            previousTime = timeMillis;
+        }
+        return builder.build();
+    }
+
+    private static int snappedKeyframeTime(List<KeyframeDefinition> keyframes, int index, int previousTime, IntUnaryOperator snap) {
+        int timeMillis = keyframes.get(index).timeMillis();
+        if (index > 0 && timeMillis == keyframes.get(index - 1).timeMillis()) {
+            return previousTime;
+        }
+        int snapped = snap.applyAsInt(timeMillis);
+        boolean afterPrevious = snapped > previousTime;
+        boolean beforeNext = index + 1 == keyframes.size() || snapped < keyframes.get(index + 1).timeMillis();
+        return afterPrevious && beforeNext ? snapped : timeMillis;
+    }
+
+    private Keyframe mapKeyframe(PropertyPath path, KeyframeDefinition definition, int timeMillis) {
+        Keyframe.Builder builder = Keyframe.builder()
+            .timeMillis(timeMillis)
+            .easing(EasingFunction.fromValue(definition.easing()));
+        if (definition.color() == null) {
+            return builder.value(definition.value()).build();
+        }
+        if (!path.isColor()) {
+            throw new IllegalArgumentException("Keyframe color requires a color property path, not '" + path.getValue() + "'");
+        }
+        return builder.color(definition.color()).build();
+    }
+
+    private CircleProperties mapCircle(CircleDefinition definition) {
+        return CircleProperties.builder()
+            .centerX(definition.centerX())
+            .centerY(definition.centerY())
+            .radius(definition.radius())
+            .style(mapStyle(definition.style()))
+            .build();
+    }
+
+    private RectProperties mapRect(RectDefinition definition) {
+        return RectProperties.builder()
+            .centerX(definition.centerX())
+            .centerY(definition.centerY())
+            .width(definition.width())
+            .height(definition.height())
+            .radius(definition.radius())
+            .style(mapStyle(definition.style()))
+            .build();
+    }
+
+    private PathProperties mapPath(PathDefinition definition) {
+        return PathProperties.builder()
+            .data(Objects.requireNonNull(definition.data(), "data"))
+            .style(mapStyle(definition.style()))
+            .build();
+    }
+
+    private ParticleProperties mapParticles(ParticlesDefinition definition) {
+        return ParticleProperties.builder()
+            .x(definition.x())
+            .y(definition.y())
+            .rate(definition.rate())
+            .lifetimeMillis(definition.lifetimeMillis())
+            .velocityX(definition.minVelocityX(), definition.maxVelocityX())
+            .velocityY(definition.minVelocityY(), definition.maxVelocityY())
+            .size(definition.size())
+            .seed(definition.seed())
+            .style(mapStyle(definition.style()))
+            .build();
+    }
+
+    private LineProperties mapLine(LineDefinition definition) {
+        return LineProperties.builder()
+            .startX(definition.startX())
+            .startY(definition.startY())
+            .endX(definition.endX())
+            .endY(definition.endY())
+            .style(mapStyle(definition.style()))
+            .build();
+    }
+
+    private TextProperties mapText(TextDefinition definition) {
+        return TextProperties.builder()
+            .text(Objects.requireNonNull(definition.text(), "text"))
+            .centerX(definition.centerX())
+            .centerY(definition.centerY())
+            .fontSize(definition.fontSize())
+            .color(Objects.requireNonNull(definition.color(), "color"))
+            .fontWeight(Objects.requireNonNullElse(definition.fontWeight(), "400"))
+            .build();
+    }
+
+    private DominoProperties mapDomino(DominoDefinition definition) {
+        return DominoProperties.builder()
+            .x(definition.x())
+            .y(definition.y())
+            .z(definition.z())
+            .width(definition.width())
+            .height(definition.height())
+            .depth(definition.depth())
+            .rotationX(definition.rotationX())
+            .style(mapStyle(definition.style()))
+            .build();
+    }
+
+    private Style mapStyle(StyleDefinition definition) {
+        if (definition == null) {
+            return Style.builder().build();
+        }
+        Shadow shadow = definition.shadow() == null ? null : Shadow.builder()
+            .blur(definition.shadow().blur())
+            .offsetX(definition.shadow().offsetX())
+            .offsetY(definition.shadow().offsetY())
+            .color(Objects.requireNonNull(definition.shadow().color(), "shadow.color"))
+            .build();
+
+        return Style.builder()
+            .fillColor(definition.fillColor())
+            .strokeColor(definition.strokeColor())
+            .lineWidth(definition.lineWidth())
+            .shadow(shadow)
+            .build();
+    }
+
+    private static <T> List<T> orEmpty(List<T> values) {
+        return values == null ? List.of() : values;
+    }
+}
@@ -0,0 +1,184 @@
+package com.dev.canvas.application.definition;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import com.dev.canvas.application.narration.NarrationLibrary;
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.SceneCatalog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class SceneDefinitionWatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(SceneDefinitionWatcher.class);
+
+    private static final String DEFINITION_SUFFIX = ".json";
+    private static final long SETTLE_MILLIS = 15;
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final SceneDefinitionMapper definitionMapper;
+    private final SceneCatalog sceneCatalog;
+    private final NarrationLibrary narrationLibrary;
+    private final Map<Path, String> loadedScenes;
+    private final Set<Path> duplicateFiles;
+    private volatile WatchService watchService;
+
+    public SceneDefinitionWatcher(Path directory, ObjectMapper objectMapper,
+                                  SceneDefinitionMapper definitionMapper, SceneCatalog sceneCatalog,
+                                  NarrationLibrary narrationLibrary) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.definitionMapper = Objects.requireNonNull(definitionMapper);
+        this.sceneCatalog = Objects.requireNonNull(sceneCatalog);
+        this.narrationLibrary = Objects.requireNonNull(narrationLibrary);
+        this.loadedScenes = new ConcurrentHashMap<>();
+        this.duplicateFiles = ConcurrentHashMap.newKeySet();
+    }
+
+    public void start() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            log.info("Scene definition directory {} does not exist, declarative scenes disabled", directory);
+            return;
+        }
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        reloadAll();
+
+        Thread.ofPlatform()
+            .name("scene-definition-watcher")
+            .daemon()
+            .start(this::watch);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                Set<Path> changed = new LinkedHashSet<>();
+                boolean overflowed = collect(watchService.take(), changed);
+
+                WatchKey next;
+                while ((next = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    overflowed |= collect(next, changed);
+                }
+
+                if (overflowed) {
+                    reloadAll();
+                } else {
+                    changed.forEach(this::reload);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Scene definition watcher stopped");
+        }
+    }
+
+    private boolean collect(WatchKey key, Set<Path> changed) {
+        boolean overflowed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                overflowed = true;
+            } else if (event.context() instanceof Path relative && isDefinition(relative)) {
+                changed.add(directory.resolve(relative));
+            }
+        }
+        key.reset();
+        return overflowed;
+    }
+
+    private void reloadAll() {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(this::isDefinition).sorted().forEach(this::reload);
+        } catch (IOException e) {
+            log.warn("Failed to list scene definitions in {}", directory, e);
+        }
+        loadedScenes.keySet().stream()
+            .filter(Files::notExists)
+            .toList()
+            .forEach(this::reload);
+    }
+
+    private void reload(Path file) {
+        duplicateFiles.remove(file);
+        if (Files.notExists(file)) {
+            String removed = loadedScenes.remove(file);
+            if (removed != null) {
+                sceneCatalog.removeDefinedScene(removed);
+                log.info("Removed scene '{}' defined in {}", removed, file.getFileName());
+                reloadDuplicates();
+            }
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            SceneDefinition definition = objectMapper.readValue(file.toFile(), SceneDefinition.class);
+            AnimationScene scene = definition.narration() == null
+                ? definitionMapper.toScene(definition)
+                : definitionMapper.toScene(definition, narrationLibrary.beats(definition.narration().file()));
+
+            Path owner = ownerOf(scene.getName());
+            if (owner != null && !owner.equals(file)) {
+                duplicateFiles.add(file);
+                log.warn("Ignoring {}: scene '{}' is already defined in {}", file.getFileName(), scene.getName(),
+                    owner.getFileName());
+                return;
+            }
+
+            String previous = loadedScenes.put(file, scene.getName());
+            sceneCatalog.putDefinedScene(scene);
+            log.info("Loaded scene '{}' from {} in {} ms", scene.getName(), file.getFileName(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            if (previous != null && !previous.equals(scene.getName())) {
+                sceneCatalog.removeDefinedScene(previous);
+                reloadDuplicates();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Keeping previous version of {}: {}", file.getFileName(), e.getMessage());
+        }
+    }
+
+    private Path ownerOf(String sceneName) {
+        for (Map.Entry<Path, String> loaded : loadedScenes.entrySet()) {
+            if (loaded.getValue().equals(sceneName)) {
+                return loaded.getKey();
+            }
+        }
+        return null;
+    }
+
+    private void reloadDuplicates() {
+        duplicateFiles.stream().sorted().toList().forEach(this::reload);
+    }
+
+    private boolean isDefinition(Path path) {
+        return path.getFileName().toString().endsWith(DEFINITION_SUFFIX);
+    }
+}
@@ -0,0 +1,4 @@
+package com.dev.canvas.application.definition;
+
+public record ShadowDefinition(int blur, int offsetX, int offsetY, String color) {
+}
@@ -0,0 +1,4 @@
+package com.dev.canvas.application.definition;
+
+public record StyleDefinition(String fillColor, String strokeColor, int lineWidth, ShadowDefinition shadow) {
+}
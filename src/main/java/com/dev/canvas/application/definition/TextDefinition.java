@@ -0,0 +1,4 @@
+package com.dev.canvas.application.definition;
+
+public record TextDefinition(String text, int centerX, int centerY, int fontSize, String color, String fontWeight) {
+}
@@ -0,0 +1,6 @@
+package com.dev.canvas.application.definition;
+
+import java.util.List;
+
+public record TweenDefinition(String propertyPath, List<KeyframeDefinition> keyframes) {
+}
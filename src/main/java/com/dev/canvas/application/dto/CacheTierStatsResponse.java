@@ -0,0 +1,13 @@
+package com.dev.canvas.application.dto;
+
+public record CacheTierStatsResponse(
+    String tier,
+    long hits,
+    long misses,
+    long evictions,
+    double hitRatio,
+    int entries,
+    long retainedBytes,
+    long maximumBytes
+) {
+}
@@ -0,0 +1,11 @@
+package com.dev.canvas.application.dto;
+
+public record CoalescingStatsResponse(
+    String name,
+    long requests,
+    long computations,
+    long coalesced,
+    int inFlight,
+    double coalescingRatio
+) {
+}
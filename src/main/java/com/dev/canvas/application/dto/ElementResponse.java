@@ -1,7 +1,8 @@
 package com.dev.canvas.application.dto;
 
 import com.dev.canvas.domain.animation.PrimitiveType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 
-public record ElementResponse(String elementId, PrimitiveType primitiveType, int startMillis, int durationMillis, CirclePropertiesResponse circle, RectPropertiesResponse rect, LinePropertiesResponse line, TextPropertiesResponse text, DominoPropertiesResponse domino, List<PropertyTweenResponse> tweens) {
+public record ElementResponse(String elementId, PrimitiveType primitiveType, int startMillis, int durationMillis, @JsonInclude(JsonInclude.Include.NON_NULL) String parentId, CirclePropertiesResponse circle, RectPropertiesResponse rect, LinePropertiesResponse line, TextPropertiesResponse text, DominoPropertiesResponse domino, @JsonInclude(JsonInclude.Include.NON_NULL) GroupPropertiesResponse group, @JsonInclude(JsonInclude.Include.NON_NULL) PathPropertiesResponse path, @JsonInclude(JsonInclude.Include.NON_NULL) ParticlePropertiesResponse particles, List<PropertyTweenResponse> tweens) {
 }
@@ -0,0 +1,7 @@
+package com.dev.canvas.application.dto;
+
+public record GroupPropertiesResponse(
+    int x,
+    int y
+) {
+}
@@ -1,4 +1,6 @@
 package com.dev.canvas.application.dto;
 
-public record KeyframeResponse(int timeMillis, double value, String easing) {
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+public record KeyframeResponse(int timeMillis, double value, @JsonInclude(JsonInclude.Include.NON_NULL) String color, String easing) {
 }
@@ -0,0 +1,12 @@
+package com.dev.canvas.application.dto;
+
+import java.util.List;
+
+public record NarrationBeatsResponse(
+    String file,
+    int sampleRate,
+    int durationMillis,
+    List<Integer> onsetMillis,
+    List<SilenceGapResponse> silences
+) {
+}
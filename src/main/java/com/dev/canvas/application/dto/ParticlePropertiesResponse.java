@@ -0,0 +1,16 @@
+package com.dev.canvas.application.dto;
+
+public record ParticlePropertiesResponse(
+    int x,
+    int y,
+    int rate,
+    int lifetimeMillis,
+    int minVelocityX,
+    int maxVelocityX,
+    int minVelocityY,
+    int maxVelocityY,
+    int size,
+    long seed,
+    StyleResponse style
+) {
+}
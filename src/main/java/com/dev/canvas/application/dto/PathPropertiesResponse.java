@@ -0,0 +1,4 @@
+package com.dev.canvas.application.dto;
+
+public record PathPropertiesResponse(String data, double length, StyleResponse style) {
+}
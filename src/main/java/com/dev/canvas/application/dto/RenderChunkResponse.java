@@ -0,0 +1,12 @@
+package com.dev.canvas.application.dto;
+
+public record RenderChunkResponse(
+    int index,
+    int fromFrame,
+    int toFrame,
+    String contentHash,
+    String state,
+    int attempts,
+    String output
+) {
+}
@@ -0,0 +1,4 @@
+package com.dev.canvas.application.dto;
+
+public record RenderJobRequest(String scene, Integer fps, Integer framesPerChunk) {
+}
@@ -0,0 +1,17 @@
+package com.dev.canvas.application.dto;
+
+import java.util.List;
+
+public record RenderJobResponse(
+    String jobId,
+    String scene,
+    String state,
+    int fps,
+    int chunkCount,
+    long rendered,
+    long cached,
+    long failed,
+    long elapsedMillis,
+    List<RenderChunkResponse> chunks
+) {
+}
@@ -0,0 +1,12 @@
+package com.dev.canvas.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.Map;
+
+public record SceneBatchEntry(String name, Map<String, String> parameters) {
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static SceneBatchEntry of(String name) {
+        return new SceneBatchEntry(name, Map.of());
+    }
+}
@@ -0,0 +1,6 @@
+package com.dev.canvas.application.dto;
+
+import java.util.List;
+
+public record SceneBatchRequest(List<SceneBatchEntry> scenes, String schemaVersion, String fields) {
+}
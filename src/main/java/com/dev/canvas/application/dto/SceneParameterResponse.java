@@ -0,0 +1,10 @@
+package com.dev.canvas.application.dto;
+
+public record SceneParameterResponse(
+    String name,
+    String type,
+    double defaultValue,
+    double minimum,
+    double maximum
+) {
+}
@@ -0,0 +1,4 @@
+package com.dev.canvas.application.dto;
+
+public record SilenceGapResponse(int startMillis, int endMillis) {
+}
@@ -0,0 +1,6 @@
+package com.dev.canvas.application.dto;
+
+import java.util.List;
+
+public record SpatialQueryResponse(String sceneName, int timeMillis, List<String> elementIds) {
+}
@@ -0,0 +1,4 @@
+package com.dev.canvas.application.dto;
+
+public record TimelineSegmentResponse(String sceneId, String name, int offsetMillis, int durationMillis, String background) {
+}
@@ -0,0 +1,6 @@
+package com.dev.canvas.application.dto;
+
+import java.util.List;
+
+public record TimelineWindowResponse(String timelineId, String name, String schemaVersion, int durationMillis, int fromMillis, int toMillis, List<TimelineSegmentResponse> segments, List<ElementResponse> elements) {
+}
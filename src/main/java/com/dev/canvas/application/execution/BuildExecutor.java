@@ -0,0 +1,17 @@
+package com.dev.canvas.application.execution;
+
+import java.util.function.Supplier;
+
+public final class BuildExecutor {
+
+    private BuildExecutor() {
+    }
+
+    public static BuildExecutor inline() {
+        return new BuildExecutor();
+    }
+
+    public <T> T call(Supplier<T> build) {
+        return build.get();
+    }
+}
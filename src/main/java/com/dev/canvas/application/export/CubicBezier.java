@@ -0,0 +1,21 @@
+package com.dev.canvas.application.export;
+
+import com.dev.canvas.domain.animation.EasingFunction;
+
+record CubicBezier(double x1, double y1, double x2, double y2) {
+
+    static final CubicBezier LINEAR = new CubicBezier(0, 0, 1, 1);
+
+    private static final CubicBezier EASE_IN_CUBIC = new CubicBezier(0.32, 0, 0.67, 0);
+    private static final CubicBezier EASE_OUT_CUBIC = new CubicBezier(0.33, 1, 0.68, 1);
+    private static final CubicBezier EASE_IN_OUT_CUBIC = new CubicBezier(0.65, 0, 0.35, 1);
+
+    static CubicBezier of(EasingFunction easing) {
+        return switch (easing) {
+            case LINEAR -> LINEAR;
+            case EASE_IN -> EASE_IN_CUBIC;
+            case EASE_OUT -> EASE_OUT_CUBIC;
+            case EASE_IN_OUT -> EASE_IN_OUT_CUBIC;
+        };
+    }
+}
@@ -0,0 +1,854 @@
+package com.dev.canvas.application.export;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.CircleProperties;
+import com.dev.canvas.domain.animation.DominoProperties;
+import com.dev.canvas.domain.animation.GroupProperties;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.LineProperties;
+import com.dev.canvas.domain.animation.ParticleProperties;
+import com.dev.canvas.domain.animation.PathPoint;
+import com.dev.canvas.domain.animation.PathProperties;
+import com.dev.canvas.domain.animation.PathSegment;
+import com.dev.canvas.domain.animation.PrimitiveProperties;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.RectProperties;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.Shadow;
+import com.dev.canvas.domain.animation.Style;
+import com.dev.canvas.domain.animation.TextProperties;
+import com.dev.canvas.domain.color.PackedColors;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+public final class LottieSceneExporter implements SceneExporter {
+
+    private static final String LOTTIE_VERSION = "5.7.4";
+    private static final String FONT_FAMILY = "Inter";
+    private static final double TEXT_LINE_HEIGHT_RATIO = 1.2;
+    private static final double TEXT_CENTER_RATIO = 0.35;
+    private static final int RIDE_SAMPLE_FRAMES = 2;
+
+    private final JsonFactory jsonFactory;
+    private final int width;
+    private final int height;
+    private final int frameRate;
+
+    public LottieSceneExporter(JsonFactory jsonFactory, int width, int height, int frameRate) {
+        if (width <= 0 || height <= 0 || frameRate <= 0) {
+            throw new IllegalArgumentException("Export canvas size and frame rate must be positive");
+        }
+        this.jsonFactory = Objects.requireNonNull(jsonFactory);
+        this.width = width;
+        this.height = height;
+        this.frameRate = frameRate;
+    }
+
+    @Override
+    public String getFormat() {
+        return "lottie";
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/json";
+    }
+
+    @Override
+    public void export(AnimationScene scene, OutputStream output) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(output, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            new Document(generator).write(scene);
+        }
+    }
+
+    private final class Document {
+
+        private final JsonGenerator out;
+        private final Map<String, Integer> layerIndexes = new HashMap<>();
+        private final Map<String, PathProperties> paths = new HashMap<>();
+        private double lastFrame;
+
+        private Document(JsonGenerator out) {
+            this.out = out;
+        }
+
+        private void write(AnimationScene scene) throws IOException {
+            List<SceneElement> elements = scene.getElements();
+            lastFrame = Math.max(1, frame(scene.getDurationMillis()));
+            TreeSet<String> fontWeights = new TreeSet<>();
+            for (int i = 0; i < elements.size(); i++) {
+                SceneElement element = elements.get(i);
+                if (element.getPrimitiveType().isContainer()) {
+                    layerIndexes.put(element.getElementId(), i + 1);
+                }
+                if (element.getProperties() instanceof PathProperties path) {
+                    paths.put(element.getElementId(), path);
+                } else if (element.getProperties() instanceof TextProperties text) {
+                    fontWeights.add(text.getFontWeight());
+                }
+            }
+
+            out.writeStartObject();
+            out.writeStringField("v", LOTTIE_VERSION);
+            out.writeNumberField("fr", frameRate);
+            out.writeNumberField("ip", 0);
+            out.writeNumberField("op", lastFrame);
+            out.writeNumberField("w", width);
+            out.writeNumberField("h", height);
+            out.writeStringField("nm", scene.getName());
+            out.writeNumberField("ddd", 0);
+            out.writeArrayFieldStart("assets");
+            out.writeEndArray();
+            if (!fontWeights.isEmpty()) {
+                out.writeObjectFieldStart("fonts");
+                out.writeArrayFieldStart("list");
+                for (String weight : fontWeights) {
+                    out.writeStartObject();
+                    out.writeStringField("fName", fontName(weight));
+                    out.writeStringField("fFamily", FONT_FAMILY);
+                    out.writeStringField("fStyle", weight);
+                    out.writeStringField("fWeight", weight);
+                    out.writeNumberField("ascent", 75);
+                    out.writeEndObject();
+                }
+                out.writeEndArray();
+                out.writeEndObject();
+            }
+            out.writeArrayFieldStart("layers");
+            for (int i = elements.size() - 1; i >= 0; i--) {
+                writeLayer(elements.get(i), i + 1);
+            }
+            if (scene.getBackground() != null) {
+                writeBackground(scene.getBackground(), elements.size() + 1);
+            }
+            out.writeEndArray();
+            out.writeEndObject();
+        }
+
+        private void writeLayer(SceneElement element, int index) throws IOException {
+            PrimitiveProperties properties = element.getProperties();
+            int type = switch (properties) {
+                case GroupProperties group -> 3;
+                case TextProperties text -> 5;
+                default -> 4;
+            };
+            out.writeStartObject();
+            out.writeNumberField("ddd", 0);
+            out.writeNumberField("ind", index);
+            out.writeNumberField("ty", type);
+            out.writeStringField("nm", element.getElementId());
+            Integer parent = element.getParentId().map(layerIndexes::get).orElse(null);
+            if (parent != null) {
+                out.writeNumberField("parent", parent);
+            }
+            out.writeNumberField("sr", 1);
+            writeTransform(element, parent == null);
+            out.writeNumberField("ao", 0);
+            if (type == 3) {
+                out.writeNumberField("ip", 0);
+                out.writeNumberField("op", lastFrame);
+            } else {
+                int endMillis = element.getStartMillis() + element.getDurationMillis();
+                out.writeNumberField("ip", Math.clamp(frame(element.getStartMillis()), 0, lastFrame));
+                out.writeNumberField("op", Math.clamp(frame(endMillis), 0, lastFrame));
+            }
+            out.writeNumberField("st", 0);
+            out.writeNumberField("bm", 0);
+            switch (properties) {
+                case CircleProperties circle -> writeShapes(element, circle.getStyle());
+                case RectProperties rect -> writeShapes(element, rect.getStyle());
+                case LineProperties line -> writeShapes(element, line.getStyle());
+                case DominoProperties domino -> writeShapes(element, domino.style());
+                case TextProperties text -> writeText(element, text);
+                case PathProperties path -> writeShapes(element, path.getStyle());
+                case ParticleProperties particles -> writeParticles(element, particles);
+                case GroupProperties group -> {
+                }
+            }
+            out.writeEndObject();
+        }
+
+        private void writeTransform(SceneElement element, boolean root) throws IOException {
+            double offsetX = root ? width / 2.0 : 0;
+            double offsetY = root ? height / 2.0 : 0;
+            double x = offsetX;
+            double y = offsetY;
+            double anchorY = 0;
+            switch (element.getProperties()) {
+                case CircleProperties circle -> {
+                    x += circle.getCenterX();
+                    y += circle.getCenterY();
+                }
+                case RectProperties rect -> {
+                    x += rect.getCenterX();
+                    y += rect.getCenterY();
+                }
+                case TextProperties text -> {
+                    x += text.getCenterX();
+                    y += text.getCenterY();
+                    anchorY = -text.getFontSize() * TEXT_CENTER_RATIO;
+                }
+                case DominoProperties domino -> {
+                    x += domino.x();
+                    y += domino.y();
+                }
+                case GroupProperties group -> {
+                    x += group.x();
+                    y += group.y();
+                }
+                case LineProperties line -> {
+                }
+                case PathProperties path -> {
+                }
+                case ParticleProperties particles -> {
+                }
+            }
+            PathProperties track = element.getParentId().map(paths::get).orElse(null);
+            PropertyTween progress = track == null ? null : tween(element, PropertyPath.PATH_PROGRESS);
+            PathPoint along = track == null ? new PathPoint(0, 0, 0) : track.pointAt(staticValue(progress, 0));
+
+            out.writeObjectFieldStart("ks");
+            writeScalar("o", tween(element, PropertyPath.OPACITY), 100, 0, 100);
+            writeScalar("r", tween(element, PropertyPath.ROTATION), 0, 0, 1);
+            out.writeObjectFieldStart("p");
+            out.writeBooleanField("s", true);
+            if (progress != null && progress.getKeyframes().size() > 1) {
+                writeRiding(track, progress, tween(element, PropertyPath.POSITION_X), tween(element, PropertyPath.POSITION_Y),
+                    x, y, offsetX, offsetY);
+            } else {
+                writeScalar("x", tween(element, PropertyPath.POSITION_X), x + along.x(), offsetX + along.x(), 1);
+                writeScalar("y", tween(element, PropertyPath.POSITION_Y), y + along.y(), offsetY + along.y(), 1);
+            }
+            out.writeEndObject();
+            writeStatic("a", 0, anchorY, 0);
+            writeScale(tween(element, PropertyPath.SCALE_X), tween(element, PropertyPath.SCALE_Y));
+            out.writeEndObject();
+        }
+
+        private void writeShapes(SceneElement element, Style style) throws IOException {
+            Shadow shadow = style == null ? null : style.getShadow().orElse(null);
+            if (shadow != null) {
+                writeShadowEffect(shadow, tween(element, PropertyPath.SHADOW_COLOR));
+            }
+            out.writeArrayFieldStart("shapes");
+            out.writeStartObject();
+            out.writeStringField("ty", "gr");
+            out.writeStringField("nm", "shape");
+            out.writeArrayFieldStart("it");
+            switch (element.getProperties()) {
+                case CircleProperties circle -> {
+                    out.writeStartObject();
+                    out.writeStringField("ty", "el");
+                    writeStatic("p", 0, 0);
+                    writeStatic("s", 2.0 * circle.getRadius(), 2.0 * circle.getRadius());
+                    out.writeEndObject();
+                }
+                case RectProperties rect -> writeRect(rect.getWidth(), rect.getHeight(), rect.getRadius());
+                case DominoProperties domino -> writeRect(domino.width(), domino.height(), 0);
+                case LineProperties line -> writeLine(line, tween(element, PropertyPath.END));
+                case PathProperties path -> writePath(path, tween(element, PropertyPath.START), tween(element, PropertyPath.END));
+                case ParticleProperties particles -> throw new IllegalStateException("Particles are written one group per particle");
+                case TextProperties text -> throw new IllegalStateException("Text is written as a text layer");
+                case GroupProperties group -> throw new IllegalStateException("Groups are written as null layers");
+            }
+            if (style != null && style.getStrokeColor() != null && style.getLineWidth() > 0) {
+                out.writeStartObject();
+                out.writeStringField("ty", "st");
+                writeColor("c", style.getStrokeColor(), tween(element, PropertyPath.STROKE_COLOR));
+                writeStatic("o", alphaPercent(style.getStrokeColor()));
+                writeStatic("w", style.getLineWidth());
+                out.writeNumberField("lc", 2);
+                out.writeNumberField("lj", 2);
+                out.writeEndObject();
+            }
+            if (style != null && style.getFillColor() != null && !(element.getProperties() instanceof LineProperties)) {
+                out.writeStartObject();
+                out.writeStringField("ty", "fl");
+                writeColor("c", style.getFillColor(), tween(element, PropertyPath.FILL_COLOR));
+                writeStatic("o", alphaPercent(style.getFillColor()));
+                out.writeNumberField("r", 1);
+                out.writeEndObject();
+            }
+            out.writeStartObject();
+            out.writeStringField("ty", "tr");
+            writeStatic("p", 0, 0);
+            writeStatic("a", 0, 0);
+            writeStatic("s", 100, 100);
+            writeStatic("r", 0);
+            writeStatic("o", 100);
+            out.writeEndObject();
+            out.writeEndArray();
+            out.writeEndObject();
+            out.writeEndArray();
+        }
+
+        private void writeRect(double rectWidth, double rectHeight, double radius) throws IOException {
+            out.writeStartObject();
+            out.writeStringField("ty", "rc");
+            writeStatic("p", 0, 0);
+            writeStatic("s", rectWidth, rectHeight);
+            writeStatic("r", radius);
+            out.writeEndObject();
+        }
+
+        private void writeLine(LineProperties line, PropertyTween end) throws IOException {
+            out.writeStartObject();
+            out.writeStringField("ty", "sh");
+            out.writeObjectFieldStart("ks");
+            out.writeNumberField("a", 0);
+            out.writeObjectFieldStart("k");
+            out.writeBooleanField("c", false);
+            out.writeArrayFieldStart("v");
+            writePoint(line.getStartX(), line.getStartY());
+            writePoint(line.getEndX(), line.getEndY());
+            out.writeEndArray();
+            out.writeArrayFieldStart("i");
+            writePoint(0, 0);
+            writePoint(0, 0);
+            out.writeEndArray();
+            out.writeArrayFieldStart("o");
+            writePoint(0, 0);
+            writePoint(0, 0);
+            out.writeEndArray();
+            out.writeEndObject();
+            out.writeEndObject();
+            out.writeEndObject();
+
+            out.writeStartObject();
+            out.writeStringField("ty", "tm");
+            writeStatic("s", 0);
+            writeScalar("e", end, 100, 0, 100);
+            writeStatic("o", 0);
+            out.writeNumberField("m", 1);
+            out.writeEndObject();
+        }
+
+        private void writePath(PathProperties path, PropertyTween start, PropertyTween end) throws IOException {
+            List<double[]> vertices = new ArrayList<>();
+            double x = 0;
+            double y = 0;
+            for (PathSegment segment : path.getSegments()) {
+                switch (segment.kind()) {
+                    case MOVE -> {
+                        writeSubpath(vertices, false);
+                        vertices.add(vertex(segment.x(), segment.y()));
+                    }
+                    case LINE -> vertices.add(vertex(segment.x(), segment.y()));
+                    case QUADRATIC -> {
+                        double[] from = vertices.getLast();
+                        from[4] = 2.0 / 3 * (segment.control1X() - x);
+                        from[5] = 2.0 / 3 * (segment.control1Y() - y);
+                        double[] to = vertex(segment.x(), segment.y());
+                        to[2] = 2.0 / 3 * (segment.control1X() - segment.x());
+                        to[3] = 2.0 / 3 * (segment.control1Y() - segment.y());
+                        vertices.add(to);
+                    }
+                    case CUBIC -> {
+                        double[] from = vertices.getLast();
+                        from[4] = segment.control1X() - x;
+                        from[5] = segment.control1Y() - y;
+                        double[] to = vertex(segment.x(), segment.y());
+                        to[2] = segment.control2X() - segment.x();
+                        to[3] = segment.control2Y() - segment.y();
+                        vertices.add(to);
+                    }
+                    case CLOSE -> writeSubpath(vertices, true);
+                }
+                if (segment.kind() == PathSegment.Kind.CLOSE) {
+                    x = vertices.isEmpty() ? x : vertices.getFirst()[0];
+                    y = vertices.isEmpty() ? y : vertices.getFirst()[1];
+                } else {
+                    x = segment.x();
+                    y = segment.y();
+                }
+            }
+            writeSubpath(vertices, false);
+
+            out.writeStartObject();
+            out.writeStringField("ty", "tm");
+            writeScalar("s", start, 0, 0, 100);
+            writeScalar("e", end, 100, 0, 100);
+            writeStatic("o", 0);
+            out.writeNumberField("m", 2);
+            out.writeEndObject();
+        }
+
+        private void writeParticles(SceneElement element, ParticleProperties particles) throws IOException {
+            Style style = particles.style();
+            String fill = style == null || style.getFillColor() == null ? null : style.getFillColor();
+            double endMillis = Math.min(element.getStartMillis() + element.getDurationMillis(), lastFrame * 1000 / frameRate);
+            out.writeArrayFieldStart("shapes");
+            for (long n = 0; ; n++) {
+                double spawn = element.getStartMillis() + particles.spawnMillis(n);
+                if (spawn >= endMillis) {
+                    break;
+                }
+                double death = Math.min(endMillis, spawn + particles.lifetimeMillis());
+                double seconds = (death - spawn) / 1000;
+                out.writeStartObject();
+                out.writeStringField("ty", "gr");
+                out.writeStringField("nm", "particle");
+                out.writeArrayFieldStart("it");
+                out.writeStartObject();
+                out.writeStringField("ty", "el");
+                writeStatic("p", 0, 0);
+                writeStatic("s", particles.size(), particles.size());
+                out.writeEndObject();
+                if (fill != null) {
+                    out.writeStartObject();
+                    out.writeStringField("ty", "fl");
+                    writeColor("c", fill, tween(element, PropertyPath.FILL_COLOR));
+                    writeStatic("o", alphaPercent(fill));
+                    out.writeNumberField("r", 1);
+                    out.writeEndObject();
+                }
+                out.writeStartObject();
+                out.writeStringField("ty", "tr");
+                out.writeObjectFieldStart("p");
+                out.writeNumberField("a", 1);
+                out.writeArrayFieldStart("k");
+                out.writeStartObject();
+                out.writeNumberField("t", spawn * frameRate / 1000);
+                out.writeArrayFieldStart("s");
+                out.writeNumber(particles.x());
+                out.writeNumber(particles.y());
+                out.writeEndArray();
+                writeEasing(CubicBezier.LINEAR, 1);
+                out.writeEndObject();
+                out.writeStartObject();
+                out.writeNumberField("t", death * frameRate / 1000);
+                out.writeArrayFieldStart("s");
+                out.writeNumber(particles.x() + particles.velocityX(n) * seconds);
+                out.writeNumber(particles.y() + particles.velocityY(n) * seconds);
+                out.writeEndArray();
+                out.writeEndObject();
+                out.writeEndArray();
+                out.writeEndObject();
+                writeStatic("a", 0, 0);
+                writeStatic("s", 100, 100);
+                writeStatic("r", 0);
+                out.writeObjectFieldStart("o");
+                out.writeNumberField("a", 1);
+                out.writeArrayFieldStart("k");
+                writeHold(0, 0);
+                writeHold(spawn * frameRate / 1000, 100);
+                writeHold(death * frameRate / 1000, 0);
+                out.writeEndArray();
+                out.writeEndObject();
+                out.writeEndObject();
+                out.writeEndArray();
+                out.writeEndObject();
+            }
+            out.writeEndArray();
+        }
+
+        private void writeHold(double frame, double value) throws IOException {
+            out.writeStartObject();
+            out.writeNumberField("t", frame);
+            out.writeArrayFieldStart("s");
+            out.writeNumber(value);
+            out.writeEndArray();
+            out.writeNumberField("h", 1);
+            out.writeEndObject();
+        }
+
+        private void writeSubpath(List<double[]> vertices, boolean closed) throws IOException {
+            if (vertices.size() > 1 && closed) {
+                double[] first = vertices.getFirst();
+                double[] last = vertices.getLast();
+                if (first[0] == last[0] && first[1] == last[1]) {
+                    first[2] = last[2];
+                    first[3] = last[3];
+                    vertices.removeLast();
+                }
+            }
+            if (vertices.size() > 1) {
+                out.writeStartObject();
+                out.writeStringField("ty", "sh");
+                out.writeObjectFieldStart("ks");
+                out.writeNumberField("a", 0);
+                out.writeObjectFieldStart("k");
+                out.writeBooleanField("c", closed);
+                String[] fields = {"v", "i", "o"};
+                for (int field = 0; field < fields.length; field++) {
+                    out.writeArrayFieldStart(fields[field]);
+                    for (double[] vertex : vertices) {
+                        writePoint(vertex[2 * field], vertex[2 * field + 1]);
+                    }
+                    out.writeEndArray();
+                }
+                out.writeEndObject();
+                out.writeEndObject();
+                out.writeEndObject();
+            }
+            double[] first = closed && !vertices.isEmpty() ? vertices.getFirst() : null;
+            vertices.clear();
+            if (first != null) {
+                vertices.add(vertex(first[0], first[1]));
+            }
+        }
+
+        private void writeRiding(PathProperties track, PropertyTween progress, PropertyTween positionX, PropertyTween positionY,
+                                 double x, double y, double offsetX, double offsetY) throws IOException {
+            List<double[]> samples = new ArrayList<>();
+            for (double frame = 0; frame < lastFrame + RIDE_SAMPLE_FRAMES; frame += RIDE_SAMPLE_FRAMES) {
+                double clamped = Math.min(frame, lastFrame);
+                int timeMillis = (int) Math.round(clamped * 1000 / frameRate);
+                PathPoint point = track.pointAt(progress.valueAt(timeMillis));
+                samples.add(new double[] {
+                    clamped,
+                    (positionX == null ? x : offsetX + positionX.valueAt(timeMillis)) + point.x(),
+                    (positionY == null ? y : offsetY + positionY.valueAt(timeMillis)) + point.y()
+                });
+            }
+            for (int dimension = 1; dimension <= 2; dimension++) {
+                out.writeObjectFieldStart(dimension == 1 ? "x" : "y");
+                out.writeNumberField("a", 1);
+                out.writeArrayFieldStart("k");
+                for (int i = 0; i < samples.size(); i++) {
+                    out.writeStartObject();
+                    out.writeNumberField("t", samples.get(i)[0]);
+                    out.writeArrayFieldStart("s");
+                    out.writeNumber(samples.get(i)[dimension]);
+                    out.writeEndArray();
+                    if (i + 1 < samples.size()) {
+                        writeEasing(CubicBezier.LINEAR, 1);
+                    }
+                    out.writeEndObject();
+                }
+                out.writeEndArray();
+                out.writeEndObject();
+            }
+        }
+
+        private void writeText(SceneElement element, TextProperties text) throws IOException {
+            int color = PackedColors.parse(text.getColor());
+            out.writeObjectFieldStart("t");
+            out.writeObjectFieldStart("d");
+            out.writeArrayFieldStart("k");
+            out.writeStartObject();
+            out.writeObjectFieldStart("s");
+            out.writeNumberField("s", text.getFontSize());
+            out.writeStringField("f", fontName(text.getFontWeight()));
+            out.writeStringField("t", text.getText());
+            out.writeNumberField("j", 2);
+            out.writeNumberField("tr", 0);
+            out.writeNumberField("lh", text.getFontSize() * TEXT_LINE_HEIGHT_RATIO);
+            out.writeNumberField("ls", 0);
+            out.writeArrayFieldStart("fc");
+            out.writeNumber(PackedColors.red(color) / 255.0);
+            out.writeNumber(PackedColors.green(color) / 255.0);
+            out.writeNumber(PackedColors.blue(color) / 255.0);
+            out.writeEndArray();
+            out.writeEndObject();
+            out.writeNumberField("t", 0);
+            out.writeEndObject();
+            out.writeEndArray();
+            out.writeEndObject();
+            out.writeObjectFieldStart("p");
+            out.writeEndObject();
+            out.writeObjectFieldStart("m");
+            out.writeNumberField("g", 1);
+            writeStatic("a", 0, 0);
+            out.writeEndObject();
+            out.writeArrayFieldStart("a");
+            PropertyTween colorTween = tween(element, PropertyPath.TEXT_COLOR);
+            if (colorTween != null) {
+                out.writeStartObject();
+                out.writeStringField("nm", "color");
+                out.writeObjectFieldStart("s");
+                out.writeNumberField("t", 0);
+                writeStatic("s", 0);
+                writeStatic("e", 100);
+                writeStatic("o", 0);
+                writeStatic("a", 100);
+                out.writeNumberField("b", 1);
+                out.writeNumberField("rn", 0);
+                out.writeNumberField("sh", 1);
+                out.writeNumberField("r", 1);
+                out.writeEndObject();
+                out.writeObjectFieldStart("a");
+                writeColor("fc", text.getColor(), colorTween);
+                out.writeEndObject();
+                out.writeEndObject();
+            }
+            out.writeEndArray();
+            out.writeEndObject();
+        }
+
+        private void writeShadowEffect(Shadow shadow, PropertyTween colorTween) throws IOException {
+            out.writeArrayFieldStart("ef");
+            out.writeStartObject();
+            out.writeNumberField("ty", 25);
+            out.writeStringField("nm", "Drop Shadow");
+            out.writeStringField("mn", "ADBE Drop Shadow");
+            out.writeNumberField("np", 8);
+            out.writeNumberField("ix", 1);
+            out.writeNumberField("en", 1);
+            out.writeArrayFieldStart("ef");
+            out.writeStartObject();
+            out.writeNumberField("ty", 2);
+            out.writeStringField("nm", "Shadow Color");
+            writeColor("v", shadow.getColor(), colorTween);
+            out.writeEndObject();
+            writeEffectValue("Opacity", PackedColors.alpha(PackedColors.parse(shadow.getColor())));
+            double direction = Math.toDegrees(Math.atan2(shadow.getOffsetX(), -shadow.getOffsetY()));
+            writeEffectValue("Direction", direction < 0 ? direction + 360 : direction);
+            writeEffectValue("Distance", Math.hypot(shadow.getOffsetX(), shadow.getOffsetY()));
+            writeEffectValue("Softness", shadow.getBlur());
+            out.writeEndArray();
+            out.writeEndObject();
+            out.writeEndArray();
+        }
+
+        private void writeEffectValue(String name, double value) throws IOException {
+            out.writeStartObject();
+            out.writeNumberField("ty", 0);
+            out.writeStringField("nm", name);
+            writeStatic("v", value);
+            out.writeEndObject();
+        }
+
+        private void writeBackground(String background, int index) throws IOException {
+            int color = PackedColors.parse(background);
+            out.writeStartObject();
+            out.writeNumberField("ddd", 0);
+            out.writeNumberField("ind", index);
+            out.writeNumberField("ty", 1);
+            out.writeStringField("nm", "background");
+            out.writeNumberField("sr", 1);
+            out.writeObjectFieldStart("ks");
+            writeStatic("o", alphaPercent(background));
+            writeStatic("r", 0);
+            writeStatic("p", 0, 0, 0);
+            writeStatic("a", 0, 0, 0);
+            writeStatic("s", 100, 100, 100);
+            out.writeEndObject();
+            out.writeNumberField("ao", 0);
+            out.writeStringField("sc", String.format("#%06x", color & 0xFF_FFFF));
+            out.writeNumberField("sw", width);
+            out.writeNumberField("sh", height);
+            out.writeNumberField("ip", 0);
+            out.writeNumberField("op", lastFrame);
+            out.writeNumberField("st", 0);
+            out.writeNumberField("bm", 0);
+            out.writeEndObject();
+        }
+
+        private void writeScalar(String field, PropertyTween tween, double fallback, double offset, double scale) throws IOException {
+            if (tween == null || tween.getKeyframes().size() == 1) {
+                writeStatic(field, tween == null ? fallback : offset + tween.getKeyframes().getFirst().getValue() * scale);
+                return;
+            }
+            List<Keyframe> keyframes = tween.getKeyframes();
+            out.writeObjectFieldStart(field);
+            out.writeNumberField("a", 1);
+            out.writeArrayFieldStart("k");
+            for (int i = 0; i < keyframes.size(); i++) {
+                out.writeStartObject();
+                out.writeNumberField("t", frame(keyframes.get(i).getTimeMillis()));
+                out.writeArrayFieldStart("s");
+                out.writeNumber(offset + keyframes.get(i).getValue() * scale);
+                out.writeEndArray();
+                if (i + 1 < keyframes.size()) {
+                    writeEasing(CubicBezier.of(keyframes.get(i + 1).getEasing()), 1);
+                }
+                out.writeEndObject();
+            }
+            out.writeEndArray();
+            out.writeEndObject();
+        }
+
+        private void writeScale(PropertyTween scaleX, PropertyTween scaleY) throws IOException {
+            boolean animatedX = scaleX != null && scaleX.getKeyframes().size() > 1;
+            boolean animatedY = scaleY != null && scaleY.getKeyframes().size() > 1;
+            if (!animatedX && !animatedY) {
+                writeStatic("s", 100 * staticValue(scaleX, 1), 100 * staticValue(scaleY, 1), 100);
+                return;
+            }
+            TreeSet<Integer> timeSet = new TreeSet<>();
+            for (PropertyTween tween : new PropertyTween[] {scaleX, scaleY}) {
+                if (tween != null) {
+                    tween.getKeyframes().forEach(keyframe -> timeSet.add(keyframe.getTimeMillis()));
+                }
+            }
+            int[] times = timeSet.stream().mapToInt(Integer::intValue).toArray();
+            out.writeObjectFieldStart("s");
+            out.writeNumberField("a", 1);
+            out.writeArrayFieldStart("k");
+            for (int i = 0; i < times.length; i++) {
+                out.writeStartObject();
+                out.writeNumberField("t", frame(times[i]));
+                out.writeArrayFieldStart("s");
+                out.writeNumber(100 * (scaleX == null ? 1 : scaleX.valueAt(times[i])));
+                out.writeNumber(100 * (scaleY == null ? 1 : scaleY.valueAt(times[i])));
+                out.writeNumber(100);
+                out.writeEndArray();
+                if (i + 1 < times.length) {
+                    CubicBezier[] curves = {
+                        segmentCurve(scaleX, times[i], times[i + 1]),
+                        segmentCurve(scaleY, times[i], times[i + 1]),
+                        CubicBezier.LINEAR
+                    };
+                    out.writeObjectFieldStart("o");
+                    writeControls(curves, true);
+                    out.writeEndObject();
+                    out.writeObjectFieldStart("i");
+                    writeControls(curves, false);
+                    out.writeEndObject();
+                }
+                out.writeEndObject();
+            }
+            out.writeEndArray();
+            out.writeEndObject();
+        }
+
+        private void writeControls(CubicBezier[] curves, boolean outgoing) throws IOException {
+            out.writeArrayFieldStart("x");
+            for (CubicBezier curve : curves) {
+                out.writeNumber(outgoing ? curve.x1() : curve.x2());
+            }
+            out.writeEndArray();
+            out.writeArrayFieldStart("y");
+            for (CubicBezier curve : curves) {
+                out.writeNumber(outgoing ? curve.y1() : curve.y2());
+            }
+            out.writeEndArray();
+        }
+
+        private CubicBezier segmentCurve(PropertyTween tween, int from, int to) {
+            if (tween == null) {
+                return CubicBezier.LINEAR;
+            }
+            List<Keyframe> keyframes = tween.getKeyframes();
+            for (int i = 1; i < keyframes.size(); i++) {
+                if (keyframes.get(i - 1).getTimeMillis() == from && keyframes.get(i).getTimeMillis() == to) {
+                    return CubicBezier.of(keyframes.get(i).getEasing());
+                }
+            }
+            return CubicBezier.LINEAR;
+        }
+
+        private void writeColor(String field, String baseColor, PropertyTween tween) throws IOException {
+            if (tween == null || tween.getKeyframes().size() == 1) {
+                int color = tween == null ? PackedColors.parse(baseColor)
+                    : PackedColors.fromValue(tween.getKeyframes().getFirst().getValue());
+                out.writeObjectFieldStart(field);
+                out.writeNumberField("a", 0);
+                out.writeFieldName("k");
+                writeRgba(color);
+                out.writeEndObject();
+                return;
+            }
+            List<Keyframe> keyframes = tween.getKeyframes();
+            out.writeObjectFieldStart(field);
+            out.writeNumberField("a", 1);
+            out.writeArrayFieldStart("k");
+            for (int i = 0; i < keyframes.size(); i++) {
+                out.writeStartObject();
+                out.writeNumberField("t", frame(keyframes.get(i).getTimeMillis()));
+                out.writeFieldName("s");
+                writeRgba(PackedColors.fromValue(keyframes.get(i).getValue()));
+                if (i + 1 < keyframes.size()) {
+                    writeEasing(CubicBezier.of(keyframes.get(i + 1).getEasing()), 1);
+                }
+                out.writeEndObject();
+            }
+            out.writeEndArray();
+            out.writeEndObject();
+        }
+
+        private void writeRgba(int color) throws IOException {
+            out.writeStartArray();
+            out.writeNumber(PackedColors.red(color) / 255.0);
+            out.writeNumber(PackedColors.green(color) / 255.0);
+            out.writeNumber(PackedColors.blue(color) / 255.0);
+            out.writeNumber(PackedColors.alpha(color) / 255.0);
+            out.writeEndArray();
+        }
+
+        private void writeEasing(CubicBezier curve, int dimensions) throws IOException {
+            out.writeObjectFieldStart("o");
+            writeControl(curve.x1(), curve.y1(), dimensions);
+            out.writeEndObject();
+            out.writeObjectFieldStart("i");
+            writeControl(curve.x2(), curve.y2(), dimensions);
+            out.writeEndObject();
+        }
+
+        private void writeControl(double x, double y, int dimensions) throws IOException {
+            out.writeArrayFieldStart("x");
+            for (int i = 0; i < dimensions; i++) {
+                out.writeNumber(x);
+            }
+            out.writeEndArray();
+            out.writeArrayFieldStart("y");
+            for (int i = 0; i < dimensions; i++) {
+                out.writeNumber(y);
+            }
+            out.writeEndArray();
+        }
+
+        private void writeStatic(String field, double... values) throws IOException {
+            out.writeObjectFieldStart(field);
+            out.writeNumberField("a", 0);
+            if (values.length == 1) {
+                out.writeNumberField("k", values[0]);
+            } else {
+                out.writeArrayFieldStart("k");
+                for (double value : values) {
+                    out.writeNumber(value);
+                }
+                out.writeEndArray();
+            }
+            out.writeEndObject();
+        }
+
+        private void writePoint(double x, double y) throws IOException {
+            out.writeStartArray();
+            out.writeNumber(x);
+            out.writeNumber(y);
+            out.writeEndArray();
+        }
+
+        private double frame(int timeMillis) {
+            return timeMillis * (double) frameRate / 1000;
+        }
+    }
+
+    private static PropertyTween tween(SceneElement element, PropertyPath path) {
+        for (PropertyTween tween : element.getTweens()) {
+            if (tween.getPropertyPath() == path && !tween.getKeyframes().isEmpty()) {
+                return tween;
+            }
+        }
+        return null;
+    }
+
+    private static double staticValue(PropertyTween tween, double fallback) {
+        return tween == null ? fallback : tween.getKeyframes().getFirst().getValue();
+    }
+
+    private static double[] vertex(double x, double y) {
+        return new double[] {x, y, 0, 0, 0, 0};
+    }
+
+    private static double alphaPercent(String color) {
+        return PackedColors.alpha(PackedColors.parse(color)) * 100 / 255.0;
+    }
+
+    private static String fontName(String weight) {
+        return FONT_FAMILY + "-" + weight;
+    }
+}
@@ -0,0 +1,14 @@
+package com.dev.canvas.application.export;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface SceneExporter {
+
+    String getFormat();
+
+    String getContentType();
+
+    void export(AnimationScene scene, OutputStream output) throws IOException;
+}
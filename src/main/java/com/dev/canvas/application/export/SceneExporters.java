@@ -0,0 +1,23 @@
+package com.dev.canvas.application.export;
+
+import java.util.List;
+import java.util.Optional;
+
+public final class SceneExporters {
+
+    private final List<SceneExporter> exporters;
+
+    public SceneExporters(List<SceneExporter> exporters) {
+        this.exporters = List.copyOf(exporters);
+    }
+
+    public Optional<SceneExporter> find(String format) {
+        return exporters.stream()
+            .filter(exporter -> exporter.getFormat().equalsIgnoreCase(format))
+            .findFirst();
+    }
+
+    public List<String> formats() {
+        return exporters.stream().map(SceneExporter::getFormat).toList();
+    }
+}
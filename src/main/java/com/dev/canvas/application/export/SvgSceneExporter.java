@@ -0,0 +1,538 @@
+package com.dev.canvas.application.export;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.CircleProperties;
+import com.dev.canvas.domain.animation.DominoProperties;
+import com.dev.canvas.domain.animation.GroupProperties;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.LineProperties;
+import com.dev.canvas.domain.animation.ParticleProperties;
+import com.dev.canvas.domain.animation.PathPoint;
+import com.dev.canvas.domain.animation.PathProperties;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.RectProperties;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.Shadow;
+import com.dev.canvas.domain.animation.Style;
+import com.dev.canvas.domain.animation.TextProperties;
+import com.dev.canvas.domain.color.PackedColors;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleFunction;
+
+public final class SvgSceneExporter implements SceneExporter {
+
+    private static final String FONT_FAMILY = "Inter, sans-serif";
+    private static final int BUFFER_CHARS = 8192;
+    private static final int TRIM_SAMPLE_MILLIS = 50;
+
+    private final int width;
+    private final int height;
+
+    public SvgSceneExporter(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Export canvas size must be positive");
+        }
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public String getFormat() {
+        return "svg";
+    }
+
+    @Override
+    public String getContentType() {
+        return "image/svg+xml";
+    }
+
+    @Override
+    public void export(AnimationScene scene, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_CHARS);
+        new Document(writer, scene.getDurationMillis()).write(scene, width, height);
+        writer.flush();
+    }
+
+    private static final class Document {
+
+        private final Writer out;
+        private final int durationMillis;
+        private final Map<String, SceneElement> containers = new HashMap<>();
+        private final Map<String, String> shadowFilters = new HashMap<>();
+        private int filterCount;
+
+        private Document(Writer out, int durationMillis) {
+            this.out = out;
+            this.durationMillis = durationMillis;
+        }
+
+        private void write(AnimationScene scene, int width, int height) throws IOException {
+            out.write("<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"");
+            out.write(number(-width / 2.0) + " " + number(-height / 2.0) + " " + width + " " + height);
+            out.write("\" width=\"" + width + "\" height=\"" + height + "\">");
+            if (scene.getBackground() != null) {
+                out.write("<rect x=\"" + number(-width / 2.0) + "\" y=\"" + number(-height / 2.0)
+                    + "\" width=\"" + width + "\" height=\"" + height + "\"");
+                attribute("fill", scene.getBackground());
+                out.write("/>");
+            }
+            for (SceneElement element : scene.getElements()) {
+                if (element.getPrimitiveType().isContainer()) {
+                    containers.put(element.getElementId(), element);
+                }
+                if (!(element.getProperties() instanceof GroupProperties)) {
+                    writeElement(element);
+                }
+            }
+            out.write("</svg>");
+        }
+
+        private void writeElement(SceneElement element) throws IOException {
+            String filter = shadowFilter(element);
+            int open = 0;
+            List<SceneElement> chain = ancestors(element);
+            for (int i = 0; i < chain.size(); i++) {
+                SceneElement container = chain.get(i);
+                if (container.getProperties() instanceof PathProperties path) {
+                    open += openNode(container, 0, 0, false);
+                    open += openMotion(i + 1 < chain.size() ? chain.get(i + 1) : element, path);
+                } else {
+                    GroupProperties properties = (GroupProperties) container.getProperties();
+                    open += openNode(container, properties.x(), properties.y(), false);
+                }
+            }
+            switch (element.getProperties()) {
+                case CircleProperties circle -> {
+                    open += openNode(element, circle.getCenterX(), circle.getCenterY(), true);
+                    out.write("<circle r=\"" + circle.getRadius() + "\"");
+                    writeStyle(circle.getStyle(), filter);
+                    closeShape(element, "circle", true, true);
+                }
+                case RectProperties rect -> {
+                    open += openNode(element, rect.getCenterX(), rect.getCenterY(), true);
+                    out.write("<rect x=\"" + number(-rect.getWidth() / 2.0) + "\" y=\"" + number(-rect.getHeight() / 2.0)
+                        + "\" width=\"" + rect.getWidth() + "\" height=\"" + rect.getHeight() + "\"");
+                    if (rect.getRadius() > 0) {
+                        out.write(" rx=\"" + rect.getRadius() + "\"");
+                    }
+                    writeStyle(rect.getStyle(), filter);
+                    closeShape(element, "rect", true, true);
+                }
+                case LineProperties line -> {
+                    open += openNode(element, 0, 0, true);
+                    out.write("<line x1=\"" + line.getStartX() + "\" y1=\"" + line.getStartY()
+                        + "\" x2=\"" + line.getEndX() + "\" y2=\"" + line.getEndY() + "\"");
+                    writeStyle(line.getStyle(), filter);
+                    PropertyTween end = tween(element, PropertyPath.END);
+                    out.write(" pathLength=\"1\" stroke-dasharray=\"1\" stroke-dashoffset=\""
+                        + number(1 - staticValue(end, 1)) + "\">");
+                    if (animates(end)) {
+                        animate("animate", "stroke-dashoffset", null, end, value -> number(1 - value));
+                    }
+                    closeShape(element, "line", false, false);
+                }
+                case TextProperties text -> {
+                    open += openNode(element, text.getCenterX(), text.getCenterY(), true);
+                    out.write("<text text-anchor=\"middle\" dominant-baseline=\"central\"");
+                    attribute("font-family", FONT_FAMILY);
+                    out.write(" font-size=\"" + text.getFontSize() + "\"");
+                    attribute("font-weight", text.getFontWeight());
+                    attribute("fill", text.getColor());
+                    out.write(">");
+                    PropertyTween color = tween(element, PropertyPath.TEXT_COLOR);
+                    if (animates(color)) {
+                        animate("animate", "fill", null, color, Document::color);
+                    }
+                    escape(text.getText());
+                    out.write("</text>");
+                }
+                case DominoProperties domino -> {
+                    open += openNode(element, domino.x(), domino.y(), true);
+                    out.write("<rect x=\"" + number(-domino.width() / 2.0) + "\" y=\"" + number(-domino.height() / 2.0)
+                        + "\" width=\"" + domino.width() + "\" height=\"" + domino.height() + "\"");
+                    writeStyle(domino.style(), filter);
+                    closeShape(element, "rect", true, true);
+                }
+                case GroupProperties group -> throw new IllegalStateException("Groups are written with their children");
+                case PathProperties path -> {
+                    open += openNode(element, 0, 0, true);
+                    out.write("<path");
+                    attribute("d", path.getData());
+                    writeStyle(path.getStyle(), filter);
+                    writeTrim(element);
+                    closeShape(element, "path", false, true);
+                }
+                case ParticleProperties particles -> {
+                    open += openNode(element, 0, 0, true);
+                    writeParticles(element, particles, filter);
+                }
+            }
+            for (int i = 0; i < open; i++) {
+                out.write("</g>");
+            }
+        }
+
+        private List<SceneElement> ancestors(SceneElement element) {
+            Deque<SceneElement> chain = new ArrayDeque<>();
+            String parentId = element.getParentId().orElse(null);
+            while (parentId != null) {
+                SceneElement parent = containers.get(parentId);
+                chain.addFirst(parent);
+                parentId = parent.getParentId().orElse(null);
+            }
+            return List.copyOf(chain);
+        }
+
+        private int openNode(SceneElement element, double x, double y, boolean withLifetime) throws IOException {
+            PropertyTween opacity = tween(element, PropertyPath.OPACITY);
+            out.write("<g");
+            if (opacity != null) {
+                out.write(" opacity=\"" + number(staticValue(opacity, 1)) + "\"");
+            }
+            boolean alwaysVisible = !withLifetime || durationMillis <= 0 || element.getStartMillis() <= 0
+                && element.getStartMillis() + element.getDurationMillis() >= durationMillis;
+            if (!alwaysVisible && element.getStartMillis() > 0) {
+                out.write(" visibility=\"hidden\"");
+            }
+            out.write(">");
+            if (animates(opacity)) {
+                animate("animate", "opacity", null, opacity, Document::number);
+            }
+            if (!alwaysVisible) {
+                writeLifetime(element);
+            }
+            return 1 + openTransforms(element, x, y);
+        }
+
+        private int openTransforms(SceneElement element, double x, double y) throws IOException {
+            PropertyTween positionX = tween(element, PropertyPath.POSITION_X);
+            PropertyTween positionY = tween(element, PropertyPath.POSITION_Y);
+            PropertyTween rotation = tween(element, PropertyPath.ROTATION);
+            PropertyTween scaleX = tween(element, PropertyPath.SCALE_X);
+            PropertyTween scaleY = tween(element, PropertyPath.SCALE_Y);
+            double baseX = staticValue(positionX, x);
+            double baseY = staticValue(positionY, y);
+            double baseScaleX = staticValue(scaleX, 1);
+            double baseScaleY = staticValue(scaleY, 1);
+            double baseRotation = staticValue(rotation, 0);
+            int open = 0;
+
+            if (animates(positionX)) {
+                open += openAnimated("translate", positionX, value -> number(value) + "," + number(animates(positionY) ? 0 : baseY));
+            }
+            if (animates(positionY)) {
+                open += openAnimated("translate", positionY, value -> (animates(positionX) ? "0" : number(baseX)) + "," + number(value));
+            }
+            if (!animates(positionX) && !animates(positionY) && (baseX != 0 || baseY != 0)) {
+                open += openStatic("translate(" + number(baseX) + " " + number(baseY) + ")");
+            }
+            if (animates(rotation)) {
+                open += openAnimated("rotate", rotation, Document::number);
+            } else if (baseRotation != 0) {
+                open += openStatic("rotate(" + number(baseRotation) + ")");
+            }
+            if (animates(scaleX)) {
+                open += openAnimated("scale", scaleX, value -> number(value) + "," + number(animates(scaleY) ? 1 : baseScaleY));
+            }
+            if (animates(scaleY)) {
+                open += openAnimated("scale", scaleY, value -> (animates(scaleX) ? "1" : number(baseScaleX)) + "," + number(value));
+            }
+            if (!animates(scaleX) && !animates(scaleY) && (baseScaleX != 1 || baseScaleY != 1)) {
+                open += openStatic("scale(" + number(baseScaleX) + " " + number(baseScaleY) + ")");
+            }
+            return open;
+        }
+
+        private int openMotion(SceneElement rider, PathProperties path) throws IOException {
+            PropertyTween progress = tween(rider, PropertyPath.PATH_PROGRESS);
+            if (!animates(progress)) {
+                PathPoint point = path.pointAt(staticValue(progress, 0));
+                return point.x() != 0 || point.y() != 0 ? openStatic("translate(" + number(point.x()) + " " + number(point.y()) + ")") : 0;
+            }
+            out.write("<g><animateMotion");
+            attribute("path", path.getData());
+            writeTiming(progress, "keyPoints", value -> number(Math.clamp(value, 0, 1)));
+            return 1;
+        }
+
+        private void writeTrim(SceneElement element) throws IOException {
+            PropertyTween start = tween(element, PropertyPath.START);
+            PropertyTween end = tween(element, PropertyPath.END);
+            if (start == null) {
+                out.write(" pathLength=\"1\" stroke-dasharray=\"1\" stroke-dashoffset=\""
+                    + number(1 - staticValue(end, 1)) + "\">");
+                if (animates(end)) {
+                    animate("animate", "stroke-dashoffset", null, end, value -> number(1 - value));
+                }
+                return;
+            }
+            out.write(" pathLength=\"1\" stroke-dasharray=\"" + dashes(start, end, start.getKeyframes().getFirst().getTimeMillis()) + "\">");
+            if (!animates(start) && !animates(end)) {
+                return;
+            }
+            // Both ends may move on unrelated keyframes, so the dash pattern is sampled rather than splined.
+            out.write("<animate attributeName=\"stroke-dasharray\" dur=\"" + seconds(durationMillis)
+                + "\" repeatCount=\"indefinite\" calcMode=\"linear\" keyTimes=\"");
+            int samples = Math.max(1, durationMillis / TRIM_SAMPLE_MILLIS);
+            for (int i = 0; i <= samples; i++) {
+                out.write(i == 0 ? "" : ";");
+                out.write(fraction((int) ((long) durationMillis * i / samples)));
+            }
+            out.write("\" values=\"");
+            for (int i = 0; i <= samples; i++) {
+                out.write(i == 0 ? "" : ";");
+                out.write(dashes(start, end, (int) ((long) durationMillis * i / samples)));
+            }
+            out.write("\"/>");
+        }
+
+        private static String dashes(PropertyTween start, PropertyTween end, int timeMillis) {
+            double from = Math.clamp(start.valueAt(timeMillis), 0, 1);
+            double to = Math.clamp(end == null ? 1 : end.valueAt(timeMillis), from, 1);
+            return "0 " + number(from) + " " + number(to - from) + " 1";
+        }
+
+        private void writeParticles(SceneElement element, ParticleProperties particles, String filter) throws IOException {
+            if (durationMillis <= 0) {
+                return;
+            }
+            int end = Math.min(durationMillis, element.getStartMillis() + element.getDurationMillis());
+            for (long n = 0; ; n++) {
+                double spawn = element.getStartMillis() + particles.spawnMillis(n);
+                if (spawn >= end) {
+                    break;
+                }
+                int from = (int) Math.max(0, Math.round(spawn));
+                int to = (int) Math.min(end, Math.round(spawn + particles.lifetimeMillis()));
+                double seconds = (to - spawn) / 1000;
+                out.write("<circle cx=\"" + particles.x() + "\" cy=\"" + particles.y() + "\" r=\"" + number(particles.size() / 2.0) + "\"");
+                writeStyle(particles.style(), filter);
+                out.write(" visibility=\"hidden\"><animate attributeName=\"visibility\" calcMode=\"discrete\" dur=\""
+                    + seconds(durationMillis) + "\" repeatCount=\"indefinite\" values=\"hidden;visible;hidden\" keyTimes=\"0;"
+                    + fraction(from) + ";" + fraction(to) + "\"/>");
+                out.write("<animateTransform attributeName=\"transform\" type=\"translate\" dur=\"" + seconds(durationMillis)
+                    + "\" repeatCount=\"indefinite\" keyTimes=\"0;" + fraction(from) + ";" + fraction(to) + ";1\" values=\"0,0;0,0;"
+                    + number(particles.velocityX(n) * seconds) + "," + number(particles.velocityY(n) * seconds) + ";"
+                    + number(particles.velocityX(n) * seconds) + "," + number(particles.velocityY(n) * seconds) + "\"/></circle>");
+            }
+        }
+
+        private int openStatic(String transform) throws IOException {
+            out.write("<g transform=\"" + transform + "\">");
+            return 1;
+        }
+
+        private int openAnimated(String type, PropertyTween tween, DoubleFunction<String> format) throws IOException {
+            out.write("<g>");
+            animate("animateTransform", "transform", type, tween, format);
+            return 1;
+        }
+
+        private void writeStyle(Style style, String filter) throws IOException {
+            if (style == null) {
+                out.write(" fill=\"none\"");
+                return;
+            }
+            attribute("fill", style.getFillColor() == null ? "none" : style.getFillColor());
+            if (style.getStrokeColor() != null && style.getLineWidth() > 0) {
+                attribute("stroke", style.getStrokeColor());
+                out.write(" stroke-width=\"" + style.getLineWidth() + "\"");
+            }
+            if (filter != null) {
+                out.write(" filter=\"url(#" + filter + ")\"");
+            }
+        }
+
+        private void closeShape(SceneElement element, String tag, boolean startTagOpen, boolean filled) throws IOException {
+            PropertyTween fill = filled ? tween(element, PropertyPath.FILL_COLOR) : null;
+            PropertyTween stroke = tween(element, PropertyPath.STROKE_COLOR);
+            if (!animates(fill) && !animates(stroke)) {
+                out.write(startTagOpen ? "/>" : "</" + tag + ">");
+                return;
+            }
+            if (startTagOpen) {
+                out.write(">");
+            }
+            if (animates(fill)) {
+                animate("animate", "fill", null, fill, Document::color);
+            }
+            if (animates(stroke)) {
+                animate("animate", "stroke", null, stroke, Document::color);
+            }
+            out.write("</" + tag + ">");
+        }
+
+        private String shadowFilter(SceneElement element) throws IOException {
+            Style style = switch (element.getProperties()) {
+                case CircleProperties circle -> circle.getStyle();
+                case RectProperties rect -> rect.getStyle();
+                case LineProperties line -> line.getStyle();
+                case DominoProperties domino -> domino.style();
+                case TextProperties text -> null;
+                case GroupProperties group -> null;
+                case PathProperties path -> path.getStyle();
+                case ParticleProperties particles -> particles.style();
+            };
+            Shadow shadow = style == null ? null : style.getShadow().orElse(null);
+            if (shadow == null) {
+                return null;
+            }
+            PropertyTween color = tween(element, PropertyPath.SHADOW_COLOR);
+            String key = shadow.getBlur() + "/" + shadow.getOffsetX() + "/" + shadow.getOffsetY() + "/" + shadow.getColor();
+            if (!animates(color) && shadowFilters.containsKey(key)) {
+                return shadowFilters.get(key);
+            }
+            String id = "shadow-" + filterCount++;
+            out.write("<defs><filter id=\"" + id + "\" x=\"-50%\" y=\"-50%\" width=\"200%\" height=\"200%\">");
+            out.write("<feDropShadow dx=\"" + shadow.getOffsetX() + "\" dy=\"" + shadow.getOffsetY()
+                + "\" stdDeviation=\"" + number(shadow.getBlur() / 2.0) + "\"");
+            attribute("flood-color", shadow.getColor());
+            if (animates(color)) {
+                out.write(">");
+                animate("animate", "flood-color", null, color, Document::color);
+                out.write("</feDropShadow>");
+            } else {
+                out.write("/>");
+                shadowFilters.put(key, id);
+            }
+            out.write("</filter></defs>");
+            return id;
+        }
+
+        private void writeLifetime(SceneElement element) throws IOException {
+            int start = Math.max(0, element.getStartMillis());
+            int end = Math.min(durationMillis, element.getStartMillis() + element.getDurationMillis());
+            out.write("<animate attributeName=\"visibility\" calcMode=\"discrete\" dur=\"" + seconds(durationMillis)
+                + "\" repeatCount=\"indefinite\"");
+            if (start > 0) {
+                out.write(" values=\"hidden;visible;hidden\" keyTimes=\"0;" + fraction(start) + ";" + fraction(end) + "\"/>");
+            } else {
+                out.write(" values=\"visible;hidden\" keyTimes=\"0;" + fraction(end) + "\"/>");
+            }
+        }
+
+        private void animate(String tag, String attribute, String type, PropertyTween tween, DoubleFunction<String> format) throws IOException {
+            out.write("<" + tag + " attributeName=\"" + attribute + "\"");
+            if (type != null) {
+                out.write(" type=\"" + type + "\"");
+            }
+            writeTiming(tween, "values", format);
+        }
+
+        private void writeTiming(PropertyTween tween, String valuesAttribute, DoubleFunction<String> format) throws IOException {
+            List<Keyframe> keyframes = tween.getKeyframes();
+            Keyframe first = keyframes.getFirst();
+            Keyframe last = keyframes.getLast();
+            boolean leadingHold = clamp(first.getTimeMillis()) > 0;
+            boolean trailingHold = clamp(last.getTimeMillis()) < durationMillis;
+
+            out.write(" dur=\"" + seconds(durationMillis) + "\" repeatCount=\"indefinite\" calcMode=\"spline\" keyTimes=\"");
+            if (leadingHold) {
+                out.write("0;");
+            }
+            for (int i = 0; i < keyframes.size(); i++) {
+                out.write(i == 0 ? "" : ";");
+                out.write(fraction(clamp(keyframes.get(i).getTimeMillis())));
+            }
+            if (trailingHold) {
+                out.write(";1");
+            }
+            out.write("\" keySplines=\"");
+            if (leadingHold) {
+                out.write(spline(CubicBezier.LINEAR) + ";");
+            }
+            for (int i = 1; i < keyframes.size(); i++) {
+                out.write(i == 1 ? "" : ";");
+                out.write(spline(CubicBezier.of(keyframes.get(i).getEasing())));
+            }
+            if (trailingHold) {
+                out.write(";" + spline(CubicBezier.LINEAR));
+            }
+            out.write("\" " + valuesAttribute + "=\"");
+            if (leadingHold) {
+                out.write(format.apply(first.getValue()) + ";");
+            }
+            for (int i = 0; i < keyframes.size(); i++) {
+                out.write(i == 0 ? "" : ";");
+                out.write(format.apply(keyframes.get(i).getValue()));
+            }
+            if (trailingHold) {
+                out.write(";" + format.apply(last.getValue()));
+            }
+            out.write("\"/>");
+        }
+
+        private boolean animates(PropertyTween tween) {
+            return tween != null && tween.getKeyframes().size() > 1 && durationMillis > 0;
+        }
+
+        private int clamp(int timeMillis) {
+            return Math.clamp(timeMillis, 0, durationMillis);
+        }
+
+        private String fraction(int timeMillis) {
+            return number(Math.round(timeMillis * 10_000.0 / durationMillis) / 10_000.0);
+        }
+
+        private void attribute(String name, String value) throws IOException {
+            out.write(" " + name + "=\"");
+            escape(value);
+            out.write('"');
+        }
+
+        private void escape(String value) throws IOException {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '<' -> out.write("&lt;");
+                    case '>' -> out.write("&gt;");
+                    case '&' -> out.write("&amp;");
+                    case '"' -> out.write("&quot;");
+                    default -> out.write(c);
+                }
+            }
+        }
+
+        private static PropertyTween tween(SceneElement element, PropertyPath path) {
+            for (PropertyTween tween : element.getTweens()) {
+                if (tween.getPropertyPath() == path && !tween.getKeyframes().isEmpty()) {
+                    return tween;
+                }
+            }
+            return null;
+        }
+
+        private static double staticValue(PropertyTween tween, double fallback) {
+            return tween == null ? fallback : tween.getKeyframes().getFirst().getValue();
+        }
+
+        private static String spline(CubicBezier curve) {
+            return number(curve.x1()) + " " + number(curve.y1()) + " " + number(curve.x2()) + " " + number(curve.y2());
+        }
+
+        private static String color(double value) {
+            return PackedColors.format(PackedColors.fromValue(value));
+        }
+
+        private static String seconds(int millis) {
+            return number(millis / 1000.0) + "s";
+        }
+
+        private static String number(double value) {
+            double rounded = Math.round(value * 1000) / 1000.0;
+            long whole = (long) rounded;
+            return whole == rounded ? Long.toString(whole) : Double.toString(rounded);
+        }
+    }
+}
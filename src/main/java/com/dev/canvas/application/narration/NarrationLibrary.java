@@ -0,0 +1,71 @@
+package com.dev.canvas.application.narration;
+
+import com.dev.canvas.domain.audio.AudioAnalyzer;
+import com.dev.canvas.domain.audio.BeatList;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class NarrationLibrary {
+
+    private static final Logger log = LoggerFactory.getLogger(NarrationLibrary.class);
+
+    private static final String NARRATION_SUFFIX = ".wav";
+
+    private final Path directory;
+    private final AudioAnalyzer analyzer;
+    private final Map<Path, Analysis> analyses = new ConcurrentHashMap<>();
+
+    public NarrationLibrary(Path directory, AudioAnalyzer analyzer) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.analyzer = Objects.requireNonNull(analyzer);
+    }
+
+    public BeatList beats(String file) throws IOException {
+        Path path = resolve(file);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            analyses.remove(path);
+            throw e;
+        }
+
+        Analysis cached = analyses.get(path);
+        if (cached != null && cached.matches(attributes)) {
+            return cached.beats();
+        }
+        long startNanos = System.nanoTime();
+        BeatList beats = analyzer.analyze(path);
+        analyses.put(path, new Analysis(attributes.size(), attributes.lastModifiedTime().toMillis(), beats));
+        log.info("Analyzed narration {} ({} ms of audio, {} onsets) in {} ms", file, beats.getDurationMillis(),
+            beats.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return beats;
+    }
+
+    private Path resolve(String file) {
+        if (file == null || !file.endsWith(NARRATION_SUFFIX)) {
+            throw new IllegalArgumentException("Narration must be a " + NARRATION_SUFFIX + " file, got " + file);
+        }
+        Path path = directory.resolve(file).normalize();
+        if (!path.startsWith(directory)) {
+            throw new IllegalArgumentException("Narration " + file + " is outside the narration directory");
+        }
+        return path;
+    }
+
+    private record Analysis(long size, long modifiedMillis, BeatList beats) {
+
+        boolean matches(BasicFileAttributes attributes) {
+            return size == attributes.size() && modifiedMillis == attributes.lastModifiedTime().toMillis();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.dev.canvas.application.render;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public final class ProcessRenderWorker implements RenderWorker {
+
+    private final List<String> command;
+    private final Duration timeout;
+
+    public ProcessRenderWorker(List<String> command, Duration timeout) {
+        this.command = List.copyOf(command);
+        this.timeout = timeout;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return !command.isEmpty();
+    }
+
+    @Override
+    public void render(RenderChunk chunk, Path output) throws IOException, InterruptedException {
+        if (command.isEmpty()) {
+            throw new IllegalStateException("No render worker command configured");
+        }
+        Path log = output.resolveSibling(output.getFileName() + ".log");
+        Process process = new ProcessBuilder(arguments(chunk, output))
+            .redirectErrorStream(true)
+            .redirectOutput(log.toFile())
+            .start();
+        try {
+            if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IOException("Render worker timed out after " + timeout + " on chunk " + chunk.index()
+                    + " of " + chunk.sceneName());
+            }
+            if (process.exitValue() != 0) {
+                throw new IOException("Render worker exited with code " + process.exitValue() + " on chunk "
+                    + chunk.index() + " of " + chunk.sceneName() + ", see " + log);
+            }
+            if (Files.notExists(output)) {
+                throw new IOException("Render worker did not write " + output);
+            }
+            Files.deleteIfExists(log);
+        } finally {
+            if (process.isAlive()) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private List<String> arguments(RenderChunk chunk, Path output) {
+        List<String> arguments = new ArrayList<>(command.size());
+        for (String argument : command) {
+            arguments.add(argument
+                .replace("{scene}", chunk.sceneName())
+                .replace("{fps}", Integer.toString(chunk.fps()))
+                .replace("{fromFrame}", Integer.toString(chunk.fromFrame()))
+                .replace("{toFrame}", Integer.toString(chunk.toFrame()))
+                .replace("{hash}", chunk.contentHash())
+                .replace("{output}", output.toString()));
+        }
+        return arguments;
+    }
+}
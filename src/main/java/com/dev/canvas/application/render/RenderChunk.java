@@ -0,0 +1,8 @@
+package com.dev.canvas.application.render;
+
+public record RenderChunk(String sceneName, int index, int fps, int fromFrame, int toFrame, String contentHash) {
+
+    public int frameCount() {
+        return toFrame - fromFrame;
+    }
+}
@@ -0,0 +1,123 @@
+package com.dev.canvas.application.render;
+
+import com.dev.canvas.application.writer.SceneField;
+import com.dev.canvas.application.writer.SceneWriter;
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.timeline.Timeline;
+import com.dev.canvas.domain.timeline.TimelineWindow;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+public final class RenderChunkPlanner {
+
+    public static final int MAX_FPS = 240;
+    public static final int MAX_CHUNKS = 10_000;
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String ANONYMOUS = "";
+
+    private final SceneWriter sceneWriter;
+
+    public RenderChunkPlanner(SceneWriter sceneWriter) {
+        this.sceneWriter = sceneWriter;
+    }
+
+    public List<RenderChunk> plan(AnimationScene scene, int fps, int framesPerChunk) {
+        if (fps <= 0 || fps > MAX_FPS) {
+            throw new IllegalArgumentException("Frame rate must be between 1 and " + MAX_FPS);
+        }
+        if (framesPerChunk <= 0) {
+            throw new IllegalArgumentException("Frames per chunk must be positive");
+        }
+        int frameCount = frameCount(scene, fps);
+        int chunkCount = (frameCount + framesPerChunk - 1) / framesPerChunk;
+        if (chunkCount > MAX_CHUNKS) {
+            throw new IllegalArgumentException("Scene splits into " + chunkCount + " chunks, at most " + MAX_CHUNKS + " are allowed");
+        }
+
+        Timeline timeline = Timeline.builder()
+            .timelineId(scene.getSceneId())
+            .name(scene.getName())
+            .append(scene)
+            .build();
+        List<RenderChunk> chunks = new ArrayList<>(chunkCount);
+        for (int index = 0; index < chunkCount; index++) {
+            int fromFrame = index * framesPerChunk;
+            int toFrame = Math.min(fromFrame + framesPerChunk, frameCount);
+            chunks.add(new RenderChunk(scene.getName(), index, fps, fromFrame, toFrame,
+                contentHash(scene, timeline, fps, fromFrame, toFrame)));
+        }
+        return chunks;
+    }
+
+    public static int frameCount(AnimationScene scene, int fps) {
+        return Math.max(1, (int) Math.ceil(scene.getDurationMillis() * (double) fps / 1000));
+    }
+
+    private String contentHash(AnimationScene scene, Timeline timeline, int fps, int fromFrame, int toFrame) {
+        int fromMillis = Math.max(0, frameMillis(fromFrame, fps) - 1);
+        int toMillis = frameMillis(toFrame - 1, fps) + 1;
+        TimelineWindow window = timeline.window(fromMillis, toMillis);
+
+        AnimationScene.Builder content = AnimationScene.builder()
+            .sceneId(ANONYMOUS)
+            .name(ANONYMOUS)
+            .durationMillis(window.getDurationMillis())
+            .background(scene.getBackground());
+        Map<String, String> groupIds = new HashMap<>();
+        for (SceneElement element : window.getElements()) {
+            content.addElement(anonymous(element, groupIds));
+        }
+
+        MessageDigest digest = newDigest();
+        digest.update(ByteBuffer.allocate(3 * Integer.BYTES).putInt(fps).putInt(fromFrame).putInt(toFrame).flip());
+        try (OutputStream output = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            sceneWriter.write(content.build(), SceneField.all(), output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static SceneElement anonymous(SceneElement element, Map<String, String> groupIds) {
+        String elementId = ANONYMOUS;
+        if (element.getPrimitiveType().isContainer()) {
+            elementId = "g" + groupIds.size();
+            groupIds.put(element.getElementId(), elementId);
+        }
+        SceneElement.Builder builder = SceneElement.builder()
+            .elementId(elementId)
+            .parentId(element.getParentId().map(groupIds::get).orElse(null))
+            .startMillis(element.getStartMillis())
+            .durationMillis(element.getDurationMillis())
+            .properties(element.getProperties());
+        for (PropertyTween tween : element.getTweens()) {
+            builder.addTween(tween);
+        }
+        return builder.build();
+    }
+
+    private static int frameMillis(int frame, int fps) {
+        return (int) ((long) frame * 1000 / fps);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not available", e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.dev.canvas.application.render;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public final class RenderJob {
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public enum ChunkState {
+        PENDING,
+        RENDERING,
+        RENDERED,
+        CACHED,
+        FAILED
+    }
+
+    private final String jobId;
+    private final String sceneName;
+    private final List<RenderChunk> chunks;
+    private final AtomicReferenceArray<ChunkState> states;
+    private final AtomicIntegerArray attempts;
+    private final AtomicReferenceArray<Path> outputs;
+    private final AtomicInteger remaining;
+    private final AtomicInteger failures;
+    private final CompletableFuture<RenderJob> completion;
+    private final long submittedNanos;
+    private volatile long finishedNanos;
+
+    RenderJob(String jobId, String sceneName, List<RenderChunk> chunks) {
+        this.jobId = jobId;
+        this.sceneName = sceneName;
+        this.chunks = List.copyOf(chunks);
+        this.states = new AtomicReferenceArray<>(chunks.size());
+        this.attempts = new AtomicIntegerArray(chunks.size());
+        this.outputs = new AtomicReferenceArray<>(chunks.size());
+        this.remaining = new AtomicInteger(chunks.size());
+        this.failures = new AtomicInteger();
+        this.completion = new CompletableFuture<>();
+        this.submittedNanos = System.nanoTime();
+        for (int i = 0; i < chunks.size(); i++) {
+            states.set(i, ChunkState.PENDING);
+        }
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getSceneName() {
+        return sceneName;
+    }
+
+    public List<RenderChunk> getChunks() {
+        return chunks;
+    }
+
+    public ChunkState chunkState(int index) {
+        return states.get(index);
+    }
+
+    public int chunkAttempts(int index) {
+        return attempts.get(index);
+    }
+
+    public Path chunkOutput(int index) {
+        return outputs.get(index);
+    }
+
+    public long count(ChunkState state) {
+        long count = 0;
+        for (int i = 0; i < states.length(); i++) {
+            if (states.get(i) == state) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public State getState() {
+        if (!completion.isDone()) {
+            return State.RUNNING;
+        }
+        return failures.get() == 0 ? State.COMPLETED : State.FAILED;
+    }
+
+    public boolean isDone() {
+        return completion.isDone();
+    }
+
+    public long elapsedMillis() {
+        long end = completion.isDone() ? finishedNanos : System.nanoTime();
+        return TimeUnit.NANOSECONDS.toMillis(end - submittedNanos);
+    }
+
+    public CompletableFuture<RenderJob> completion() {
+        return completion.copy();
+    }
+
+    void rendering(int index) {
+        states.set(index, ChunkState.RENDERING);
+    }
+
+    int attempt(int index) {
+        return attempts.incrementAndGet(index);
+    }
+
+    void rendered(int index, Path output) {
+        finish(index, ChunkState.RENDERED, output);
+    }
+
+    void cached(int index, Path output) {
+        finish(index, ChunkState.CACHED, output);
+    }
+
+    void failed(int index) {
+        failures.incrementAndGet();
+        finish(index, ChunkState.FAILED, null);
+    }
+
+    private void finish(int index, ChunkState state, Path output) {
+        outputs.set(index, output);
+        states.set(index, state);
+        if (remaining.decrementAndGet() == 0) {
+            finishedNanos = System.nanoTime();
+            completion.complete(this);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.dev.canvas.application.render;
+
+import com.dev.canvas.application.coalescing.RequestCoalescer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public final class RenderScheduler implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RenderScheduler.class);
+
+    private static final int RETAINED_JOBS = 256;
+    private static final String PARTIAL_SUFFIX = ".part";
+
+    private final RenderWorker worker;
+    private final ForkJoinPool pool;
+    private final int maxAttempts;
+    private final Path outputDirectory;
+    private final String outputSuffix;
+    private final RequestCoalescer<String, Path> chunkRenders;
+    private final Map<String, RenderJob> jobs;
+
+    public RenderScheduler(RenderWorker worker, int workers, int maxAttempts, Path outputDirectory, String outputSuffix) {
+        if (workers <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("Render workers and attempts must be positive");
+        }
+        this.worker = worker;
+        this.pool = new ForkJoinPool(workers);
+        this.maxAttempts = maxAttempts;
+        this.outputDirectory = outputDirectory.toAbsolutePath().normalize();
+        this.outputSuffix = outputSuffix;
+        this.chunkRenders = new RequestCoalescer<>("render-chunks");
+        this.jobs = new LinkedHashMap<>();
+    }
+
+    public RenderJob submit(String sceneName, List<RenderChunk> chunks) {
+        if (!worker.isAvailable()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "No render worker is configured");
+        }
+        if (chunks.isEmpty()) {
+            throw new IllegalArgumentException("Render job needs at least one chunk");
+        }
+        try {
+            Files.createDirectories(outputDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot prepare render output directory " + outputDirectory, e);
+        }
+        RenderJob job = new RenderJob(UUID.randomUUID().toString(), sceneName, chunks);
+        retain(job);
+        pool.execute(new ChunkRange(job, 0, chunks.size()));
+        return job;
+    }
+
+    public Optional<RenderJob> find(String jobId) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(jobId));
+        }
+    }
+
+    public int workers() {
+        return pool.getParallelism();
+    }
+
+    public long steals() {
+        return pool.getStealCount();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private void retain(RenderJob job) {
+        synchronized (jobs) {
+            jobs.put(job.getJobId(), job);
+            Iterator<RenderJob> oldest = jobs.values().iterator();
+            while (jobs.size() > RETAINED_JOBS && oldest.hasNext()) {
+                if (oldest.next().isDone()) {
+                    oldest.remove();
+                }
+            }
+        }
+    }
+
+    private void renderChunk(RenderJob job, int index) {
+        RenderChunk chunk = job.getChunks().get(index);
+        Path output = outputDirectory.resolve(chunk.contentHash() + outputSuffix);
+        if (Files.exists(output)) {
+            job.cached(index, output);
+            return;
+        }
+        try {
+            job.rendered(index, chunkRenders.execute(chunk.contentHash(), () -> renderWithRetries(job, index, output)));
+        } catch (RuntimeException e) {
+            log.warn("Giving up on chunk {} of render job {} ({})", index, job.getJobId(), chunk.sceneName(), e);
+            job.failed(index);
+        }
+    }
+
+    private Path renderWithRetries(RenderJob job, int index, Path output) {
+        RenderChunk chunk = job.getChunks().get(index);
+        Path partial = output.resolveSibling(output.getFileName() + PARTIAL_SUFFIX + outputSuffix);
+        job.rendering(index);
+        while (true) {
+            int attempt = job.attempt(index);
+            try {
+                Files.deleteIfExists(partial);
+                worker.render(chunk, partial);
+                return Files.move(partial, output, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Render job " + job.getJobId() + " was interrupted");
+            } catch (IOException | RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    throw new IllegalStateException("Chunk " + index + " failed after " + attempt + " attempts", e);
+                }
+                log.debug("Retrying chunk {} of render job {} after attempt {} failed", index, job.getJobId(), attempt, e);
+            }
+        }
+    }
+
+    private final class ChunkRange extends RecursiveAction {
+
+        private final RenderJob job;
+        private final int from;
+        private final int to;
+
+        private ChunkRange(RenderJob job, int from, int to) {
+            this.job = job;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                renderChunk(job, from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkRange(job, from, middle), new ChunkRange(job, middle, to));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.dev.canvas.application.render;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public interface RenderWorker {
+
+    void render(RenderChunk chunk, Path output) throws IOException, InterruptedException;
+
+    default boolean isAvailable() {
+        return true;
+    }
+}
@@ -0,0 +1,273 @@
+package com.dev.canvas.application.writer;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.CircleProperties;
+import com.dev.canvas.domain.animation.DominoProperties;
+import com.dev.canvas.domain.animation.GroupProperties;
+import com.dev.canvas.domain.animation.EasingFunction;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.LineProperties;
+import com.dev.canvas.domain.animation.ParticleProperties;
+import com.dev.canvas.domain.animation.PathProperties;
+import com.dev.canvas.domain.animation.PrimitiveProperties;
+import com.dev.canvas.domain.animation.PrimitiveType;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.RectProperties;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.SchemaVersion;
+import com.dev.canvas.domain.animation.Shadow;
+import com.dev.canvas.domain.animation.Style;
+import com.dev.canvas.domain.animation.TextProperties;
+import com.dev.canvas.domain.color.PackedColors;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public final class ColumnarSceneJsonWriter implements SceneWriter {
+
+    private static final Map<PrimitiveType, String> TYPE_CODES = new EnumMap<>(Map.of(
+        PrimitiveType.CIRCLE, "c",
+        PrimitiveType.RECT, "r",
+        PrimitiveType.LINE, "l",
+        PrimitiveType.TEXT, "t",
+        PrimitiveType.DOMINO, "d",
+        PrimitiveType.GROUP, "g",
+        PrimitiveType.PATH, "p",
+        PrimitiveType.PARTICLES, "pt"
+    ));
+
+    private static final Map<PropertyPath, String> PATH_CODES = new EnumMap<>(Map.ofEntries(
+        Map.entry(PropertyPath.POSITION_X, "x"),
+        Map.entry(PropertyPath.POSITION_Y, "y"),
+        Map.entry(PropertyPath.OPACITY, "o"),
+        Map.entry(PropertyPath.SCALE_X, "sx"),
+        Map.entry(PropertyPath.SCALE_Y, "sy"),
+        Map.entry(PropertyPath.ROTATION, "r"),
+        Map.entry(PropertyPath.ROTATION_X, "rx"),
+        Map.entry(PropertyPath.START, "s"),
+        Map.entry(PropertyPath.END, "e"),
+        Map.entry(PropertyPath.PATH_PROGRESS, "pp"),
+        Map.entry(PropertyPath.FILL_COLOR, "fc"),
+        Map.entry(PropertyPath.STROKE_COLOR, "sc"),
+        Map.entry(PropertyPath.TEXT_COLOR, "tc"),
+        Map.entry(PropertyPath.SHADOW_COLOR, "hc")
+    ));
+
+    private static final Map<EasingFunction, String> EASING_CODES = new EnumMap<>(Map.of(
+        EasingFunction.LINEAR, "l",
+        EasingFunction.EASE_IN, "i",
+        EasingFunction.EASE_OUT, "o",
+        EasingFunction.EASE_IN_OUT, "io"
+    ));
+
+    private final JsonFactory jsonFactory;
+
+    public ColumnarSceneJsonWriter(JsonFactory jsonFactory) {
+        this.jsonFactory = Objects.requireNonNull(jsonFactory);
+    }
+
+    @Override
+    public SchemaVersion getSchemaVersion() {
+        return SchemaVersion.columnar();
+    }
+
+    @Override
+    public boolean supportsFieldSelection() {
+        return true;
+    }
+
+    @Override
+    public void write(AnimationScene scene, Set<SceneField> fields, OutputStream output) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(output, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writeScene(generator, scene, fields);
+        }
+    }
+
+    private void writeScene(JsonGenerator generator, AnimationScene scene, Set<SceneField> fields) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("sceneId", scene.getSceneId());
+        generator.writeStringField("name", scene.getName());
+        generator.writeStringField("schemaVersion", getSchemaVersion().getValue());
+        generator.writeNumberField("durationMillis", scene.getDurationMillis());
+        if (scene.getBackground() != null) {
+            generator.writeStringField("background", scene.getBackground());
+        }
+        generator.writeArrayFieldStart("elements");
+        for (SceneElement element : scene.getElements()) {
+            writeElement(generator, element, fields);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeElement(JsonGenerator generator, SceneElement element, Set<SceneField> fields) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("elementId", element.getElementId());
+        generator.writeStringField("type", TYPE_CODES.get(element.getPrimitiveType()));
+        generator.writeNumberField("startMillis", element.getStartMillis());
+        generator.writeNumberField("durationMillis", element.getDurationMillis());
+        if (element.getParentId().isPresent()) {
+            generator.writeStringField("parentId", element.getParentId().get());
+        }
+        if (fields.contains(SceneField.PROPERTIES)) {
+            writeProperties(generator, element.getProperties(), fields.contains(SceneField.STYLES));
+        }
+        if (fields.contains(SceneField.TWEENS)) {
+            generator.writeArrayFieldStart("tweens");
+            for (PropertyTween tween : element.getTweens()) {
+                writeTween(generator, tween);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeTween(JsonGenerator generator, PropertyTween tween) throws IOException {
+        List<Keyframe> keyframes = tween.getKeyframes();
+
+        generator.writeStartObject();
+        generator.writeStringField("propertyPath", PATH_CODES.get(tween.getPropertyPath()));
+        generator.writeArrayFieldStart("times");
+        for (Keyframe keyframe : keyframes) {
+            generator.writeNumber(keyframe.getTimeMillis());
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("values");
+        for (Keyframe keyframe : keyframes) {
+            writeCompactNumber(generator, keyframe.getValue());
+        }
+        generator.writeEndArray();
+        if (tween.getPropertyPath().isColor()) {
+            generator.writeArrayFieldStart("colors");
+            for (Keyframe keyframe : keyframes) {
+                generator.writeString(PackedColors.format(keyframe.getColor()));
+            }
+            generator.writeEndArray();
+        }
+        generator.writeArrayFieldStart("easings");
+        for (Keyframe keyframe : keyframes) {
+            generator.writeString(EASING_CODES.get(keyframe.getEasing()));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeProperties(JsonGenerator generator, PrimitiveProperties properties, boolean withStyle) throws IOException {
+        switch (properties) {
+            case CircleProperties circle -> {
+                generator.writeObjectFieldStart("circle");
+                generator.writeNumberField("centerX", circle.getCenterX());
+                generator.writeNumberField("centerY", circle.getCenterY());
+                generator.writeNumberField("radius", circle.getRadius());
+                writeStyle(generator, circle.getStyle(), withStyle);
+            }
+            case RectProperties rect -> {
+                generator.writeObjectFieldStart("rect");
+                generator.writeNumberField("centerX", rect.getCenterX());
+                generator.writeNumberField("centerY", rect.getCenterY());
+                generator.writeNumberField("width", rect.getWidth());
+                generator.writeNumberField("height", rect.getHeight());
+                generator.writeNumberField("radius", rect.getRadius());
+                writeStyle(generator, rect.getStyle(), withStyle);
+            }
+            case LineProperties line -> {
+                generator.writeObjectFieldStart("line");
+                generator.writeNumberField("startX", line.getStartX());
+                generator.writeNumberField("startY", line.getStartY());
+                generator.writeNumberField("endX", line.getEndX());
+                generator.writeNumberField("endY", line.getEndY());
+                writeStyle(generator, line.getStyle(), withStyle);
+            }
+            case TextProperties text -> {
+                generator.writeObjectFieldStart("text");
+                generator.writeStringField("text", text.getText());
+                generator.writeNumberField("centerX", text.getCenterX());
+                generator.writeNumberField("centerY", text.getCenterY());
+                generator.writeNumberField("fontSize", text.getFontSize());
+                if (withStyle) {
+                    generator.writeStringField("color", text.getColor());
+                    generator.writeStringField("fontWeight", text.getFontWeight());
+                }
+            }
+            case DominoProperties domino -> {
+                generator.writeObjectFieldStart("domino");
+                generator.writeNumberField("x", domino.x());
+                generator.writeNumberField("y", domino.y());
+                generator.writeNumberField("z", domino.z());
+                generator.writeNumberField("width", domino.width());
+                generator.writeNumberField("height", domino.height());
+                generator.writeNumberField("depth", domino.depth());
+                generator.writeFieldName("rotationX");
+                writeCompactNumber(generator, domino.rotationX());
+                writeStyle(generator, domino.style(), withStyle);
+            }
+            case GroupProperties group -> {
+                generator.writeObjectFieldStart("group");
+                generator.writeNumberField("x", group.x());
+                generator.writeNumberField("y", group.y());
+            }
+            case PathProperties path -> {
+                generator.writeObjectFieldStart("path");
+                generator.writeStringField("data", path.getData());
+                writeStyle(generator, path.getStyle(), withStyle);
+            }
+            case ParticleProperties particles -> {
+                generator.writeObjectFieldStart("particles");
+                generator.writeNumberField("x", particles.x());
+                generator.writeNumberField("y", particles.y());
+                generator.writeNumberField("rate", particles.rate());
+                generator.writeNumberField("lifetimeMillis", particles.lifetimeMillis());
+                generator.writeNumberField("minVelocityX", particles.minVelocityX());
+                generator.writeNumberField("maxVelocityX", particles.maxVelocityX());
+                generator.writeNumberField("minVelocityY", particles.minVelocityY());
+                generator.writeNumberField("maxVelocityY", particles.maxVelocityY());
+                generator.writeNumberField("size", particles.size());
+                generator.writeNumberField("seed", particles.seed());
+                writeStyle(generator, particles.style(), withStyle);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeStyle(JsonGenerator generator, Style style, boolean withStyle) throws IOException {
+        if (!withStyle || style == null) {
+            return;
+        }
+        generator.writeObjectFieldStart("style");
+        if (style.getFillColor() != null) {
+            generator.writeStringField("fillColor", style.getFillColor());
+        }
+        if (style.getStrokeColor() != null) {
+            generator.writeStringField("strokeColor", style.getStrokeColor());
+        }
+        generator.writeNumberField("lineWidth", style.getLineWidth());
+        if (style.getShadow().isPresent()) {
+            Shadow shadow = style.getShadow().get();
+            generator.writeObjectFieldStart("shadow");
+            generator.writeNumberField("blur", shadow.getBlur());
+            generator.writeNumberField("offsetX", shadow.getOffsetX());
+            generator.writeNumberField("offsetY", shadow.getOffsetY());
+            generator.writeStringField("color", shadow.getColor());
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeCompactNumber(JsonGenerator generator, double value) throws IOException {
+        long whole = (long) value;
+        if (whole == value) {
+            generator.writeNumber(whole);
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.dev.canvas.application.writer;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum SceneField {
+
+    PROPERTIES("properties"),
+    STYLES("styles"),
+    TWEENS("tweens");
+
+    private final String value;
+
+    SceneField(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static SceneField fromValue(String value) {
+        for (SceneField field : values()) {
+            if (field.value.equals(value)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scene field: " + value);
+    }
+
+    public static Set<SceneField> all() {
+        return EnumSet.allOf(SceneField.class);
+    }
+
+    public static Set<SceneField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return all();
+        }
+        Set<SceneField> selected = EnumSet.noneOf(SceneField.class);
+        for (String field : fields.split(",")) {
+            if (!field.isBlank()) {
+                selected.add(fromValue(field.trim()));
+            }
+        }
+        return selected;
+    }
+}
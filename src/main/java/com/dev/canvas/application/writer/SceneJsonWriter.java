@@ -0,0 +1,262 @@
+package com.dev.canvas.application.writer;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.CircleProperties;
+import com.dev.canvas.domain.animation.DominoProperties;
+import com.dev.canvas.domain.animation.GroupProperties;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.LineProperties;
+import com.dev.canvas.domain.animation.ParticleProperties;
+import com.dev.canvas.domain.animation.PathProperties;
+import com.dev.canvas.domain.animation.PrimitiveProperties;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.RectProperties;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.SchemaVersion;
+import com.dev.canvas.domain.animation.Shadow;
+import com.dev.canvas.domain.animation.Style;
+import com.dev.canvas.domain.animation.TextProperties;
+import com.dev.canvas.domain.color.PackedColors;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.Set;
+
+public final class SceneJsonWriter implements SceneWriter {
+
+    private final JsonFactory jsonFactory;
+
+    public SceneJsonWriter(JsonFactory jsonFactory) {
+        this.jsonFactory = Objects.requireNonNull(jsonFactory);
+    }
+
+    @Override
+    public SchemaVersion getSchemaVersion() {
+        return SchemaVersion.current();
+    }
+
+    @Override
+    public boolean supportsFieldSelection() {
+        return false;
+    }
+
+    @Override
+    public void write(AnimationScene scene, Set<SceneField> fields, OutputStream output) throws IOException {
+        write(scene, output);
+    }
+
+    public void write(AnimationScene scene, OutputStream output) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(output, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writeScene(generator, scene);
+        }
+    }
+
+    private void writeScene(JsonGenerator generator, AnimationScene scene) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("sceneId", scene.getSceneId());
+        generator.writeStringField("name", scene.getName());
+        generator.writeStringField("schemaVersion", scene.getSchemaVersion().getValue());
+        generator.writeNumberField("durationMillis", scene.getDurationMillis());
+        writeNullableString(generator, "background", scene.getBackground());
+        generator.writeArrayFieldStart("elements");
+        for (SceneElement element : scene.getElements()) {
+            writeElement(generator, element);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeElement(JsonGenerator generator, SceneElement element) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("elementId", element.getElementId());
+        generator.writeStringField("primitiveType", element.getPrimitiveType().name());
+        generator.writeNumberField("startMillis", element.getStartMillis());
+        generator.writeNumberField("durationMillis", element.getDurationMillis());
+        String parentId = element.getParentId().orElse(null);
+        if (parentId != null) {
+            generator.writeStringField("parentId", parentId);
+        }
+        writeProperties(generator, element.getProperties());
+        generator.writeArrayFieldStart("tweens");
+        for (PropertyTween tween : element.getTweens()) {
+            writeTween(generator, tween);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeProperties(JsonGenerator generator, PrimitiveProperties properties) throws IOException {
+        writeSlot(generator, "circle", properties instanceof CircleProperties circle ? circle : null);
+        writeSlot(generator, "rect", properties instanceof RectProperties rect ? rect : null);
+        writeSlot(generator, "line", properties instanceof LineProperties line ? line : null);
+        writeSlot(generator, "text", properties instanceof TextProperties text ? text : null);
+        writeSlot(generator, "domino", properties instanceof DominoProperties domino ? domino : null);
+        if (properties instanceof GroupProperties group) {
+            writeSlot(generator, "group", group);
+        }
+        if (properties instanceof PathProperties path) {
+            writeSlot(generator, "path", path);
+        }
+        if (properties instanceof ParticleProperties particles) {
+            writeSlot(generator, "particles", particles);
+        }
+    }
+
+    private void writeSlot(JsonGenerator generator, String fieldName, PrimitiveProperties properties) throws IOException {
+        generator.writeFieldName(fieldName);
+        if (properties == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (properties) {
+            case CircleProperties circle -> writeCircle(generator, circle);
+            case RectProperties rect -> writeRect(generator, rect);
+            case LineProperties line -> writeLine(generator, line);
+            case TextProperties text -> writeText(generator, text);
+            case DominoProperties domino -> writeDomino(generator, domino);
+            case GroupProperties group -> writeGroup(generator, group);
+            case PathProperties path -> writePath(generator, path);
+            case ParticleProperties particles -> writeParticles(generator, particles);
+        }
+    }
+
+    private void writeTween(JsonGenerator generator, PropertyTween tween) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("propertyPath", tween.getPropertyPath().getValue());
+        generator.writeArrayFieldStart("keyframes");
+        for (Keyframe keyframe : tween.getKeyframes()) {
+            generator.writeStartObject();
+            generator.writeNumberField("timeMillis", keyframe.getTimeMillis());
+            generator.writeNumberField("value", keyframe.getValue());
+            if (tween.getPropertyPath().isColor()) {
+                generator.writeStringField("color", PackedColors.format(keyframe.getColor()));
+            }
+            generator.writeStringField("easing", keyframe.getEasing().getValue());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeCircle(JsonGenerator generator, CircleProperties properties) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("centerX", properties.getCenterX());
+        generator.writeNumberField("centerY", properties.getCenterY());
+        generator.writeNumberField("radius", properties.getRadius());
+        writeStyle(generator, properties.getStyle());
+        generator.writeEndObject();
+    }
+
+    private void writeRect(JsonGenerator generator, RectProperties properties) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("centerX", properties.getCenterX());
+        generator.writeNumberField("centerY", properties.getCenterY());
+        generator.writeNumberField("width", properties.getWidth());
+        generator.writeNumberField("height", properties.getHeight());
+        generator.writeNumberField("radius", properties.getRadius());
+        writeStyle(generator, properties.getStyle());
+        generator.writeEndObject();
+    }
+
+    private void writeLine(JsonGenerator generator, LineProperties properties) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("startX", properties.getStartX());
+        generator.writeNumberField("startY", properties.getStartY());
+        generator.writeNumberField("endX", properties.getEndX());
+        generator.writeNumberField("endY", properties.getEndY());
+        writeStyle(generator, properties.getStyle());
+        generator.writeEndObject();
+    }
+
+    private void writeText(JsonGenerator generator, TextProperties properties) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("text", properties.getText());
+        generator.writeNumberField("centerX", properties.getCenterX());
+        generator.writeNumberField("centerY", properties.getCenterY());
+        generator.writeNumberField("fontSize", properties.getFontSize());
+        generator.writeStringField("color", properties.getColor());
+        generator.writeStringField("fontWeight", properties.getFontWeight());
+        generator.writeEndObject();
+    }
+
+    private void writeDomino(JsonGenerator generator, DominoProperties properties) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("x", properties.x());
+        generator.writeNumberField("y", properties.y());
+        generator.writeNumberField("z", properties.z());
+        generator.writeNumberField("width", properties.width());
+        generator.writeNumberField("height", properties.height());
+        generator.writeNumberField("depth", properties.depth());
+        generator.writeNumberField("rotationX", properties.rotationX());
+        writeStyle(generator, properties.style());
+        generator.writeEndObject();
+    }
+
+    private void writeGroup(JsonGenerator generator, GroupProperties properties) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("x", properties.x());
+        generator.writeNumberField("y", properties.y());
+        generator.writeEndObject();
+    }
+
+    private void writePath(JsonGenerator generator, PathProperties properties) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("data", properties.getData());
+        generator.writeNumberField("length", properties.getLength());
+        writeStyle(generator, properties.getStyle());
+        generator.writeEndObject();
+    }
+
+    private void writeParticles(JsonGenerator generator, ParticleProperties properties) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("x", properties.x());
+        generator.writeNumberField("y", properties.y());
+        generator.writeNumberField("rate", properties.rate());
+        generator.writeNumberField("lifetimeMillis", properties.lifetimeMillis());
+        generator.writeNumberField("minVelocityX", properties.minVelocityX());
+        generator.writeNumberField("maxVelocityX", properties.maxVelocityX());
+        generator.writeNumberField("minVelocityY", properties.minVelocityY());
+        generator.writeNumberField("maxVelocityY", properties.maxVelocityY());
+        generator.writeNumberField("size", properties.size());
+        generator.writeNumberField("seed", properties.seed());
+        writeStyle(generator, properties.style());
+        generator.writeEndObject();
+    }
+
+    private void writeStyle(JsonGenerator generator, Style style) throws IOException {
+        generator.writeFieldName("style");
+        if (style == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        writeNullableString(generator, "fillColor", style.getFillColor());
+        writeNullableString(generator, "strokeColor", style.getStrokeColor());
+        generator.writeNumberField("lineWidth", style.getLineWidth());
+        generator.writeFieldName("shadow");
+        Shadow shadow = style.getShadow().orElse(null);
+        if (shadow == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartObject();
+            generator.writeNumberField("blur", shadow.getBlur());
+            generator.writeNumberField("offsetX", shadow.getOffsetX());
+            generator.writeNumberField("offsetY", shadow.getOffsetY());
+            generator.writeStringField("color", shadow.getColor());
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeNullableString(JsonGenerator generator, String fieldName, String value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(fieldName);
+        } else {
+            generator.writeStringField(fieldName, value);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.dev.canvas.application.writer;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.SchemaVersion;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Set;
+
+public interface SceneWriter {
+
+    SchemaVersion getSchemaVersion();
+
+    boolean supportsFieldSelection();
+
+    void write(AnimationScene scene, Set<SceneField> fields, OutputStream output) throws IOException;
+}
@@ -0,0 +1,20 @@
+package com.dev.canvas.application.writer;
+
+import com.dev.canvas.domain.animation.SchemaVersion;
+import java.util.List;
+import java.util.Optional;
+
+public final class SceneWriters {
+
+    private final List<SceneWriter> writers;
+
+    public SceneWriters(List<SceneWriter> writers) {
+        this.writers = List.copyOf(writers);
+    }
+
+    public Optional<SceneWriter> find(SchemaVersion requested) {
+        return writers.stream()
+            .filter(writer -> writer.getSchemaVersion().isCompatibleWith(requested))
+            .findFirst();
+    }
+}
@@ -1,21 +1,237 @@
 package com.dev.canvas.configuration;
 
 import com.dev.canvas.application.assembler.SceneAssembler;
+import com.dev.canvas.application.assembler.TimelineAssembler;
+import com.dev.canvas.application.cache.DiskSpillTier;
+import com.dev.canvas.application.cache.SceneCache;
+import com.dev.canvas.application.coalescing.FrameRequest;
+import com.dev.canvas.application.coalescing.RequestCoalescer;
+import com.dev.canvas.application.coalescing.SceneRequest;
+import com.dev.canvas.application.definition.SceneDefinitionMapper;
+import com.dev.canvas.application.definition.SceneDefinitionWatcher;
+import com.dev.canvas.application.execution.BuildExecutor;
+import com.dev.canvas.application.export.LottieSceneExporter;
+import com.dev.canvas.application.export.SceneExporters;
+import com.dev.canvas.application.export.SvgSceneExporter;
+import com.dev.canvas.application.narration.NarrationLibrary;
+import com.dev.canvas.application.render.ProcessRenderWorker;
+import com.dev.canvas.application.render.RenderChunkPlanner;
+import com.dev.canvas.application.render.RenderScheduler;
+import com.dev.canvas.application.render.RenderWorker;
+import com.dev.canvas.application.writer.ColumnarSceneJsonWriter;
+import com.dev.canvas.application.writer.SceneJsonWriter;
+import com.dev.canvas.application.writer.SceneWriters;
+import com.dev.canvas.domain.animation.SceneCatalog;
+import com.dev.canvas.domain.animation.SceneDerivedCache;
 import com.dev.canvas.domain.animation.SceneFactory;
+import com.dev.canvas.domain.audio.AudioAnalyzer;
+import com.dev.canvas.domain.graph.ParticleEmitters;
+import com.dev.canvas.domain.layout.LayeredLayout;
+import com.dev.canvas.domain.physics.DominoChainSimulator;
+import com.dev.canvas.domain.projection.DominoBatch;
+import com.dev.canvas.domain.projection.DominoProjectionKernel;
+import com.dev.canvas.domain.spatial.SpatialIndex;
+import com.dev.canvas.domain.text.TextMetricsService;
+import com.dev.canvas.domain.timeline.TimelineFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @Configuration
+@ImportRuntimeHints(AnimationRuntimeHints.class)
 public class AnimationConfiguration {
 
     @Bean
-    public SceneFactory sceneFactory() {
-        return new SceneFactory();
+    public DominoChainSimulator dominoChainSimulator() {
+        return new DominoChainSimulator(ForkJoinPool.commonPool());
+    }
+
+    @Bean
+    public LayeredLayout layeredLayout() {
+        return new LayeredLayout();
+    }
+
+    @Bean
+    public SceneFactory sceneFactory(
+        DominoChainSimulator dominoChainSimulator,
+        LayeredLayout layeredLayout,
+        TextMetricsService textMetricsService
+    ) {
+        return new SceneFactory(dominoChainSimulator, layeredLayout, textMetricsService);
+    }
+
+    @Bean
+    public SceneCatalog sceneCatalog(
+        SceneFactory sceneFactory,
+        @Value("${scenes.catalog.cached-scenes}") int cachedScenes
+    ) {
+        return new SceneCatalog(sceneFactory, cachedScenes);
+    }
+
+    @Bean
+    public SceneDefinitionMapper sceneDefinitionMapper() {
+        return new SceneDefinitionMapper();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public SceneDefinitionWatcher sceneDefinitionWatcher(
+        @Value("${scenes.definitions.directory}") String directory,
+        ObjectMapper objectMapper,
+        SceneDefinitionMapper sceneDefinitionMapper,
+        SceneCatalog sceneCatalog,
+        NarrationLibrary narrationLibrary
+    ) {
+        return new SceneDefinitionWatcher(Path.of(directory), objectMapper, sceneDefinitionMapper, sceneCatalog,
+            narrationLibrary);
+    }
+
+    @Bean
+    public NarrationLibrary narrationLibrary(@Value("${narration.directory}") String directory) {
+        return new NarrationLibrary(Path.of(directory), new AudioAnalyzer());
     }
 
     @Bean
     public SceneAssembler sceneAssembler() {
         return new SceneAssembler();
     }
+
+    @Bean
+    public SceneJsonWriter sceneJsonWriter(ObjectMapper objectMapper) {
+        return new SceneJsonWriter(objectMapper.getFactory());
+    }
+
+    @Bean
+    public ColumnarSceneJsonWriter columnarSceneJsonWriter(ObjectMapper objectMapper) {
+        return new ColumnarSceneJsonWriter(objectMapper.getFactory());
+    }
+
+    @Bean
+    public SceneWriters sceneWriters(SceneJsonWriter sceneJsonWriter, ColumnarSceneJsonWriter columnarSceneJsonWriter) {
+        return new SceneWriters(List.of(sceneJsonWriter, columnarSceneJsonWriter));
+    }
+
+    @Bean
+    public SvgSceneExporter svgSceneExporter(
+        @Value("${export.width}") int width,
+        @Value("${export.height}") int height
+    ) {
+        return new SvgSceneExporter(width, height);
+    }
+
+    @Bean
+    public LottieSceneExporter lottieSceneExporter(
+        ObjectMapper objectMapper,
+        @Value("${export.width}") int width,
+        @Value("${export.height}") int height,
+        @Value("${export.lottie.frame-rate}") int frameRate
+    ) {
+        return new LottieSceneExporter(objectMapper.getFactory(), width, height, frameRate);
+    }
+
+    @Bean
+    public SceneExporters sceneExporters(SvgSceneExporter svgSceneExporter, LottieSceneExporter lottieSceneExporter) {
+        return new SceneExporters(List.of(svgSceneExporter, lottieSceneExporter));
+    }
+
+    @Bean
+    public SceneDerivedCache<SpatialIndex> spatialIndexes(SceneCatalog sceneCatalog) {
+        return new SceneDerivedCache<>(sceneCatalog, scene -> SpatialIndex.of(scene.getElements()));
+    }
+
+    @Bean
+    public SceneDerivedCache<DominoBatch> dominoBatches(SceneCatalog sceneCatalog) {
+        return new SceneDerivedCache<>(sceneCatalog, scene -> DominoBatch.of(scene.getElements()));
+    }
+
+    @Bean
+    public SceneDerivedCache<ParticleEmitters> particleEmitters(SceneCatalog sceneCatalog) {
+        return new SceneDerivedCache<>(sceneCatalog, scene -> ParticleEmitters.of(scene.getElements()));
+    }
+
+    @Bean
+    public DominoProjectionKernel dominoProjectionKernel() {
+        return DominoProjectionKernel.best();
+    }
+
+    @Bean
+    public RequestCoalescer<SceneRequest, byte[]> sceneRequests(SceneCatalog sceneCatalog) {
+        RequestCoalescer<SceneRequest, byte[]> coalescer = new RequestCoalescer<>("scene");
+        sceneCatalog.addChangeListener(name -> coalescer.detach(request -> request.name().equals(name)));
+        return coalescer;
+    }
+
+    @Bean
+    public BuildExecutor buildExecutor() {
+        return BuildExecutor.inline();
+    }
+
+    @Bean(destroyMethod = "close")
+    public SceneCache<SceneRequest> sceneCache(
+        @Value("${scenes.cache.max-bytes}") long maximumBytes,
+        @Value("${scenes.cache.spill.directory:}") String spillDirectory,
+        @Value("${scenes.cache.spill.max-bytes}") long spillMaximumBytes,
+        SceneCatalog sceneCatalog
+    ) {
+        SceneCache<SceneRequest> cache = spillDirectory.isBlank()
+            ? SceneCache.inMemory(maximumBytes)
+            : SceneCache.spilling(maximumBytes, new DiskSpillTier<>(Path.of(spillDirectory), spillMaximumBytes));
+        sceneCatalog.addChangeListener(name -> cache.invalidateIf(request -> request.name().equals(name)));
+        return cache;
+    }
+
+    @Bean
+    public RequestCoalescer<FrameRequest, byte[]> frameRequests(SceneCatalog sceneCatalog) {
+        RequestCoalescer<FrameRequest, byte[]> coalescer = new RequestCoalescer<>("frame-geometry");
+        sceneCatalog.addChangeListener(name -> coalescer.detach(request -> request.name().equals(name)));
+        return coalescer;
+    }
+
+    @Bean
+    public RenderChunkPlanner renderChunkPlanner(SceneJsonWriter sceneJsonWriter) {
+        return new RenderChunkPlanner(sceneJsonWriter);
+    }
+
+    @Bean
+    public RenderWorker renderWorker(
+        @Value("${render.worker.command:}") String command,
+        @Value("${render.worker.timeout-seconds}") long timeoutSeconds
+    ) {
+        List<String> arguments = command.isBlank() ? List.of() : Arrays.asList(command.trim().split("\\s+"));
+        return new ProcessRenderWorker(arguments, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    @Bean(destroyMethod = "close")
+    public RenderScheduler renderScheduler(
+        RenderWorker renderWorker,
+        @Value("${render.workers}") int workers,
+        @Value("${render.worker.max-attempts}") int maxAttempts,
+        @Value("${render.chunks.directory}") String directory,
+        @Value("${render.chunks.suffix}") String suffix
+    ) {
+        int renderWorkers = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        return new RenderScheduler(renderWorker, renderWorkers, maxAttempts, Path.of(directory), suffix);
+    }
+
+    @Bean
+    public TextMetricsService textMetricsService(@Value("${text.metrics.font-family}") String fontFamily) {
+        return new TextMetricsService(fontFamily);
+    }
+
+    @Bean
+    public TimelineFactory timelineFactory(SceneFactory sceneFactory) {
+        return new TimelineFactory(sceneFactory);
+    }
+
+    @Bean
+    public TimelineAssembler timelineAssembler(SceneAssembler sceneAssembler) {
+        return new TimelineAssembler(sceneAssembler);
+    }
 }
 
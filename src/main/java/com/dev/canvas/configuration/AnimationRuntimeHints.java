@@ -0,0 +1,122 @@
+package com.dev.canvas.configuration;
+
+import com.dev.canvas.application.definition.SceneDefinition;
+import com.dev.canvas.application.dto.CacheTierStatsResponse;
+import com.dev.canvas.application.dto.CirclePropertiesResponse;
+import com.dev.canvas.application.dto.CoalescingStatsResponse;
+import com.dev.canvas.application.dto.DominoPropertiesResponse;
+import com.dev.canvas.application.dto.ElementResponse;
+import com.dev.canvas.application.dto.GroupPropertiesResponse;
+import com.dev.canvas.application.dto.KeyframeResponse;
+import com.dev.canvas.application.dto.LinePropertiesResponse;
+import com.dev.canvas.application.dto.NarrationBeatsResponse;
+import com.dev.canvas.application.dto.ParticlePropertiesResponse;
+import com.dev.canvas.application.dto.PathPropertiesResponse;
+import com.dev.canvas.application.dto.PropertyTweenResponse;
+import com.dev.canvas.application.dto.RectPropertiesResponse;
+import com.dev.canvas.application.dto.RenderChunkResponse;
+import com.dev.canvas.application.dto.RenderJobRequest;
+import com.dev.canvas.application.dto.RenderJobResponse;
+import com.dev.canvas.application.dto.SceneBatchRequest;
+import com.dev.canvas.application.dto.SceneParameterResponse;
+import com.dev.canvas.application.dto.SceneResponse;
+import com.dev.canvas.application.dto.ShadowResponse;
+import com.dev.canvas.application.dto.SilenceGapResponse;
+import com.dev.canvas.application.dto.SpatialQueryResponse;
+import com.dev.canvas.application.dto.StyleResponse;
+import com.dev.canvas.application.dto.TextPropertiesResponse;
+import com.dev.canvas.application.dto.TimelineSegmentResponse;
+import com.dev.canvas.application.dto.TimelineWindowResponse;
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.CircleProperties;
+import com.dev.canvas.domain.animation.DominoProperties;
+import com.dev.canvas.domain.animation.EasingFunction;
+import com.dev.canvas.domain.animation.GroupProperties;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.LineProperties;
+import com.dev.canvas.domain.animation.ParticleProperties;
+import com.dev.canvas.domain.animation.PathPoint;
+import com.dev.canvas.domain.animation.PathProperties;
+import com.dev.canvas.domain.animation.PathSegment;
+import com.dev.canvas.domain.animation.PrimitiveType;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.RectProperties;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.SchemaVersion;
+import com.dev.canvas.domain.animation.Shadow;
+import com.dev.canvas.domain.animation.Style;
+import com.dev.canvas.domain.animation.TextProperties;
+import java.util.List;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+public final class AnimationRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> RESPONSE_TYPES = List.of(
+        SceneResponse.class,
+        ElementResponse.class,
+        PropertyTweenResponse.class,
+        KeyframeResponse.class,
+        CirclePropertiesResponse.class,
+        RectPropertiesResponse.class,
+        LinePropertiesResponse.class,
+        TextPropertiesResponse.class,
+        DominoPropertiesResponse.class,
+        GroupPropertiesResponse.class,
+        PathPropertiesResponse.class,
+        ParticlePropertiesResponse.class,
+        StyleResponse.class,
+        ShadowResponse.class,
+        TimelineWindowResponse.class,
+        TimelineSegmentResponse.class,
+        SpatialQueryResponse.class,
+        CoalescingStatsResponse.class,
+        CacheTierStatsResponse.class,
+        RenderJobResponse.class,
+        RenderChunkResponse.class,
+        SceneParameterResponse.class,
+        NarrationBeatsResponse.class,
+        SilenceGapResponse.class
+    );
+
+    private static final List<Class<?>> DOMAIN_TYPES = List.of(
+        AnimationScene.class,
+        SceneElement.class,
+        PropertyTween.class,
+        Keyframe.class,
+        CircleProperties.class,
+        RectProperties.class,
+        LineProperties.class,
+        TextProperties.class,
+        DominoProperties.class,
+        GroupProperties.class,
+        PathProperties.class,
+        PathSegment.class,
+        PathPoint.class,
+        ParticleProperties.class,
+        Style.class,
+        Shadow.class,
+        SchemaVersion.class,
+        PrimitiveType.class,
+        PropertyPath.class,
+        EasingFunction.class
+    );
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(), RESPONSE_TYPES.toArray(Class<?>[]::new));
+        bindingRegistrar.registerReflectionHints(hints.reflection(), SceneDefinition.class, SceneBatchRequest.class,
+            RenderJobRequest.class);
+
+        for (Class<?> type : DOMAIN_TYPES) {
+            hints.reflection().registerType(type,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.dev.canvas.domain.animation;
 
+import com.dev.canvas.domain.persistent.PersistentVector;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 public final class AnimationScene {
 
@@ -12,7 +18,9 @@ public final class AnimationScene {
     private final SchemaVersion schemaVersion;
     private final int durationMillis;
     private final String background;
-    private final List<SceneElement> elements;
+    private final PersistentVector<SceneElement> elements;
+    private volatile Map<String, Integer> elementIndex;
+    private volatile Set<String> parentIds;
 
     private AnimationScene(Builder builder) {
         this.sceneId = builder.sceneId;
@@ -20,7 +28,19 @@ public final class AnimationScene {
         this.schemaVersion = builder.schemaVersion;
         this.durationMillis = builder.durationMillis;
         this.background = builder.background;
-        this.elements = List.copyOf(builder.elements);
+        this.elements = PersistentVector.copyOf(builder.elements);
+    }
+
+    private AnimationScene(AnimationScene base, PersistentVector<SceneElement> elements, Map<String, Integer> elementIndex,
+                           Set<String> parentIds) {
+        this.sceneId = base.sceneId;
+        this.name = base.name;
+        this.schemaVersion = base.schemaVersion;
+        this.durationMillis = base.durationMillis;
+        this.background = base.background;
+        this.elements = elements;
+        this.elementIndex = elementIndex;
+        this.parentIds = parentIds;
     }
 
     public static Builder builder() {
@@ -48,7 +68,56 @@ public final class AnimationScene {
     }
 
     public List<SceneElement> getElements() {
-        return Collections.unmodifiableList(elements);
+        return elements;
+    }
+
+    public Optional<SceneElement> findElement(String elementId) {
+        Integer index = elementIndex().get(elementId);
+        return index != null ? Optional.of(elements.get(index)) : Optional.empty();
+    }
+
+    public AnimationScene withElement(String elementId, UnaryOperator<SceneElement> edit) {
+        Map<String, Integer> index = elementIndex();
+        Integer position = index.get(elementId);
+        if (position == null) {
+            throw new IllegalArgumentException("Unknown element: " + elementId);
+        }
+        SceneElement edited = Objects.requireNonNull(edit.apply(elements.get(position)));
+        if (!edited.getElementId().equals(elementId)) {
+            throw new IllegalArgumentException("Edits must keep element id " + elementId + ", got " + edited.getElementId());
+        }
+        if (!edited.getParentId().equals(elements.get(position).getParentId())) {
+            throw new IllegalArgumentException("Edits must keep the parent of element " + elementId);
+        }
+        Set<String> parents = parentIds();
+        if (!edited.getPrimitiveType().isContainer() && parents.contains(elementId)) {
+            throw new IllegalArgumentException("Element " + elementId + " has children and must stay a group or path");
+        }
+        return new AnimationScene(this, elements.with(position, edited), index, parents);
+    }
+
+    private Set<String> parentIds() {
+        Set<String> parents = parentIds;
+        if (parents == null) {
+            parents = new HashSet<>();
+            for (SceneElement element : elements) {
+                element.getParentId().ifPresent(parents::add);
+            }
+            parentIds = parents;
+        }
+        return parents;
+    }
+
+    private Map<String, Integer> elementIndex() {
+        Map<String, Integer> index = elementIndex;
+        if (index == null) {
+            index = new HashMap<>(elements.size() * 2);
+            for (int i = 0; i < elements.size(); i++) {
+                index.putIfAbsent(elements.get(i).getElementId(), i);
+            }
+            elementIndex = index;
+        }
+        return index;
     }
 
     public static final class Builder {
@@ -99,7 +168,24 @@ public final class AnimationScene {
             Objects.requireNonNull(sceneId);
             Objects.requireNonNull(name);
             Objects.requireNonNull(schemaVersion);
+            validateParents();
             return new AnimationScene(this);
         }
+
+        private void validateParents() {
+            if (elements.stream().noneMatch(element -> element.getParentId().isPresent())) {
+                return;
+            }
+            Map<String, PrimitiveType> earlier = new HashMap<>();
+            for (SceneElement element : elements) {
+                String parentId = element.getParentId().orElse(null);
+                PrimitiveType parentType = parentId == null ? null : earlier.get(parentId);
+                if (parentId != null && (parentType == null || !parentType.isContainer())) {
+                    throw new IllegalArgumentException("Element " + element.getElementId()
+                        + " needs its parent " + parentId + " to be an earlier group or path");
+                }
+                earlier.putIfAbsent(element.getElementId(), element.getPrimitiveType());
+            }
+        }
     }
 }
@@ -0,0 +1,200 @@
+package com.dev.canvas.domain.animation;
+
+import java.util.Arrays;
+import java.util.List;
+
+final class ArcLengthTable {
+
+    private static final int CURVE_SAMPLES = 32;
+    private static final int LINEAR = 0;
+    private static final int QUADRATIC = 1;
+    private static final int CUBIC = 2;
+
+    private final int[] kinds;
+    private final double[] controls;
+    private final double[] lengths;
+    private final int[] segments;
+    private final double[] params;
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+
+    ArcLengthTable(List<PathSegment> path) {
+        int drawable = 0;
+        int samples = 0;
+        for (PathSegment segment : path) {
+            switch (segment.kind()) {
+                case MOVE -> {
+                }
+                case LINE, CLOSE -> {
+                    drawable++;
+                    samples++;
+                }
+                case QUADRATIC, CUBIC -> {
+                    drawable++;
+                    samples += CURVE_SAMPLES;
+                }
+            }
+        }
+        this.kinds = new int[drawable];
+        this.controls = new double[8 * drawable];
+        this.lengths = new double[samples + 1];
+        this.segments = new int[samples + 1];
+        this.params = new double[samples + 1];
+
+        double x = 0;
+        double y = 0;
+        double subpathX = 0;
+        double subpathY = 0;
+        double lowX = Double.POSITIVE_INFINITY;
+        double lowY = Double.POSITIVE_INFINITY;
+        double highX = Double.NEGATIVE_INFINITY;
+        double highY = Double.NEGATIVE_INFINITY;
+        int s = 0;
+        int sample = 0;
+        double[] point = new double[2];
+        for (PathSegment segment : path) {
+            if (segment.kind() == PathSegment.Kind.MOVE) {
+                x = subpathX = segment.x();
+                y = subpathY = segment.y();
+                lowX = Math.min(lowX, x);
+                lowY = Math.min(lowY, y);
+                highX = Math.max(highX, x);
+                highY = Math.max(highY, y);
+                continue;
+            }
+            int c = 8 * s;
+            controls[c] = x;
+            controls[c + 1] = y;
+            switch (segment.kind()) {
+                case QUADRATIC -> {
+                    kinds[s] = QUADRATIC;
+                    controls[c + 2] = segment.control1X();
+                    controls[c + 3] = segment.control1Y();
+                }
+                case CUBIC -> {
+                    kinds[s] = CUBIC;
+                    controls[c + 2] = segment.control1X();
+                    controls[c + 3] = segment.control1Y();
+                    controls[c + 4] = segment.control2X();
+                    controls[c + 5] = segment.control2Y();
+                }
+                default -> kinds[s] = LINEAR;
+            }
+            boolean close = segment.kind() == PathSegment.Kind.CLOSE;
+            controls[c + 6] = close ? subpathX : segment.x();
+            controls[c + 7] = close ? subpathY : segment.y();
+
+            int steps = kinds[s] == LINEAR ? 1 : CURVE_SAMPLES;
+            double previousX = x;
+            double previousY = y;
+            for (int step = 1; step <= steps; step++) {
+                double t = (double) step / steps;
+                evaluate(s, t, point);
+                sample++;
+                lengths[sample] = lengths[sample - 1] + Math.hypot(point[0] - previousX, point[1] - previousY);
+                segments[sample] = s;
+                params[sample] = t;
+                previousX = point[0];
+                previousY = point[1];
+                lowX = Math.min(lowX, previousX);
+                lowY = Math.min(lowY, previousY);
+                highX = Math.max(highX, previousX);
+                highY = Math.max(highY, previousY);
+            }
+            x = controls[c + 6];
+            y = controls[c + 7];
+            s++;
+        }
+        this.minX = lowX;
+        this.minY = lowY;
+        this.maxX = highX;
+        this.maxY = highY;
+    }
+
+    double length() {
+        return lengths[lengths.length - 1];
+    }
+
+    double minX() {
+        return minX;
+    }
+
+    double minY() {
+        return minY;
+    }
+
+    double maxX() {
+        return maxX;
+    }
+
+    double maxY() {
+        return maxY;
+    }
+
+    PathPoint pointAt(double fraction) {
+        if (kinds.length == 0) {
+            return new PathPoint(minX, minY, 0);
+        }
+        double target = Math.clamp(fraction, 0, 1) * length();
+        int index = Arrays.binarySearch(lengths, target);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        index = Math.clamp(index, 0, lengths.length - 2);
+
+        int segment = segments[index + 1];
+        double fromParam = index > 0 && segments[index] == segment ? params[index] : 0;
+        double span = lengths[index + 1] - lengths[index];
+        double ratio = span > 0 ? (target - lengths[index]) / span : 0;
+        double t = fromParam + (params[index + 1] - fromParam) * ratio;
+
+        double[] point = new double[4];
+        evaluate(segment, t, point);
+        tangent(segment, t, point);
+        return new PathPoint(point[0], point[1], Math.toDegrees(Math.atan2(point[3], point[2])));
+    }
+
+    private void evaluate(int segment, double t, double[] out) {
+        int c = 8 * segment;
+        double u = 1 - t;
+        switch (kinds[segment]) {
+            case QUADRATIC -> {
+                out[0] = u * u * controls[c] + 2 * u * t * controls[c + 2] + t * t * controls[c + 6];
+                out[1] = u * u * controls[c + 1] + 2 * u * t * controls[c + 3] + t * t * controls[c + 7];
+            }
+            case CUBIC -> {
+                out[0] = u * u * u * controls[c] + 3 * u * u * t * controls[c + 2]
+                    + 3 * u * t * t * controls[c + 4] + t * t * t * controls[c + 6];
+                out[1] = u * u * u * controls[c + 1] + 3 * u * u * t * controls[c + 3]
+                    + 3 * u * t * t * controls[c + 5] + t * t * t * controls[c + 7];
+            }
+            default -> {
+                out[0] = u * controls[c] + t * controls[c + 6];
+                out[1] = u * controls[c + 1] + t * controls[c + 7];
+            }
+        }
+    }
+
+    private void tangent(int segment, double t, double[] out) {
+        int c = 8 * segment;
+        double u = 1 - t;
+        switch (kinds[segment]) {
+            case QUADRATIC -> {
+                out[2] = 2 * u * (controls[c + 2] - controls[c]) + 2 * t * (controls[c + 6] - controls[c + 2]);
+                out[3] = 2 * u * (controls[c + 3] - controls[c + 1]) + 2 * t * (controls[c + 7] - controls[c + 3]);
+            }
+            case CUBIC -> {
+                out[2] = 3 * u * u * (controls[c + 2] - controls[c]) + 6 * u * t * (controls[c + 4] - controls[c + 2])
+                    + 3 * t * t * (controls[c + 6] - controls[c + 4]);
+                out[3] = 3 * u * u * (controls[c + 3] - controls[c + 1]) + 6 * u * t * (controls[c + 5] - controls[c + 3])
+                    + 3 * t * t * (controls[c + 7] - controls[c + 5]);
+            }
+            default -> {
+                out[2] = controls[c + 6] - controls[c];
+                out[3] = controls[c + 7] - controls[c + 1];
+            }
+        }
+    }
+}
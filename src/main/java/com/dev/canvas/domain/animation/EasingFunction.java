@@ -17,6 +17,16 @@ public enum EasingFunction {
         return value;
     }
 
+    public double apply(double progress) {
+        double t = Math.clamp(progress, 0.0, 1.0);
+        return switch (this) {
+            case LINEAR -> t;
+            case EASE_IN -> t * t * t;
+            case EASE_OUT -> 1 - Math.pow(1 - t, 3);
+            case EASE_IN_OUT -> t < 0.5 ? 4 * t * t * t : 1 - Math.pow(-2 * t + 2, 3) / 2;
+        };
+    }
+
     public static EasingFunction fromValue(String value) {
         for (EasingFunction easing : values()) {
             if (easing.value.equals(value)) {
@@ -0,0 +1,32 @@
+package com.dev.canvas.domain.animation;
+
+public record GroupProperties(int x, int y) implements PrimitiveProperties {
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public PrimitiveType getType() {
+        return PrimitiveType.GROUP;
+    }
+
+    public static class Builder {
+        private int x;
+        private int y;
+
+        public Builder x(int x) {
+            this.x = x;
+            return this;
+        }
+
+        public Builder y(int y) {
+            this.y = y;
+            return this;
+        }
+
+        public GroupProperties build() {
+            return new GroupProperties(x, y);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.dev.canvas.domain.animation;
 
+import com.dev.canvas.domain.color.PackedColors;
 import java.util.Objects;
 
 public final class Keyframe {
@@ -30,6 +31,14 @@ public final class Keyframe {
         return easing;
     }
 
+    public int getColor() {
+        return PackedColors.fromValue(value);
+    }
+
+    public Keyframe withValue(double newValue) {
+        return builder().timeMillis(timeMillis).value(newValue).easing(easing).build();
+    }
+
     public static final class Builder {
 
         private int timeMillis;
@@ -46,6 +55,11 @@ public final class Keyframe {
             return this;
         }
 
+        public Builder color(String value) {
+            this.value = PackedColors.toValue(PackedColors.parse(value));
+            return this;
+        }
+
         public Builder easing(EasingFunction value) {
             this.easing = Objects.requireNonNull(value);
             return this;
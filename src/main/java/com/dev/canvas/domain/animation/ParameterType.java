@@ -0,0 +1,46 @@
+package com.dev.canvas.domain.animation;
+
+import java.math.BigDecimal;
+
+public enum ParameterType {
+
+    INTEGER("integer"),
+    DECIMAL("decimal");
+
+    private final String value;
+
+    ParameterType(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    double parse(String name, String raw) {
+        try {
+            double parsed = switch (this) {
+                case INTEGER -> Long.parseLong(raw.trim());
+                case DECIMAL -> Double.parseDouble(raw.trim());
+            };
+            if (!Double.isFinite(parsed)) {
+                throw new NumberFormatException(raw);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parameter '" + name + "' must be " + (this == INTEGER ? "an " : "a ")
+                + value + ": " + raw);
+        }
+    }
+
+    boolean accepts(double candidate) {
+        return this == DECIMAL || candidate == Math.rint(candidate);
+    }
+
+    String format(double parameterValue) {
+        return switch (this) {
+            case INTEGER -> Long.toString((long) parameterValue);
+            case DECIMAL -> BigDecimal.valueOf(parameterValue).stripTrailingZeros().toPlainString();
+        };
+    }
+}
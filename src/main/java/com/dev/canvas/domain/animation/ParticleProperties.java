@@ -0,0 +1,157 @@
+package com.dev.canvas.domain.animation;
+
+public record ParticleProperties(
+    int x,
+    int y,
+    int rate,
+    int lifetimeMillis,
+    int minVelocityX,
+    int maxVelocityX,
+    int minVelocityY,
+    int maxVelocityY,
+    int size,
+    long seed,
+    Style style
+) implements PrimitiveProperties {
+
+    private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+    private static final double UNIT = 1.0 / (1L << 32);
+    private static final int MAX_LIVE_PARTICLES = 250_000;
+
+    public ParticleProperties {
+        if (rate <= 0 || lifetimeMillis <= 0) {
+            throw new IllegalArgumentException("Particle rate and lifetime must be positive");
+        }
+        if ((long) rate * lifetimeMillis / 1000 + 1 > MAX_LIVE_PARTICLES) {
+            throw new IllegalArgumentException("Particle rate x lifetime must keep at most " + MAX_LIVE_PARTICLES
+                + " particles alive");
+        }
+        if (minVelocityX > maxVelocityX || minVelocityY > maxVelocityY) {
+            throw new IllegalArgumentException("Particle velocity ranges must have min <= max");
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public PrimitiveType getType() {
+        return PrimitiveType.PARTICLES;
+    }
+
+    public long firstAliveAt(int elapsedMillis) {
+        long expired = (long) elapsedMillis - lifetimeMillis;
+        return expired < 0 ? 0 : expired * rate / 1000 + 1;
+    }
+
+    public long lastAliveAt(int elapsedMillis) {
+        return elapsedMillis < 0 ? -1 : (long) elapsedMillis * rate / 1000;
+    }
+
+    public int countAt(int elapsedMillis) {
+        return (int) Math.max(0, lastAliveAt(elapsedMillis) - firstAliveAt(elapsedMillis) + 1);
+    }
+
+    public double spawnMillis(long particle) {
+        return particle * 1000.0 / rate;
+    }
+
+    public double velocityX(long particle) {
+        return minVelocityX + (maxVelocityX - minVelocityX) * ((mix(particle) >>> 32) * UNIT);
+    }
+
+    public double velocityY(long particle) {
+        return minVelocityY + (maxVelocityY - minVelocityY) * ((mix(particle) & 0xFFFF_FFFFL) * UNIT);
+    }
+
+    public int positionsAt(int elapsedMillis, float[] target) {
+        long first = firstAliveAt(elapsedMillis);
+        int count = countAt(elapsedMillis);
+        double rangeX = (maxVelocityX - minVelocityX) * UNIT;
+        double rangeY = (maxVelocityY - minVelocityY) * UNIT;
+        double spawnSeconds = 1.0 / rate;
+        double elapsedSeconds = elapsedMillis / 1000.0;
+        for (int i = 0; i < count; i++) {
+            long particle = first + i;
+            long bits = mix(particle);
+            double age = elapsedSeconds - particle * spawnSeconds;
+            target[2 * i] = (float) (x + (minVelocityX + rangeX * (bits >>> 32)) * age);
+            target[2 * i + 1] = (float) (y + (minVelocityY + rangeY * (bits & 0xFFFF_FFFFL)) * age);
+        }
+        return count;
+    }
+
+    private long mix(long particle) {
+        long z = seed + (particle + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static class Builder {
+        private int x;
+        private int y;
+        private int rate;
+        private int lifetimeMillis;
+        private int minVelocityX;
+        private int maxVelocityX;
+        private int minVelocityY;
+        private int maxVelocityY;
+        private int size;
+        private long seed;
+        private Style style;
+
+        public Builder x(int x) {
+            this.x = x;
+            return this;
+        }
+
+        public Builder y(int y) {
+            this.y = y;
+            return this;
+        }
+
+        public Builder rate(int rate) {
+            this.rate = rate;
+            return this;
+        }
+
+        public Builder lifetimeMillis(int lifetimeMillis) {
+            this.lifetimeMillis = lifetimeMillis;
+            return this;
+        }
+
+        public Builder velocityX(int min, int max) {
+            this.minVelocityX = min;
+            this.maxVelocityX = max;
+            return this;
+        }
+
+        public Builder velocityY(int min, int max) {
+            this.minVelocityY = min;
+            this.maxVelocityY = max;
+            return this;
+        }
+
+        public Builder size(int size) {
+            this.size = size;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder style(Style style) {
+            this.style = style;
+            return this;
+        }
+
+        public ParticleProperties build() {
+            return new ParticleProperties(x, y, rate, lifetimeMillis, minVelocityX, maxVelocityX,
+                minVelocityY, maxVelocityY, size, seed, style);
+        }
+    }
+}
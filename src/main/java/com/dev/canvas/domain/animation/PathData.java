@@ -0,0 +1,135 @@
+package com.dev.canvas.domain.animation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class PathData {
+
+    private final String data;
+    private int position;
+
+    private PathData(String data) {
+        this.data = data;
+    }
+
+    static List<PathSegment> parse(String data) {
+        return new PathData(data).segments();
+    }
+
+    static String format(List<PathSegment> segments) {
+        StringBuilder out = new StringBuilder(segments.size() * 12);
+        for (PathSegment segment : segments) {
+            if (!out.isEmpty()) {
+                out.append(' ');
+            }
+            switch (segment.kind()) {
+                case MOVE -> out.append('M').append(segment.x()).append(' ').append(segment.y());
+                case LINE -> out.append('L').append(segment.x()).append(' ').append(segment.y());
+                case QUADRATIC -> out.append('Q').append(segment.control1X()).append(' ').append(segment.control1Y())
+                    .append(' ').append(segment.x()).append(' ').append(segment.y());
+                case CUBIC -> out.append('C').append(segment.control1X()).append(' ').append(segment.control1Y())
+                    .append(' ').append(segment.control2X()).append(' ').append(segment.control2Y())
+                    .append(' ').append(segment.x()).append(' ').append(segment.y());
+                case CLOSE -> out.append('Z');
+            }
+        }
+        return out.toString();
+    }
+
+    private List<PathSegment> segments() {
+        List<PathSegment> segments = new ArrayList<>();
+        char command = 0;
+        double x = 0;
+        double y = 0;
+        double subpathX = 0;
+        double subpathY = 0;
+        while (skipSeparators()) {
+            char next = data.charAt(position);
+            if (Character.isLetter(next)) {
+                command = next;
+                position++;
+            } else if (command == 0 || command == 'Z' || command == 'z') {
+                throw new IllegalArgumentException("Path data must start each segment with a command at " + position);
+            }
+            boolean relative = Character.isLowerCase(command);
+            double baseX = relative ? x : 0;
+            double baseY = relative ? y : 0;
+            switch (Character.toUpperCase(command)) {
+                case 'M' -> {
+                    x = baseX + number();
+                    y = baseY + number();
+                    subpathX = x;
+                    subpathY = y;
+                    segments.add(PathSegment.moveTo(round(x), round(y)));
+                    command = relative ? 'l' : 'L';
+                }
+                case 'L' -> {
+                    x = baseX + number();
+                    y = baseY + number();
+                    segments.add(PathSegment.lineTo(round(x), round(y)));
+                }
+                case 'H' -> {
+                    x = baseX + number();
+                    segments.add(PathSegment.lineTo(round(x), round(y)));
+                }
+                case 'V' -> {
+                    y = baseY + number();
+                    segments.add(PathSegment.lineTo(round(x), round(y)));
+                }
+                case 'Q' -> {
+                    double controlX = baseX + number();
+                    double controlY = baseY + number();
+                    x = baseX + number();
+                    y = baseY + number();
+                    segments.add(PathSegment.quadTo(round(controlX), round(controlY), round(x), round(y)));
+                }
+                case 'C' -> {
+                    double control1X = baseX + number();
+                    double control1Y = baseY + number();
+                    double control2X = baseX + number();
+                    double control2Y = baseY + number();
+                    x = baseX + number();
+                    y = baseY + number();
+                    segments.add(PathSegment.cubicTo(round(control1X), round(control1Y),
+                        round(control2X), round(control2Y), round(x), round(y)));
+                }
+                case 'Z' -> {
+                    x = subpathX;
+                    y = subpathY;
+                    segments.add(PathSegment.close());
+                }
+                default -> throw new IllegalArgumentException("Unsupported path command '" + command + "'");
+            }
+        }
+        return segments;
+    }
+
+    private boolean skipSeparators() {
+        while (position < data.length() && (Character.isWhitespace(data.charAt(position)) || data.charAt(position) == ',')) {
+            position++;
+        }
+        return position < data.length();
+    }
+
+    private double number() {
+        if (!skipSeparators()) {
+            throw new IllegalArgumentException("Path data ends in the middle of a segment");
+        }
+        int start = position;
+        if (data.charAt(position) == '-' || data.charAt(position) == '+') {
+            position++;
+        }
+        while (position < data.length() && (Character.isDigit(data.charAt(position)) || data.charAt(position) == '.')) {
+            position++;
+        }
+        try {
+            return Double.parseDouble(data.substring(start, position));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number in path data at " + start, e);
+        }
+    }
+
+    private static int round(double value) {
+        return (int) Math.round(value);
+    }
+}
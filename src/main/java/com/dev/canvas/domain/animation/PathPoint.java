@@ -0,0 +1,4 @@
+package com.dev.canvas.domain.animation;
+
+public record PathPoint(double x, double y, double angleDegrees) {
+}
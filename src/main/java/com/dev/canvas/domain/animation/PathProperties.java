@@ -0,0 +1,112 @@
+package com.dev.canvas.domain.animation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public final class PathProperties implements PrimitiveProperties {
+
+    private final List<PathSegment> segments;
+    private final Style style;
+    private final ArcLengthTable table;
+
+    private PathProperties(Builder builder) {
+        this.segments = List.copyOf(builder.segments);
+        this.style = builder.style;
+        this.table = new ArcLengthTable(segments);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public PrimitiveType getType() {
+        return PrimitiveType.PATH;
+    }
+
+    public List<PathSegment> getSegments() {
+        return segments;
+    }
+
+    public String getData() {
+        return PathData.format(segments);
+    }
+
+    public Style getStyle() {
+        return style;
+    }
+
+    public double getLength() {
+        return table.length();
+    }
+
+    public double getMinX() {
+        return table.minX();
+    }
+
+    public double getMinY() {
+        return table.minY();
+    }
+
+    public double getMaxX() {
+        return table.maxX();
+    }
+
+    public double getMaxY() {
+        return table.maxY();
+    }
+
+    public PathPoint pointAt(double fraction) {
+        return table.pointAt(fraction);
+    }
+
+    public static final class Builder {
+
+        private final List<PathSegment> segments = new ArrayList<>();
+        private Style style;
+
+        public Builder moveTo(int x, int y) {
+            segments.add(PathSegment.moveTo(x, y));
+            return this;
+        }
+
+        public Builder lineTo(int x, int y) {
+            segments.add(PathSegment.lineTo(x, y));
+            return this;
+        }
+
+        public Builder quadTo(int controlX, int controlY, int x, int y) {
+            segments.add(PathSegment.quadTo(controlX, controlY, x, y));
+            return this;
+        }
+
+        public Builder cubicTo(int control1X, int control1Y, int control2X, int control2Y, int x, int y) {
+            segments.add(PathSegment.cubicTo(control1X, control1Y, control2X, control2Y, x, y));
+            return this;
+        }
+
+        public Builder close() {
+            segments.add(PathSegment.close());
+            return this;
+        }
+
+        public Builder data(String value) {
+            segments.addAll(PathData.parse(Objects.requireNonNull(value)));
+            return this;
+        }
+
+        public Builder style(Style value) {
+            this.style = Objects.requireNonNull(value);
+            return this;
+        }
+
+        public PathProperties build() {
+            Objects.requireNonNull(style);
+            if (segments.isEmpty() || segments.getFirst().kind() != PathSegment.Kind.MOVE) {
+                throw new IllegalArgumentException("Path must start with a move");
+            }
+            return new PathProperties(this);
+        }
+    }
+}
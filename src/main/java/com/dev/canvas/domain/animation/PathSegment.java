@@ -0,0 +1,32 @@
+package com.dev.canvas.domain.animation;
+
+public record PathSegment(Kind kind, int control1X, int control1Y, int control2X, int control2Y, int x, int y) {
+
+    public enum Kind {
+        MOVE,
+        LINE,
+        QUADRATIC,
+        CUBIC,
+        CLOSE
+    }
+
+    public static PathSegment moveTo(int x, int y) {
+        return new PathSegment(Kind.MOVE, 0, 0, 0, 0, x, y);
+    }
+
+    public static PathSegment lineTo(int x, int y) {
+        return new PathSegment(Kind.LINE, 0, 0, 0, 0, x, y);
+    }
+
+    public static PathSegment quadTo(int controlX, int controlY, int x, int y) {
+        return new PathSegment(Kind.QUADRATIC, controlX, controlY, 0, 0, x, y);
+    }
+
+    public static PathSegment cubicTo(int control1X, int control1Y, int control2X, int control2Y, int x, int y) {
+        return new PathSegment(Kind.CUBIC, control1X, control1Y, control2X, control2Y, x, y);
+    }
+
+    public static PathSegment close() {
+        return new PathSegment(Kind.CLOSE, 0, 0, 0, 0, 0, 0);
+    }
+}
@@ -1,7 +1,7 @@
 package com.dev.canvas.domain.animation;
 
 public sealed interface PrimitiveProperties 
-    permits CircleProperties, RectProperties, LineProperties, TextProperties, DominoProperties {
+    permits CircleProperties, RectProperties, LineProperties, TextProperties, DominoProperties, GroupProperties, PathProperties, ParticleProperties {
     
     PrimitiveType getType();
 }
@@ -6,6 +6,13 @@ public enum PrimitiveType {
     RECT,
     LINE,
     TEXT,
-    DOMINO
+    DOMINO,
+    GROUP,
+    PATH,
+    PARTICLES;
+
+    public boolean isContainer() {
+        return this == GROUP || this == PATH;
+    }
 }
 
@@ -9,18 +9,34 @@ public enum PropertyPath {
     SCALE_Y("scaleY"),
     ROTATION("rotation"),
     ROTATION_X("rotationX"),
-    END("end");
+    END("end"),
+    FILL_COLOR("fillColor", true),
+    STROKE_COLOR("strokeColor", true),
+    TEXT_COLOR("textColor", true),
+    SHADOW_COLOR("shadowColor", true),
+    START("start"),
+    PATH_PROGRESS("pathProgress");
 
     private final String value;
+    private final boolean color;
 
     PropertyPath(String value) {
+        this(value, false);
+    }
+
+    PropertyPath(String value, boolean color) {
         this.value = value;
+        this.color = color;
     }
 
     public String getValue() {
         return value;
     }
 
+    public boolean isColor() {
+        return color;
+    }
+
     public static PropertyPath fromValue(String value) {
         for (PropertyPath path : values()) {
             if (path.value.equals(value)) {
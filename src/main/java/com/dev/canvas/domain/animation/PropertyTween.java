@@ -1,9 +1,12 @@
 package com.dev.canvas.domain.animation;
 
+import com.dev.canvas.domain.color.LinearRgb;
+import com.dev.canvas.domain.color.PackedColors;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 public final class PropertyTween {
 
@@ -27,6 +30,69 @@ public final class PropertyTween {
         return Collections.unmodifiableList(keyframes);
     }
 
+    public double valueAt(int timeMillis) {
+        if (keyframes.isEmpty()) {
+            throw new IllegalStateException("Tween has no keyframes: " + propertyPath);
+        }
+        if (propertyPath.isColor()) {
+            return PackedColors.toValue(colorAt(timeMillis));
+        }
+        Keyframe first = keyframes.getFirst();
+        if (timeMillis <= first.getTimeMillis()) {
+            return first.getValue();
+        }
+        for (int i = 1; i < keyframes.size(); i++) {
+            Keyframe to = keyframes.get(i);
+            if (timeMillis < to.getTimeMillis()) {
+                Keyframe from = keyframes.get(i - 1);
+                double span = to.getTimeMillis() - from.getTimeMillis();
+                double eased = to.getEasing().apply((timeMillis - from.getTimeMillis()) / span);
+                return from.getValue() + (to.getValue() - from.getValue()) * eased;
+            }
+        }
+        return keyframes.getLast().getValue();
+    }
+
+    public int colorAt(int timeMillis) {
+        if (!propertyPath.isColor()) {
+            throw new IllegalStateException("Not a color tween: " + propertyPath);
+        }
+        if (keyframes.isEmpty()) {
+            throw new IllegalStateException("Tween has no keyframes: " + propertyPath);
+        }
+        Keyframe first = keyframes.getFirst();
+        if (timeMillis <= first.getTimeMillis()) {
+            return first.getColor();
+        }
+        for (int i = 1; i < keyframes.size(); i++) {
+            Keyframe to = keyframes.get(i);
+            if (timeMillis < to.getTimeMillis()) {
+                Keyframe from = keyframes.get(i - 1);
+                double span = to.getTimeMillis() - from.getTimeMillis();
+                double eased = to.getEasing().apply((timeMillis - from.getTimeMillis()) / span);
+                return LinearRgb.mix(from.getColor(), to.getColor(), LinearRgb.weight(eased));
+            }
+        }
+        return keyframes.getLast().getColor();
+    }
+
+    public PropertyTween withKeyframe(int index, UnaryOperator<Keyframe> edit) {
+        Objects.checkIndex(index, keyframes.size());
+        Builder builder = builder().propertyPath(propertyPath);
+        for (int i = 0; i < keyframes.size(); i++) {
+            builder.addKeyframe(i == index ? edit.apply(keyframes.get(i)) : keyframes.get(i));
+        }
+        return builder.build();
+    }
+
+    public int getStartMillis() {
+        return keyframes.isEmpty() ? 0 : keyframes.getFirst().getTimeMillis();
+    }
+
+    public int getEndMillis() {
+        return keyframes.isEmpty() ? 0 : keyframes.getLast().getTimeMillis();
+    }
+
     public static final class Builder {
 
         private PropertyPath propertyPath;
@@ -48,6 +114,14 @@ public final class PropertyTween {
 
         public PropertyTween build() {
             Objects.requireNonNull(propertyPath);
+            if (propertyPath.isColor()) {
+                keyframes.forEach(Keyframe::getColor);
+            }
+            for (int i = 1; i < keyframes.size(); i++) {
+                if (keyframes.get(i).getTimeMillis() < keyframes.get(i - 1).getTimeMillis()) {
+                    throw new IllegalArgumentException("Keyframes of " + propertyPath.getValue() + " must be ordered by time");
+                }
+            }
             return new PropertyTween(this);
         }
     }
@@ -0,0 +1,41 @@
+package com.dev.canvas.domain.animation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class RecentSceneCache<V> {
+
+    private final LinkedHashMap<SceneKey, V> entries;
+    private long generation;
+
+    RecentSceneCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Scene cache capacity must not be negative");
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SceneKey, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    synchronized V get(SceneKey key) {
+        return entries.get(key);
+    }
+
+    synchronized long generation() {
+        return generation;
+    }
+
+    synchronized void put(SceneKey key, V value, long observedGeneration) {
+        if (generation == observedGeneration) {
+            entries.put(key, value);
+        }
+    }
+
+    synchronized void forget(String name) {
+        generation++;
+        entries.keySet().removeIf(key -> key.name().equals(name));
+    }
+}
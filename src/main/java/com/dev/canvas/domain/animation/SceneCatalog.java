@@ -0,0 +1,89 @@
+package com.dev.canvas.domain.animation;
+
+import com.dev.canvas.domain.compact.CompactScene;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public final class SceneCatalog {
+
+    private static final int DEFAULT_CACHED_SCENES = 8;
+
+    private final SceneFactory sceneFactory;
+    private final ConcurrentMap<String, CompactScene> definedScenes;
+    private final RecentSceneCache<AnimationScene> builtScenes;
+    private final List<Consumer<String>> changeListeners;
+
+    public SceneCatalog(SceneFactory sceneFactory) {
+        this(sceneFactory, DEFAULT_CACHED_SCENES);
+    }
+
+    public SceneCatalog(SceneFactory sceneFactory, int cachedScenes) {
+        this.sceneFactory = Objects.requireNonNull(sceneFactory);
+        this.definedScenes = new ConcurrentHashMap<>();
+        this.builtScenes = new RecentSceneCache<>(cachedScenes);
+        this.changeListeners = new CopyOnWriteArrayList<>();
+    }
+
+    public Optional<AnimationScene> findScene(String name) {
+        return findParameters(name).flatMap(declared -> findScene(name, SceneParameters.defaults(declared)));
+    }
+
+    public Optional<AnimationScene> findScene(String name, SceneParameters parameters) {
+        SceneKey key = new SceneKey(name, parameters);
+        AnimationScene cached = builtScenes.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long generation = builtScenes.generation();
+        CompactScene defined = definedScenes.get(name);
+        Optional<AnimationScene> built = defined != null
+            ? Optional.of(defined.toScene())
+            : sceneFactory.findScene(name, parameters);
+        built.ifPresent(scene -> builtScenes.put(key, scene, generation));
+        return built;
+    }
+
+    public Optional<List<SceneParameter>> findParameters(String name) {
+        return definedScenes.containsKey(name) ? Optional.of(List.of()) : sceneFactory.findParameters(name);
+    }
+
+    public Optional<SceneParameters> resolveParameters(String name, Map<String, String> requested) {
+        return findParameters(name).map(declared -> SceneParameters.resolve(declared, requested));
+    }
+
+    public List<String> sceneNames() {
+        TreeSet<String> names = new TreeSet<>(sceneFactory.sceneNames());
+        names.addAll(definedScenes.keySet());
+        return List.copyOf(names);
+    }
+
+    public void putDefinedScene(AnimationScene scene) {
+        definedScenes.put(scene.getName(), CompactScene.of(scene));
+        builtScenes.forget(scene.getName());
+        notifyChanged(scene.getName());
+    }
+
+    public void removeDefinedScene(String name) {
+        if (definedScenes.remove(name) != null) {
+            builtScenes.forget(name);
+            notifyChanged(name);
+        }
+    }
+
+    public void addChangeListener(Consumer<String> listener) {
+        changeListeners.add(Objects.requireNonNull(listener));
+    }
+
+    private void notifyChanged(String name) {
+        for (Consumer<String> listener : changeListeners) {
+            listener.accept(name);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.dev.canvas.domain.animation;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+public final class SceneDerivedCache<T> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private final SceneCatalog sceneCatalog;
+    private final Function<AnimationScene, T> derivation;
+    private final RecentSceneCache<T> derived;
+
+    public SceneDerivedCache(SceneCatalog sceneCatalog, Function<AnimationScene, T> derivation) {
+        this(sceneCatalog, derivation, DEFAULT_CAPACITY);
+    }
+
+    public SceneDerivedCache(SceneCatalog sceneCatalog, Function<AnimationScene, T> derivation, int capacity) {
+        this.sceneCatalog = Objects.requireNonNull(sceneCatalog);
+        this.derivation = Objects.requireNonNull(derivation);
+        this.derived = new RecentSceneCache<>(capacity);
+        sceneCatalog.addChangeListener(derived::forget);
+    }
+
+    public Optional<T> find(String sceneName) {
+        return find(sceneName, Map.of());
+    }
+
+    public Optional<T> find(String sceneName, Map<String, String> requested) {
+        return sceneCatalog.resolveParameters(sceneName, requested)
+            .flatMap(parameters -> find(sceneName, parameters));
+    }
+
+    public Optional<T> find(String sceneName, SceneParameters parameters) {
+        SceneKey key = new SceneKey(sceneName, parameters);
+        T cached = derived.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long generation = derived.generation();
+        Optional<T> computed = sceneCatalog.findScene(sceneName, parameters).map(derivation);
+        computed.ifPresent(value -> derived.put(key, value, generation));
+        return computed;
+    }
+}
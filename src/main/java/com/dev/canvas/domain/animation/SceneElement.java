@@ -4,10 +4,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 public final class SceneElement {
 
     private final String elementId;
+    private final String parentId;
     private final int startMillis;
     private final int durationMillis;
     private final PrimitiveProperties properties;
@@ -15,6 +18,7 @@ public final class SceneElement {
 
     private SceneElement(Builder builder) {
         this.elementId = builder.elementId;
+        this.parentId = builder.parentId;
         this.startMillis = builder.startMillis;
         this.durationMillis = builder.durationMillis;
         this.properties = builder.properties;
@@ -29,6 +33,10 @@ public final class SceneElement {
         return elementId;
     }
 
+    public Optional<String> getParentId() {
+        return Optional.ofNullable(parentId);
+    }
+
     public int getStartMillis() {
         return startMillis;
     }
@@ -49,9 +57,41 @@ public final class SceneElement {
         return Collections.unmodifiableList(tweens);
     }
 
+    public SceneElement withProperties(PrimitiveProperties value) {
+        return toBuilder(tweens).properties(value).build();
+    }
+
+    public SceneElement withTween(PropertyPath path, UnaryOperator<PropertyTween> edit) {
+        List<PropertyTween> edited = new ArrayList<>(tweens);
+        for (int i = 0; i < edited.size(); i++) {
+            PropertyTween tween = edited.get(i);
+            if (tween.getPropertyPath() == path) {
+                PropertyTween replacement = Objects.requireNonNull(edit.apply(tween));
+                if (replacement.getPropertyPath() != path) {
+                    throw new IllegalArgumentException("Edits must keep property path " + path.getValue());
+                }
+                edited.set(i, replacement);
+                return toBuilder(edited).build();
+            }
+        }
+        throw new IllegalArgumentException("Element " + elementId + " has no " + path.getValue() + " tween");
+    }
+
+    private Builder toBuilder(List<PropertyTween> tweenList) {
+        Builder builder = builder()
+            .elementId(elementId)
+            .parentId(parentId)
+            .startMillis(startMillis)
+            .durationMillis(durationMillis)
+            .properties(properties);
+        tweenList.forEach(builder::addTween);
+        return builder;
+    }
+
     public static final class Builder {
 
         private String elementId;
+        private String parentId;
         private int startMillis;
         private int durationMillis;
         private PrimitiveProperties properties;
@@ -66,6 +106,11 @@ public final class SceneElement {
             return this;
         }
 
+        public Builder parentId(String value) {
+            this.parentId = value;
+            return this;
+        }
+
         public Builder startMillis(int value) {
             this.startMillis = value;
             return this;
@@ -89,6 +134,9 @@ public final class SceneElement {
         public SceneElement build() {
             Objects.requireNonNull(elementId);
             Objects.requireNonNull(properties);
+            if (durationMillis < 0) {
+                throw new IllegalArgumentException("Element " + elementId + " must not have a negative duration");
+            }
             return new SceneElement(this);
         }
     }
@@ -1,12 +1,103 @@
 package com.dev.canvas.domain.animation;
 
+import com.dev.canvas.domain.layout.Diagram;
+import com.dev.canvas.domain.layout.DiagramLayout;
+import com.dev.canvas.domain.layout.DiagramNode;
+import com.dev.canvas.domain.layout.EdgeRoute;
+import com.dev.canvas.domain.layout.LayeredLayout;
+import com.dev.canvas.domain.layout.LayoutOptions;
+import com.dev.canvas.domain.layout.LayoutPoint;
+import com.dev.canvas.domain.physics.DominoChain;
+import com.dev.canvas.domain.physics.DominoChainSimulation;
+import com.dev.canvas.domain.physics.DominoChainSimulator;
+import com.dev.canvas.domain.text.TextMetricsService;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
 public final class SceneFactory {
 
     private static final String SCENE_CIRCLE_SLIDE = "circle-slide";
     private static final String SCENE_CLIENT_SERVER = "client-server";
     private static final String SCENE_DOMINO_FALL = "domino-fall";
 
+    private static final List<SceneParameter> CIRCLE_SLIDE_PARAMETERS = List.of(
+        SceneParameter.integer("fromX", -320, -4_000, 4_000),
+        SceneParameter.integer("toX", 320, -4_000, 4_000),
+        SceneParameter.integer("radius", 160, 1, 2_000),
+        SceneParameter.integer("durationMillis", 2400, 100, 600_000)
+    );
+
+    private static final List<SceneParameter> CLIENT_SERVER_PARAMETERS = List.of(
+        SceneParameter.integer("layerGap", 560, 100, 4_000)
+    );
+
+    private static final List<SceneParameter> DOMINO_FALL_PARAMETERS = List.of(
+        SceneParameter.integer("count", 5, 1, 5_000),
+        SceneParameter.integer("spacing", 100, 11, 1_000),
+        SceneParameter.integer("startX", -200, -1_000_000, 1_000_000)
+    );
+
+    private static final int CARD_MIN_WIDTH = 200;
+    private static final int CARD_MIN_HEIGHT = 90;
+    private static final int CARD_PADDING = 24;
+    private static final int CARD_FONT_SIZE = 36;
+    private static final String CARD_FONT_WEIGHT = "600";
+
+    private final DominoChainSimulator dominoChainSimulator;
+    private final LayeredLayout layeredLayout;
+    private final TextMetricsService textMetrics;
+    private final Map<String, SceneProvider> providers;
+
+    public SceneFactory(DominoChainSimulator dominoChainSimulator, LayeredLayout layeredLayout, TextMetricsService textMetrics) {
+        this.dominoChainSimulator = Objects.requireNonNull(dominoChainSimulator);
+        this.layeredLayout = Objects.requireNonNull(layeredLayout);
+        this.textMetrics = Objects.requireNonNull(textMetrics);
+        this.providers = new LinkedHashMap<>();
+        register(SCENE_CIRCLE_SLIDE, CIRCLE_SLIDE_PARAMETERS, this::createCircleSlideScene);
+        register(SCENE_CLIENT_SERVER, CLIENT_SERVER_PARAMETERS, this::createClientServerScene);
+        register(SCENE_DOMINO_FALL, DOMINO_FALL_PARAMETERS, this::createDominoFallScene);
+    }
+
+    public List<String> sceneNames() {
+        return List.copyOf(providers.keySet());
+    }
+
+    public Optional<List<SceneParameter>> findParameters(String name) {
+        return Optional.ofNullable(providers.get(name)).map(SceneProvider::parameters);
+    }
+
+    public Optional<AnimationScene> findScene(String name) {
+        return Optional.ofNullable(providers.get(name))
+            .map(provider -> provider.factory().apply(SceneParameters.defaults(provider.parameters())));
+    }
+
+    public Optional<AnimationScene> findScene(String name, SceneParameters parameters) {
+        return Optional.ofNullable(providers.get(name)).map(provider -> provider.factory().apply(parameters));
+    }
+
     public AnimationScene createCircleSlideScene() {
+        return createCircleSlideScene(SceneParameters.defaults(CIRCLE_SLIDE_PARAMETERS));
+    }
+
+    public AnimationScene createClientServerScene() {
+        return createClientServerScene(SceneParameters.defaults(CLIENT_SERVER_PARAMETERS));
+    }
+
+    public AnimationScene createDominoFallScene() {
+        return createDominoFallScene(SceneParameters.defaults(DOMINO_FALL_PARAMETERS));
+    }
+
+    private void register(String name, List<SceneParameter> parameters, Function<SceneParameters, AnimationScene> factory) {
+        providers.put(name, new SceneProvider(parameters, factory));
+    }
+
+    private AnimationScene createCircleSlideScene(SceneParameters parameters) {
+        int durationMillis = parameters.getInt("durationMillis");
+
         Style circleStyle = Style.builder()
             .strokeColor("#1F2933")
             .fillColor("#EF4444")
@@ -16,7 +107,7 @@ public final class SceneFactory {
         CircleProperties circleProperties = CircleProperties.builder()
             .centerX(0)
             .centerY(0)
-            .radius(160)
+            .radius(parameters.getInt("radius"))
             .style(circleStyle)
             .build();
 
@@ -24,12 +115,12 @@ public final class SceneFactory {
             .propertyPath(PropertyPath.POSITION_X)
             .addKeyframe(Keyframe.builder()
                 .timeMillis(0)
-                .value(-320)
+                .value(parameters.getInt("fromX"))
                 .easing(EasingFunction.EASE_IN_OUT)
                 .build())
             .addKeyframe(Keyframe.builder()
-                .timeMillis(2400)
-                .value(320)
+                .timeMillis(durationMillis)
+                .value(parameters.getInt("toX"))
                 .easing(EasingFunction.EASE_IN_OUT)
                 .build())
             .build();
@@ -37,7 +128,7 @@ public final class SceneFactory {
         SceneElement circleElement = SceneElement.builder()
             .elementId(SceneId.generateForElement(SCENE_CIRCLE_SLIDE, "circle", 0).getValue())
             .startMillis(0)
-            .durationMillis(2400)
+            .durationMillis(durationMillis)
             .properties(circleProperties)
             .addTween(xPositionTween)
             .build();
@@ -45,12 +136,12 @@ public final class SceneFactory {
         return AnimationScene.builder()
             .sceneId(SceneId.generate(SCENE_CIRCLE_SLIDE).getValue())
             .name(SCENE_CIRCLE_SLIDE)
-            .durationMillis(2400)
+            .durationMillis(durationMillis)
             .addElement(circleElement)
             .build();
     }
 
-    public AnimationScene createClientServerScene() {
+    private AnimationScene createClientServerScene(SceneParameters parameters) {
         Style cardStyle = Style.builder()
             .fillColor("#FFFFFF")
             .strokeColor("#FFFFFF")
@@ -63,82 +154,52 @@ public final class SceneFactory {
                 .build())
             .build();
 
-        RectProperties clientCardProperties = RectProperties.builder()
-            .centerX(-380)
-            .centerY(0)
-            .width(200)
-            .height(90)
-            .radius(16)
-            .style(cardStyle)
+        Style arrowStyle = Style.builder()
+            .strokeColor("#111827")
+            .lineWidth(5)
             .build();
 
+        DiagramLayout layout = layeredLayout.layout(
+            Diagram.builder()
+                .addNode(card("client", "Client"))
+                .addNode(card("server", "Server"))
+                .addEdge("client", "server")
+                .build(),
+            LayoutOptions.builder()
+                .layerGap(parameters.getInt("layerGap"))
+                .build()
+        );
+        EdgeRoute request = layout.getRoutes().getFirst();
+
         SceneElement clientCard = SceneElement.builder()
             .elementId(SceneId.generateForElement(SCENE_CLIENT_SERVER, "rect-client", 0).getValue())
             .startMillis(0)
             .durationMillis(1800)
-            .properties(clientCardProperties)
-            .build();
-
-        TextProperties clientTextProperties = TextProperties.builder()
-            .text("Client")
-            .centerX(-380)
-            .centerY(0)
-            .fontSize(36)
-            .color("#111827")
-            .fontWeight("600")
+            .properties(layout.rect("client", 16, cardStyle))
             .build();
 
         SceneElement clientText = SceneElement.builder()
             .elementId(SceneId.generateForElement(SCENE_CLIENT_SERVER, "text-client", 0).getValue())
             .startMillis(0)
             .durationMillis(1800)
-            .properties(clientTextProperties)
-            .build();
-
-        RectProperties serverCardProperties = RectProperties.builder()
-            .centerX(380)
-            .centerY(0)
-            .width(200)
-            .height(90)
-            .radius(16)
-            .style(cardStyle)
+            .properties(layout.label("client", CARD_FONT_SIZE, "#111827", CARD_FONT_WEIGHT))
             .build();
 
         SceneElement serverCard = SceneElement.builder()
             .elementId(SceneId.generateForElement(SCENE_CLIENT_SERVER, "rect-server", 0).getValue())
             .startMillis(0)
             .durationMillis(1800)
-            .properties(serverCardProperties)
-            .build();
-
-        TextProperties serverTextProperties = TextProperties.builder()
-            .text("Server")
-            .centerX(380)
-            .centerY(0)
-            .fontSize(36)
-            .color("#111827")
-            .fontWeight("600")
+            .properties(layout.rect("server", 16, cardStyle))
             .build();
 
         SceneElement serverText = SceneElement.builder()
             .elementId(SceneId.generateForElement(SCENE_CLIENT_SERVER, "text-server", 0).getValue())
             .startMillis(0)
             .durationMillis(1800)
-            .properties(serverTextProperties)
+            .properties(layout.label("server", CARD_FONT_SIZE, "#111827", CARD_FONT_WEIGHT))
             .build();
 
-        Style arrowStyle = Style.builder()
-            .strokeColor("#111827")
-            .lineWidth(5)
-            .build();
-
-        LineProperties arrowProperties = LineProperties.builder()
-            .startX(-280)
-            .startY(0)
-            .endX(280)
-            .endY(0)
-            .style(arrowStyle)
-            .build();
+        LineProperties arrowProperties = layout.lines(request, arrowStyle).getFirst();
 
         PropertyTween arrowDrawTween = PropertyTween.builder()
             .propertyPath(PropertyPath.END)
@@ -162,10 +223,11 @@ public final class SceneFactory {
             .addTween(arrowDrawTween)
             .build();
 
+        LayoutPoint labelAnchor = request.midpoint();
         TextProperties labelProperties = TextProperties.builder()
             .text("HTTP Request")
-            .centerX(0)
-            .centerY(-40)
+            .centerX((int) Math.round(labelAnchor.x()))
+            .centerY((int) Math.round(labelAnchor.y()) - 40)
             .fontSize(32)
             .color("#6B7280")
             .fontWeight("500")
@@ -207,58 +269,58 @@ public final class SceneFactory {
             .build();
     }
 
-    public AnimationScene createDominoFallScene() {
+    private DiagramNode card(String id, String label) {
+        DiagramNode fitted = DiagramNode.fitted(id, label, textMetrics, textMetrics.fontOf(CARD_FONT_SIZE, CARD_FONT_WEIGHT), CARD_PADDING);
+        return new DiagramNode(id, label, Math.max(CARD_MIN_WIDTH, fitted.width()), Math.max(CARD_MIN_HEIGHT, fitted.height()));
+    }
+
+    private AnimationScene createDominoFallScene(SceneParameters parameters) {
         Style wireframeStyle = Style.builder()
             .strokeColor("#000000")
             .fillColor("transparent")
             .lineWidth(2)
             .build();
 
+        int dominoCount = parameters.getInt("count");
+        int spacing = parameters.getInt("spacing");
+        int startX = parameters.getInt("startX");
+        int height = 120;
+        int depth = 10;
+
+        DominoChainSimulation simulation = dominoChainSimulator.simulate(DominoChain.builder()
+            .count(dominoCount)
+            .spacing(spacing)
+            .height(height)
+            .depth(depth)
+            .build());
+        int durationMillis = Math.max(3000, simulation.getEndMillis());
+
         AnimationScene.Builder sceneBuilder = AnimationScene.builder()
             .sceneId(SceneId.generate(SCENE_DOMINO_FALL).getValue())
             .name(SCENE_DOMINO_FALL)
             .background("#F5F5DC")
-            .durationMillis(3000);
-
-        int dominoCount = 5;
-        int spacing = 100;
-        int startX = -200;
+            .durationMillis(durationMillis);
 
         for (int i = 0; i < dominoCount; i++) {
             int x = startX + i * spacing;
-            int delay = i * 250;
 
             DominoProperties dominoProperties = DominoProperties.builder()
                 .x(x)
                 .y(0)
                 .z(0)
                 .width(60)
-                .height(120)
-                .depth(10)
+                .height(height)
+                .depth(depth)
                 .rotationX(0)
                 .style(wireframeStyle)
                 .build();
 
-            PropertyTween rotationTween = PropertyTween.builder()
-                .propertyPath(PropertyPath.ROTATION_X)
-                .addKeyframe(Keyframe.builder()
-                    .timeMillis(delay)
-                    .value(0)
-                    .easing(EasingFunction.EASE_IN_OUT)
-                    .build())
-                .addKeyframe(Keyframe.builder()
-                    .timeMillis(delay + 600)
-                    .value(90)
-                    .easing(EasingFunction.EASE_IN_OUT)
-                    .build())
-                .build();
-
             SceneElement dominoElement = SceneElement.builder()
                 .elementId(SceneId.generateForElement(SCENE_DOMINO_FALL, "domino", i).getValue())
                 .startMillis(0)
-                .durationMillis(3000)
+                .durationMillis(durationMillis)
                 .properties(dominoProperties)
-                .addTween(rotationTween)
+                .addTween(simulation.getRotationTween(i))
                 .build();
 
             sceneBuilder.addElement(dominoElement);
@@ -266,4 +328,7 @@ public final class SceneFactory {
 
         return sceneBuilder.build();
     }
+
+    private record SceneProvider(List<SceneParameter> parameters, Function<SceneParameters, AnimationScene> factory) {
+    }
 }
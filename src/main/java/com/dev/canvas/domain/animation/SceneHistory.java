@@ -0,0 +1,71 @@
+package com.dev.canvas.domain.animation;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+public final class SceneHistory {
+
+    private final int capacity;
+    private final Deque<AnimationScene> undo;
+    private final Deque<AnimationScene> redo;
+    private AnimationScene current;
+
+    public SceneHistory(AnimationScene initial, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("History capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.undo = new ArrayDeque<>();
+        this.redo = new ArrayDeque<>();
+        this.current = Objects.requireNonNull(initial);
+    }
+
+    public synchronized AnimationScene current() {
+        return current;
+    }
+
+    public synchronized AnimationScene apply(UnaryOperator<AnimationScene> edit) {
+        AnimationScene edited = Objects.requireNonNull(edit.apply(current));
+        if (edited != current) {
+            push(undo, current);
+            redo.clear();
+            current = edited;
+        }
+        return current;
+    }
+
+    public synchronized AnimationScene undo() {
+        if (undo.isEmpty()) {
+            throw new IllegalStateException("Nothing to undo");
+        }
+        push(redo, current);
+        current = undo.pop();
+        return current;
+    }
+
+    public synchronized AnimationScene redo() {
+        if (redo.isEmpty()) {
+            throw new IllegalStateException("Nothing to redo");
+        }
+        push(undo, current);
+        current = redo.pop();
+        return current;
+    }
+
+    public synchronized int undoDepth() {
+        return undo.size();
+    }
+
+    public synchronized int redoDepth() {
+        return redo.size();
+    }
+
+    private void push(Deque<AnimationScene> versions, AnimationScene scene) {
+        versions.push(scene);
+        if (versions.size() > capacity) {
+            versions.removeLast();
+        }
+    }
+}
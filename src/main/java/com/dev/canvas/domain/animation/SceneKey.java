@@ -0,0 +1,11 @@
+package com.dev.canvas.domain.animation;
+
+import java.util.Objects;
+
+public record SceneKey(String name, SceneParameters parameters) {
+
+    public SceneKey {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(parameters);
+    }
+}
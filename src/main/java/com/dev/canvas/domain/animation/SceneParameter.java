@@ -0,0 +1,116 @@
+package com.dev.canvas.domain.animation;
+
+import java.util.Objects;
+
+public final class SceneParameter {
+
+    private final String name;
+    private final ParameterType type;
+    private final double defaultValue;
+    private final double minimum;
+    private final double maximum;
+
+    private SceneParameter(Builder builder) {
+        this.name = builder.name;
+        this.type = builder.type;
+        this.defaultValue = builder.defaultValue;
+        this.minimum = builder.minimum;
+        this.maximum = builder.maximum;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static SceneParameter integer(String name, int defaultValue, int minimum, int maximum) {
+        return builder()
+            .name(name)
+            .type(ParameterType.INTEGER)
+            .defaultValue(defaultValue)
+            .minimum(minimum)
+            .maximum(maximum)
+            .build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ParameterType getType() {
+        return type;
+    }
+
+    public double getDefaultValue() {
+        return defaultValue;
+    }
+
+    public double getMinimum() {
+        return minimum;
+    }
+
+    public double getMaximum() {
+        return maximum;
+    }
+
+    double parse(String raw) {
+        double parsed = type.parse(name, raw);
+        if (parsed < minimum || parsed > maximum) {
+            throw new IllegalArgumentException("Parameter '" + name + "' must be between " + type.format(minimum)
+                + " and " + type.format(maximum) + ": " + raw);
+        }
+        return parsed;
+    }
+
+    String format(double parameterValue) {
+        return type.format(parameterValue);
+    }
+
+    public static final class Builder {
+
+        private String name;
+        private ParameterType type;
+        private double defaultValue;
+        private double minimum;
+        private double maximum;
+
+        public Builder() {
+            this.type = ParameterType.INTEGER;
+        }
+
+        public Builder name(String value) {
+            this.name = Objects.requireNonNull(value);
+            return this;
+        }
+
+        public Builder type(ParameterType value) {
+            this.type = Objects.requireNonNull(value);
+            return this;
+        }
+
+        public Builder defaultValue(double value) {
+            this.defaultValue = value;
+            return this;
+        }
+
+        public Builder minimum(double value) {
+            this.minimum = value;
+            return this;
+        }
+
+        public Builder maximum(double value) {
+            this.maximum = value;
+            return this;
+        }
+
+        public SceneParameter build() {
+            Objects.requireNonNull(name);
+            if (minimum > maximum || defaultValue < minimum || defaultValue > maximum) {
+                throw new IllegalArgumentException("Parameter '" + name + "' needs minimum <= default <= maximum");
+            }
+            if (!type.accepts(minimum) || !type.accepts(maximum) || !type.accepts(defaultValue)) {
+                throw new IllegalArgumentException("Parameter '" + name + "' bounds must be " + type.getValue() + " values");
+            }
+            return new SceneParameter(this);
+        }
+    }
+}
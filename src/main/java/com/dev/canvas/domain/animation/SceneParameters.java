@@ -0,0 +1,78 @@
+package com.dev.canvas.domain.animation;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+public final class SceneParameters {
+
+    private final SortedMap<String, Double> values;
+    private final String canonical;
+
+    private SceneParameters(SortedMap<String, Double> values, String canonical) {
+        this.values = values;
+        this.canonical = canonical;
+    }
+
+    public static SceneParameters defaults(List<SceneParameter> declared) {
+        return resolve(declared, Map.of());
+    }
+
+    public static SceneParameters resolve(List<SceneParameter> declared, Map<String, String> requested) {
+        SortedMap<String, SceneParameter> byName = new TreeMap<>();
+        for (SceneParameter parameter : declared) {
+            byName.put(parameter.getName(), parameter);
+        }
+        for (String name : requested.keySet()) {
+            if (!byName.containsKey(name)) {
+                throw new IllegalArgumentException(byName.isEmpty()
+                    ? "Scene takes no parameters, got '" + name + "'"
+                    : "Unknown parameter '" + name + "', expected one of " + byName.keySet());
+            }
+        }
+
+        SortedMap<String, Double> values = new TreeMap<>();
+        StringJoiner canonical = new StringJoiner("&");
+        for (SceneParameter parameter : byName.values()) {
+            String raw = requested.get(parameter.getName());
+            double value = raw != null ? parameter.parse(raw) : parameter.getDefaultValue();
+            values.put(parameter.getName(), value);
+            canonical.add(parameter.getName() + "=" + parameter.format(value));
+        }
+        return new SceneParameters(Collections.unmodifiableSortedMap(values), canonical.toString());
+    }
+
+    public int getInt(String name) {
+        return (int) getDouble(name);
+    }
+
+    public double getDouble(String name) {
+        Double value = values.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Undeclared scene parameter: " + name);
+        }
+        return value;
+    }
+
+    public Map<String, Double> values() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SceneParameters parameters && canonical.equals(parameters.canonical);
+    }
+
+    @Override
+    public int hashCode() {
+        return canonical.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return canonical;
+    }
+}
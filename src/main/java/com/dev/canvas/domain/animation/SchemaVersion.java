@@ -5,6 +5,7 @@ import java.util.Objects;
 public final class SchemaVersion {
 
     private static final String CURRENT_VERSION = "1.0.0";
+    private static final String COLUMNAR_VERSION = "2.0.0";
 
     private final String value;
 
@@ -16,6 +17,10 @@ public final class SchemaVersion {
         return new SchemaVersion(CURRENT_VERSION);
     }
 
+    public static SchemaVersion columnar() {
+        return new SchemaVersion(COLUMNAR_VERSION);
+    }
+
     public static SchemaVersion of(String value) {
         return new SchemaVersion(value);
     }
@@ -0,0 +1,21 @@
+package com.dev.canvas.domain.audio;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public final class AudioAnalyzer {
+
+    private static final int BLOCK_FRAMES = 8192;
+
+    public BeatList analyze(Path wav) throws IOException {
+        try (WavFile file = WavFile.open(wav)) {
+            OnsetDetector detector = new OnsetDetector(file.getSampleRate());
+            float[] block = new float[BLOCK_FRAMES];
+            int read;
+            while ((read = file.readMono(block, BLOCK_FRAMES)) >= 0) {
+                detector.accept(block, read);
+            }
+            return detector.finish();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.dev.canvas.domain.audio;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+public final class BeatList {
+
+    private final int sampleRate;
+    private final int durationMillis;
+    private final int[] onsetMillis;
+    private final List<SilenceGap> silences;
+
+    public BeatList(int sampleRate, int durationMillis, int[] onsetMillis, List<SilenceGap> silences) {
+        this.sampleRate = sampleRate;
+        this.durationMillis = durationMillis;
+        this.onsetMillis = onsetMillis;
+        this.silences = List.copyOf(silences);
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public int getDurationMillis() {
+        return durationMillis;
+    }
+
+    public int size() {
+        return onsetMillis.length;
+    }
+
+    public int onsetMillis(int index) {
+        return onsetMillis[index];
+    }
+
+    public int[] getOnsetMillis() {
+        return onsetMillis.clone();
+    }
+
+    public List<SilenceGap> getSilences() {
+        return silences;
+    }
+
+    public int snap(int timeMillis, int toleranceMillis) {
+        int index = Arrays.binarySearch(onsetMillis, timeMillis);
+        if (index >= 0) {
+            return timeMillis;
+        }
+        int next = -index - 1;
+        int nearest = -1;
+        if (next < onsetMillis.length) {
+            nearest = onsetMillis[next];
+        }
+        if (next > 0 && (nearest < 0 || timeMillis - onsetMillis[next - 1] <= nearest - timeMillis)) {
+            nearest = onsetMillis[next - 1];
+        }
+        return nearest >= 0 && Math.abs(nearest - timeMillis) <= toleranceMillis ? nearest : timeMillis;
+    }
+
+    public IntUnaryOperator snapping(int toleranceMillis) {
+        if (toleranceMillis < 0) {
+            throw new IllegalArgumentException("Snap tolerance must not be negative");
+        }
+        return timeMillis -> snap(timeMillis, toleranceMillis);
+    }
+}
@@ -0,0 +1,179 @@
+package com.dev.canvas.domain.audio;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class OnsetDetector {
+
+    private static final int TARGET_SAMPLE_RATE = 11_025;
+    private static final int WINDOW = 512;
+    private static final int HOP = WINDOW / 2;
+    private static final int MASK = WINDOW - 1;
+    private static final double COMPRESSION = 100;
+    private static final int MEAN_FRAMES = 32;
+    private static final double THRESHOLD_RATIO = 1.5;
+    private static final double MIN_FLUX = 0.05;
+    private static final int MIN_ONSET_GAP_MILLIS = 60;
+    private static final double SILENCE_RMS = 0.0056;
+    private static final int MIN_SILENCE_MILLIS = 250;
+
+    private final int sampleRate;
+    private final int decimation;
+    private final double analysisRate;
+    private final Fft fft = new Fft(WINDOW);
+    private final double[] window = new double[WINDOW];
+    private final double[] re = new double[WINDOW];
+    private final double[] im = new double[WINDOW];
+    private final double[] previousSpectrum = new double[HOP + 1];
+    private final float[] ring = new float[WINDOW];
+    private final double[] recentFlux = new double[MEAN_FRAMES];
+
+    private long inputSamples;
+    private float pending;
+    private int pendingCount;
+    private long analysisSamples;
+    private double hopSquares;
+    private long frames;
+    private double fluxSum;
+    private double candidateFlux;
+    private double earlierFlux;
+    private boolean candidateSilent = true;
+    private boolean candidateRising;
+    private double previousHopEnergy;
+    private int lastOnsetMillis = -MIN_ONSET_GAP_MILLIS;
+    private int[] onsets = new int[64];
+    private int onsetCount;
+    private long silenceStart = -1;
+    private final List<SilenceGap> silences = new ArrayList<>();
+
+    public OnsetDetector(int sampleRate) {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("Sample rate must be positive");
+        }
+        this.sampleRate = sampleRate;
+        this.decimation = Math.max(1, sampleRate / TARGET_SAMPLE_RATE);
+        this.analysisRate = (double) sampleRate / decimation;
+        for (int i = 0; i < WINDOW; i++) {
+            window[i] = 0.5 - 0.5 * Math.cos(2 * Math.PI * i / WINDOW);
+        }
+    }
+
+    public void accept(float[] samples, int count) {
+        inputSamples += count;
+        for (int i = 0; i < count; i++) {
+            pending += samples[i];
+            if (++pendingCount == decimation) {
+                push(pending / decimation);
+                pending = 0;
+                pendingCount = 0;
+            }
+        }
+    }
+
+    public BeatList finish() {
+        if (frames > 1) {
+            pick(0);
+        }
+        if (silenceStart >= 0) {
+            closeSilence(analysisSamples);
+        }
+        int durationMillis = (int) (inputSamples * 1000 / sampleRate);
+        return new BeatList(sampleRate, durationMillis, Arrays.copyOf(onsets, onsetCount), silences);
+    }
+
+    private void push(float sample) {
+        ring[(int) (analysisSamples++ & MASK)] = sample;
+        hopSquares += sample * sample;
+        if (analysisSamples % HOP == 0) {
+            analyzeFrame();
+        }
+    }
+
+    private void analyzeFrame() {
+        int start = (int) (analysisSamples & MASK);
+        for (int i = 0; i < WINDOW; i++) {
+            re[i] = ring[(start + i) & MASK] * window[i];
+        }
+        Arrays.fill(im, 0);
+        fft.transform(re, im);
+
+        double flux = 0;
+        for (int k = 1; k <= HOP; k++) {
+            double magnitude = Math.log(1 + COMPRESSION * Math.sqrt(re[k] * re[k] + im[k] * im[k]));
+            double rise = magnitude - previousSpectrum[k];
+            if (rise > 0) {
+                flux += rise;
+            }
+            previousSpectrum[k] = magnitude;
+        }
+        flux /= HOP;
+
+        boolean silent = Math.sqrt(hopSquares / HOP) < SILENCE_RMS;
+        boolean rising = hopSquares > previousHopEnergy;
+        previousHopEnergy = hopSquares;
+        hopSquares = 0;
+        trackSilence(silent);
+
+        if (frames > 0) {
+            pick(flux);
+        }
+        earlierFlux = candidateFlux;
+        candidateFlux = frames == 0 ? 0 : flux;
+        candidateSilent = silent;
+        candidateRising = rising;
+        frames++;
+    }
+
+    private void pick(double nextFlux) {
+        int averaged = (int) Math.min(frames - 1, MEAN_FRAMES);
+        double mean = averaged == 0 ? 0 : fluxSum / averaged;
+        if (!candidateSilent
+            && candidateRising
+            && candidateFlux > earlierFlux
+            && candidateFlux >= nextFlux
+            && candidateFlux > THRESHOLD_RATIO * mean + MIN_FLUX) {
+            int millis = frameMillis(frames - 1);
+            if (millis - lastOnsetMillis >= MIN_ONSET_GAP_MILLIS) {
+                addOnset(millis);
+                lastOnsetMillis = millis;
+            }
+        }
+        int slot = (int) ((frames - 1) % MEAN_FRAMES);
+        fluxSum += candidateFlux - recentFlux[slot];
+        recentFlux[slot] = candidateFlux;
+    }
+
+    private void trackSilence(boolean silent) {
+        long hopStart = analysisSamples - HOP;
+        if (silent && silenceStart < 0) {
+            silenceStart = hopStart;
+        } else if (!silent && silenceStart >= 0) {
+            closeSilence(hopStart);
+        }
+    }
+
+    private void closeSilence(long endSample) {
+        int startMillis = millis(silenceStart);
+        int endMillis = millis(endSample);
+        if (endMillis - startMillis >= MIN_SILENCE_MILLIS) {
+            silences.add(new SilenceGap(startMillis, endMillis));
+        }
+        silenceStart = -1;
+    }
+
+    private void addOnset(int millis) {
+        if (onsetCount == onsets.length) {
+            onsets = Arrays.copyOf(onsets, onsetCount * 2);
+        }
+        onsets[onsetCount++] = millis;
+    }
+
+    private int frameMillis(long frame) {
+        return millis((frame + 1) * HOP - WINDOW / 2);
+    }
+
+    private int millis(long analysisSample) {
+        return (int) Math.round(Math.max(0, analysisSample) * 1000 / analysisRate);
+    }
+}
@@ -0,0 +1,8 @@
+package com.dev.canvas.domain.audio;
+
+public record SilenceGap(int startMillis, int endMillis) {
+
+    public int durationMillis() {
+        return endMillis - startMillis;
+    }
+}
@@ -0,0 +1,201 @@
+package com.dev.canvas.domain.audio;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public final class WavFile implements AutoCloseable {
+
+    private static final int FORMAT_PCM = 1;
+    private static final int FORMAT_FLOAT = 3;
+    private static final int FORMAT_EXTENSIBLE = 0xFFFE;
+    private static final long MAX_MAPPING_BYTES = 1L << 28;
+
+    private final FileChannel channel;
+    private final boolean floatingPoint;
+    private final int channels;
+    private final int sampleRate;
+    private final int bytesPerSample;
+    private final int blockAlign;
+    private final long dataOffset;
+    private final long dataLength;
+
+    private MappedByteBuffer mapping;
+    private long mappedUntil;
+
+    private WavFile(FileChannel channel) throws IOException {
+        this.channel = channel;
+        ByteBuffer header = read(0, 12);
+        if (!"RIFF".equals(tag(header, 0)) || !"WAVE".equals(tag(header, 8))) {
+            throw new IllegalArgumentException("Not a RIFF/WAVE file");
+        }
+
+        ByteBuffer format = null;
+        long position = 12;
+        long data = -1;
+        long dataSize = 0;
+        while (position + 8 <= channel.size()) {
+            ByteBuffer chunk = read(position, 8);
+            String id = tag(chunk, 0);
+            long size = Integer.toUnsignedLong(chunk.getInt(4));
+            if ("fmt ".equals(id)) {
+                format = read(position + 8, (int) Math.min(size, 40));
+            } else if ("data".equals(id)) {
+                data = position + 8;
+                dataSize = Math.min(size, channel.size() - data);
+                break;
+            }
+            position += 8 + size + (size & 1);
+        }
+        if (format == null || data < 0) {
+            throw new IllegalArgumentException("WAVE file has no fmt or data chunk");
+        }
+
+        int formatTag = Short.toUnsignedInt(format.getShort(0));
+        if (formatTag == FORMAT_EXTENSIBLE && format.limit() >= 26) {
+            formatTag = Short.toUnsignedInt(format.getShort(24));
+        }
+        this.channels = Short.toUnsignedInt(format.getShort(2));
+        this.sampleRate = format.getInt(4);
+        this.blockAlign = Short.toUnsignedInt(format.getShort(12));
+        int bitsPerSample = Short.toUnsignedInt(format.getShort(14));
+        this.bytesPerSample = bitsPerSample / 8;
+        this.floatingPoint = formatTag == FORMAT_FLOAT;
+
+        if (formatTag != FORMAT_PCM && formatTag != FORMAT_FLOAT) {
+            throw new IllegalArgumentException("Unsupported WAVE format tag " + formatTag + ", expected PCM or float");
+        }
+        if (floatingPoint ? bitsPerSample != 32 : bitsPerSample % 8 != 0 || bitsPerSample < 8 || bitsPerSample > 32) {
+            throw new IllegalArgumentException("Unsupported WAVE sample size of " + bitsPerSample + " bits");
+        }
+        if (channels == 0 || sampleRate <= 0 || blockAlign != channels * bytesPerSample) {
+            throw new IllegalArgumentException("Inconsistent WAVE format chunk");
+        }
+        this.dataOffset = data;
+        this.dataLength = dataSize - dataSize % blockAlign;
+    }
+
+    public static WavFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new WavFile(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    public long getFrameCount() {
+        return dataLength / blockAlign;
+    }
+
+    public long getDurationMillis() {
+        return getFrameCount() * 1000 / sampleRate;
+    }
+
+    public int readMono(float[] target, int length) throws IOException {
+        if (mapping == null || !mapping.hasRemaining()) {
+            if (mappedUntil >= dataLength) {
+                return -1;
+            }
+            long size = Math.min(dataLength - mappedUntil, MAX_MAPPING_BYTES - MAX_MAPPING_BYTES % blockAlign);
+            mapping = channel.map(FileChannel.MapMode.READ_ONLY, dataOffset + mappedUntil, size);
+            mapping.order(ByteOrder.LITTLE_ENDIAN);
+            mappedUntil += size;
+        }
+
+        int frames = (int) Math.min(length, mapping.remaining() / blockAlign);
+        MappedByteBuffer in = mapping;
+        if (floatingPoint) {
+            float scale = 1f / channels;
+            for (int i = 0; i < frames; i++) {
+                float sum = 0;
+                for (int c = 0; c < channels; c++) {
+                    sum += in.getFloat();
+                }
+                target[i] = sum * scale;
+            }
+            return frames;
+        }
+        switch (bytesPerSample) {
+            case 1 -> {
+                float scale = 1f / (128 * channels);
+                for (int i = 0; i < frames; i++) {
+                    int sum = 0;
+                    for (int c = 0; c < channels; c++) {
+                        sum += Byte.toUnsignedInt(in.get()) - 128;
+                    }
+                    target[i] = sum * scale;
+                }
+            }
+            case 2 -> {
+                float scale = 1f / (32768 * channels);
+                for (int i = 0; i < frames; i++) {
+                    int sum = 0;
+                    for (int c = 0; c < channels; c++) {
+                        sum += in.getShort();
+                    }
+                    target[i] = sum * scale;
+                }
+            }
+            case 3 -> {
+                float scale = 1f / (8388608f * channels);
+                for (int i = 0; i < frames; i++) {
+                    int sum = 0;
+                    for (int c = 0; c < channels; c++) {
+                        int low = Short.toUnsignedInt(in.getShort());
+                        sum += (in.get() << 16) | low;
+                    }
+                    target[i] = sum * scale;
+                }
+            }
+            default -> {
+                float scale = 1f / (2147483648f * channels);
+                for (int i = 0; i < frames; i++) {
+                    float sum = 0;
+                    for (int c = 0; c < channels; c++) {
+                        sum += in.getInt();
+                    }
+                    target[i] = sum * scale;
+                }
+            }
+        }
+        return frames;
+    }
+
+    @Override
+    public void close() throws IOException {
+        mapping = null;
+        channel.close();
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Truncated WAVE header");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static String tag(ByteBuffer buffer, int offset) {
+        byte[] bytes = new byte[4];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,58 @@
+package com.dev.canvas.domain.color;
+
+public final class LinearRgb {
+
+    public static final int WEIGHT_ONE = 1 << 16;
+
+    private static final int LINEAR_BITS = 12;
+    private static final int LINEAR_MAX = (1 << LINEAR_BITS) - 1;
+    private static final int[] TO_LINEAR = new int[256];
+    private static final byte[] TO_SRGB = new byte[LINEAR_MAX + 1];
+
+    static {
+        for (int i = 0; i < TO_LINEAR.length; i++) {
+            double srgb = i / 255.0;
+            double linear = srgb <= 0.04045 ? srgb / 12.92 : Math.pow((srgb + 0.055) / 1.055, 2.4);
+            TO_LINEAR[i] = (int) Math.round(linear * LINEAR_MAX);
+        }
+        for (int i = 0; i <= LINEAR_MAX; i++) {
+            double linear = i / (double) LINEAR_MAX;
+            double srgb = linear <= 0.0031308 ? linear * 12.92 : 1.055 * Math.pow(linear, 1 / 2.4) - 0.055;
+            TO_SRGB[i] = (byte) Math.round(srgb * 255);
+        }
+    }
+
+    private LinearRgb() {
+    }
+
+    public static int weight(double progress) {
+        return (int) Math.round(Math.clamp(progress, 0.0, 1.0) * WEIGHT_ONE);
+    }
+
+    public static int mix(int from, int to, int weight) {
+        if (weight <= 0) {
+            return from;
+        }
+        if (weight >= WEIGHT_ONE) {
+            return to;
+        }
+        int fromAlpha = PackedColors.alpha(from);
+        int toAlpha = PackedColors.alpha(to);
+        int alpha = fromAlpha + ((toAlpha - fromAlpha) * weight >> 16);
+        if (alpha == 0) {
+            return 0;
+        }
+        int red = channel(PackedColors.red(from), fromAlpha, PackedColors.red(to), toAlpha, alpha, weight);
+        int green = channel(PackedColors.green(from), fromAlpha, PackedColors.green(to), toAlpha, alpha, weight);
+        int blue = channel(PackedColors.blue(from), fromAlpha, PackedColors.blue(to), toAlpha, alpha, weight);
+        return PackedColors.argb(alpha, red, green, blue);
+    }
+
+    private static int channel(int from, int fromAlpha, int to, int toAlpha, int alpha, int weight) {
+        int fromPremultiplied = TO_LINEAR[from] * fromAlpha;
+        int toPremultiplied = TO_LINEAR[to] * toAlpha;
+        int premultiplied = fromPremultiplied + (int) ((long) (toPremultiplied - fromPremultiplied) * weight >> 16);
+        int linear = Math.min(LINEAR_MAX, (premultiplied + alpha / 2) / alpha);
+        return TO_SRGB[linear] & 0xFF;
+    }
+}
@@ -0,0 +1,122 @@
+package com.dev.canvas.domain.color;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public final class PackedColors {
+
+    private static final int MAX_PARSED = 4_096;
+    private static final ConcurrentMap<String, Integer> PARSED = new ConcurrentHashMap<>();
+    private static final String TRANSPARENT = "transparent";
+
+    private PackedColors() {
+    }
+
+    public static int parse(String color) {
+        Integer packed = PARSED.get(color);
+        if (packed != null) {
+            return packed;
+        }
+        if (PARSED.size() >= MAX_PARSED) {
+            return parseUncached(color);
+        }
+        return PARSED.computeIfAbsent(color, PackedColors::parseUncached);
+    }
+
+    public static int argb(int alpha, int red, int green, int blue) {
+        return alpha << 24 | red << 16 | green << 8 | blue;
+    }
+
+    public static int alpha(int argb) {
+        return argb >>> 24;
+    }
+
+    public static int red(int argb) {
+        return (argb >>> 16) & 0xFF;
+    }
+
+    public static int green(int argb) {
+        return (argb >>> 8) & 0xFF;
+    }
+
+    public static int blue(int argb) {
+        return argb & 0xFF;
+    }
+
+    public static double toValue(int argb) {
+        return Integer.toUnsignedLong(argb);
+    }
+
+    public static int fromValue(double value) {
+        if (value < 0 || value > 0xFFFF_FFFFL || value != Math.rint(value)) {
+            throw new IllegalArgumentException("Not a packed ARGB color value: " + value);
+        }
+        return (int) (long) value;
+    }
+
+    public static String format(int argb) {
+        if (alpha(argb) == 0xFF) {
+            return String.format("#%06X", argb & 0xFF_FFFF);
+        }
+        return String.format("rgba(%d,%d,%d,%s)", red(argb), green(argb), blue(argb),
+            Double.toString(Math.round(alpha(argb) / 255.0 * 1000) / 1000.0));
+    }
+
+    private static int parseUncached(String color) {
+        String trimmed = color.trim();
+        if (trimmed.equalsIgnoreCase(TRANSPARENT)) {
+            return 0;
+        }
+        if (trimmed.startsWith("#")) {
+            return parseHex(color, trimmed.substring(1));
+        }
+        String lower = trimmed.toLowerCase();
+        if (lower.startsWith("rgba(") && lower.endsWith(")")) {
+            return parseFunction(color, lower.substring(5, lower.length() - 1), 4);
+        }
+        if (lower.startsWith("rgb(") && lower.endsWith(")")) {
+            return parseFunction(color, lower.substring(4, lower.length() - 1), 3);
+        }
+        throw new IllegalArgumentException("Unsupported color: " + color);
+    }
+
+    private static int parseHex(String color, String digits) {
+        try {
+            return switch (digits.length()) {
+                case 3 -> argb(0xFF, doubled(digits, 0), doubled(digits, 1), doubled(digits, 2));
+                case 6 -> 0xFF00_0000 | Integer.parseInt(digits, 16);
+                case 8 -> {
+                    int rgba = Integer.parseUnsignedInt(digits, 16);
+                    yield rgba >>> 8 | rgba << 24;
+                }
+                default -> throw new IllegalArgumentException("Unsupported color: " + color);
+            };
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Unsupported color: " + color, e);
+        }
+    }
+
+    private static int doubled(String digits, int index) {
+        return Integer.parseInt(digits.substring(index, index + 1), 16) * 0x11;
+    }
+
+    private static int parseFunction(String color, String arguments, int expected) {
+        String[] parts = arguments.split(",");
+        if (parts.length != expected) {
+            throw new IllegalArgumentException("Unsupported color: " + color);
+        }
+        try {
+            int red = channel(parts[0]);
+            int green = channel(parts[1]);
+            int blue = channel(parts[2]);
+            int alpha = expected == 4 ? (int) Math.round(Math.clamp(Double.parseDouble(parts[3].trim()), 0, 1) * 255) : 0xFF;
+            return argb(alpha, red, green, blue);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Unsupported color: " + color, e);
+        }
+    }
+
+    private static int channel(String part) {
+        return Math.clamp(Math.round(Double.parseDouble(part.trim())), 0, 255);
+    }
+}
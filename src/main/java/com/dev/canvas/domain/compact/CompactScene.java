@@ -0,0 +1,204 @@
+package com.dev.canvas.domain.compact;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.CircleProperties;
+import com.dev.canvas.domain.animation.DominoProperties;
+import com.dev.canvas.domain.animation.EasingFunction;
+import com.dev.canvas.domain.animation.GroupProperties;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.LineProperties;
+import com.dev.canvas.domain.animation.ParticleProperties;
+import com.dev.canvas.domain.animation.PathProperties;
+import com.dev.canvas.domain.animation.PrimitiveProperties;
+import com.dev.canvas.domain.animation.PrimitiveType;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.RectProperties;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.SchemaVersion;
+import com.dev.canvas.domain.animation.Style;
+import com.dev.canvas.domain.animation.TextProperties;
+
+public final class CompactScene {
+
+    private static final PrimitiveType[] TYPES = PrimitiveType.values();
+    private static final PropertyPath[] PATHS = PropertyPath.values();
+    private static final EasingFunction[] EASINGS = EasingFunction.values();
+
+    private final String sceneId;
+    private final String name;
+    private final SchemaVersion schemaVersion;
+    private final int durationMillis;
+    private final String background;
+    private final long[] packedIds;
+    private final String[] unpackedIds;
+    private final int[] timing;
+    private final byte[] types;
+    private final int[] parents;
+    private final int[] propertyOffsets;
+    private final int[] propertyWords;
+    private final String[] strings;
+    private final Style[] styles;
+    private final PathProperties[] paths;
+    private final int[] tweenOffsets;
+    private final byte[] tweenPaths;
+    private final int[] keyframeOffsets;
+    private final int[] keyframeTimes;
+    private final double[] keyframeValues;
+    private final byte[] keyframeEasings;
+
+    CompactScene(String sceneId, String name, SchemaVersion schemaVersion, int durationMillis, String background,
+                 long[] packedIds, String[] unpackedIds, int[] timing, byte[] types, int[] parents,
+                 int[] propertyOffsets, int[] propertyWords, String[] strings, Style[] styles, PathProperties[] paths,
+                 int[] tweenOffsets, byte[] tweenPaths, int[] keyframeOffsets,
+                 int[] keyframeTimes, double[] keyframeValues, byte[] keyframeEasings) {
+        this.sceneId = sceneId;
+        this.name = name;
+        this.schemaVersion = schemaVersion;
+        this.durationMillis = durationMillis;
+        this.background = background;
+        this.packedIds = packedIds;
+        this.unpackedIds = unpackedIds;
+        this.timing = timing;
+        this.types = types;
+        this.parents = parents;
+        this.propertyOffsets = propertyOffsets;
+        this.propertyWords = propertyWords;
+        this.strings = strings;
+        this.styles = styles;
+        this.paths = paths;
+        this.tweenOffsets = tweenOffsets;
+        this.tweenPaths = tweenPaths;
+        this.keyframeOffsets = keyframeOffsets;
+        this.keyframeTimes = keyframeTimes;
+        this.keyframeValues = keyframeValues;
+        this.keyframeEasings = keyframeEasings;
+    }
+
+    public static CompactScene of(AnimationScene scene) {
+        return new CompactSceneEncoder().encode(scene);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getElementCount() {
+        return types.length;
+    }
+
+    public AnimationScene toScene() {
+        AnimationScene.Builder builder = AnimationScene.builder()
+            .sceneId(sceneId)
+            .name(name)
+            .schemaVersion(schemaVersion)
+            .durationMillis(durationMillis)
+            .background(background);
+        for (int i = 0; i < types.length; i++) {
+            builder.addElement(element(i));
+        }
+        return builder.build();
+    }
+
+    public SceneElement element(int index) {
+        SceneElement.Builder builder = SceneElement.builder()
+            .elementId(elementId(index))
+            .startMillis(timing[2 * index])
+            .durationMillis(timing[2 * index + 1])
+            .parentId(parents == null || parents[index] == CompactSceneEncoder.NONE ? null : elementId(parents[index]))
+            .properties(properties(index));
+        for (int tween = tweenOffsets[index]; tween < tweenOffsets[index + 1]; tween++) {
+            builder.addTween(tween(tween));
+        }
+        return builder.build();
+    }
+
+    private String elementId(int index) {
+        if (unpackedIds != null && unpackedIds[index] != null) {
+            return unpackedIds[index];
+        }
+        return ElementIds.unpack(packedIds[2 * index], packedIds[2 * index + 1]);
+    }
+
+    private PrimitiveProperties properties(int index) {
+        int w = propertyOffsets[index];
+        return switch (TYPES[types[index]]) {
+            case CIRCLE -> CircleProperties.builder()
+                .centerX(propertyWords[w])
+                .centerY(propertyWords[w + 1])
+                .radius(propertyWords[w + 2])
+                .style(style(propertyWords[w + 3]))
+                .build();
+            case RECT -> RectProperties.builder()
+                .centerX(propertyWords[w])
+                .centerY(propertyWords[w + 1])
+                .width(propertyWords[w + 2])
+                .height(propertyWords[w + 3])
+                .radius(propertyWords[w + 4])
+                .style(style(propertyWords[w + 5]))
+                .build();
+            case LINE -> LineProperties.builder()
+                .startX(propertyWords[w])
+                .startY(propertyWords[w + 1])
+                .endX(propertyWords[w + 2])
+                .endY(propertyWords[w + 3])
+                .style(style(propertyWords[w + 4]))
+                .build();
+            case TEXT -> TextProperties.builder()
+                .text(string(propertyWords[w]))
+                .centerX(propertyWords[w + 1])
+                .centerY(propertyWords[w + 2])
+                .fontSize(propertyWords[w + 3])
+                .color(string(propertyWords[w + 4]))
+                .fontWeight(string(propertyWords[w + 5]))
+                .build();
+            case DOMINO -> DominoProperties.builder()
+                .x(propertyWords[w])
+                .y(propertyWords[w + 1])
+                .z(propertyWords[w + 2])
+                .width(propertyWords[w + 3])
+                .height(propertyWords[w + 4])
+                .depth(propertyWords[w + 5])
+                .rotationX(Double.longBitsToDouble(((long) propertyWords[w + 6] << 32)
+                    | (propertyWords[w + 7] & 0xFFFF_FFFFL)))
+                .style(style(propertyWords[w + 8]))
+                .build();
+            case GROUP -> GroupProperties.builder()
+                .x(propertyWords[w])
+                .y(propertyWords[w + 1])
+                .build();
+            case PATH -> paths[propertyWords[w]];
+            case PARTICLES -> ParticleProperties.builder()
+                .x(propertyWords[w])
+                .y(propertyWords[w + 1])
+                .rate(propertyWords[w + 2])
+                .lifetimeMillis(propertyWords[w + 3])
+                .velocityX(propertyWords[w + 4], propertyWords[w + 5])
+                .velocityY(propertyWords[w + 6], propertyWords[w + 7])
+                .size(propertyWords[w + 8])
+                .seed(((long) propertyWords[w + 9] << 32) | (propertyWords[w + 10] & 0xFFFF_FFFFL))
+                .style(style(propertyWords[w + 11]))
+                .build();
+        };
+    }
+
+    private PropertyTween tween(int tween) {
+        PropertyTween.Builder builder = PropertyTween.builder().propertyPath(PATHS[tweenPaths[tween]]);
+        for (int k = keyframeOffsets[tween]; k < keyframeOffsets[tween + 1]; k++) {
+            builder.addKeyframe(Keyframe.builder()
+                .timeMillis(keyframeTimes[k])
+                .value(keyframeValues[k])
+                .easing(EASINGS[keyframeEasings[k]])
+                .build());
+        }
+        return builder.build();
+    }
+
+    private String string(int index) {
+        return index == CompactSceneEncoder.NONE ? null : strings[index];
+    }
+
+    private Style style(int index) {
+        return index == CompactSceneEncoder.NONE ? null : styles[index];
+    }
+}
@@ -0,0 +1,248 @@
+package com.dev.canvas.domain.compact;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.CircleProperties;
+import com.dev.canvas.domain.animation.DominoProperties;
+import com.dev.canvas.domain.animation.GroupProperties;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.LineProperties;
+import com.dev.canvas.domain.animation.ParticleProperties;
+import com.dev.canvas.domain.animation.PathProperties;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.RectProperties;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.Shadow;
+import com.dev.canvas.domain.animation.Style;
+import com.dev.canvas.domain.animation.TextProperties;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class CompactSceneEncoder {
+
+    static final int NONE = -1;
+
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final Map<StyleKey, Integer> styleIndexes = new HashMap<>();
+    private final List<Style> styles = new ArrayList<>();
+    private final List<PathProperties> paths = new ArrayList<>();
+
+    private int[] words = new int[64];
+    private int wordCount;
+
+    CompactScene encode(AnimationScene scene) {
+        List<SceneElement> elements = scene.getElements();
+        int count = elements.size();
+
+        long[] packedIds = new long[2 * count];
+        String[] unpackedIds = null;
+        int[] timing = new int[2 * count];
+        byte[] types = new byte[count];
+        int[] propertyOffsets = new int[count + 1];
+        int[] tweenOffsets = new int[count + 1];
+        int[] parents = null;
+        Map<String, Integer> indexes = null;
+
+        int tweenCount = 0;
+        int keyframeCount = 0;
+        for (SceneElement element : elements) {
+            if (indexes == null && element.getParentId().isPresent()) {
+                parents = new int[count];
+                indexes = new HashMap<>();
+            }
+            tweenCount += element.getTweens().size();
+            for (PropertyTween tween : element.getTweens()) {
+                keyframeCount += tween.getKeyframes().size();
+            }
+        }
+        byte[] tweenPaths = new byte[tweenCount];
+        int[] keyframeOffsets = new int[tweenCount + 1];
+        int[] keyframeTimes = new int[keyframeCount];
+        double[] keyframeValues = new double[keyframeCount];
+        byte[] keyframeEasings = new byte[keyframeCount];
+
+        int tween = 0;
+        int keyframe = 0;
+        for (int i = 0; i < count; i++) {
+            SceneElement element = elements.get(i);
+            String id = element.getElementId();
+            if (ElementIds.isPackable(id)) {
+                packedIds[2 * i] = ElementIds.high(id);
+                packedIds[2 * i + 1] = ElementIds.low(id);
+            } else {
+                if (unpackedIds == null) {
+                    unpackedIds = new String[count];
+                }
+                unpackedIds[i] = id;
+            }
+            timing[2 * i] = element.getStartMillis();
+            timing[2 * i + 1] = element.getDurationMillis();
+            types[i] = (byte) element.getPrimitiveType().ordinal();
+            if (indexes != null) {
+                parents[i] = element.getParentId().map(indexes::get).orElse(NONE);
+                indexes.putIfAbsent(id, i);
+            }
+
+            propertyOffsets[i] = wordCount;
+            encodeProperties(element);
+
+            tweenOffsets[i] = tween;
+            for (PropertyTween propertyTween : element.getTweens()) {
+                tweenPaths[tween] = (byte) propertyTween.getPropertyPath().ordinal();
+                keyframeOffsets[tween] = keyframe;
+                for (Keyframe frame : propertyTween.getKeyframes()) {
+                    keyframeTimes[keyframe] = frame.getTimeMillis();
+                    keyframeValues[keyframe] = frame.getValue();
+                    keyframeEasings[keyframe] = (byte) frame.getEasing().ordinal();
+                    keyframe++;
+                }
+                tween++;
+            }
+        }
+        propertyOffsets[count] = wordCount;
+        tweenOffsets[count] = tween;
+        keyframeOffsets[tweenCount] = keyframe;
+
+        return new CompactScene(
+            scene.getSceneId(), scene.getName(), scene.getSchemaVersion(), scene.getDurationMillis(),
+            intern(scene.getBackground()),
+            packedIds, unpackedIds, timing, types, parents, propertyOffsets, Arrays.copyOf(words, wordCount),
+            strings.toArray(String[]::new), styles.toArray(Style[]::new), paths.toArray(PathProperties[]::new),
+            tweenOffsets, tweenPaths, keyframeOffsets, keyframeTimes, keyframeValues, keyframeEasings);
+    }
+
+    private void encodeProperties(SceneElement element) {
+        switch (element.getProperties()) {
+            case CircleProperties circle -> {
+                add(circle.getCenterX());
+                add(circle.getCenterY());
+                add(circle.getRadius());
+                add(styleIndex(circle.getStyle()));
+            }
+            case RectProperties rect -> {
+                add(rect.getCenterX());
+                add(rect.getCenterY());
+                add(rect.getWidth());
+                add(rect.getHeight());
+                add(rect.getRadius());
+                add(styleIndex(rect.getStyle()));
+            }
+            case LineProperties line -> {
+                add(line.getStartX());
+                add(line.getStartY());
+                add(line.getEndX());
+                add(line.getEndY());
+                add(styleIndex(line.getStyle()));
+            }
+            case TextProperties text -> {
+                add(stringIndex(text.getText()));
+                add(text.getCenterX());
+                add(text.getCenterY());
+                add(text.getFontSize());
+                add(stringIndex(text.getColor()));
+                add(stringIndex(text.getFontWeight()));
+            }
+            case DominoProperties domino -> {
+                add(domino.x());
+                add(domino.y());
+                add(domino.z());
+                add(domino.width());
+                add(domino.height());
+                add(domino.depth());
+                long rotationBits = Double.doubleToRawLongBits(domino.rotationX());
+                add((int) (rotationBits >>> 32));
+                add((int) rotationBits);
+                add(styleIndex(domino.style()));
+            }
+            case GroupProperties group -> {
+                add(group.x());
+                add(group.y());
+            }
+            case PathProperties path -> {
+                add(paths.size());
+                paths.add(path);
+            }
+            case ParticleProperties particles -> {
+                add(particles.x());
+                add(particles.y());
+                add(particles.rate());
+                add(particles.lifetimeMillis());
+                add(particles.minVelocityX());
+                add(particles.maxVelocityX());
+                add(particles.minVelocityY());
+                add(particles.maxVelocityY());
+                add(particles.size());
+                add((int) (particles.seed() >>> 32));
+                add((int) particles.seed());
+                add(styleIndex(particles.style()));
+            }
+        }
+    }
+
+    private void add(int word) {
+        if (wordCount == words.length) {
+            words = Arrays.copyOf(words, 2 * words.length);
+        }
+        words[wordCount++] = word;
+    }
+
+    private int stringIndex(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        return stringIndexes.computeIfAbsent(value, key -> {
+            strings.add(intern(key));
+            return strings.size() - 1;
+        });
+    }
+
+    private int styleIndex(Style style) {
+        if (style == null) {
+            return NONE;
+        }
+        return styleIndexes.computeIfAbsent(StyleKey.of(style), key -> {
+            styles.add(key.toStyle());
+            return styles.size() - 1;
+        });
+    }
+
+    private static String intern(String value) {
+        return value == null ? null : value.intern();
+    }
+
+    private record StyleKey(String fillColor, String strokeColor, int lineWidth, ShadowKey shadow) {
+
+        static StyleKey of(Style style) {
+            return new StyleKey(intern(style.getFillColor()), intern(style.getStrokeColor()), style.getLineWidth(),
+                style.getShadow().map(ShadowKey::of).orElse(null));
+        }
+
+        Style toStyle() {
+            return Style.builder()
+                .fillColor(fillColor)
+                .strokeColor(strokeColor)
+                .lineWidth(lineWidth)
+                .shadow(shadow == null ? null : shadow.toShadow())
+                .build();
+        }
+    }
+
+    private record ShadowKey(int blur, int offsetX, int offsetY, String color) {
+
+        static ShadowKey of(Shadow shadow) {
+            return new ShadowKey(shadow.getBlur(), shadow.getOffsetX(), shadow.getOffsetY(), intern(shadow.getColor()));
+        }
+
+        Shadow toShadow() {
+            return Shadow.builder()
+                .blur(blur)
+                .offsetX(offsetX)
+                .offsetY(offsetY)
+                .color(color)
+                .build();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.dev.canvas.domain.compact;
+
+import java.util.HexFormat;
+
+final class ElementIds {
+
+    private static final int PACKED_LENGTH = 32;
+    private static final int HALF_LENGTH = PACKED_LENGTH / 2;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private ElementIds() {
+    }
+
+    static boolean isPackable(String id) {
+        if (id.length() != PACKED_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < PACKED_LENGTH; i++) {
+            char c = id.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static long high(String id) {
+        return HexFormat.fromHexDigitsToLong(id, 0, HALF_LENGTH);
+    }
+
+    static long low(String id) {
+        return HexFormat.fromHexDigitsToLong(id, HALF_LENGTH, PACKED_LENGTH);
+    }
+
+    static String unpack(long high, long low) {
+        return HEX.toHexDigits(high) + HEX.toHexDigits(low);
+    }
+}
@@ -0,0 +1,74 @@
+package com.dev.canvas.domain.graph;
+
+import com.dev.canvas.domain.animation.ParticleProperties;
+import com.dev.canvas.domain.animation.SceneElement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public final class ParticleEmitters {
+
+    private final SceneGraph graph;
+    private final Map<String, Emitter> emitters;
+
+    private ParticleEmitters(List<SceneElement> elements) {
+        this.graph = SceneGraph.of(elements);
+        Map<String, Emitter> found = new HashMap<>();
+        for (int i = 0; i < elements.size(); i++) {
+            SceneElement element = elements.get(i);
+            if (element.getProperties() instanceof ParticleProperties particles) {
+                found.put(element.getElementId(), new Emitter(element, particles, i));
+            }
+        }
+        this.emitters = Map.copyOf(found);
+    }
+
+    public static ParticleEmitters of(List<SceneElement> elements) {
+        return new ParticleEmitters(List.copyOf(elements));
+    }
+
+    public Optional<Emitter> find(String elementId) {
+        return Optional.ofNullable(emitters.get(elementId));
+    }
+
+    public final class Emitter {
+
+        private final SceneElement element;
+        private final ParticleProperties particles;
+        private final int index;
+
+        private Emitter(SceneElement element, ParticleProperties particles, int index) {
+            this.element = element;
+            this.particles = particles;
+            this.index = index;
+        }
+
+        public SceneElement getElement() {
+            return element;
+        }
+
+        public int countAt(int timeMillis) {
+            int elapsed = timeMillis - element.getStartMillis();
+            return elapsed <= element.getDurationMillis() ? particles.countAt(elapsed) : 0;
+        }
+
+        public int worldPositionsAt(int timeMillis, float[] target) {
+            int count = countAt(timeMillis);
+            if (count == 0) {
+                return 0;
+            }
+            particles.positionsAt(timeMillis - element.getStartMillis(), target);
+            SceneGraph.Transform parent = graph.parentTransformAt(index, timeMillis);
+            if (!parent.equals(SceneGraph.Transform.IDENTITY)) {
+                for (int i = 0; i < 2 * count; i += 2) {
+                    double x = target[i];
+                    double y = target[i + 1];
+                    target[i] = (float) parent.x(x, y);
+                    target[i + 1] = (float) parent.y(x, y);
+                }
+            }
+            return count;
+        }
+    }
+}
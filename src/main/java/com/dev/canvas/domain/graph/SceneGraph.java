@@ -0,0 +1,448 @@
+package com.dev.canvas.domain.graph;
+
+import com.dev.canvas.domain.animation.GroupProperties;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.PathPoint;
+import com.dev.canvas.domain.animation.PathProperties;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.SceneElement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+
+public final class SceneGraph {
+
+    private static final int NONE = -1;
+    private static final int UNEVALUATED = Integer.MIN_VALUE;
+
+    private final int[] elementParents;
+    private final int[] groupParents;
+    private final int[] childOffsets;
+    private final int[] children;
+    private final double[] baseX;
+    private final double[] baseY;
+    private final PropertyTween[][] tweens;
+    private final PathProperties[] tracks;
+    private final PropertyTween[] rides;
+    private final PropertyTween[] slotRides;
+    private final int[] animated;
+    private final int[] animationStart;
+    private final int[] animationEnd;
+    private final double[] world;
+    private final int[] stamps;
+    private final int[] stack;
+
+    private int epoch;
+    private int evaluatedMillis = UNEVALUATED;
+    private long recomputed;
+
+    private SceneGraph(List<SceneElement> elements) {
+        Map<String, Integer> groupSlots = new HashMap<>();
+        int[] groupElements = new int[elements.size()];
+        int groupCount = 0;
+        PathProperties[] slotTracks = new PathProperties[elements.size()];
+        PropertyTween[] elementRides = null;
+        this.elementParents = new int[elements.size()];
+        for (int i = 0; i < elements.size(); i++) {
+            SceneElement element = elements.get(i);
+            elementParents[i] = element.getParentId().map(id -> slotOf(groupSlots, id)).orElse(NONE);
+            if (elementParents[i] != NONE && slotTracks[elementParents[i]] != null) {
+                if (elementRides == null) {
+                    elementRides = new PropertyTween[elements.size()];
+                }
+                elementRides[i] = rideTween(element);
+            }
+            if (element.getPrimitiveType().isContainer()) {
+                groupSlots.putIfAbsent(element.getElementId(), groupCount);
+                if (element.getProperties() instanceof PathProperties path) {
+                    slotTracks[groupCount] = path;
+                }
+                groupElements[groupCount++] = i;
+            }
+        }
+        this.tracks = elementRides == null ? null : Arrays.copyOf(slotTracks, groupCount);
+        this.rides = elementRides;
+
+        this.groupParents = new int[groupCount];
+        this.childOffsets = new int[groupCount + 1];
+        this.baseX = new double[groupCount];
+        this.baseY = new double[groupCount];
+        this.tweens = new PropertyTween[groupCount][];
+        this.slotRides = rides == null ? null : new PropertyTween[groupCount];
+        this.animationStart = new int[groupCount];
+        this.animationEnd = new int[groupCount];
+        this.world = new double[6 * groupCount];
+        this.stamps = new int[groupCount];
+        this.stack = new int[groupCount];
+
+        int[] animatedSlots = new int[groupCount];
+        int animatedCount = 0;
+        for (int g = 0; g < groupCount; g++) {
+            SceneElement group = elements.get(groupElements[g]);
+            groupParents[g] = elementParents[groupElements[g]];
+            if (groupParents[g] != NONE) {
+                childOffsets[groupParents[g] + 1]++;
+            }
+            if (group.getProperties() instanceof GroupProperties properties) {
+                baseX[g] = properties.x();
+                baseY[g] = properties.y();
+            }
+            tweens[g] = transformTweens(group);
+            if (slotRides != null) {
+                slotRides[g] = rides[groupElements[g]];
+            }
+            PropertyTween ride = slotRides == null ? null : slotRides[g];
+            if (ride != null && tweens[g] == null) {
+                tweens[g] = new PropertyTween[5];
+            }
+            if (tweens[g] != null) {
+                animatedSlots[animatedCount++] = g;
+                animationStart[g] = Integer.MAX_VALUE;
+                animationEnd[g] = Integer.MIN_VALUE;
+                for (PropertyTween tween : tweens[g]) {
+                    if (tween != null) {
+                        animationStart[g] = Math.min(animationStart[g], tween.getKeyframes().getFirst().getTimeMillis());
+                        animationEnd[g] = Math.max(animationEnd[g], tween.getKeyframes().getLast().getTimeMillis());
+                    }
+                }
+                if (ride != null) {
+                    animationStart[g] = Math.min(animationStart[g], ride.getKeyframes().getFirst().getTimeMillis());
+                    animationEnd[g] = Math.max(animationEnd[g], ride.getKeyframes().getLast().getTimeMillis());
+                }
+            }
+        }
+        this.animated = Arrays.copyOf(animatedSlots, animatedCount);
+
+        for (int g = 0; g < groupCount; g++) {
+            childOffsets[g + 1] += childOffsets[g];
+        }
+        this.children = new int[childOffsets[groupCount]];
+        int[] cursor = Arrays.copyOf(childOffsets, groupCount);
+        for (int g = 0; g < groupCount; g++) {
+            if (groupParents[g] != NONE) {
+                children[cursor[groupParents[g]]++] = g;
+            }
+        }
+    }
+
+    public static SceneGraph of(List<SceneElement> elements) {
+        return new SceneGraph(elements);
+    }
+
+    public boolean isFlat() {
+        return groupParents.length == 0;
+    }
+
+    public boolean hasParent(int elementIndex) {
+        return elementParents[elementIndex] != NONE;
+    }
+
+    public long getRecomputedNodes() {
+        return recomputed;
+    }
+
+    public void evaluate(int timeMillis) {
+        if (timeMillis == evaluatedMillis) {
+            return;
+        }
+        epoch++;
+        if (evaluatedMillis == UNEVALUATED) {
+            for (int g = 0; g < groupParents.length; g++) {
+                if (groupParents[g] == NONE) {
+                    recompute(g, timeMillis);
+                }
+            }
+        } else {
+            int from = Math.min(evaluatedMillis, timeMillis);
+            int to = Math.max(evaluatedMillis, timeMillis);
+            for (int g : animated) {
+                if (stamps[g] != epoch && from < animationEnd[g] && to > animationStart[g]) {
+                    recompute(g, timeMillis);
+                }
+            }
+        }
+        evaluatedMillis = timeMillis;
+    }
+
+    public Transform parentTransform(int elementIndex) {
+        int parent = elementParents[elementIndex];
+        if (parent == NONE) {
+            return Transform.IDENTITY;
+        }
+        int w = 6 * parent;
+        if (rides == null || tracks[parent] == null) {
+            return new Transform(world[w], world[w + 1], world[w + 2], world[w + 3], world[w + 4], world[w + 5]);
+        }
+        PathPoint point = tracks[parent].pointAt(value(rides[elementIndex], evaluatedMillis, 0));
+        return new Transform(world[w], world[w + 1], world[w + 2], world[w + 3],
+            world[w] * point.x() + world[w + 2] * point.y() + world[w + 4],
+            world[w + 1] * point.x() + world[w + 3] * point.y() + world[w + 5]);
+    }
+
+    public Transform parentTransformAt(int elementIndex, int timeMillis) {
+        int parent = elementParents[elementIndex];
+        if (parent == NONE) {
+            return Transform.IDENTITY;
+        }
+        double[] transform = new double[6];
+        worldAt(parent, timeMillis, transform);
+        if (rides == null || tracks[parent] == null) {
+            return new Transform(transform[0], transform[1], transform[2], transform[3], transform[4], transform[5]);
+        }
+        PathPoint point = tracks[parent].pointAt(value(rides[elementIndex], timeMillis, 0));
+        return new Transform(transform[0], transform[1], transform[2], transform[3],
+            transform[0] * point.x() + transform[2] * point.y() + transform[4],
+            transform[1] * point.x() + transform[3] * point.y() + transform[5]);
+    }
+
+    public TransformRange parentTransformRange(int elementIndex) {
+        int parent = elementParents[elementIndex];
+        if (parent == NONE) {
+            return TransformRange.IDENTITY;
+        }
+        TransformRange range = worldRange(parent);
+        if (rides == null || tracks[parent] == null) {
+            return range;
+        }
+        PathProperties track = tracks[parent];
+        Interval pointX = new Interval(track.getMinX(), track.getMaxX());
+        Interval pointY = new Interval(track.getMinY(), track.getMaxY());
+        return new TransformRange(range.a(), range.b(), range.c(), range.d(),
+            range.x(pointX, pointY), range.y(pointX, pointY));
+    }
+
+    private void recompute(int root, int timeMillis) {
+        int depth = 0;
+        stack[depth++] = root;
+        while (depth > 0) {
+            int g = stack[--depth];
+            stamps[g] = epoch;
+            recomputed++;
+            updateWorld(g, timeMillis);
+            for (int c = childOffsets[g]; c < childOffsets[g + 1]; c++) {
+                stack[depth++] = children[c];
+            }
+        }
+    }
+
+    private void updateWorld(int g, int timeMillis) {
+        int parent = groupParents[g];
+        compose(g, timeMillis, parent == NONE ? null : world, 6 * parent, world, 6 * g);
+    }
+
+    private void worldAt(int g, int timeMillis, double[] out) {
+        int parent = groupParents[g];
+        if (parent != NONE) {
+            worldAt(parent, timeMillis, out);
+        }
+        compose(g, timeMillis, parent == NONE ? null : out, 0, out, 0);
+    }
+
+    private void compose(int g, int timeMillis, double[] parentWorld, int p, double[] out, int w) {
+        PropertyTween[] channels = tweens[g];
+        double x = channels == null ? baseX[g] : value(channels[0], timeMillis, baseX[g]);
+        double y = channels == null ? baseY[g] : value(channels[1], timeMillis, baseY[g]);
+        double rotation = channels == null ? 0 : Math.toRadians(value(channels[2], timeMillis, 0));
+        double scaleX = channels == null ? 1 : value(channels[3], timeMillis, 1);
+        double scaleY = channels == null ? 1 : value(channels[4], timeMillis, 1);
+        int parent = groupParents[g];
+        if (slotRides != null && parent != NONE && tracks[parent] != null) {
+            PathPoint point = tracks[parent].pointAt(value(slotRides[g], timeMillis, 0));
+            x += point.x();
+            y += point.y();
+        }
+
+        double cos = Math.cos(rotation);
+        double sin = Math.sin(rotation);
+        double a = cos * scaleX;
+        double b = sin * scaleX;
+        double c = -sin * scaleY;
+        double d = cos * scaleY;
+
+        if (parentWorld == null) {
+            out[w] = a;
+            out[w + 1] = b;
+            out[w + 2] = c;
+            out[w + 3] = d;
+            out[w + 4] = x;
+            out[w + 5] = y;
+            return;
+        }
+        double pa = parentWorld[p];
+        double pb = parentWorld[p + 1];
+        double pc = parentWorld[p + 2];
+        double pd = parentWorld[p + 3];
+        double ptx = parentWorld[p + 4];
+        double pty = parentWorld[p + 5];
+        out[w] = pa * a + pc * b;
+        out[w + 1] = pb * a + pd * b;
+        out[w + 2] = pa * c + pc * d;
+        out[w + 3] = pb * c + pd * d;
+        out[w + 4] = pa * x + pc * y + ptx;
+        out[w + 5] = pb * x + pd * y + pty;
+    }
+
+    private TransformRange worldRange(int g) {
+        PropertyTween[] channels = tweens[g];
+        Interval x = channels == null ? Interval.of(baseX[g]) : range(channels[0], baseX[g]);
+        Interval y = channels == null ? Interval.of(baseY[g]) : range(channels[1], baseY[g]);
+        Interval rotation = channels == null ? Interval.of(0) : range(channels[2], 0);
+        Interval scaleX = channels == null ? Interval.of(1) : range(channels[3], 1);
+        Interval scaleY = channels == null ? Interval.of(1) : range(channels[4], 1);
+        int parent = groupParents[g];
+        if (slotRides != null && parent != NONE && tracks[parent] != null) {
+            x = x.plus(new Interval(tracks[parent].getMinX(), tracks[parent].getMaxX()));
+            y = y.plus(new Interval(tracks[parent].getMinY(), tracks[parent].getMaxY()));
+        }
+
+        Interval cos = cosine(rotation);
+        Interval sin = sine(rotation);
+        TransformRange local = new TransformRange(
+            cos.times(scaleX), sin.times(scaleX), sin.negate().times(scaleY), cos.times(scaleY), x, y);
+        if (parent == NONE) {
+            return local;
+        }
+        TransformRange outer = worldRange(parent);
+        return new TransformRange(
+            outer.a().times(local.a()).plus(outer.c().times(local.b())),
+            outer.b().times(local.a()).plus(outer.d().times(local.b())),
+            outer.a().times(local.c()).plus(outer.c().times(local.d())),
+            outer.b().times(local.c()).plus(outer.d().times(local.d())),
+            outer.x(local.tx(), local.ty()),
+            outer.y(local.tx(), local.ty()));
+    }
+
+    private static double value(PropertyTween tween, int timeMillis, double fallback) {
+        return tween == null ? fallback : tween.valueAt(timeMillis);
+    }
+
+    private static Interval range(PropertyTween tween, double fallback) {
+        if (tween == null) {
+            return Interval.of(fallback);
+        }
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (Keyframe keyframe : tween.getKeyframes()) {
+            min = Math.min(min, keyframe.getValue());
+            max = Math.max(max, keyframe.getValue());
+        }
+        return new Interval(min, max);
+    }
+
+    private static Interval cosine(Interval degrees) {
+        return wave(degrees, Math::cos, 0);
+    }
+
+    private static Interval sine(Interval degrees) {
+        return wave(degrees, Math::sin, 90);
+    }
+
+    private static Interval wave(Interval degrees, DoubleUnaryOperator function, double crest) {
+        if (degrees.max() - degrees.min() >= 360) {
+            return new Interval(-1, 1);
+        }
+        double from = function.applyAsDouble(Math.toRadians(degrees.min()));
+        double to = function.applyAsDouble(Math.toRadians(degrees.max()));
+        double min = Math.min(from, to);
+        double max = Math.max(from, to);
+        double first = crest + Math.ceil((degrees.min() - crest) / 180) * 180;
+        for (double extreme = first; extreme <= degrees.max(); extreme += 180) {
+            double value = Math.floorMod(Math.round((extreme - crest) / 180), 2) == 0 ? 1 : -1;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return new Interval(min, max);
+    }
+
+    private static PropertyTween[] transformTweens(SceneElement group) {
+        PropertyTween[] channels = null;
+        for (PropertyTween tween : group.getTweens()) {
+            int channel = switch (tween.getPropertyPath()) {
+                case POSITION_X -> 0;
+                case POSITION_Y -> 1;
+                case ROTATION -> 2;
+                case SCALE_X -> 3;
+                case SCALE_Y -> 4;
+                default -> NONE;
+            };
+            if (channel == NONE || tween.getKeyframes().isEmpty()) {
+                continue;
+            }
+            if (channels == null) {
+                channels = new PropertyTween[5];
+            }
+            channels[channel] = tween;
+        }
+        return channels;
+    }
+
+    private static PropertyTween rideTween(SceneElement element) {
+        for (PropertyTween tween : element.getTweens()) {
+            if (tween.getPropertyPath() == PropertyPath.PATH_PROGRESS && !tween.getKeyframes().isEmpty()) {
+                return tween;
+            }
+        }
+        return null;
+    }
+
+    private static int slotOf(Map<String, Integer> groupSlots, String parentId) {
+        Integer slot = groupSlots.get(parentId);
+        if (slot == null) {
+            throw new IllegalArgumentException("Parent " + parentId + " is not an earlier group or path");
+        }
+        return slot;
+    }
+
+    public record Transform(double a, double b, double c, double d, double tx, double ty) {
+
+        public static final Transform IDENTITY = new Transform(1, 0, 0, 1, 0, 0);
+
+        public double x(double localX, double localY) {
+            return a * localX + c * localY + tx;
+        }
+
+        public double y(double localX, double localY) {
+            return b * localX + d * localY + ty;
+        }
+    }
+
+    public record Interval(double min, double max) {
+
+        public static Interval of(double value) {
+            return new Interval(value, value);
+        }
+
+        public Interval plus(Interval other) {
+            return new Interval(min + other.min, max + other.max);
+        }
+
+        public Interval times(Interval other) {
+            double p1 = min * other.min;
+            double p2 = min * other.max;
+            double p3 = max * other.min;
+            double p4 = max * other.max;
+            return new Interval(Math.min(Math.min(p1, p2), Math.min(p3, p4)), Math.max(Math.max(p1, p2), Math.max(p3, p4)));
+        }
+
+        public Interval negate() {
+            return new Interval(-max, -min);
+        }
+    }
+
+    public record TransformRange(Interval a, Interval b, Interval c, Interval d, Interval tx, Interval ty) {
+
+        public static final TransformRange IDENTITY = new TransformRange(
+            Interval.of(1), Interval.of(0), Interval.of(0), Interval.of(1), Interval.of(0), Interval.of(0));
+
+        public Interval x(Interval localX, Interval localY) {
+            return a.times(localX).plus(c.times(localY)).plus(tx);
+        }
+
+        public Interval y(Interval localX, Interval localY) {
+            return b.times(localX).plus(d.times(localY)).plus(ty);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.dev.canvas.domain.layout;
+
+final class CoordinateAssigner {
+
+    private CoordinateAssigner() {
+    }
+
+    static void assign(LayeredGraph graph, LayoutOptions options) {
+        assignRanks(graph, options);
+
+        for (int layer = 0; layer < graph.layers.length; layer++) {
+            place(graph, layer, options, null, null);
+        }
+        for (int sweep = 0; sweep < options.getAlignmentSweeps(); sweep++) {
+            if (sweep % 2 == 0) {
+                for (int layer = 1; layer < graph.layers.length; layer++) {
+                    place(graph, layer, options, graph.predStart, graph.preds);
+                }
+            } else {
+                for (int layer = graph.layers.length - 2; layer >= 0; layer--) {
+                    place(graph, layer, options, graph.succStart, graph.succs);
+                }
+            }
+        }
+    }
+
+    private static void assignRanks(LayeredGraph graph, LayoutOptions options) {
+        double cursor = 0;
+        for (int[] nodes : graph.layers) {
+            double layerDepth = 0;
+            for (int node : nodes) {
+                layerDepth = Math.max(layerDepth, graph.depth[node]);
+            }
+            for (int node : nodes) {
+                graph.rank[node] = cursor + layerDepth / 2;
+            }
+            cursor += layerDepth + options.getLayerGap();
+        }
+    }
+
+    private static void place(LayeredGraph graph, int layer, LayoutOptions options, int[] start, int[] neighbors) {
+        int[] nodes = graph.layers[layer];
+        int count = nodes.length;
+        if (count == 0) {
+            return;
+        }
+
+        double[] offsets = new double[count];
+        double[] targets = new double[count];
+        for (int i = 1; i < count; i++) {
+            offsets[i] = offsets[i - 1] + separation(graph, nodes[i - 1], nodes[i], options);
+        }
+        for (int i = 0; i < count; i++) {
+            int node = nodes[i];
+            double desired;
+            if (start == null) {
+                desired = offsets[i] - offsets[count - 1] / 2;
+            } else if (start[node + 1] == start[node]) {
+                desired = graph.order[node];
+            } else {
+                double sum = 0;
+                for (int k = start[node]; k < start[node + 1]; k++) {
+                    sum += graph.order[neighbors[k]];
+                }
+                desired = sum / (start[node + 1] - start[node]);
+            }
+            targets[i] = desired - offsets[i];
+        }
+
+        double[] fitted = nondecreasingFit(targets);
+        for (int i = 0; i < count; i++) {
+            graph.order[nodes[i]] = fitted[i] + offsets[i];
+        }
+    }
+
+    private static double separation(LayeredGraph graph, int left, int right, LayoutOptions options) {
+        boolean edgeOnly = graph.isDummy(left) || graph.isDummy(right);
+        double gap = edgeOnly ? options.getEdgeGap() : options.getNodeGap();
+        return (graph.breadth[left] + graph.breadth[right]) / 2 + gap;
+    }
+
+    private static double[] nondecreasingFit(double[] values) {
+        int count = values.length;
+        double[] blockSum = new double[count];
+        int[] blockSize = new int[count];
+        int blocks = 0;
+
+        for (double value : values) {
+            blockSum[blocks] = value;
+            blockSize[blocks] = 1;
+            blocks++;
+            while (blocks > 1
+                && blockSum[blocks - 2] / blockSize[blocks - 2] > blockSum[blocks - 1] / blockSize[blocks - 1]) {
+                blockSum[blocks - 2] += blockSum[blocks - 1];
+                blockSize[blocks - 2] += blockSize[blocks - 1];
+                blocks--;
+            }
+        }
+
+        double[] fitted = new double[count];
+        int index = 0;
+        for (int block = 0; block < blocks; block++) {
+            double mean = blockSum[block] / blockSize[block];
+            for (int i = 0; i < blockSize[block]; i++) {
+                fitted[index++] = mean;
+            }
+        }
+        return fitted;
+    }
+}
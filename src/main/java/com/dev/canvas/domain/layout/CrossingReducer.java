@@ -0,0 +1,110 @@
+package com.dev.canvas.domain.layout;
+
+import java.util.Arrays;
+
+final class CrossingReducer {
+
+    private CrossingReducer() {
+    }
+
+    static void reduce(LayeredGraph graph, int sweeps) {
+        int[][] best = snapshot(graph);
+        long bestCrossings = crossings(graph);
+
+        for (int sweep = 0; sweep < sweeps && bestCrossings > 0; sweep++) {
+            if (sweep % 2 == 0) {
+                for (int layer = 1; layer < graph.layers.length; layer++) {
+                    sortByBarycenter(graph, layer, graph.predStart, graph.preds);
+                }
+            } else {
+                for (int layer = graph.layers.length - 2; layer >= 0; layer--) {
+                    sortByBarycenter(graph, layer, graph.succStart, graph.succs);
+                }
+            }
+
+            long crossings = crossings(graph);
+            if (crossings < bestCrossings) {
+                best = snapshot(graph);
+                bestCrossings = crossings;
+            }
+        }
+
+        for (int layer = 0; layer < best.length; layer++) {
+            graph.reorder(layer, best[layer]);
+        }
+    }
+
+    static long crossings(LayeredGraph graph) {
+        long total = 0;
+        for (int layer = 0; layer + 1 < graph.layers.length; layer++) {
+            total += crossingsBetween(graph, graph.layers[layer], graph.layers[layer + 1].length);
+        }
+        return total;
+    }
+
+    private static long crossingsBetween(LayeredGraph graph, int[] upper, int lowerSize) {
+        long[] tree = new long[lowerSize + 1];
+        long inserted = 0;
+        long crossings = 0;
+        int[] lowerPositions = new int[8];
+
+        for (int node : upper) {
+            int degree = graph.succStart[node + 1] - graph.succStart[node];
+            if (lowerPositions.length < degree) {
+                lowerPositions = new int[degree];
+            }
+            for (int i = 0; i < degree; i++) {
+                lowerPositions[i] = graph.position[graph.succs[graph.succStart[node] + i]];
+            }
+            Arrays.sort(lowerPositions, 0, degree);
+
+            for (int i = 0; i < degree; i++) {
+                int lower = lowerPositions[i];
+                long atOrBefore = 0;
+                for (int index = lower + 1; index > 0; index -= index & -index) {
+                    atOrBefore += tree[index];
+                }
+                crossings += inserted - atOrBefore;
+                for (int index = lower + 1; index <= lowerSize; index += index & -index) {
+                    tree[index]++;
+                }
+                inserted++;
+            }
+        }
+        return crossings;
+    }
+
+    private static void sortByBarycenter(LayeredGraph graph, int layer, int[] start, int[] neighbors) {
+        int[] nodes = graph.layers[layer];
+        long[] keyed = new long[nodes.length];
+
+        for (int i = 0; i < nodes.length; i++) {
+            int node = nodes[i];
+            int degree = start[node + 1] - start[node];
+            float barycenter = i;
+            if (degree > 0) {
+                double sum = 0;
+                for (int k = start[node]; k < start[node + 1]; k++) {
+                    sum += graph.position[neighbors[k]];
+                }
+                barycenter = (float) (sum / degree);
+            }
+            keyed[i] = (long) Float.floatToIntBits(barycenter) << 32 | i;
+        }
+
+        Arrays.sort(keyed);
+        int[] reordered = new int[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            reordered[i] = nodes[(int) keyed[i]];
+        }
+        graph.reorder(layer, reordered);
+    }
+
+    private static int[][] snapshot(LayeredGraph graph) {
+        int[][] copy = new int[graph.layers.length][];
+        for (int layer = 0; layer < copy.length; layer++) {
+            copy[layer] = graph.layers[layer].clone();
+        }
+        return copy;
+    }
+}
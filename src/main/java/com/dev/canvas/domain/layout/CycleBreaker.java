@@ -0,0 +1,60 @@
+package com.dev.canvas.domain.layout;
+
+final class CycleBreaker {
+
+    private static final byte UNVISITED = 0;
+    private static final byte ACTIVE = 1;
+    private static final byte DONE = 2;
+
+    private CycleBreaker() {
+    }
+
+    static boolean[] reversedEdges(int nodeCount, int[] from, int[] to) {
+        int[] start = new int[nodeCount + 1];
+        for (int source : from) {
+            start[source + 1]++;
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] outgoing = new int[from.length];
+        int[] fill = start.clone();
+        for (int edge = 0; edge < from.length; edge++) {
+            outgoing[fill[from[edge]]++] = edge;
+        }
+
+        boolean[] reversed = new boolean[from.length];
+        byte[] state = new byte[nodeCount];
+        int[] stack = new int[nodeCount];
+        int[] cursor = new int[nodeCount];
+
+        for (int root = 0; root < nodeCount; root++) {
+            if (state[root] != UNVISITED) {
+                continue;
+            }
+            int top = 0;
+            stack[top++] = root;
+            state[root] = ACTIVE;
+            cursor[root] = start[root];
+
+            while (top > 0) {
+                int node = stack[top - 1];
+                if (cursor[node] == start[node + 1]) {
+                    state[node] = DONE;
+                    top--;
+                    continue;
+                }
+                int edge = outgoing[cursor[node]++];
+                int target = to[edge];
+                if (state[target] == ACTIVE) {
+                    reversed[edge] = true;
+                } else if (state[target] == UNVISITED) {
+                    state[target] = ACTIVE;
+                    cursor[target] = start[target];
+                    stack[top++] = target;
+                }
+            }
+        }
+        return reversed;
+    }
+}
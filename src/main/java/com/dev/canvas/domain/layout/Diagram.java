@@ -0,0 +1,67 @@
+package com.dev.canvas.domain.layout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public final class Diagram {
+
+    private final List<DiagramNode> nodes;
+    private final List<DiagramEdge> edges;
+
+    private Diagram(Builder builder) {
+        this.nodes = List.copyOf(builder.nodes);
+        this.edges = List.copyOf(builder.edges);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<DiagramNode> getNodes() {
+        return Collections.unmodifiableList(nodes);
+    }
+
+    public List<DiagramEdge> getEdges() {
+        return Collections.unmodifiableList(edges);
+    }
+
+    public static final class Builder {
+
+        private final List<DiagramNode> nodes;
+        private final List<DiagramEdge> edges;
+        private final Set<String> nodeIds;
+
+        public Builder() {
+            this.nodes = new ArrayList<>();
+            this.edges = new ArrayList<>();
+            this.nodeIds = new HashSet<>();
+        }
+
+        public Builder addNode(DiagramNode value) {
+            Objects.requireNonNull(value);
+            if (!nodeIds.add(value.id())) {
+                throw new IllegalArgumentException("Duplicate node: " + value.id());
+            }
+            this.nodes.add(value);
+            return this;
+        }
+
+        public Builder addEdge(String from, String to) {
+            this.edges.add(new DiagramEdge(from, to));
+            return this;
+        }
+
+        public Diagram build() {
+            for (DiagramEdge edge : edges) {
+                if (!nodeIds.contains(edge.from()) || !nodeIds.contains(edge.to())) {
+                    throw new IllegalArgumentException("Edge references unknown node: " + edge);
+                }
+            }
+            return new Diagram(this);
+        }
+    }
+}
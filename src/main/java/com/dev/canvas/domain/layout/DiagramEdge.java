@@ -0,0 +1,11 @@
+package com.dev.canvas.domain.layout;
+
+import java.util.Objects;
+
+public record DiagramEdge(String from, String to) {
+
+    public DiagramEdge {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+    }
+}
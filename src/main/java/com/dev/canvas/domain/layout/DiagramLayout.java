@@ -0,0 +1,85 @@
+package com.dev.canvas.domain.layout;
+
+import com.dev.canvas.domain.animation.LineProperties;
+import com.dev.canvas.domain.animation.RectProperties;
+import com.dev.canvas.domain.animation.Style;
+import com.dev.canvas.domain.animation.TextProperties;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public final class DiagramLayout {
+
+    private final Map<String, NodePlacement> placements;
+    private final List<EdgeRoute> routes;
+
+    DiagramLayout(List<NodePlacement> placements, List<EdgeRoute> routes) {
+        this.placements = new LinkedHashMap<>();
+        for (NodePlacement placement : placements) {
+            this.placements.put(placement.id(), placement);
+        }
+        this.routes = List.copyOf(routes);
+    }
+
+    public List<NodePlacement> getPlacements() {
+        return List.copyOf(placements.values());
+    }
+
+    public Optional<NodePlacement> findPlacement(String nodeId) {
+        return Optional.ofNullable(placements.get(nodeId));
+    }
+
+    public List<EdgeRoute> getRoutes() {
+        return routes;
+    }
+
+    public RectProperties rect(String nodeId, int radius, Style style) {
+        NodePlacement placement = placement(nodeId);
+        return RectProperties.builder()
+            .centerX((int) Math.round(placement.centerX()))
+            .centerY((int) Math.round(placement.centerY()))
+            .width(placement.width())
+            .height(placement.height())
+            .radius(radius)
+            .style(style)
+            .build();
+    }
+
+    public TextProperties label(String nodeId, int fontSize, String color, String fontWeight) {
+        NodePlacement placement = placement(nodeId);
+        return TextProperties.builder()
+            .text(placement.label())
+            .centerX((int) Math.round(placement.centerX()))
+            .centerY((int) Math.round(placement.centerY()))
+            .fontSize(fontSize)
+            .color(color)
+            .fontWeight(fontWeight)
+            .build();
+    }
+
+    public List<LineProperties> lines(EdgeRoute route, Style style) {
+        List<LineProperties> lines = new ArrayList<>(route.points().size() - 1);
+        for (int i = 1; i < route.points().size(); i++) {
+            LayoutPoint from = route.points().get(i - 1);
+            LayoutPoint to = route.points().get(i);
+            lines.add(LineProperties.builder()
+                .startX((int) Math.round(from.x()))
+                .startY((int) Math.round(from.y()))
+                .endX((int) Math.round(to.x()))
+                .endY((int) Math.round(to.y()))
+                .style(style)
+                .build());
+        }
+        return lines;
+    }
+
+    private NodePlacement placement(String nodeId) {
+        NodePlacement placement = placements.get(nodeId);
+        if (placement == null) {
+            throw new IllegalArgumentException("Unknown node: " + nodeId);
+        }
+        return placement;
+    }
+}
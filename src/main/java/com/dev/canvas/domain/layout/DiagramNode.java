@@ -0,0 +1,22 @@
+package com.dev.canvas.domain.layout;
+
+import com.dev.canvas.domain.text.FontSpec;
+import com.dev.canvas.domain.text.TextMeasurement;
+import com.dev.canvas.domain.text.TextMetricsService;
+import java.util.Objects;
+
+public record DiagramNode(String id, String label, int width, int height) {
+
+    public DiagramNode {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(label);
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Node size must be positive: " + id);
+        }
+    }
+
+    public static DiagramNode fitted(String id, String label, TextMetricsService textMetrics, FontSpec font, int padding) {
+        TextMeasurement measurement = textMetrics.measure(label, font);
+        return new DiagramNode(id, label, measurement.paddedWidth(padding), measurement.paddedHeight(padding));
+    }
+}
@@ -0,0 +1,33 @@
+package com.dev.canvas.domain.layout;
+
+import java.util.List;
+
+public record EdgeRoute(String from, String to, List<LayoutPoint> points) {
+
+    public EdgeRoute {
+        points = List.copyOf(points);
+    }
+
+    public LayoutPoint midpoint() {
+        double total = 0;
+        for (int i = 1; i < points.size(); i++) {
+            total += distance(points.get(i - 1), points.get(i));
+        }
+        double remaining = total / 2;
+        for (int i = 1; i < points.size(); i++) {
+            LayoutPoint from = points.get(i - 1);
+            LayoutPoint to = points.get(i);
+            double length = distance(from, to);
+            if (remaining <= length && length > 0) {
+                double ratio = remaining / length;
+                return new LayoutPoint(from.x() + (to.x() - from.x()) * ratio, from.y() + (to.y() - from.y()) * ratio);
+            }
+            remaining -= length;
+        }
+        return points.getFirst();
+    }
+
+    private static double distance(LayoutPoint from, LayoutPoint to) {
+        return Math.hypot(to.x() - from.x(), to.y() - from.y());
+    }
+}
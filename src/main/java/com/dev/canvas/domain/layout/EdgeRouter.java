@@ -0,0 +1,58 @@
+package com.dev.canvas.domain.layout;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class EdgeRouter {
+
+    private EdgeRouter() {
+    }
+
+    static List<EdgeRoute> route(LayeredGraph graph, Diagram diagram, LayoutOptions options) {
+        List<EdgeRoute> routes = new ArrayList<>();
+        for (int edge = 0; edge < graph.paths.length; edge++) {
+            int[] path = graph.paths[edge];
+            if (path == null) {
+                continue;
+            }
+            DiagramEdge diagramEdge = diagram.getEdges().get(edge);
+            routes.add(new EdgeRoute(diagramEdge.from(), diagramEdge.to(), points(graph, path, options)));
+        }
+        return routes;
+    }
+
+    private static List<LayoutPoint> points(LayeredGraph graph, int[] path, LayoutOptions options) {
+        int last = path.length - 1;
+        List<double[]> waypoints = new ArrayList<>(path.length);
+        waypoints.add(side(graph, path[0], path[1]));
+        for (int i = 1; i < last; i++) {
+            waypoints.add(new double[] {graph.rank[path[i]], graph.order[path[i]]});
+        }
+        waypoints.add(side(graph, path[last], path[last - 1]));
+
+        List<LayoutPoint> points = new ArrayList<>();
+        points.add(toPoint(waypoints.getFirst(), options.getDirection()));
+        for (int i = 1; i < waypoints.size(); i++) {
+            double[] from = waypoints.get(i - 1);
+            double[] to = waypoints.get(i);
+            if (options.getRouting() == EdgeRouting.ORTHOGONAL && from[1] != to[1]) {
+                double middle = (from[0] + to[0]) / 2;
+                points.add(toPoint(new double[] {middle, from[1]}, options.getDirection()));
+                points.add(toPoint(new double[] {middle, to[1]}, options.getDirection()));
+            }
+            points.add(toPoint(to, options.getDirection()));
+        }
+        return points;
+    }
+
+    private static double[] side(LayeredGraph graph, int node, int toward) {
+        double sign = graph.layer[toward] > graph.layer[node] ? 1 : -1;
+        return new double[] {graph.rank[node] + sign * graph.depth[node] / 2, graph.order[node]};
+    }
+
+    private static LayoutPoint toPoint(double[] rankAndOrder, LayoutDirection direction) {
+        return direction == LayoutDirection.LEFT_TO_RIGHT
+            ? new LayoutPoint(rankAndOrder[0], rankAndOrder[1])
+            : new LayoutPoint(rankAndOrder[1], rankAndOrder[0]);
+    }
+}
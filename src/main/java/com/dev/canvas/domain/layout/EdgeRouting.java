@@ -0,0 +1,6 @@
+package com.dev.canvas.domain.layout;
+
+public enum EdgeRouting {
+    STRAIGHT,
+    ORTHOGONAL
+}
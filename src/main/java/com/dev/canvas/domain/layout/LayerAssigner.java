@@ -0,0 +1,45 @@
+package com.dev.canvas.domain.layout;
+
+final class LayerAssigner {
+
+    private LayerAssigner() {
+    }
+
+    static int[] longestPath(int nodeCount, int[] sources, int[] targets) {
+        int[] start = new int[nodeCount + 1];
+        int[] inDegree = new int[nodeCount];
+        for (int edge = 0; edge < sources.length; edge++) {
+            start[sources[edge] + 1]++;
+            inDegree[targets[edge]]++;
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] successors = new int[sources.length];
+        int[] fill = start.clone();
+        for (int edge = 0; edge < sources.length; edge++) {
+            successors[fill[sources[edge]]++] = targets[edge];
+        }
+
+        int[] layer = new int[nodeCount];
+        int[] queue = new int[nodeCount];
+        int head = 0;
+        int tail = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            if (inDegree[node] == 0) {
+                queue[tail++] = node;
+            }
+        }
+        while (head < tail) {
+            int node = queue[head++];
+            for (int i = start[node]; i < start[node + 1]; i++) {
+                int successor = successors[i];
+                layer[successor] = Math.max(layer[successor], layer[node] + 1);
+                if (--inDegree[successor] == 0) {
+                    queue[tail++] = successor;
+                }
+            }
+        }
+        return layer;
+    }
+}
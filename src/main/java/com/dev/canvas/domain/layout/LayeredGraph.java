@@ -0,0 +1,171 @@
+package com.dev.canvas.domain.layout;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class LayeredGraph {
+
+    final int realCount;
+    final int size;
+    final double[] breadth;
+    final double[] depth;
+    final int[] layer;
+    final int[][] paths;
+    final int[] predStart;
+    final int[] preds;
+    final int[] succStart;
+    final int[] succs;
+    final int[][] layers;
+    final int[] position;
+    final double[] order;
+    final double[] rank;
+
+    private LayeredGraph(int realCount, int size, int[] layer, int[][] paths, int[] unitFrom, int[] unitTo) {
+        this.realCount = realCount;
+        this.size = size;
+        this.breadth = new double[size];
+        this.depth = new double[size];
+        this.layer = layer;
+        this.paths = paths;
+        this.position = new int[size];
+        this.order = new double[size];
+        this.rank = new double[size];
+
+        this.predStart = new int[size + 1];
+        this.succStart = new int[size + 1];
+        this.preds = new int[unitFrom.length];
+        this.succs = new int[unitFrom.length];
+        for (int edge = 0; edge < unitFrom.length; edge++) {
+            succStart[unitFrom[edge] + 1]++;
+            predStart[unitTo[edge] + 1]++;
+        }
+        for (int i = 0; i < size; i++) {
+            succStart[i + 1] += succStart[i];
+            predStart[i + 1] += predStart[i];
+        }
+        int[] succFill = succStart.clone();
+        int[] predFill = predStart.clone();
+        for (int edge = 0; edge < unitFrom.length; edge++) {
+            succs[succFill[unitFrom[edge]]++] = unitTo[edge];
+            preds[predFill[unitTo[edge]]++] = unitFrom[edge];
+        }
+
+        int layerCount = 0;
+        for (int node = 0; node < size; node++) {
+            layerCount = Math.max(layerCount, layer[node] + 1);
+        }
+        int[] layerSizes = new int[layerCount];
+        for (int node = 0; node < size; node++) {
+            layerSizes[layer[node]]++;
+        }
+        this.layers = new int[layerCount][];
+        for (int i = 0; i < layerCount; i++) {
+            layers[i] = new int[layerSizes[i]];
+            layerSizes[i] = 0;
+        }
+        for (int node = 0; node < size; node++) {
+            int index = layerSizes[layer[node]]++;
+            layers[layer[node]][index] = node;
+            position[node] = index;
+        }
+    }
+
+    static LayeredGraph build(Diagram diagram, LayoutDirection direction) {
+        List<DiagramNode> nodes = diagram.getNodes();
+        List<DiagramEdge> edges = diagram.getEdges();
+        int nodeCount = nodes.size();
+
+        Map<String, Integer> indexes = new HashMap<>(nodeCount * 2);
+        for (int i = 0; i < nodeCount; i++) {
+            indexes.put(nodes.get(i).id(), i);
+        }
+
+        int[] from = new int[edges.size()];
+        int[] to = new int[edges.size()];
+        int[] edgeIndexes = new int[edges.size()];
+        int edgeCount = 0;
+        for (int i = 0; i < edges.size(); i++) {
+            int source = indexes.get(edges.get(i).from());
+            int target = indexes.get(edges.get(i).to());
+            if (source != target) {
+                from[edgeCount] = source;
+                to[edgeCount] = target;
+                edgeIndexes[edgeCount] = i;
+                edgeCount++;
+            }
+        }
+        from = Arrays.copyOf(from, edgeCount);
+        to = Arrays.copyOf(to, edgeCount);
+
+        boolean[] reversed = CycleBreaker.reversedEdges(nodeCount, from, to);
+        int[] sources = new int[edgeCount];
+        int[] targets = new int[edgeCount];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            sources[edge] = reversed[edge] ? to[edge] : from[edge];
+            targets[edge] = reversed[edge] ? from[edge] : to[edge];
+        }
+        int[] realLayers = LayerAssigner.longestPath(nodeCount, sources, targets);
+
+        int size = nodeCount;
+        int unitCount = 0;
+        for (int edge = 0; edge < edgeCount; edge++) {
+            int span = realLayers[targets[edge]] - realLayers[sources[edge]];
+            size += span - 1;
+            unitCount += span;
+        }
+
+        int[] layer = Arrays.copyOf(realLayers, size);
+        int[] unitFrom = new int[unitCount];
+        int[] unitTo = new int[unitCount];
+        int[][] paths = new int[edges.size()][];
+        int nextDummy = nodeCount;
+        int unit = 0;
+
+        for (int edge = 0; edge < edgeCount; edge++) {
+            int span = realLayers[targets[edge]] - realLayers[sources[edge]];
+            int[] path = new int[span + 1];
+            path[0] = sources[edge];
+            path[span] = targets[edge];
+            for (int step = 1; step < span; step++) {
+                path[step] = nextDummy;
+                layer[nextDummy] = realLayers[sources[edge]] + step;
+                nextDummy++;
+            }
+            for (int step = 0; step < span; step++) {
+                unitFrom[unit] = path[step];
+                unitTo[unit] = path[step + 1];
+                unit++;
+            }
+            if (reversed[edge]) {
+                for (int left = 0, right = span; left < right; left++, right--) {
+                    int swap = path[left];
+                    path[left] = path[right];
+                    path[right] = swap;
+                }
+            }
+            paths[edgeIndexes[edge]] = path;
+        }
+
+        LayeredGraph graph = new LayeredGraph(nodeCount, size, layer, paths, unitFrom, unitTo);
+        for (int i = 0; i < nodeCount; i++) {
+            DiagramNode node = nodes.get(i);
+            boolean horizontal = direction == LayoutDirection.LEFT_TO_RIGHT;
+            graph.depth[i] = horizontal ? node.width() : node.height();
+            graph.breadth[i] = horizontal ? node.height() : node.width();
+        }
+        return graph;
+    }
+
+    boolean isDummy(int node) {
+        return node >= realCount;
+    }
+
+    void reorder(int layerIndex, int[] nodes) {
+        layers[layerIndex] = nodes;
+        for (int i = 0; i < nodes.length; i++) {
+            position[nodes[i]] = i;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.dev.canvas.domain.layout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class LayeredLayout {
+
+    public DiagramLayout layout(Diagram diagram, LayoutOptions options) {
+        LayeredGraph graph = arrange(diagram, options);
+        center(graph);
+        return toLayout(graph, diagram, options);
+    }
+
+    public DiagramLayout relayout(Diagram diagram, LayoutOptions options, DiagramLayout previous) {
+        LayeredGraph graph = arrange(diagram, options);
+        List<DiagramNode> nodes = diagram.getNodes();
+
+        boolean[] pinned = new boolean[graph.realCount];
+        double[] pinnedRank = new double[graph.realCount];
+        double[] pinnedOrder = new double[graph.realCount];
+        double rankShift = 0;
+        double orderShift = 0;
+        int pinnedCount = 0;
+
+        for (int node = 0; node < graph.realCount; node++) {
+            DiagramNode diagramNode = nodes.get(node);
+            NodePlacement placement = previous.findPlacement(diagramNode.id()).orElse(null);
+            if (placement != null && placement.hasSameSize(diagramNode)) {
+                boolean horizontal = options.getDirection() == LayoutDirection.LEFT_TO_RIGHT;
+                pinned[node] = true;
+                pinnedRank[node] = horizontal ? placement.centerX() : placement.centerY();
+                pinnedOrder[node] = horizontal ? placement.centerY() : placement.centerX();
+                rankShift += pinnedRank[node] - graph.rank[node];
+                orderShift += pinnedOrder[node] - graph.order[node];
+                pinnedCount++;
+            }
+        }
+
+        if (pinnedCount == 0) {
+            center(graph);
+        } else {
+            shift(graph, rankShift / pinnedCount, orderShift / pinnedCount);
+            for (int node = 0; node < graph.realCount; node++) {
+                if (pinned[node]) {
+                    graph.rank[node] = pinnedRank[node];
+                    graph.order[node] = pinnedOrder[node];
+                }
+            }
+            separateFromPinned(graph, pinned, options);
+        }
+        return toLayout(graph, diagram, options);
+    }
+
+    private LayeredGraph arrange(Diagram diagram, LayoutOptions options) {
+        LayeredGraph graph = LayeredGraph.build(diagram, options.getDirection());
+        CrossingReducer.reduce(graph, options.getCrossingSweeps());
+        CoordinateAssigner.assign(graph, options);
+        return graph;
+    }
+
+    private void center(LayeredGraph graph) {
+        if (graph.realCount == 0) {
+            return;
+        }
+        double minRank = Double.POSITIVE_INFINITY;
+        double maxRank = Double.NEGATIVE_INFINITY;
+        double minOrder = Double.POSITIVE_INFINITY;
+        double maxOrder = Double.NEGATIVE_INFINITY;
+        for (int node = 0; node < graph.realCount; node++) {
+            minRank = Math.min(minRank, graph.rank[node] - graph.depth[node] / 2);
+            maxRank = Math.max(maxRank, graph.rank[node] + graph.depth[node] / 2);
+            minOrder = Math.min(minOrder, graph.order[node] - graph.breadth[node] / 2);
+            maxOrder = Math.max(maxOrder, graph.order[node] + graph.breadth[node] / 2);
+        }
+        shift(graph, -(minRank + maxRank) / 2, -(minOrder + maxOrder) / 2);
+    }
+
+    private void shift(LayeredGraph graph, double rankShift, double orderShift) {
+        for (int node = 0; node < graph.size; node++) {
+            graph.rank[node] += rankShift;
+            graph.order[node] += orderShift;
+        }
+    }
+
+    private void separateFromPinned(LayeredGraph graph, boolean[] pinned, LayoutOptions options) {
+        double gap = options.getNodeGap();
+        for (int[] layer : graph.layers) {
+            TreeMap<Double, Double> occupied = new TreeMap<>();
+            List<Integer> free = new ArrayList<>();
+            for (int node : layer) {
+                if (graph.isDummy(node)) {
+                    continue;
+                }
+                if (pinned[node]) {
+                    occupy(occupied, graph.order[node] - graph.breadth[node] / 2, graph.order[node] + graph.breadth[node] / 2);
+                } else {
+                    free.add(node);
+                }
+            }
+
+            for (int node : free) {
+                double half = graph.breadth[node] / 2 + gap;
+                double placed = nearestFree(occupied, graph.order[node], half);
+                graph.order[node] = placed;
+                occupy(occupied, placed - graph.breadth[node] / 2, placed + graph.breadth[node] / 2);
+            }
+        }
+    }
+
+    private static double nearestFree(TreeMap<Double, Double> occupied, double desired, double half) {
+        double right = desired;
+        for (Map.Entry<Double, Double> hit = overlap(occupied, right, half); hit != null; hit = overlap(occupied, right, half)) {
+            right = hit.getValue() + half;
+        }
+        double left = desired;
+        for (Map.Entry<Double, Double> hit = overlap(occupied, left, half); hit != null; hit = overlap(occupied, left, half)) {
+            left = hit.getKey() - half;
+        }
+        return right - desired <= desired - left ? right : left;
+    }
+
+    private static Map.Entry<Double, Double> overlap(TreeMap<Double, Double> occupied, double center, double half) {
+        Map.Entry<Double, Double> before = occupied.lowerEntry(center + half);
+        return before != null && before.getValue() > center - half ? before : null;
+    }
+
+    private static void occupy(TreeMap<Double, Double> occupied, double start, double end) {
+        Map.Entry<Double, Double> before = occupied.floorEntry(start);
+        if (before != null && before.getValue() >= start) {
+            start = before.getKey();
+            end = Math.max(end, before.getValue());
+        }
+        for (Map.Entry<Double, Double> after = occupied.ceilingEntry(start);
+             after != null && after.getKey() <= end;
+             after = occupied.ceilingEntry(start)) {
+            end = Math.max(end, after.getValue());
+            occupied.remove(after.getKey());
+        }
+        occupied.put(start, end);
+    }
+
+    private DiagramLayout toLayout(LayeredGraph graph, Diagram diagram, LayoutOptions options) {
+        List<NodePlacement> placements = new ArrayList<>(graph.realCount);
+        boolean horizontal = options.getDirection() == LayoutDirection.LEFT_TO_RIGHT;
+        for (int node = 0; node < graph.realCount; node++) {
+            DiagramNode diagramNode = diagram.getNodes().get(node);
+            placements.add(new NodePlacement(
+                diagramNode.id(),
+                diagramNode.label(),
+                horizontal ? graph.rank[node] : graph.order[node],
+                horizontal ? graph.order[node] : graph.rank[node],
+                diagramNode.width(),
+                diagramNode.height()
+            ));
+        }
+        return new DiagramLayout(placements, EdgeRouter.route(graph, diagram, options));
+    }
+}
@@ -0,0 +1,6 @@
+package com.dev.canvas.domain.layout;
+
+public enum LayoutDirection {
+    LEFT_TO_RIGHT,
+    TOP_TO_BOTTOM
+}
@@ -0,0 +1,113 @@
+package com.dev.canvas.domain.layout;
+
+import java.util.Objects;
+
+public final class LayoutOptions {
+
+    private final LayoutDirection direction;
+    private final EdgeRouting routing;
+    private final int layerGap;
+    private final int nodeGap;
+    private final int edgeGap;
+    private final int crossingSweeps;
+    private final int alignmentSweeps;
+
+    private LayoutOptions(Builder builder) {
+        this.direction = builder.direction;
+        this.routing = builder.routing;
+        this.layerGap = builder.layerGap;
+        this.nodeGap = builder.nodeGap;
+        this.edgeGap = builder.edgeGap;
+        this.crossingSweeps = builder.crossingSweeps;
+        this.alignmentSweeps = builder.alignmentSweeps;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static LayoutOptions defaults() {
+        return builder().build();
+    }
+
+    public LayoutDirection getDirection() {
+        return direction;
+    }
+
+    public EdgeRouting getRouting() {
+        return routing;
+    }
+
+    public int getLayerGap() {
+        return layerGap;
+    }
+
+    public int getNodeGap() {
+        return nodeGap;
+    }
+
+    public int getEdgeGap() {
+        return edgeGap;
+    }
+
+    public int getCrossingSweeps() {
+        return crossingSweeps;
+    }
+
+    public int getAlignmentSweeps() {
+        return alignmentSweeps;
+    }
+
+    public static final class Builder {
+
+        private LayoutDirection direction = LayoutDirection.LEFT_TO_RIGHT;
+        private EdgeRouting routing = EdgeRouting.STRAIGHT;
+        private int layerGap = 120;
+        private int nodeGap = 40;
+        private int edgeGap = 12;
+        private int crossingSweeps = 8;
+        private int alignmentSweeps = 4;
+
+        public Builder direction(LayoutDirection value) {
+            this.direction = Objects.requireNonNull(value);
+            return this;
+        }
+
+        public Builder routing(EdgeRouting value) {
+            this.routing = Objects.requireNonNull(value);
+            return this;
+        }
+
+        public Builder layerGap(int value) {
+            this.layerGap = value;
+            return this;
+        }
+
+        public Builder nodeGap(int value) {
+            this.nodeGap = value;
+            return this;
+        }
+
+        public Builder edgeGap(int value) {
+            this.edgeGap = value;
+            return this;
+        }
+
+        public Builder crossingSweeps(int value) {
+            this.crossingSweeps = value;
+            return this;
+        }
+
+        public Builder alignmentSweeps(int value) {
+            this.alignmentSweeps = value;
+            return this;
+        }
+
+        public LayoutOptions build() {
+            if (layerGap < 0 || nodeGap < 0 || edgeGap < 0 || crossingSweeps < 0 || alignmentSweeps < 0) {
+                throw new IllegalArgumentException("Layout gaps and sweep counts must not be negative");
+            }
+            return new LayoutOptions(this);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.dev.canvas.domain.layout;
+
+public record LayoutPoint(double x, double y) {
+}
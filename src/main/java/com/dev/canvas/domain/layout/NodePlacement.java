@@ -0,0 +1,8 @@
+package com.dev.canvas.domain.layout;
+
+public record NodePlacement(String id, String label, double centerX, double centerY, int width, int height) {
+
+    boolean hasSameSize(DiagramNode node) {
+        return width == node.width() && height == node.height();
+    }
+}
@@ -0,0 +1,123 @@
+package com.dev.canvas.domain.persistent;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(new Object[0], 0, 0);
+
+    private final Object[] root;
+    private final int shift;
+    private final int size;
+
+    private PersistentVector(Object[] root, int shift, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> copyOf(Collection<? extends E> values) {
+        if (values instanceof PersistentVector<?> vector) {
+            return (PersistentVector<E>) vector;
+        }
+        Object[] level = values.toArray();
+        for (Object value : level) {
+            Objects.requireNonNull(value);
+        }
+        if (level.length == 0) {
+            return empty();
+        }
+        int size = level.length;
+        int shift = 0;
+        level = group(level);
+        while (level.length > 1) {
+            level = group(level);
+            shift += BITS;
+        }
+        return new PersistentVector<>((Object[]) level[0], shift, size);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) leafFor(Objects.checkIndex(index, size))[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public PersistentVector<E> with(int index, E value) {
+        Objects.checkIndex(index, size);
+        Objects.requireNonNull(value);
+        return new PersistentVector<>(replace(root, shift, index, value), shift, size);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+
+            private int index;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((index & MASK) == 0) {
+                    leaf = leafFor(index);
+                }
+                return (E) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    private Object[] leafFor(int index) {
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private static Object[] replace(Object[] node, int level, int index, Object value) {
+        Object[] copy = node.clone();
+        int slot = (index >>> level) & MASK;
+        copy[slot] = level == 0 ? value : replace((Object[]) node[slot], level - BITS, index, value);
+        return copy;
+    }
+
+    private static Object[] group(Object[] children) {
+        Object[] parents = new Object[(children.length + MASK) >>> BITS];
+        for (int i = 0; i < parents.length; i++) {
+            int from = i << BITS;
+            int to = Math.min(from + WIDTH, children.length);
+            Object[] node = new Object[to - from];
+            System.arraycopy(children, from, node, 0, node.length);
+            parents[i] = node;
+        }
+        return parents;
+    }
+}
@@ -0,0 +1,81 @@
+package com.dev.canvas.domain.physics;
+
+import com.dev.canvas.domain.animation.EasingFunction;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import java.util.Arrays;
+
+final class AngleSamples {
+
+    private static final double TOLERANCE_DEGREES = 0.25;
+
+    private int[] times = new int[16];
+    private double[] degrees = new double[16];
+    private int size;
+
+    void add(int timeMillis, double radians) {
+        if (size > 0 && times[size - 1] >= timeMillis) {
+            size--;
+        }
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size * 2);
+            degrees = Arrays.copyOf(degrees, size * 2);
+        }
+        times[size] = timeMillis;
+        degrees[size] = Math.toDegrees(radians);
+        size++;
+    }
+
+    PropertyTween toTween() {
+        boolean[] keep = simplify();
+        PropertyTween.Builder tween = PropertyTween.builder().propertyPath(PropertyPath.ROTATION_X);
+        for (int i = 0; i < size; i++) {
+            if (keep[i]) {
+                tween.addKeyframe(Keyframe.builder()
+                    .timeMillis(times[i])
+                    .value(degrees[i])
+                    .easing(EasingFunction.LINEAR)
+                    .build());
+            }
+        }
+        return tween.build();
+    }
+
+    private boolean[] simplify() {
+        boolean[] keep = new boolean[size];
+        keep[0] = true;
+        keep[size - 1] = true;
+
+        int[] stack = new int[2 * size];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = size - 1;
+
+        while (top > 0) {
+            int last = stack[--top];
+            int first = stack[--top];
+            int farthest = -1;
+            double farthestError = TOLERANCE_DEGREES;
+
+            for (int i = first + 1; i < last; i++) {
+                double progress = (double) (times[i] - times[first]) / (times[last] - times[first]);
+                double expected = degrees[first] + (degrees[last] - degrees[first]) * progress;
+                double error = Math.abs(degrees[i] - expected);
+                if (error > farthestError) {
+                    farthest = i;
+                    farthestError = error;
+                }
+            }
+
+            if (farthest >= 0) {
+                keep[farthest] = true;
+                stack[top++] = first;
+                stack[top++] = farthest;
+                stack[top++] = farthest;
+                stack[top++] = last;
+            }
+        }
+        return keep;
+    }
+}
@@ -0,0 +1,139 @@
+package com.dev.canvas.domain.physics;
+
+import com.dev.canvas.domain.animation.PropertyTween;
+
+final class ChainSegment {
+
+    private static final int HALO = 16;
+    private static final int SAMPLE_STEPS = 10 * DominoDynamics.STEPS_PER_MILLISECOND;
+    private static final int LEAN_SAMPLE_STEPS = 3 * SAMPLE_STEPS;
+    private static final double REST_EPSILON = 3e-5;
+
+    private static final byte WAITING = 0;
+    private static final byte FALLING = 1;
+    private static final byte LEANING = 2;
+    private static final byte RESTING = 3;
+
+    private final DominoChain chain;
+    private final DominoDynamics dynamics;
+    private final ChainWave wave;
+    private final int from;
+    private final int to;
+    private final int end;
+
+    private final double[] theta;
+    private final double[] omega;
+    private final byte[] state;
+    private final AngleSamples[] samples;
+
+    ChainSegment(DominoChain chain, DominoDynamics dynamics, ChainWave wave, int from, int to) {
+        this.chain = chain;
+        this.dynamics = dynamics;
+        this.wave = wave;
+        this.from = from;
+        this.to = to;
+        this.end = Math.min(chain.getCount(), to + HALO);
+        this.theta = new double[end - from];
+        this.omega = new double[end - from];
+        this.state = new byte[end - from];
+        this.samples = new AngleSamples[to - from];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = new AngleSamples();
+        }
+    }
+
+    void simulate(PropertyTween[] tweens) {
+        if (wave.startStep(from) != ChainWave.NEVER) {
+            run();
+        }
+        for (int i = from; i < to; i++) {
+            if (wave.startStep(i) == ChainWave.NEVER) {
+                samples[i - from].add(chain.getStartMillis(), 0);
+            }
+            tweens[i] = samples[i - from].toTween();
+        }
+    }
+
+    private void run() {
+        long step = wave.startStep(from);
+        int first = 0;
+        int falling = 0;
+        int next = 0;
+        int length = end - from;
+
+        while (first < to - from) {
+            for (int i = falling; i < next; i++) {
+                if (state[i] == FALLING) {
+                    integrate(i, step);
+                }
+            }
+
+            while (next < length && wave.startStep(from + next) == step) {
+                if (next > 0 && state[next - 1] == FALLING) {
+                    theta[next - 1] = dynamics.contactAngle();
+                    state[next - 1] = LEANING;
+                    record(next - 1, step);
+                }
+                state[next] = FALLING;
+                omega[next] = wave.startVelocity(from + next);
+                record(next, step);
+                next++;
+            }
+
+            if (step % SAMPLE_STEPS == 0) {
+                boolean leanSample = step % LEAN_SAMPLE_STEPS == 0;
+                for (int i = next - 1; i >= first; i--) {
+                    if (state[i] == FALLING) {
+                        record(i, step);
+                    } else if (state[i] == LEANING && leanSample) {
+                        lean(i, step);
+                    }
+                }
+            }
+
+            while (falling < next && state[falling] != FALLING) {
+                falling++;
+            }
+            while (first < next && state[first] == RESTING) {
+                first++;
+            }
+            if (first == next && (next == length || wave.startStep(from + next) == ChainWave.NEVER)) {
+                return;
+            }
+            step++;
+        }
+    }
+
+    private void integrate(int i, long step) {
+        omega[i] = dynamics.accelerate(theta[i], omega[i]);
+        theta[i] += omega[i] * DominoDynamics.STEP_SECONDS;
+        if (theta[i] <= 0) {
+            rest(i, 0, step);
+        } else if (theta[i] >= DominoDynamics.FLAT_ANGLE) {
+            rest(i, DominoDynamics.FLAT_ANGLE, step);
+        }
+    }
+
+    private void lean(int i, long step) {
+        double leaning = dynamics.leanAngle(theta[i + 1]);
+        if (state[i + 1] != FALLING && Math.abs(leaning - theta[i]) < REST_EPSILON) {
+            rest(i, leaning, step);
+        } else {
+            theta[i] = leaning;
+            record(i, step);
+        }
+    }
+
+    private void rest(int i, double angle, long step) {
+        theta[i] = angle;
+        omega[i] = 0;
+        state[i] = RESTING;
+        record(i, step);
+    }
+
+    private void record(int i, long step) {
+        if (i < to - from) {
+            samples[i].add(chain.getStartMillis() + DominoDynamics.toMillis(step), theta[i]);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.dev.canvas.domain.physics;
+
+import java.util.Arrays;
+
+final class ChainWave {
+
+    static final long NEVER = -1;
+
+    private static final long MAX_FALL_STEPS = 20_000L * DominoDynamics.STEPS_PER_MILLISECOND;
+
+    private final long[] startSteps;
+    private final double[] startVelocities;
+
+    private ChainWave(int count) {
+        this.startSteps = new long[count];
+        this.startVelocities = new double[count];
+        Arrays.fill(startSteps, NEVER);
+    }
+
+    static ChainWave propagate(DominoChain chain, DominoDynamics dynamics) {
+        ChainWave wave = new ChainWave(chain.getCount());
+        if (chain.getCount() == 0) {
+            return wave;
+        }
+        wave.startSteps[0] = 0;
+        wave.startVelocities[0] = chain.getPushVelocity();
+
+        for (int i = 0; i + 1 < chain.getCount(); i++) {
+            double theta = 0;
+            double omega = wave.startVelocities[i];
+            long step = wave.startSteps[i];
+            long lastStep = step + MAX_FALL_STEPS;
+
+            while (wave.startSteps[i + 1] == NEVER && step < lastStep) {
+                step++;
+                omega = dynamics.accelerate(theta, omega);
+                theta += omega * DominoDynamics.STEP_SECONDS;
+                if (theta <= 0 || theta >= DominoDynamics.FLAT_ANGLE) {
+                    return wave;
+                }
+                if (dynamics.touchesStanding(theta)) {
+                    wave.startSteps[i + 1] = step;
+                    wave.startVelocities[i + 1] = DominoDynamics.pushedVelocity(omega);
+                }
+            }
+            if (wave.startSteps[i + 1] == NEVER) {
+                return wave;
+            }
+        }
+        return wave;
+    }
+
+    long startStep(int index) {
+        return startSteps[index];
+    }
+
+    double startVelocity(int index) {
+        return startVelocities[index];
+    }
+}
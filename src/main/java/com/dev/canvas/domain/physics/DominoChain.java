@@ -0,0 +1,116 @@
+package com.dev.canvas.domain.physics;
+
+public final class DominoChain {
+
+    private final int count;
+    private final int spacing;
+    private final int height;
+    private final int depth;
+    private final double metersPerUnit;
+    private final double pushVelocity;
+    private final int startMillis;
+
+    private DominoChain(Builder builder) {
+        this.count = builder.count;
+        this.spacing = builder.spacing;
+        this.height = builder.height;
+        this.depth = builder.depth;
+        this.metersPerUnit = builder.metersPerUnit;
+        this.pushVelocity = builder.pushVelocity;
+        this.startMillis = builder.startMillis;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getSpacing() {
+        return spacing;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public double getMetersPerUnit() {
+        return metersPerUnit;
+    }
+
+    public double getPushVelocity() {
+        return pushVelocity;
+    }
+
+    public int getStartMillis() {
+        return startMillis;
+    }
+
+    public static final class Builder {
+
+        private int count;
+        private int spacing;
+        private int height;
+        private int depth;
+        private double metersPerUnit = 0.01;
+        private double pushVelocity = 1.5;
+        private int startMillis;
+
+        public Builder count(int value) {
+            this.count = value;
+            return this;
+        }
+
+        public Builder spacing(int value) {
+            this.spacing = value;
+            return this;
+        }
+
+        public Builder height(int value) {
+            this.height = value;
+            return this;
+        }
+
+        public Builder depth(int value) {
+            this.depth = value;
+            return this;
+        }
+
+        public Builder metersPerUnit(double value) {
+            this.metersPerUnit = value;
+            return this;
+        }
+
+        public Builder pushVelocity(double value) {
+            this.pushVelocity = value;
+            return this;
+        }
+
+        public Builder startMillis(int value) {
+            this.startMillis = value;
+            return this;
+        }
+
+        public DominoChain build() {
+            if (count < 0) {
+                throw new IllegalArgumentException("Domino count must not be negative: " + count);
+            }
+            if (height <= 0 || depth <= 0) {
+                throw new IllegalArgumentException("Domino height and depth must be positive");
+            }
+            if (spacing <= depth) {
+                throw new IllegalArgumentException("Spacing must exceed domino depth: " + spacing + " <= " + depth);
+            }
+            if (metersPerUnit <= 0 || pushVelocity <= 0) {
+                throw new IllegalArgumentException("Scale and push velocity must be positive");
+            }
+            return new DominoChain(this);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.dev.canvas.domain.physics;
+
+import com.dev.canvas.domain.animation.PropertyTween;
+import java.util.List;
+
+public final class DominoChainSimulation {
+
+    private final List<PropertyTween> rotationTweens;
+    private final int toppledCount;
+    private final int endMillis;
+
+    DominoChainSimulation(List<PropertyTween> rotationTweens) {
+        this.rotationTweens = List.copyOf(rotationTweens);
+        this.toppledCount = (int) rotationTweens.stream()
+            .filter(tween -> tween.getKeyframes().getLast().getValue() > 0)
+            .count();
+        this.endMillis = rotationTweens.stream()
+            .mapToInt(PropertyTween::getEndMillis)
+            .max()
+            .orElse(0);
+    }
+
+    public List<PropertyTween> getRotationTweens() {
+        return rotationTweens;
+    }
+
+    public PropertyTween getRotationTween(int index) {
+        return rotationTweens.get(index);
+    }
+
+    public int getToppledCount() {
+        return toppledCount;
+    }
+
+    public int getEndMillis() {
+        return endMillis;
+    }
+}
@@ -0,0 +1,72 @@
+package com.dev.canvas.domain.physics;
+
+import com.dev.canvas.domain.animation.PropertyTween;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public final class DominoChainSimulator {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    private final ForkJoinPool pool;
+
+    public DominoChainSimulator(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    public DominoChainSimulation simulate(DominoChain chain) {
+        DominoDynamics dynamics = new DominoDynamics(chain);
+        ChainWave wave = ChainWave.propagate(chain, dynamics);
+        PropertyTween[] tweens = new PropertyTween[chain.getCount()];
+
+        int segmentCount = (chain.getCount() + SEGMENT_SIZE - 1) / SEGMENT_SIZE;
+        if (segmentCount > 0) {
+            pool.invoke(new SegmentTask(chain, dynamics, wave, tweens, 0, segmentCount));
+        }
+
+        return new DominoChainSimulation(Arrays.asList(tweens));
+    }
+
+    private static final class SegmentTask extends RecursiveAction {
+
+        private final DominoChain chain;
+        private final DominoDynamics dynamics;
+        private final ChainWave wave;
+        private final PropertyTween[] tweens;
+        private final int fromSegment;
+        private final int toSegment;
+
+        private SegmentTask(
+            DominoChain chain,
+            DominoDynamics dynamics,
+            ChainWave wave,
+            PropertyTween[] tweens,
+            int fromSegment,
+            int toSegment
+        ) {
+            this.chain = chain;
+            this.dynamics = dynamics;
+            this.wave = wave;
+            this.tweens = tweens;
+            this.fromSegment = fromSegment;
+            this.toSegment = toSegment;
+        }
+
+        @Override
+        protected void compute() {
+            if (toSegment - fromSegment == 1) {
+                int from = fromSegment * SEGMENT_SIZE;
+                int to = Math.min(chain.getCount(), from + SEGMENT_SIZE);
+                new ChainSegment(chain, dynamics, wave, from, to).simulate(tweens);
+                return;
+            }
+            int middle = (fromSegment + toSegment) >>> 1;
+            invokeAll(
+                new SegmentTask(chain, dynamics, wave, tweens, fromSegment, middle),
+                new SegmentTask(chain, dynamics, wave, tweens, middle, toSegment)
+            );
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.dev.canvas.domain.physics;
+
+final class DominoDynamics {
+
+    static final int STEPS_PER_MILLISECOND = 1;
+    static final double STEP_SECONDS = 0.001 / STEPS_PER_MILLISECOND;
+    static final double FLAT_ANGLE = Math.PI / 2;
+
+    private static final double GRAVITY = 9.81;
+    private static final double RESTITUTION = 0.4;
+
+    private final double height;
+    private final double depth;
+    private final double spacing;
+    private final double angularGravity;
+    private final double contactAngle;
+
+    DominoDynamics(DominoChain chain) {
+        this.height = chain.getHeight() * chain.getMetersPerUnit();
+        this.depth = chain.getDepth() * chain.getMetersPerUnit();
+        this.spacing = chain.getSpacing() * chain.getMetersPerUnit();
+        this.angularGravity = 3 * GRAVITY / (2 * (height * height + depth * depth));
+        this.contactAngle = leanAngle(0);
+    }
+
+    double accelerate(double theta, double omega) {
+        return omega + angularGravity * (height * Math.sin(theta) - depth * Math.cos(theta)) * STEP_SECONDS;
+    }
+
+    double contactAngle() {
+        return contactAngle;
+    }
+
+    boolean touchesStanding(double theta) {
+        return theta > contactAngle;
+    }
+
+    double leanAngle(double nextTheta) {
+        double ratio = (spacing * Math.cos(nextTheta) - depth) / height;
+        return nextTheta + Math.asin(Math.max(-1, Math.min(1, ratio)));
+    }
+
+    static double pushedVelocity(double omega) {
+        return omega * (1 + RESTITUTION) / 2;
+    }
+
+    static int toMillis(long step) {
+        return (int) ((step + STEPS_PER_MILLISECOND - 1) / STEPS_PER_MILLISECOND);
+    }
+}
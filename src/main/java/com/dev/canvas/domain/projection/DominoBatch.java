@@ -0,0 +1,98 @@
+package com.dev.canvas.domain.projection;
+
+import com.dev.canvas.domain.animation.DominoProperties;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.SceneElement;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class DominoBatch {
+
+    private final List<String> elementIds;
+    private final float[] centerX;
+    private final float[] centerY;
+    private final float[] centerZ;
+    private final float[] halfWidth;
+    private final float[] halfHeight;
+    private final float[] halfDepth;
+    private final float[] baseRotation;
+    private final PropertyTween[] rotationTweens;
+
+    private DominoBatch(List<SceneElement> dominos) {
+        int count = dominos.size();
+        this.elementIds = new ArrayList<>(count);
+        this.centerX = new float[count];
+        this.centerY = new float[count];
+        this.centerZ = new float[count];
+        this.halfWidth = new float[count];
+        this.halfHeight = new float[count];
+        this.halfDepth = new float[count];
+        this.baseRotation = new float[count];
+        this.rotationTweens = new PropertyTween[count];
+
+        for (int i = 0; i < count; i++) {
+            SceneElement element = dominos.get(i);
+            DominoProperties domino = (DominoProperties) element.getProperties();
+            elementIds.add(element.getElementId());
+            centerX[i] = domino.x();
+            centerY[i] = domino.y();
+            centerZ[i] = domino.z();
+            halfWidth[i] = domino.width() / 2f;
+            halfHeight[i] = domino.height() / 2f;
+            halfDepth[i] = domino.depth() / 2f;
+            baseRotation[i] = (float) domino.rotationX();
+            rotationTweens[i] = element.getTweens().stream()
+                .filter(tween -> tween.getPropertyPath() == PropertyPath.ROTATION_X)
+                .filter(tween -> !tween.getKeyframes().isEmpty())
+                .findFirst()
+                .orElse(null);
+        }
+    }
+
+    public static DominoBatch of(List<SceneElement> elements) {
+        return new DominoBatch(elements.stream()
+            .filter(element -> element.getProperties() instanceof DominoProperties)
+            .toList());
+    }
+
+    public int size() {
+        return centerX.length;
+    }
+
+    public List<String> getElementIds() {
+        return List.copyOf(elementIds);
+    }
+
+    public void rotationsAt(int timeMillis, float[] radians) {
+        for (int i = 0; i < radians.length; i++) {
+            PropertyTween tween = rotationTweens[i];
+            double degrees = tween == null ? baseRotation[i] : tween.valueAt(timeMillis);
+            radians[i] = (float) Math.toRadians(degrees);
+        }
+    }
+
+    float[] centerX() {
+        return centerX;
+    }
+
+    float[] centerY() {
+        return centerY;
+    }
+
+    float[] centerZ() {
+        return centerZ;
+    }
+
+    float[] halfWidth() {
+        return halfWidth;
+    }
+
+    float[] halfHeight() {
+        return halfHeight;
+    }
+
+    float[] halfDepth() {
+        return halfDepth;
+    }
+}
@@ -0,0 +1,15 @@
+package com.dev.canvas.domain.projection;
+
+public final class DominoCamera {
+
+    public static final float FOCAL_LENGTH = 300f;
+    public static final float PERSPECTIVE_STRENGTH = 1.5f;
+
+    static final int CORNER_COUNT = 8;
+    static final float[] CORNER_X = {-1, 1, 1, -1, -1, 1, 1, -1};
+    static final float[] CORNER_Y = {-1, -1, 1, 1, -1, -1, 1, 1};
+    static final float[] CORNER_Z = {-1, -1, -1, -1, 1, 1, 1, 1};
+
+    private DominoCamera() {
+    }
+}
@@ -0,0 +1,23 @@
+package com.dev.canvas.domain.projection;
+
+public interface DominoProjectionKernel {
+
+    String getName();
+
+    void project(DominoBatch batch, float[] radians, ProjectedFrame frame);
+
+    default ProjectedFrame projectAt(DominoBatch batch, int timeMillis) {
+        float[] radians = new float[batch.size()];
+        batch.rotationsAt(timeMillis, radians);
+        ProjectedFrame frame = new ProjectedFrame(batch.size());
+        project(batch, radians, frame);
+        return frame;
+    }
+
+    static DominoProjectionKernel best() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            return new VectorDominoProjectionKernel();
+        }
+        return new ScalarDominoProjectionKernel();
+    }
+}
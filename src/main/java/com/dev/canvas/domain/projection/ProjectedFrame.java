@@ -0,0 +1,45 @@
+package com.dev.canvas.domain.projection;
+
+import java.nio.FloatBuffer;
+
+public final class ProjectedFrame {
+
+    private final int count;
+    private final float[] xs;
+    private final float[] ys;
+
+    ProjectedFrame(int count) {
+        this.count = count;
+        this.xs = new float[count * DominoCamera.CORNER_COUNT];
+        this.ys = new float[count * DominoCamera.CORNER_COUNT];
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getCornerCount() {
+        return DominoCamera.CORNER_COUNT;
+    }
+
+    public float x(int domino, int corner) {
+        return xs[corner * count + domino];
+    }
+
+    public float y(int domino, int corner) {
+        return ys[corner * count + domino];
+    }
+
+    float[] xs() {
+        return xs;
+    }
+
+    float[] ys() {
+        return ys;
+    }
+
+    public void copyTo(FloatBuffer buffer) {
+        buffer.put(xs);
+        buffer.put(ys);
+    }
+}
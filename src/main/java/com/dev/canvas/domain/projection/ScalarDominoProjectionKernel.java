@@ -0,0 +1,45 @@
+package com.dev.canvas.domain.projection;
+
+import static com.dev.canvas.domain.projection.DominoCamera.CORNER_COUNT;
+import static com.dev.canvas.domain.projection.DominoCamera.CORNER_X;
+import static com.dev.canvas.domain.projection.DominoCamera.CORNER_Y;
+import static com.dev.canvas.domain.projection.DominoCamera.CORNER_Z;
+import static com.dev.canvas.domain.projection.DominoCamera.FOCAL_LENGTH;
+import static com.dev.canvas.domain.projection.DominoCamera.PERSPECTIVE_STRENGTH;
+
+public final class ScalarDominoProjectionKernel implements DominoProjectionKernel {
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    @Override
+    public void project(DominoBatch batch, float[] radians, ProjectedFrame frame) {
+        projectRange(batch, radians, frame, 0, batch.size());
+    }
+
+    static void projectRange(DominoBatch batch, float[] radians, ProjectedFrame frame, int from, int to) {
+        int count = batch.size();
+        float[] xs = frame.xs();
+        float[] ys = frame.ys();
+
+        for (int i = from; i < to; i++) {
+            float cos = (float) Math.cos(radians[i]);
+            float sin = (float) Math.sin(radians[i]);
+
+            for (int corner = 0; corner < CORNER_COUNT; corner++) {
+                float x = CORNER_X[corner] * batch.halfWidth()[i];
+                float y = CORNER_Y[corner] * batch.halfHeight()[i];
+                float z = CORNER_Z[corner] * batch.halfDepth()[i];
+
+                float rotatedY = y * cos - z * sin;
+                float rotatedZ = y * sin + z * cos + batch.centerZ()[i];
+                float scale = FOCAL_LENGTH / (FOCAL_LENGTH + rotatedZ * PERSPECTIVE_STRENGTH);
+
+                xs[corner * count + i] = x * scale + batch.centerX()[i];
+                ys[corner * count + i] = rotatedY * scale + batch.centerY()[i];
+            }
+        }
+    }
+}
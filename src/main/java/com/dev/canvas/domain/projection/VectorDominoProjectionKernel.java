@@ -0,0 +1,60 @@
+package com.dev.canvas.domain.projection;
+
+import static com.dev.canvas.domain.projection.DominoCamera.CORNER_COUNT;
+import static com.dev.canvas.domain.projection.DominoCamera.CORNER_X;
+import static com.dev.canvas.domain.projection.DominoCamera.CORNER_Y;
+import static com.dev.canvas.domain.projection.DominoCamera.CORNER_Z;
+import static com.dev.canvas.domain.projection.DominoCamera.FOCAL_LENGTH;
+import static com.dev.canvas.domain.projection.DominoCamera.PERSPECTIVE_STRENGTH;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+public final class VectorDominoProjectionKernel implements DominoProjectionKernel {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public String getName() {
+        return "vector-" + SPECIES.length();
+    }
+
+    @Override
+    public void project(DominoBatch batch, float[] radians, ProjectedFrame frame) {
+        int count = batch.size();
+        int upperBound = SPECIES.loopBound(count);
+        float[] xs = frame.xs();
+        float[] ys = frame.ys();
+
+        FloatVector focalLength = FloatVector.broadcast(SPECIES, FOCAL_LENGTH);
+
+        int i = 0;
+        for (; i < upperBound; i += SPECIES.length()) {
+            FloatVector angle = FloatVector.fromArray(SPECIES, radians, i);
+            FloatVector cos = angle.lanewise(VectorOperators.COS);
+            FloatVector sin = angle.lanewise(VectorOperators.SIN);
+            FloatVector centerX = FloatVector.fromArray(SPECIES, batch.centerX(), i);
+            FloatVector centerY = FloatVector.fromArray(SPECIES, batch.centerY(), i);
+            FloatVector centerZ = FloatVector.fromArray(SPECIES, batch.centerZ(), i);
+            FloatVector halfWidth = FloatVector.fromArray(SPECIES, batch.halfWidth(), i);
+            FloatVector halfHeight = FloatVector.fromArray(SPECIES, batch.halfHeight(), i);
+            FloatVector halfDepth = FloatVector.fromArray(SPECIES, batch.halfDepth(), i);
+
+            for (int corner = 0; corner < CORNER_COUNT; corner++) {
+                FloatVector x = halfWidth.mul(CORNER_X[corner]);
+                FloatVector y = halfHeight.mul(CORNER_Y[corner]);
+                FloatVector z = halfDepth.mul(CORNER_Z[corner]);
+
+                FloatVector rotatedY = y.mul(cos).sub(z.mul(sin));
+                FloatVector rotatedZ = y.mul(sin).add(z.mul(cos)).add(centerZ);
+                FloatVector scale = focalLength.div(rotatedZ.mul(PERSPECTIVE_STRENGTH).add(FOCAL_LENGTH));
+
+                x.fma(scale, centerX).intoArray(xs, corner * count + i);
+                rotatedY.fma(scale, centerY).intoArray(ys, corner * count + i);
+            }
+        }
+
+        ScalarDominoProjectionKernel.projectRange(batch, radians, frame, i, count);
+    }
+}
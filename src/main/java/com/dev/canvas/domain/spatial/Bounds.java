@@ -0,0 +1,33 @@
+package com.dev.canvas.domain.spatial;
+
+public record Bounds(double minX, double minY, double maxX, double maxY) {
+
+    public static Bounds around(double centerX, double centerY, double halfWidth, double halfHeight) {
+        return new Bounds(centerX - halfWidth, centerY - halfHeight, centerX + halfWidth, centerY + halfHeight);
+    }
+
+    public double width() {
+        return maxX - minX;
+    }
+
+    public double height() {
+        return maxY - minY;
+    }
+
+    public boolean contains(double x, double y) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY;
+    }
+
+    public boolean intersects(Bounds other) {
+        return minX <= other.maxX && maxX >= other.minX && minY <= other.maxY && maxY >= other.minY;
+    }
+
+    public Bounds union(Bounds other) {
+        return new Bounds(
+            Math.min(minX, other.minX),
+            Math.min(minY, other.minY),
+            Math.max(maxX, other.maxX),
+            Math.max(maxY, other.maxY)
+        );
+    }
+}
@@ -0,0 +1,219 @@
+package com.dev.canvas.domain.spatial;
+
+import com.dev.canvas.domain.animation.CircleProperties;
+import com.dev.canvas.domain.animation.DominoProperties;
+import com.dev.canvas.domain.animation.GroupProperties;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.LineProperties;
+import com.dev.canvas.domain.animation.ParticleProperties;
+import com.dev.canvas.domain.animation.PathProperties;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.RectProperties;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.Style;
+import com.dev.canvas.domain.animation.TextProperties;
+import com.dev.canvas.domain.graph.SceneGraph;
+import com.dev.canvas.domain.projection.DominoCamera;
+
+public final class ElementBounds {
+
+    // Per UTF-16 unit, in ems: full-width CJK and emoji glyphs advance one em, and the
+    // margin covers bold faces and italic overhang so a label never outgrows its box.
+    private static final double TEXT_MAX_ADVANCE_RATIO = 1.25;
+    private static final double TEXT_MAX_LINE_HEIGHT_RATIO = 1.5;
+
+    private ElementBounds() {
+    }
+
+    public static Bounds conservative(SceneElement element) {
+        Shape shape = shapeOf(element);
+        double minX = shape.centerX();
+        double maxX = shape.centerX();
+        double minY = shape.centerY();
+        double maxY = shape.centerY();
+        double scaleX = 1;
+        double scaleY = 1;
+        boolean rotates = false;
+
+        for (PropertyTween tween : element.getTweens()) {
+            for (Keyframe keyframe : tween.getKeyframes()) {
+                double value = keyframe.getValue();
+                switch (tween.getPropertyPath()) {
+                    case POSITION_X -> {
+                        minX = Math.min(minX, value);
+                        maxX = Math.max(maxX, value);
+                    }
+                    case POSITION_Y -> {
+                        minY = Math.min(minY, value);
+                        maxY = Math.max(maxY, value);
+                    }
+                    case SCALE_X -> scaleX = Math.max(scaleX, Math.abs(value));
+                    case SCALE_Y -> scaleY = Math.max(scaleY, Math.abs(value));
+                    case ROTATION -> rotates |= value != 0;
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        double halfWidth = shape.halfWidth() * scaleX;
+        double halfHeight = shape.halfHeight() * scaleY;
+        if (rotates) {
+            halfWidth = halfHeight = Math.hypot(halfWidth, halfHeight);
+        }
+        return new Bounds(minX - halfWidth, minY - halfHeight, maxX + halfWidth, maxY + halfHeight);
+    }
+
+    public static Bounds conservative(SceneElement element, SceneGraph.TransformRange parent) {
+        Bounds local = conservative(element);
+        if (parent.equals(SceneGraph.TransformRange.IDENTITY)) {
+            return local;
+        }
+        SceneGraph.Interval localX = new SceneGraph.Interval(local.minX(), local.maxX());
+        SceneGraph.Interval localY = new SceneGraph.Interval(local.minY(), local.maxY());
+        SceneGraph.Interval worldX = parent.x(localX, localY);
+        SceneGraph.Interval worldY = parent.y(localX, localY);
+        return new Bounds(worldX.min(), worldY.min(), worldX.max(), worldY.max());
+    }
+
+    public static Bounds at(SceneElement element, int timeMillis) {
+        Shape shape = shapeOf(element);
+        double centerX = shape.centerX();
+        double centerY = shape.centerY();
+        double scaleX = 1;
+        double scaleY = 1;
+        double rotation = 0;
+
+        for (PropertyTween tween : element.getTweens()) {
+            if (tween.getKeyframes().isEmpty()) {
+                continue;
+            }
+            double value = tween.valueAt(timeMillis);
+            switch (tween.getPropertyPath()) {
+                case POSITION_X -> centerX = value;
+                case POSITION_Y -> centerY = value;
+                case SCALE_X -> scaleX = Math.abs(value);
+                case SCALE_Y -> scaleY = Math.abs(value);
+                case ROTATION -> rotation = Math.toRadians(value);
+                default -> {
+                }
+            }
+        }
+
+        double halfWidth = shape.halfWidth() * scaleX;
+        double halfHeight = shape.halfHeight() * scaleY;
+        if (rotation != 0) {
+            double cos = Math.abs(Math.cos(rotation));
+            double sin = Math.abs(Math.sin(rotation));
+            double rotatedWidth = halfWidth * cos + halfHeight * sin;
+            halfHeight = halfWidth * sin + halfHeight * cos;
+            halfWidth = rotatedWidth;
+        }
+        return Bounds.around(centerX, centerY, halfWidth, halfHeight);
+    }
+
+    public static Bounds at(SceneElement element, int timeMillis, SceneGraph.Transform parent) {
+        Bounds local = at(element, timeMillis);
+        if (parent.equals(SceneGraph.Transform.IDENTITY)) {
+            return local;
+        }
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int corner = 0; corner < 4; corner++) {
+            double x = (corner & 1) == 0 ? local.minX() : local.maxX();
+            double y = (corner & 2) == 0 ? local.minY() : local.maxY();
+            double worldX = parent.x(x, y);
+            double worldY = parent.y(x, y);
+            minX = Math.min(minX, worldX);
+            minY = Math.min(minY, worldY);
+            maxX = Math.max(maxX, worldX);
+            maxY = Math.max(maxY, worldY);
+        }
+        return new Bounds(minX, minY, maxX, maxY);
+    }
+
+    public static boolean isActive(SceneElement element, int timeMillis) {
+        return timeMillis >= element.getStartMillis()
+            && timeMillis <= element.getStartMillis() + element.getDurationMillis();
+    }
+
+    private static Shape shapeOf(SceneElement element) {
+        return switch (element.getProperties()) {
+            case CircleProperties circle -> {
+                double radius = circle.getRadius() + strokeHalf(circle.getStyle());
+                yield new Shape(circle.getCenterX(), circle.getCenterY(), radius, radius);
+            }
+            case RectProperties rect -> new Shape(
+                rect.getCenterX(),
+                rect.getCenterY(),
+                rect.getWidth() / 2.0 + strokeHalf(rect.getStyle()),
+                rect.getHeight() / 2.0 + strokeHalf(rect.getStyle())
+            );
+            case LineProperties line -> new Shape(
+                (line.getStartX() + line.getEndX()) / 2.0,
+                (line.getStartY() + line.getEndY()) / 2.0,
+                Math.abs(line.getEndX() - line.getStartX()) / 2.0 + strokeHalf(line.getStyle()),
+                Math.abs(line.getEndY() - line.getStartY()) / 2.0 + strokeHalf(line.getStyle())
+            );
+            case TextProperties text -> textShape(text);
+            case DominoProperties domino -> dominoShape(domino);
+            case GroupProperties group -> new Shape(group.x(), group.y(), 0, 0);
+            case ParticleProperties particles -> particleShape(particles);
+            case PathProperties path -> new Shape(
+                (path.getMinX() + path.getMaxX()) / 2.0,
+                (path.getMinY() + path.getMaxY()) / 2.0,
+                (path.getMaxX() - path.getMinX()) / 2.0 + strokeHalf(path.getStyle()),
+                (path.getMaxY() - path.getMinY()) / 2.0 + strokeHalf(path.getStyle())
+            );
+        };
+    }
+
+    private static Shape textShape(TextProperties text) {
+        int longestLine = 0;
+        int lines = 0;
+        for (String line : text.getText().split("\n", -1)) {
+            longestLine = Math.max(longestLine, line.length());
+            lines++;
+        }
+        return new Shape(
+            text.getCenterX(),
+            text.getCenterY(),
+            longestLine * text.getFontSize() * TEXT_MAX_ADVANCE_RATIO / 2.0,
+            lines * text.getFontSize() * TEXT_MAX_LINE_HEIGHT_RATIO / 2.0
+        );
+    }
+
+    private static Shape dominoShape(DominoProperties domino) {
+        double halfHeight = domino.height() / 2.0;
+        double halfDepth = domino.depth() / 2.0;
+        double reach = Math.hypot(halfHeight, halfDepth);
+        double nearest = DominoCamera.FOCAL_LENGTH - reach * DominoCamera.PERSPECTIVE_STRENGTH;
+        double maxScale = nearest > 0 ? DominoCamera.FOCAL_LENGTH / nearest : 1;
+        double stroke = strokeHalf(domino.style());
+        return new Shape(
+            domino.x(),
+            domino.y(),
+            domino.width() / 2.0 * maxScale + stroke,
+            reach * maxScale + stroke
+        );
+    }
+
+    private static Shape particleShape(ParticleProperties particles) {
+        double seconds = particles.lifetimeMillis() / 1000.0;
+        double minX = particles.x() + Math.min(0, particles.minVelocityX()) * seconds;
+        double maxX = particles.x() + Math.max(0, particles.maxVelocityX()) * seconds;
+        double minY = particles.y() + Math.min(0, particles.minVelocityY()) * seconds;
+        double maxY = particles.y() + Math.max(0, particles.maxVelocityY()) * seconds;
+        double radius = particles.size() / 2.0 + strokeHalf(particles.style());
+        return new Shape((minX + maxX) / 2, (minY + maxY) / 2, (maxX - minX) / 2 + radius, (maxY - minY) / 2 + radius);
+    }
+
+    private static double strokeHalf(Style style) {
+        return style == null ? 0 : style.getLineWidth() / 2.0;
+    }
+
+    private record Shape(double centerX, double centerY, double halfWidth, double halfHeight) {
+    }
+}
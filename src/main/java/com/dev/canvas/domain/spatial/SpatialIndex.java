@@ -0,0 +1,224 @@
+package com.dev.canvas.domain.spatial;
+
+import com.dev.canvas.domain.animation.PrimitiveType;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.graph.SceneGraph;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class SpatialIndex {
+
+    private static final int MAX_SPANNED_CELLS = 16;
+
+    private final List<SceneElement> elements;
+    private final Bounds[] bounds;
+    private final SceneGraph graph;
+    private final Bounds extent;
+    private final int columns;
+    private final int rows;
+    private final double cellWidth;
+    private final double cellHeight;
+    private final int[] cellOffsets;
+    private final int[] cellItems;
+    private final int[] oversized;
+
+    private SpatialIndex(List<SceneElement> elements) {
+        this.elements = List.copyOf(elements);
+        this.bounds = new Bounds[this.elements.size()];
+        this.graph = SceneGraph.of(this.elements);
+
+        Bounds union = null;
+        int indexed = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            SceneElement element = this.elements.get(i);
+            if (element.getPrimitiveType() == PrimitiveType.GROUP) {
+                continue;
+            }
+            bounds[i] = graph.hasParent(i)
+                ? ElementBounds.conservative(element, graph.parentTransformRange(i))
+                : ElementBounds.conservative(element);
+            union = union == null ? bounds[i] : union.union(bounds[i]);
+            indexed++;
+        }
+        this.extent = union == null ? new Bounds(0, 0, 0, 0) : union;
+
+        int side = Math.max(1, (int) Math.ceil(Math.sqrt(indexed)));
+        this.columns = side;
+        this.rows = side;
+        this.cellWidth = Math.max(extent.width() / columns, Double.MIN_NORMAL);
+        this.cellHeight = Math.max(extent.height() / rows, Double.MIN_NORMAL);
+
+        int oversizedCount = 0;
+        for (Bounds box : bounds) {
+            if (box != null && spannedCells(box) > MAX_SPANNED_CELLS) {
+                oversizedCount++;
+            }
+        }
+        this.oversized = new int[oversizedCount];
+        oversizedCount = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            if (bounds[i] != null && spannedCells(bounds[i]) > MAX_SPANNED_CELLS) {
+                oversized[oversizedCount++] = i;
+            }
+        }
+
+        this.cellOffsets = new int[columns * rows + 1];
+        for (Bounds box : bounds) {
+            if (isGridded(box)) {
+                forEachCell(box, cell -> cellOffsets[cell + 1]++);
+            }
+        }
+        for (int cell = 0; cell < columns * rows; cell++) {
+            cellOffsets[cell + 1] += cellOffsets[cell];
+        }
+        this.cellItems = new int[cellOffsets[columns * rows]];
+        int[] cursor = Arrays.copyOf(cellOffsets, columns * rows);
+        for (int i = 0; i < bounds.length; i++) {
+            int item = i;
+            if (isGridded(bounds[i])) {
+                forEachCell(bounds[i], cell -> cellItems[cursor[cell]++] = item);
+            }
+        }
+    }
+
+    public static SpatialIndex of(List<SceneElement> elements) {
+        return new SpatialIndex(elements);
+    }
+
+    public int size() {
+        return elements.size();
+    }
+
+    public Bounds getExtent() {
+        return extent;
+    }
+
+    int cellEntries() {
+        return cellItems.length;
+    }
+
+    public List<SceneElement> hit(double x, double y, int timeMillis) {
+        int[] matches = new int[8];
+        int count = 0;
+        if (extent.contains(x, y)) {
+            int cell = row(y) * columns + column(x);
+            for (int offset = cellOffsets[cell]; offset < cellOffsets[cell + 1]; offset++) {
+                int item = cellItems[offset];
+                if (bounds[item].contains(x, y) && isActiveAndContains(item, x, y, timeMillis)) {
+                    if (count == matches.length) {
+                        matches = Arrays.copyOf(matches, count * 2);
+                    }
+                    matches[count++] = item;
+                }
+            }
+            for (int item : oversized) {
+                if (bounds[item].contains(x, y) && isActiveAndContains(item, x, y, timeMillis)) {
+                    if (count == matches.length) {
+                        matches = Arrays.copyOf(matches, count * 2);
+                    }
+                    matches[count++] = item;
+                }
+            }
+        }
+        return collect(matches, count).reversed();
+    }
+
+    public List<SceneElement> visible(Bounds viewport, int timeMillis) {
+        if (!extent.intersects(viewport)) {
+            return List.of();
+        }
+        int[] matches = new int[16];
+        int count = 0;
+        for (int item : oversized) {
+            if (bounds[item].intersects(viewport) && isActiveAndIntersects(item, viewport, timeMillis)) {
+                if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, count * 2);
+                }
+                matches[count++] = item;
+            }
+        }
+        int firstColumn = column(viewport.minX());
+        int lastColumn = column(viewport.maxX());
+        int firstRow = row(viewport.minY());
+        int lastRow = row(viewport.maxY());
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int cell = row * columns + column;
+                for (int offset = cellOffsets[cell]; offset < cellOffsets[cell + 1]; offset++) {
+                    int item = cellItems[offset];
+                    Bounds box = bounds[item];
+                    if (!box.intersects(viewport) || !isReportingCell(box, viewport, column, row)) {
+                        continue;
+                    }
+                    if (isActiveAndIntersects(item, viewport, timeMillis)) {
+                        if (count == matches.length) {
+                            matches = Arrays.copyOf(matches, count * 2);
+                        }
+                        matches[count++] = item;
+                    }
+                }
+            }
+        }
+
+        return collect(matches, count);
+    }
+
+    private boolean isActiveAndContains(int item, double x, double y, int timeMillis) {
+        SceneElement element = elements.get(item);
+        return ElementBounds.isActive(element, timeMillis)
+            && ElementBounds.at(element, timeMillis, graph.parentTransformAt(item, timeMillis)).contains(x, y);
+    }
+
+    private boolean isActiveAndIntersects(int item, Bounds viewport, int timeMillis) {
+        SceneElement element = elements.get(item);
+        return ElementBounds.isActive(element, timeMillis)
+            && ElementBounds.at(element, timeMillis, graph.parentTransformAt(item, timeMillis)).intersects(viewport);
+    }
+
+    private List<SceneElement> collect(int[] matches, int count) {
+        Arrays.sort(matches, 0, count);
+        List<SceneElement> visible = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            visible.add(elements.get(matches[i]));
+        }
+        return visible;
+    }
+
+    private boolean isReportingCell(Bounds box, Bounds viewport, int column, int row) {
+        return column(Math.max(box.minX(), viewport.minX())) == column
+            && row(Math.max(box.minY(), viewport.minY())) == row;
+    }
+
+    private boolean isGridded(Bounds box) {
+        return box != null && spannedCells(box) <= MAX_SPANNED_CELLS;
+    }
+
+    private long spannedCells(Bounds box) {
+        return (long) (column(box.maxX()) - column(box.minX()) + 1) * (row(box.maxY()) - row(box.minY()) + 1);
+    }
+
+    private void forEachCell(Bounds box, CellVisitor visitor) {
+        int lastRow = row(box.maxY());
+        int lastColumn = column(box.maxX());
+        for (int row = row(box.minY()); row <= lastRow; row++) {
+            for (int column = column(box.minX()); column <= lastColumn; column++) {
+                visitor.visit(row * columns + column);
+            }
+        }
+    }
+
+    private int column(double x) {
+        return Math.clamp((long) Math.floor((x - extent.minX()) / cellWidth), 0, columns - 1);
+    }
+
+    private int row(double y) {
+        return Math.clamp((long) Math.floor((y - extent.minY()) / cellHeight), 0, rows - 1);
+    }
+
+    @FunctionalInterface
+    private interface CellVisitor {
+        void visit(int cell);
+    }
+}
@@ -0,0 +1,67 @@
+package com.dev.canvas.domain.text;
+
+import java.awt.Font;
+import java.awt.font.TextAttribute;
+import java.util.Map;
+import java.util.Objects;
+
+public record FontSpec(String family, int size, int weight) {
+
+    public FontSpec {
+        Objects.requireNonNull(family);
+        if (size <= 0) {
+            throw new IllegalArgumentException("Font size must be positive: " + size);
+        }
+        if (weight < 100 || weight > 900) {
+            throw new IllegalArgumentException("Font weight must be within 100..900: " + weight);
+        }
+    }
+
+    public static FontSpec of(String family, int size, String weight) {
+        return new FontSpec(family, size, parseWeight(weight));
+    }
+
+    static int parseWeight(String weight) {
+        return switch (weight.trim().toLowerCase()) {
+            case "normal" -> 400;
+            case "bold" -> 700;
+            default -> {
+                try {
+                    yield Integer.parseInt(weight.trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Unknown font weight: " + weight, e);
+                }
+            }
+        };
+    }
+
+    Font toAwtFont() {
+        return new Font(Map.of(
+            TextAttribute.FAMILY, family,
+            TextAttribute.SIZE, (float) size,
+            TextAttribute.WEIGHT, awtWeight()
+        ));
+    }
+
+    private Float awtWeight() {
+        if (weight <= 200) {
+            return TextAttribute.WEIGHT_EXTRA_LIGHT;
+        }
+        if (weight <= 300) {
+            return TextAttribute.WEIGHT_LIGHT;
+        }
+        if (weight <= 400) {
+            return TextAttribute.WEIGHT_REGULAR;
+        }
+        if (weight <= 500) {
+            return TextAttribute.WEIGHT_MEDIUM;
+        }
+        if (weight <= 600) {
+            return TextAttribute.WEIGHT_SEMIBOLD;
+        }
+        if (weight <= 700) {
+            return TextAttribute.WEIGHT_BOLD;
+        }
+        return TextAttribute.WEIGHT_EXTRABOLD;
+    }
+}
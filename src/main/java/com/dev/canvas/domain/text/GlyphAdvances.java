@@ -0,0 +1,81 @@
+package com.dev.canvas.domain.text;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.awt.font.TextLayout;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class GlyphAdvances {
+
+    private static final int LATIN_GLYPHS = 256;
+
+    private final Font font;
+    private final FontRenderContext renderContext;
+    private final float[] latin;
+    private final Map<Integer, Float> others;
+    private final float ascent;
+    private final float descent;
+    private final float lineHeight;
+
+    GlyphAdvances(Font font, FontRenderContext renderContext) {
+        this.font = font;
+        this.renderContext = renderContext;
+        this.latin = new float[LATIN_GLYPHS];
+        this.others = new ConcurrentHashMap<>();
+        for (int c = 0; c < LATIN_GLYPHS; c++) {
+            latin[c] = measure(c);
+        }
+
+        LineMetrics metrics = font.getLineMetrics("Hg", renderContext);
+        this.ascent = metrics.getAscent();
+        this.descent = metrics.getDescent();
+        this.lineHeight = metrics.getAscent() + metrics.getDescent() + metrics.getLeading();
+    }
+
+    double advance(char[] text, int from, int to) {
+        double width = 0;
+        for (int i = from; i < to; ) {
+            int codePoint = Character.codePointAt(text, i, to);
+            width += advance(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        return width;
+    }
+
+    double layoutAdvance(char[] text, int from, int to) {
+        if (from == to) {
+            return 0;
+        }
+        return new TextLayout(new String(text, from, to - from), font, renderContext).getAdvance();
+    }
+
+    float advance(int codePoint) {
+        if (codePoint < LATIN_GLYPHS) {
+            return latin[codePoint];
+        }
+        return others.computeIfAbsent(codePoint, this::measure);
+    }
+
+    float ascent() {
+        return ascent;
+    }
+
+    float descent() {
+        return descent;
+    }
+
+    float lineHeight() {
+        return lineHeight;
+    }
+
+    private float measure(int codePoint) {
+        if (Character.isISOControl(codePoint)) {
+            return 0;
+        }
+        return (float) font.createGlyphVector(renderContext, Character.toString(codePoint))
+            .getGlyphMetrics(0)
+            .getAdvance();
+    }
+}
@@ -0,0 +1,4 @@
+package com.dev.canvas.domain.text;
+
+public record TextLine(String text, double width) {
+}
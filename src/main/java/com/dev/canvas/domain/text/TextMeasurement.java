@@ -0,0 +1,28 @@
+package com.dev.canvas.domain.text;
+
+import java.util.List;
+
+public record TextMeasurement(
+    double width,
+    double ascent,
+    double descent,
+    double lineHeight,
+    List<TextLine> lines
+) {
+
+    public TextMeasurement {
+        lines = List.copyOf(lines);
+    }
+
+    public int paddedWidth(int padding) {
+        return (int) Math.ceil(width + 2 * padding);
+    }
+
+    public int paddedHeight(int padding) {
+        return (int) Math.ceil(height() + 2 * padding);
+    }
+
+    public double height() {
+        return lines.isEmpty() ? 0 : ascent + descent + (lines.size() - 1) * lineHeight;
+    }
+}
@@ -0,0 +1,114 @@
+package com.dev.canvas.domain.text;
+
+import com.dev.canvas.domain.animation.TextProperties;
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class TextMetricsService {
+
+    private static final FontRenderContext RENDER_CONTEXT = new FontRenderContext(null, true, true);
+
+    private final String defaultFamily;
+    private final Map<FontSpec, GlyphAdvances> advances = new ConcurrentHashMap<>();
+
+    public TextMetricsService(String defaultFamily) {
+        this.defaultFamily = Objects.requireNonNull(defaultFamily);
+    }
+
+    public TextMeasurement measure(TextProperties text) {
+        return measure(text.getText(), fontOf(text));
+    }
+
+    public TextMeasurement measure(String text, FontSpec font) {
+        return measure(text, font, Double.POSITIVE_INFINITY);
+    }
+
+    public TextMeasurement measure(String text, FontSpec font, double maxWidth) {
+        GlyphAdvances glyphs = advances.computeIfAbsent(font, spec -> new GlyphAdvances(spec.toAwtFont(), RENDER_CONTEXT));
+        char[] chars = text.toCharArray();
+        boolean complex = Font.textRequiresLayout(chars, 0, chars.length);
+
+        List<TextLine> lines = new ArrayList<>();
+        int paragraphStart = 0;
+        for (int i = 0; i <= chars.length; i++) {
+            if (i == chars.length || chars[i] == '\n') {
+                breakParagraph(glyphs, chars, complex, paragraphStart, i, maxWidth, lines);
+                paragraphStart = i + 1;
+            }
+        }
+
+        double width = 0;
+        for (TextLine line : lines) {
+            width = Math.max(width, line.width());
+        }
+        return new TextMeasurement(width, glyphs.ascent(), glyphs.descent(), glyphs.lineHeight(), lines);
+    }
+
+    public FontSpec fontOf(TextProperties text) {
+        return fontOf(text.getFontSize(), text.getFontWeight());
+    }
+
+    public FontSpec fontOf(int fontSize, String fontWeight) {
+        return FontSpec.of(defaultFamily, fontSize, fontWeight);
+    }
+
+    private void breakParagraph(
+        GlyphAdvances glyphs,
+        char[] chars,
+        boolean complex,
+        int from,
+        int to,
+        double maxWidth,
+        List<TextLine> lines
+    ) {
+        int end = trimTrailingWhitespace(chars, from, to);
+        double fullWidth = width(glyphs, chars, complex, from, end);
+        if (fullWidth <= maxWidth) {
+            lines.add(new TextLine(new String(chars, from, end - from), fullWidth));
+            return;
+        }
+
+        BreakIterator breaks = BreakIterator.getLineInstance();
+        breaks.setText(new String(chars, from, to - from));
+
+        int lineStart = from;
+        int lastBreak = from;
+        double lastBreakWidth = 0;
+        for (int boundary = breaks.next(); boundary != BreakIterator.DONE; boundary = breaks.next()) {
+            int candidate = from + boundary;
+            int candidateEnd = trimTrailingWhitespace(chars, lineStart, candidate);
+            double candidateWidth = width(glyphs, chars, complex, lineStart, candidateEnd);
+
+            if (candidateWidth > maxWidth && lastBreak > lineStart) {
+                int lineEnd = trimTrailingWhitespace(chars, lineStart, lastBreak);
+                lines.add(new TextLine(new String(chars, lineStart, lineEnd - lineStart), lastBreakWidth));
+                lineStart = lastBreak;
+                candidateEnd = trimTrailingWhitespace(chars, lineStart, candidate);
+                candidateWidth = width(glyphs, chars, complex, lineStart, candidateEnd);
+            }
+            lastBreak = candidate;
+            lastBreakWidth = candidateWidth;
+        }
+
+        int lineEnd = trimTrailingWhitespace(chars, lineStart, to);
+        lines.add(new TextLine(new String(chars, lineStart, lineEnd - lineStart), lastBreakWidth));
+    }
+
+    private static double width(GlyphAdvances glyphs, char[] chars, boolean complex, int from, int to) {
+        return complex ? glyphs.layoutAdvance(chars, from, to) : glyphs.advance(chars, from, to);
+    }
+
+    private static int trimTrailingWhitespace(char[] chars, int from, int to) {
+        int end = to;
+        while (end > from && Character.isWhitespace(chars[end - 1])) {
+            end--;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,95 @@
+package com.dev.canvas.domain.timeline;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+public final class Timeline {
+
+    private final String timelineId;
+    private final String name;
+    private final List<TimelineSegment> segments;
+    private final int durationMillis;
+
+    private Timeline(Builder builder) {
+        this.timelineId = builder.timelineId;
+        this.name = builder.name;
+        this.segments = List.copyOf(builder.segments);
+        this.durationMillis = builder.segments.stream()
+            .mapToInt(TimelineSegment::getEndMillis)
+            .max()
+            .orElse(0);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getTimelineId() {
+        return timelineId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<TimelineSegment> getSegments() {
+        return Collections.unmodifiableList(segments);
+    }
+
+    public int getDurationMillis() {
+        return durationMillis;
+    }
+
+    public TimelineWindow window(int fromMillis, int toMillis) {
+        if (fromMillis < 0 || toMillis <= fromMillis) {
+            throw new IllegalArgumentException("Invalid window [" + fromMillis + ", " + toMillis + ")");
+        }
+        return TimelineClipper.clip(this, fromMillis, Math.max(fromMillis, Math.min(toMillis, durationMillis)));
+    }
+
+    public static final class Builder {
+
+        private String timelineId;
+        private String name;
+        private final List<TimelineSegment> segments;
+        private int cursorMillis;
+
+        public Builder() {
+            this.segments = new ArrayList<>();
+        }
+
+        public Builder timelineId(String value) {
+            this.timelineId = Objects.requireNonNull(value);
+            return this;
+        }
+
+        public Builder name(String value) {
+            this.name = Objects.requireNonNull(value);
+            return this;
+        }
+
+        public Builder append(AnimationScene scene) {
+            return append(scene, 0);
+        }
+
+        public Builder append(AnimationScene scene, int gapMillis) {
+            return addSegment(scene, cursorMillis + gapMillis);
+        }
+
+        public Builder addSegment(AnimationScene scene, int offsetMillis) {
+            TimelineSegment segment = TimelineSegment.of(scene, offsetMillis);
+            this.segments.add(segment);
+            this.cursorMillis = Math.max(cursorMillis, segment.getEndMillis());
+            return this;
+        }
+
+        public Timeline build() {
+            Objects.requireNonNull(timelineId);
+            Objects.requireNonNull(name);
+            return new Timeline(this);
+        }
+    }
+}
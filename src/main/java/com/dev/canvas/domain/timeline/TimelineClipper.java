@@ -0,0 +1,109 @@
+package com.dev.canvas.domain.timeline;
+
+import com.dev.canvas.domain.animation.EasingFunction;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.SceneId;
+import java.util.ArrayList;
+import java.util.List;
+
+final class TimelineClipper {
+
+    private static final int RESAMPLE_STEP_MILLIS = 16;
+
+    private TimelineClipper() {
+    }
+
+    static TimelineWindow clip(Timeline timeline, int fromMillis, int toMillis) {
+        List<TimelineSegment> segments = new ArrayList<>();
+        List<SceneElement> elements = new ArrayList<>();
+
+        List<TimelineSegment> allSegments = timeline.getSegments();
+        for (int index = 0; index < allSegments.size(); index++) {
+            TimelineSegment segment = allSegments.get(index);
+            if (!segment.overlaps(fromMillis, toMillis)) {
+                continue;
+            }
+            segments.add(TimelineSegment.of(segment.getScene(), segment.getOffsetMillis() - fromMillis));
+
+            for (SceneElement element : segment.getScene().getElements()) {
+                int absoluteStart = segment.getOffsetMillis() + element.getStartMillis();
+                int absoluteEnd = absoluteStart + element.getDurationMillis();
+                boolean group = element.getPrimitiveType().isContainer();
+                if (group || absoluteStart < toMillis && absoluteEnd > fromMillis) {
+                    elements.add(clipElement(timeline, index, segment.getOffsetMillis(), element, fromMillis, toMillis));
+                }
+            }
+        }
+
+        return new TimelineWindow(timeline, fromMillis, toMillis, segments, elements);
+    }
+
+    private static SceneElement clipElement(Timeline timeline, int segmentIndex, int offsetMillis,
+                                            SceneElement element, int fromMillis, int toMillis) {
+        int absoluteStart = offsetMillis + element.getStartMillis();
+        int clippedStart = Math.clamp(absoluteStart, fromMillis, toMillis);
+        int clippedEnd = Math.clamp(absoluteStart + element.getDurationMillis(), clippedStart, toMillis);
+
+        SceneElement.Builder builder = SceneElement.builder()
+            .elementId(clippedId(timeline, segmentIndex, element.getElementId()))
+            .parentId(element.getParentId().map(parentId -> clippedId(timeline, segmentIndex, parentId)).orElse(null))
+            .startMillis(clippedStart - fromMillis)
+            .durationMillis(clippedEnd - clippedStart)
+            .properties(element.getProperties());
+
+        for (PropertyTween tween : element.getTweens()) {
+            if (!tween.getKeyframes().isEmpty()) {
+                builder.addTween(clipTween(tween, fromMillis - offsetMillis, toMillis - offsetMillis));
+            }
+        }
+        return builder.build();
+    }
+
+    private static String clippedId(Timeline timeline, int segmentIndex, String elementId) {
+        return SceneId.generateForElement(timeline.getTimelineId(), elementId, segmentIndex).getValue();
+    }
+
+    private static PropertyTween clipTween(PropertyTween tween, int localFrom, int localTo) {
+        PropertyTween.Builder builder = PropertyTween.builder()
+            .propertyPath(tween.getPropertyPath())
+            .addKeyframe(keyframe(0, tween.valueAt(localFrom), EasingFunction.LINEAR));
+
+        int previousMillis = Integer.MIN_VALUE;
+        int cursorMillis = localFrom;
+        for (Keyframe keyframe : tween.getKeyframes()) {
+            int timeMillis = keyframe.getTimeMillis();
+            if (timeMillis > localFrom && cursorMillis < localTo) {
+                int endMillis = Math.min(timeMillis, localTo);
+                if (previousMillis == cursorMillis && endMillis == timeMillis) {
+                    builder.addKeyframe(keyframe(timeMillis - localFrom, keyframe.getValue(), keyframe.getEasing()));
+                } else {
+                    resample(builder, tween, keyframe.getEasing(), cursorMillis, endMillis, localFrom);
+                }
+                cursorMillis = endMillis;
+            }
+            previousMillis = timeMillis;
+        }
+        return builder.build();
+    }
+
+    private static void resample(PropertyTween.Builder builder, PropertyTween tween, EasingFunction easing,
+                                 int fromMillis, int toMillis, int originMillis) {
+        int spanMillis = toMillis - fromMillis;
+        boolean straight = easing == EasingFunction.LINEAR || tween.valueAt(fromMillis) == tween.valueAt(toMillis);
+        int samples = straight ? 1 : Math.max(1, Math.ceilDiv(spanMillis, RESAMPLE_STEP_MILLIS));
+        for (int sample = 1; sample <= samples; sample++) {
+            int timeMillis = fromMillis + (int) ((long) spanMillis * sample / samples);
+            builder.addKeyframe(keyframe(timeMillis - originMillis, tween.valueAt(timeMillis), EasingFunction.LINEAR));
+        }
+    }
+
+    private static Keyframe keyframe(int timeMillis, double value, EasingFunction easing) {
+        return Keyframe.builder()
+            .timeMillis(timeMillis)
+            .value(value)
+            .easing(easing)
+            .build();
+    }
+}
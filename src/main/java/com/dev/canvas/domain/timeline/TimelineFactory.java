@@ -0,0 +1,34 @@
+package com.dev.canvas.domain.timeline;
+
+import com.dev.canvas.domain.animation.SceneFactory;
+import com.dev.canvas.domain.animation.SceneId;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class TimelineFactory {
+
+    private static final String TIMELINE_INTRO_CHAPTER = "intro-chapter";
+
+    private final SceneFactory sceneFactory;
+
+    public TimelineFactory(SceneFactory sceneFactory) {
+        this.sceneFactory = Objects.requireNonNull(sceneFactory);
+    }
+
+    public Optional<Timeline> findTimeline(String name) {
+        return switch (name) {
+            case TIMELINE_INTRO_CHAPTER -> Optional.of(createIntroChapter());
+            default -> Optional.empty();
+        };
+    }
+
+    public Timeline createIntroChapter() {
+        return Timeline.builder()
+            .timelineId(SceneId.generate(TIMELINE_INTRO_CHAPTER).getValue())
+            .name(TIMELINE_INTRO_CHAPTER)
+            .append(sceneFactory.createCircleSlideScene())
+            .append(sceneFactory.createClientServerScene(), 400)
+            .append(sceneFactory.createDominoFallScene(), 400)
+            .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.dev.canvas.domain.timeline;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import java.util.Objects;
+
+public final class TimelineSegment {
+
+    private final AnimationScene scene;
+    private final int offsetMillis;
+
+    private TimelineSegment(AnimationScene scene, int offsetMillis) {
+        this.scene = Objects.requireNonNull(scene);
+        this.offsetMillis = offsetMillis;
+    }
+
+    public static TimelineSegment of(AnimationScene scene, int offsetMillis) {
+        return new TimelineSegment(scene, offsetMillis);
+    }
+
+    public AnimationScene getScene() {
+        return scene;
+    }
+
+    public int getOffsetMillis() {
+        return offsetMillis;
+    }
+
+    public int getEndMillis() {
+        return offsetMillis + scene.getDurationMillis();
+    }
+
+    public boolean overlaps(int fromMillis, int toMillis) {
+        return offsetMillis < toMillis && getEndMillis() > fromMillis;
+    }
+}
@@ -0,0 +1,47 @@
+package com.dev.canvas.domain.timeline;
+
+import com.dev.canvas.domain.animation.SceneElement;
+import java.util.Collections;
+import java.util.List;
+
+public final class TimelineWindow {
+
+    private final Timeline timeline;
+    private final int fromMillis;
+    private final int toMillis;
+    private final List<TimelineSegment> segments;
+    private final List<SceneElement> elements;
+
+    TimelineWindow(Timeline timeline, int fromMillis, int toMillis,
+                   List<TimelineSegment> segments, List<SceneElement> elements) {
+        this.timeline = timeline;
+        this.fromMillis = fromMillis;
+        this.toMillis = toMillis;
+        this.segments = List.copyOf(segments);
+        this.elements = List.copyOf(elements);
+    }
+
+    public Timeline getTimeline() {
+        return timeline;
+    }
+
+    public int getFromMillis() {
+        return fromMillis;
+    }
+
+    public int getToMillis() {
+        return toMillis;
+    }
+
+    public int getDurationMillis() {
+        return toMillis - fromMillis;
+    }
+
+    public List<TimelineSegment> getSegments() {
+        return Collections.unmodifiableList(segments);
+    }
+
+    public List<SceneElement> getElements() {
+        return Collections.unmodifiableList(elements);
+    }
+}
@@ -0,0 +1,176 @@
+package com.dev.canvas;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+@EnabledIfSystemProperty(named = "startup.test", matches = "true")
+class StartupBudgetTests {
+
+    private static final String PROBE_PATH = "/api/v1/animations/circle-slide";
+    private static final long BUDGET_MILLIS = Long.getLong("startup.budget-millis", 20_000);
+    private static final Path WORK_DIR = Path.of("target", "startup");
+    private static final Path REPORT = WORK_DIR.resolve("report.txt");
+    private static final Path MAIN_CLASSES = Path.of("target", "classes");
+
+    private final HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofMillis(250))
+        .build();
+
+    @BeforeAll
+    static void resetReport() throws IOException {
+        Files.createDirectories(WORK_DIR);
+        Files.deleteIfExists(REPORT);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "startup.runtime-classpath", matches = ".+")
+    void jvmRespondsWithinBudget() throws Exception {
+        assertWithinBudget("jvm", classpathCommand(List.of()));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "startup.aot", matches = "true")
+    @EnabledIfSystemProperty(named = "startup.runtime-classpath", matches = ".+")
+    void aotJvmRespondsWithinBudget() throws Exception {
+        assertWithinBudget("aot-jvm", classpathCommand(List.of("-Dspring.aot.enabled=true")));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "startup.jar", matches = ".+")
+    void aotJvmWithCdsRespondsWithinBudget() throws Exception {
+        Path extracted = WORK_DIR.resolve("extracted");
+        Path archive = WORK_DIR.resolve("canvas.jsa");
+        Path jar = extracted.resolve(Path.of(System.getProperty("startup.jar")).getFileName());
+
+        run(List.of(javaExecutable(), "-Djarmode=tools", "-jar", System.getProperty("startup.jar"),
+            "extract", "--force", "--destination", extracted.toString()));
+        run(List.of(javaExecutable(), "-Dspring.aot.enabled=true", "-Dspring.context.exit=onRefresh",
+            "-XX:ArchiveClassesAtExit=" + archive, "-jar", jar.toString()));
+
+        assertWithinBudget("aot-jvm+cds", List.of(javaExecutable(), "-Dspring.aot.enabled=true",
+            "-XX:SharedArchiveFile=" + archive, "-jar", jar.toString()));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "startup.native-image", matches = ".+")
+    void nativeImageRespondsWithinBudget() throws Exception {
+        assertWithinBudget("native", List.of(System.getProperty("startup.native-image")));
+    }
+
+    private void assertWithinBudget(String variant, List<String> command) throws Exception {
+        int port = freePort();
+        List<String> launch = new ArrayList<>(command);
+        launch.add("--server.port=" + port);
+
+        long startNanos = System.nanoTime();
+        Process process = new ProcessBuilder(launch)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        try {
+            long firstResponseMillis = awaitFirstResponse(process, port, startNanos);
+            long rssKilobytes = residentSetKilobytes(process.pid());
+            Files.writeString(REPORT, String.format("variant=%s firstResponseMillis=%d rssKb=%d budgetMillis=%d%n",
+                variant, firstResponseMillis, rssKilobytes, BUDGET_MILLIS),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+            assertThat(firstResponseMillis)
+                .as("first response of %s (rssKb=%d)", variant, rssKilobytes)
+                .isLessThanOrEqualTo(BUDGET_MILLIS);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private long awaitFirstResponse(Process process, int port, long startNanos) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + PROBE_PATH))
+            .timeout(Duration.ofSeconds(2))
+            .GET()
+            .build();
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(BUDGET_MILLIS * 3);
+
+        while (System.nanoTime() < deadlineNanos) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with code " + process.exitValue());
+            }
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                }
+            } catch (IOException e) {
+                Thread.sleep(5);
+            }
+        }
+        throw new IllegalStateException("No response from " + PROBE_PATH + " before deadline");
+    }
+
+    private void run(List<String> command) throws Exception {
+        Files.createDirectories(WORK_DIR);
+        Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        if (!process.waitFor(2, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Timed out: " + command);
+        }
+        assertThat(process.exitValue()).as("exit code of %s", command).isZero();
+    }
+
+    private static List<String> classpathCommand(List<String> jvmArguments) throws IOException {
+        String dependencies = Files.readString(Path.of(System.getProperty("startup.runtime-classpath"))).strip();
+        List<String> command = new ArrayList<>();
+        command.add(javaExecutable());
+        command.addAll(jvmArguments);
+        command.add("-cp");
+        command.add(dependencies.isEmpty()
+            ? MAIN_CLASSES.toString()
+            : MAIN_CLASSES + File.pathSeparator + dependencies);
+        command.add(CanvasApplication.class.getName());
+        return command;
+    }
+
+    private static String javaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static long residentSetKilobytes(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (Files.notExists(status)) {
+            return -1;
+        }
+        return Files.readAllLines(status).stream()
+            .filter(line -> line.startsWith("VmRSS:"))
+            .map(line -> line.replaceAll("\\D", ""))
+            .mapToLong(Long::parseLong)
+            .findFirst()
+            .orElse(-1);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
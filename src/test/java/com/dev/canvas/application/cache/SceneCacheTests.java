@@ -0,0 +1,204 @@
+package com.dev.canvas.application.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SceneCacheTests {
+
+    private static final int PAYLOAD_BYTES = 4 * 1024;
+    private static final int HOT_KEYS = 100;
+    private static final long MAXIMUM_BYTES = 128 * WindowTinyLfuCache.retainedBytes(new byte[PAYLOAD_BYTES]);
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    void staysWithinRetainedByteBound() {
+        SceneCache<Integer> cache = SceneCache.inMemory(MAXIMUM_BYTES);
+
+        for (int key = 0; key < 10_000; key++) {
+            int size = PAYLOAD_BYTES / 4 + (key % 7) * PAYLOAD_BYTES;
+            cache.get(key, () -> new byte[size]);
+            assertThat(cache.stats().getFirst().retainedBytes()).isLessThanOrEqualTo(MAXIMUM_BYTES);
+        }
+    }
+
+    @Test
+    void keepsHotScenesThroughScansWhereLruThrashes() {
+        SceneCache<Integer> cache = SceneCache.inMemory(MAXIMUM_BYTES);
+        ByteBoundedLru lru = new ByteBoundedLru(MAXIMUM_BYTES);
+        Random random = new Random(7);
+        int scanKey = HOT_KEYS;
+
+        for (int round = 0; round < 200; round++) {
+            for (int i = 0; i < 200; i++) {
+                int key = random.nextInt(HOT_KEYS);
+                cache.get(key, () -> new byte[PAYLOAD_BYTES]);
+                lru.get(key);
+            }
+            for (int i = 0; i < 150; i++, scanKey++) {
+                cache.get(scanKey, () -> new byte[PAYLOAD_BYTES]);
+                lru.get(scanKey);
+            }
+        }
+
+        assertThat(cache.stats().getFirst().hitRatio()).isGreaterThan(lru.hitRatio() + 0.2);
+    }
+
+    @Test
+    void spillsEvictedPayloadsAndReadsThemBack() throws IOException {
+        AtomicInteger builds = new AtomicInteger();
+        try (SceneCache<Integer> cache = SceneCache.spilling(MAXIMUM_BYTES,
+            new DiskSpillTier<>(spillDirectory, 64L * 1024 * 1024))) {
+            for (int key = 0; key < 1_000; key++) {
+                int value = key;
+                cache.get(key, () -> payload(value, builds));
+            }
+            for (int key = 0; key < 1_000; key++) {
+                int value = key;
+                assertThat(cache.get(key, () -> payload(value, builds))).isEqualTo(payload(value, new AtomicInteger()));
+            }
+
+            List<CacheTierStats> stats = cache.stats();
+            assertThat(builds).hasValue(1_000);
+            assertThat(stats).extracting(CacheTierStats::tier).containsExactly("memory", "disk");
+            assertThat(stats.get(0).evictions()).isPositive();
+            assertThat(stats.get(1).hits()).isPositive();
+            assertThat(stats.get(1).retainedBytes()).isLessThanOrEqualTo(64L * 1024 * 1024);
+        }
+        try (var spilled = Files.list(spillDirectory)) {
+            assertThat(spilled).isEmpty();
+        }
+    }
+
+    @Test
+    void invalidationDropsBothTiers() throws IOException {
+        AtomicInteger builds = new AtomicInteger();
+        try (SceneCache<Integer> cache = SceneCache.spilling(MAXIMUM_BYTES,
+            new DiskSpillTier<>(spillDirectory, 64L * 1024 * 1024))) {
+            for (int key = 0; key < 1_000; key++) {
+                int value = key;
+                cache.get(key, () -> payload(value, builds));
+            }
+            cache.invalidateIf(key -> key % 2 == 0);
+            for (int key = 0; key < 1_000; key += 2) {
+                int value = key;
+                cache.get(key, () -> payload(value, builds));
+            }
+
+            assertThat(builds).hasValue(1_500);
+        }
+    }
+
+    @Test
+    void rejectedCandidateEvictsNothingFromTheMainSpace() {
+        long smallWeight = WindowTinyLfuCache.retainedBytes(new byte[PAYLOAD_BYTES]);
+        List<Integer> evicted = new ArrayList<>();
+        WindowTinyLfuCache<Integer> cache = new WindowTinyLfuCache<>(5 * smallWeight, (key, payload) -> evicted.add(key));
+        for (int hot = 1; hot <= 3; hot++) {
+            cache.put(hot, new byte[PAYLOAD_BYTES]);
+            for (int i = 0; i < 5; i++) {
+                cache.get(hot);
+            }
+        }
+        cache.put(0, new byte[PAYLOAD_BYTES]);
+        cache.get(9);
+        cache.get(9);
+
+        cache.put(9, new byte[2 * PAYLOAD_BYTES]);
+
+        assertThat(evicted).containsExactly(9);
+        assertThat(cache.get(0)).isNotNull();
+    }
+
+    @Test
+    void invalidationRacingEvictionNeverLeavesStaleSpill() throws Exception {
+        int keys = 64;
+        AtomicIntegerArray versions = new AtomicIntegerArray(keys);
+        DiskSpillTier<Integer> disk = new DiskSpillTier<>(spillDirectory, 64L * 1024 * 1024);
+        try (SceneCache<Integer> cache = SceneCache.spilling(
+            8 * WindowTinyLfuCache.retainedBytes(new byte[PAYLOAD_BYTES]), disk)) {
+            AtomicBoolean running = new AtomicBoolean(true);
+            Thread reader = Thread.ofPlatform().start(() -> {
+                Random random = new Random(11);
+                while (running.get()) {
+                    int key = random.nextInt(keys);
+                    cache.get(key, () -> versioned(versions.get(key)));
+                }
+            });
+            Random random = new Random(13);
+            for (int i = 0; i < 5_000; i++) {
+                int key = random.nextInt(keys);
+                versions.incrementAndGet(key);
+                cache.invalidateIf(candidate -> candidate == key);
+            }
+            running.set(false);
+            reader.join();
+
+            for (int key = 0; key < keys; key++) {
+                byte[] spilled = disk.get(key);
+                if (spilled != null) {
+                    assertThat(ByteBuffer.wrap(spilled).getInt()).as("key %d", key).isEqualTo(versions.get(key));
+                }
+            }
+        }
+    }
+
+    private static byte[] versioned(int version) {
+        return ByteBuffer.allocate(PAYLOAD_BYTES).putInt(version).array();
+    }
+
+    private static byte[] payload(int key, AtomicInteger builds) {
+        builds.incrementAndGet();
+        byte[] payload = new byte[PAYLOAD_BYTES];
+        new Random(key).nextBytes(payload);
+        return payload;
+    }
+
+    private static final class ByteBoundedLru {
+
+        private final long maximumBytes;
+        private final Map<Integer, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long retainedBytes;
+        private long hits;
+        private long lookups;
+
+        private ByteBoundedLru(long maximumBytes) {
+            this.maximumBytes = maximumBytes;
+        }
+
+        void get(int key) {
+            lookups++;
+            if (entries.get(key) != null) {
+                hits++;
+                return;
+            }
+            byte[] payload = new byte[PAYLOAD_BYTES];
+            entries.put(key, payload);
+            retainedBytes += WindowTinyLfuCache.retainedBytes(payload);
+            var eldest = entries.entrySet().iterator();
+            while (retainedBytes > maximumBytes) {
+                retainedBytes -= WindowTinyLfuCache.retainedBytes(eldest.next().getValue());
+                eldest.remove();
+            }
+        }
+
+        double hitRatio() {
+            return (double) hits / lookups;
+        }
+    }
+}
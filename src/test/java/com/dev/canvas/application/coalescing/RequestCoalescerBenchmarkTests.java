@@ -0,0 +1,75 @@
+package com.dev.canvas.application.coalescing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dev.canvas.domain.physics.DominoChain;
+import com.dev.canvas.domain.physics.DominoChainSimulation;
+import com.dev.canvas.domain.physics.DominoChainSimulator;
+import com.sun.management.OperatingSystemMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+@EnabledIfSystemProperty(named = "load.test", matches = "true")
+class RequestCoalescerBenchmarkTests {
+
+    private static final int BURST_SIZE = 64;
+    private static final DominoChain CHAIN = DominoChain.builder()
+        .count(500)
+        .spacing(100)
+        .height(120)
+        .depth(10)
+        .build();
+
+    private final DominoChainSimulator simulator = new DominoChainSimulator(ForkJoinPool.commonPool());
+    private final OperatingSystemMXBean os = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+    @Test
+    void reportsCpuSavedByCoalescingSceneBuildBursts() throws Exception {
+        Supplier<DominoChainSimulation> build = () -> simulator.simulate(CHAIN);
+        for (int i = 0; i < 3; i++) {
+            build.get();
+        }
+
+        long before = os.getProcessCpuTime();
+        burst(build);
+        long uncoalescedNanos = os.getProcessCpuTime() - before;
+
+        RequestCoalescer<String, DominoChainSimulation> coalescer = new RequestCoalescer<>("scene");
+        before = os.getProcessCpuTime();
+        burst(() -> coalescer.execute("domino-fall", build));
+        long coalescedNanos = os.getProcessCpuTime() - before;
+        CoalescingStats stats = coalescer.stats();
+
+        System.out.printf("burst=%d uncoalescedCpuMillis=%d coalescedCpuMillis=%d computations=%d ratio=%.3f%n",
+            BURST_SIZE, uncoalescedNanos / 1_000_000, coalescedNanos / 1_000_000,
+            stats.computations(), stats.coalescingRatio());
+
+        assertThat(stats.computations()).isLessThan(BURST_SIZE);
+    }
+
+    private static void burst(Supplier<?> request) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < BURST_SIZE; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                request.get();
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.dev.canvas.application.coalescing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dev.canvas.domain.physics.DominoChain;
+import com.dev.canvas.domain.physics.DominoChainSimulation;
+import com.dev.canvas.domain.physics.DominoChainSimulator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTests {
+
+    private static final int BURST_SIZE = 64;
+    private static final int WAITERS = 8;
+    private static final DominoChain CHAIN = DominoChain.builder()
+        .count(500)
+        .spacing(100)
+        .height(120)
+        .depth(10)
+        .build();
+
+    private final DominoChainSimulator simulator = new DominoChainSimulator(ForkJoinPool.commonPool());
+
+    @Test
+    void concurrentIdenticalRequestsShareOneComputation() throws Exception {
+        RequestCoalescer<String, Integer> coalescer = new RequestCoalescer<>("test");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+
+        List<Integer> results = burst(BURST_SIZE, () -> coalescer.execute("scene", () -> {
+            computations.incrementAndGet();
+            await(release);
+            return 42;
+        }), () -> awaitInFlightJoins(coalescer, release));
+
+        assertThat(results).hasSize(BURST_SIZE).containsOnly(42);
+        assertThat(computations).hasValue(1);
+        assertThat(coalescer.stats().coalescingRatio()).isEqualTo((BURST_SIZE - 1) / (double) BURST_SIZE);
+        assertThat(coalescer.stats().inFlight()).isZero();
+    }
+
+    @Test
+    void failureIsSharedAndNotCached() {
+        RequestCoalescer<String, Integer> coalescer = new RequestCoalescer<>("test");
+
+        assertThatThrownBy(() -> coalescer.execute("scene", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(coalescer.execute("scene", () -> 7)).isEqualTo(7);
+        assertThat(coalescer.stats().computations()).isEqualTo(2);
+    }
+
+    @Test
+    void cancelledLeaderHandsOverToWaiters() throws Exception {
+        RequestCoalescer<String, Integer> coalescer = new RequestCoalescer<>("test");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+        Supplier<Integer> computation = () -> {
+            if (computations.incrementAndGet() == 1) {
+                await(release);
+                throw new CancellationException("Request interrupted while waiting for scene build");
+            }
+            return 42;
+        };
+
+        ExecutorService requests = Executors.newFixedThreadPool(WAITERS + 1);
+        try {
+            Future<Integer> leader = requests.submit(() -> coalescer.execute("scene", computation));
+            while (computations.get() == 0) {
+                Thread.onSpinWait();
+            }
+            List<Future<Integer>> waiters = new ArrayList<>();
+            for (int i = 0; i < WAITERS; i++) {
+                waiters.add(requests.submit(() -> coalescer.execute("scene", computation)));
+            }
+            while (coalescer.stats().requests() < WAITERS + 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThatThrownBy(leader::get).hasCauseInstanceOf(CancellationException.class);
+            for (Future<Integer> waiter : waiters) {
+                assertThat(waiter.get()).isEqualTo(42);
+            }
+            assertThat(coalescer.stats().inFlight()).isZero();
+        } finally {
+            requests.shutdownNow();
+        }
+    }
+
+    @Test
+    void burstOfSceneBuildsComputesOncePerKey() throws Exception {
+        RequestCoalescer<String, DominoChainSimulation> coalescer = new RequestCoalescer<>("scene");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+        AtomicInteger requests = new AtomicInteger();
+
+        List<DominoChainSimulation> results = burst(BURST_SIZE, () -> {
+            String key = requests.getAndIncrement() % 2 == 0 ? "domino-fall" : "domino-fall?count=500";
+            return coalescer.execute(key, () -> {
+                computations.incrementAndGet();
+                await(release);
+                return simulator.simulate(CHAIN);
+            });
+        }, () -> awaitInFlightJoins(coalescer, release));
+
+        assertThat(results).hasSize(BURST_SIZE).allSatisfy(simulation ->
+            assertThat(simulation.getToppledCount()).isEqualTo(CHAIN.getCount()));
+        assertThat(results.stream().distinct()).hasSize(2);
+        assertThat(computations).hasValue(2);
+        assertThat(coalescer.stats().computations()).isEqualTo(2);
+        assertThat(coalescer.stats().inFlight()).isZero();
+    }
+
+    private static <V> List<V> burst(int size, Supplier<V> request, Runnable whileRunning) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<V> results = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                await(start);
+                V result = request.get();
+                synchronized (results) {
+                    results.add(result);
+                }
+            }));
+        }
+        start.countDown();
+        whileRunning.run();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return results;
+    }
+
+    private static void awaitInFlightJoins(RequestCoalescer<?, ?> coalescer, CountDownLatch release) {
+        while (coalescer.stats().requests() < BURST_SIZE) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
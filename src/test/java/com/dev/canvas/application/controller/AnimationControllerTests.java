@@ -0,0 +1,197 @@
+package com.dev.canvas.application.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dev.canvas.application.cache.SceneCache;
+import com.dev.canvas.application.coalescing.RequestCoalescer;
+import com.dev.canvas.application.coalescing.SceneRequest;
+import com.dev.canvas.application.dto.SceneBatchEntry;
+import com.dev.canvas.application.dto.SceneBatchRequest;
+import com.dev.canvas.application.execution.BuildExecutor;
+import com.dev.canvas.application.writer.ColumnarSceneJsonWriter;
+import com.dev.canvas.application.writer.SceneJsonWriter;
+import com.dev.canvas.application.writer.SceneWriters;
+import com.dev.canvas.domain.animation.SceneCatalog;
+import com.dev.canvas.domain.animation.SceneFixtures;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.server.ResponseStatusException;
+
+class AnimationControllerTests {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final AnimationController controller = new AnimationController(
+        new SceneCatalog(SceneFixtures.sceneFactory()),
+        new SceneWriters(List.of(
+            new SceneJsonWriter(objectMapper.getFactory()),
+            new ColumnarSceneJsonWriter(objectMapper.getFactory()))),
+        new RequestCoalescer<SceneRequest, byte[]>("scene"),
+        SceneCache.inMemory(16 * 1024 * 1024),
+        BuildExecutor.inline()
+    );
+
+    @Test
+    void negotiatesSchemaVersionAndFieldSelection() throws Exception {
+        assertThat(single("circle-slide", "1.0.0", "")).isEqualTo(single("circle-slide"));
+        assertThat(single("circle-slide", "2.0.0", "tweens").get("schemaVersion").asText()).isEqualTo("2.0.0");
+
+        assertThatThrownBy(() -> single("circle-slide", "3.0.0", null))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                error -> assertThat(error.getStatusCode()).isEqualTo(HttpStatus.NOT_ACCEPTABLE));
+        assertThatThrownBy(() -> single("circle-slide", "1.0.0", "tweens"))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                error -> assertThat(error.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> single("circle-slide", "2.0.0", "tweens,colour"))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                error -> assertThat(error.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void batchKeepsRequestOrderAndMatchesSingleFetches() throws Exception {
+        List<String> names = List.of("domino-fall", "circle-slide", "client-server", "circle-slide");
+
+        JsonNode batch = batch(new SceneBatchRequest(names.stream().map(SceneBatchEntry::of).toList(), null, null));
+
+        assertThat(batch.get("scenes")).hasSize(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            JsonNode entry = batch.get("scenes").get(i);
+            assertThat(entry.get("name").asText()).isEqualTo(names.get(i));
+            assertThat(entry.get("status").asInt()).isEqualTo(200);
+            assertThat(entry.get("scene")).isEqualTo(single(names.get(i)));
+        }
+    }
+
+    @Test
+    void batchReportsErrorsPerEntry() throws Exception {
+        JsonNode batch = batch(new SceneBatchRequest(List.of(
+            SceneBatchEntry.of("circle-slide"),
+            SceneBatchEntry.of("missing"),
+            new SceneBatchEntry("circle-slide", Map.of("radius", "not-a-number"))), null, null));
+
+        JsonNode scenes = batch.get("scenes");
+        assertThat(scenes.get(0).get("status").asInt()).isEqualTo(200);
+        assertThat(scenes.get(1).get("status").asInt()).isEqualTo(404);
+        assertThat(scenes.get(1).get("error").asText()).contains("missing");
+        assertThat(scenes.get(2).get("status").asInt()).isEqualTo(400);
+        assertThat(scenes.get(2).has("scene")).isFalse();
+    }
+
+    @Test
+    void batchRejectsMoreThanTheSceneCap() {
+        List<SceneBatchEntry> entries = Collections.nCopies(257, SceneBatchEntry.of("circle-slide"));
+
+        assertThatThrownBy(() -> batch(new SceneBatchRequest(entries, null, null)))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                error -> assertThat(error.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> batch(new SceneBatchRequest(List.of(), null, null)))
+            .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void batchAtTheSceneCapSucceeds() throws Exception {
+        List<SceneBatchEntry> entries = Collections.nCopies(256, SceneBatchEntry.of("circle-slide"));
+
+        JsonNode batch = batch(new SceneBatchRequest(entries, null, null));
+
+        assertThat(batch.get("scenes")).hasSize(256);
+        assertThat(batch.get("scenes").findValuesAsText("status")).containsOnly("200");
+    }
+
+    @Test
+    void interruptedBatchStillClosesTheDocument() throws Exception {
+        List<SceneBatchEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            entries.add(SceneBatchEntry.of(i % 2 == 0 ? "domino-fall" : "client-server"));
+        }
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Thread.currentThread().interrupt();
+        try {
+            controller.getScenes(new SceneBatchRequest(entries, null, null), response);
+        } finally {
+            assertThat(Thread.interrupted()).isTrue();
+        }
+
+        JsonNode scenes = objectMapper.readTree(response.getContentAsByteArray()).get("scenes");
+        assertThat(scenes).hasSize(entries.size());
+        for (JsonNode entry : scenes) {
+            assertThat(entry.get("status").asInt()).isIn(200, 503);
+        }
+    }
+
+    @Test
+    void failedResponseWriteCancelsOutstandingFetches() {
+        RequestCoalescer<SceneRequest, byte[]> sceneRequests = new RequestCoalescer<>("scene");
+        AnimationController controller = new AnimationController(
+            new SceneCatalog(SceneFixtures.sceneFactory()),
+            new SceneWriters(List.of(new SceneJsonWriter(objectMapper.getFactory()))),
+            sceneRequests,
+            SceneCache.inMemory(16 * 1024 * 1024),
+            BuildExecutor.inline()
+        );
+        List<SceneBatchEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            entries.add(new SceneBatchEntry("domino-fall", Map.of("count", String.valueOf(200 + i))));
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse() {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return new DisconnectedOutputStream();
+            }
+        };
+
+        assertThatThrownBy(() -> controller.getScenes(new SceneBatchRequest(entries, null, null), response))
+            .isInstanceOf(IOException.class);
+
+        assertThat(sceneRequests.stats().computations()).isLessThan(entries.size());
+    }
+
+    private JsonNode batch(SceneBatchRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.getScenes(request, response);
+        return objectMapper.readTree(response.getContentAsByteArray());
+    }
+
+    private JsonNode single(String name) throws Exception {
+        return single(name, null, null);
+    }
+
+    private JsonNode single(String name, String schemaVersion, String fields) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.getScene(name, schemaVersion, fields, Map.of(), response);
+        return objectMapper.readTree(response.getContentAsByteArray());
+    }
+
+    private static final class DisconnectedOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void flush() throws IOException {
+            throw new IOException("Broken pipe");
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.dev.canvas.application.controller;
+
+import static com.dev.canvas.domain.animation.ElementFixtures.keyframe;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.dev.canvas.application.execution.BuildExecutor;
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.CircleProperties;
+import com.dev.canvas.domain.animation.EasingFunction;
+import com.dev.canvas.domain.animation.GroupProperties;
+import com.dev.canvas.domain.animation.ParticleProperties;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.SceneCatalog;
+import com.dev.canvas.domain.animation.SceneDerivedCache;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.SceneFixtures;
+import com.dev.canvas.domain.animation.SceneId;
+import com.dev.canvas.domain.animation.Style;
+import com.dev.canvas.domain.graph.ParticleEmitters;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class ParticleControllerTests {
+
+    private static final String SCENE_NAME = "particle-burst";
+
+    private final SceneCatalog sceneCatalog = new SceneCatalog(SceneFixtures.sceneFactory());
+    private final BuildExecutor buildExecutor = BuildExecutor.inline();
+    private final ParticleController controller = new ParticleController(
+        new SceneDerivedCache<>(sceneCatalog, scene -> ParticleEmitters.of(scene.getElements())),
+        buildExecutor);
+
+    @Test
+    void streamsLiveParticlesWhileTheEmitterRuns() {
+        sceneCatalog.putDefinedScene(scene());
+
+        ByteBuffer frame = ByteBuffer.wrap(controller.particles(SCENE_NAME, elementId("emitter"), 1_500, Map.of()))
+            .order(ByteOrder.LITTLE_ENDIAN);
+
+        int count = frame.getInt();
+        assertThat(count).isEqualTo(100);
+        assertThat(frame.remaining()).isEqualTo(2 * count * Float.BYTES);
+    }
+
+    @Test
+    void returnsEmptyFrameAfterTheEmitterEnds() {
+        sceneCatalog.putDefinedScene(scene());
+
+        byte[] frame = controller.particles(SCENE_NAME, elementId("emitter"), 2_100, Map.of());
+
+        assertThat(frame).hasSize(Integer.BYTES);
+        assertThat(ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN).getInt()).isZero();
+    }
+
+    @Test
+    void placesGroupedParticlesInWorldCoordinates() {
+        sceneCatalog.putDefinedScene(scene());
+
+        ByteBuffer local = ByteBuffer.wrap(controller.particles(SCENE_NAME, elementId("emitter"), 1_500, Map.of()))
+            .order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer world = ByteBuffer.wrap(controller.particles(SCENE_NAME, elementId("rigged"), 1_500, Map.of()))
+            .order(ByteOrder.LITTLE_ENDIAN);
+
+        int count = local.getInt();
+        assertThat(world.getInt()).isEqualTo(count);
+        for (int i = 0; i < count; i++) {
+            float x = local.getFloat();
+            float y = local.getFloat();
+            assertThat(world.getFloat()).isCloseTo(-2 * y + 300, within(1e-3f));
+            assertThat(world.getFloat()).isCloseTo(2 * x + 200, within(1e-3f));
+        }
+    }
+
+    @Test
+    void rejectsUnknownScenesAndNonEmitters() {
+        sceneCatalog.putDefinedScene(scene());
+
+        assertThatThrownBy(() -> controller.particles("missing", elementId("emitter"), 0, Map.of()))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                error -> assertThat(error.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        assertThatThrownBy(() -> controller.particles(SCENE_NAME, elementId("marker"), 0, Map.of()))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                error -> assertThat(error.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        assertThatThrownBy(() -> controller.particles(SCENE_NAME, elementId("emitter"), 0, Map.of("rate", "5")))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                error -> assertThat(error.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    private static String elementId(String name) {
+        return SceneId.generateForElement(SCENE_NAME, name, 0).getValue();
+    }
+
+    private static AnimationScene scene() {
+        Style style = Style.builder().fillColor("#2563EB").build();
+        ParticleProperties burst = ParticleProperties.builder().rate(100).lifetimeMillis(1_000)
+            .velocityX(-50, 50).velocityY(-50, 50).size(4).seed(11).style(style).build();
+        return AnimationScene.builder()
+            .sceneId(SceneId.generate(SCENE_NAME).getValue())
+            .name(SCENE_NAME)
+            .durationMillis(2_000)
+            .addElement(SceneElement.builder()
+                .elementId(elementId("emitter"))
+                .startMillis(0)
+                .durationMillis(2_000)
+                .properties(burst)
+                .build())
+            .addElement(SceneElement.builder()
+                .elementId(elementId("rig"))
+                .startMillis(0)
+                .durationMillis(2_000)
+                .properties(GroupProperties.builder().x(300).y(200).build())
+                .addTween(PropertyTween.builder()
+                    .propertyPath(PropertyPath.ROTATION)
+                    .addKeyframe(keyframe(0, 90, EasingFunction.LINEAR))
+                    .build())
+                .addTween(PropertyTween.builder()
+                    .propertyPath(PropertyPath.SCALE_X)
+                    .addKeyframe(keyframe(0, 2, EasingFunction.LINEAR))
+                    .build())
+                .addTween(PropertyTween.builder()
+                    .propertyPath(PropertyPath.SCALE_Y)
+                    .addKeyframe(keyframe(0, 2, EasingFunction.LINEAR))
+                    .build())
+                .build())
+            .addElement(SceneElement.builder()
+                .elementId(elementId("rigged"))
+                .parentId(elementId("rig"))
+                .startMillis(0)
+                .durationMillis(2_000)
+                .properties(burst)
+                .build())
+            .addElement(SceneElement.builder()
+                .elementId(elementId("marker"))
+                .startMillis(0)
+                .durationMillis(2_000)
+                .properties(CircleProperties.builder().centerX(0).centerY(0).radius(10).style(style).build())
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.dev.canvas.application.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dev.canvas.application.assembler.SceneAssembler;
+import com.dev.canvas.application.assembler.TimelineAssembler;
+import com.dev.canvas.application.dto.TimelineWindowResponse;
+import com.dev.canvas.domain.animation.SceneFixtures;
+import com.dev.canvas.domain.timeline.TimelineFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class TimelineControllerTests {
+
+    private final TimelineFactory timelineFactory = new TimelineFactory(SceneFixtures.sceneFactory());
+    private final TimelineController controller =
+        new TimelineController(timelineFactory, new TimelineAssembler(new SceneAssembler()));
+
+    @Test
+    void defaultsWindowToWholeTimeline() {
+        TimelineWindowResponse response = controller.getTimelineWindow("intro-chapter", 0, null);
+
+        assertThat(response.fromMillis()).isZero();
+        assertThat(response.toMillis()).isEqualTo(response.durationMillis());
+        assertThat(response.segments()).hasSize(3);
+    }
+
+    @Test
+    void rejectsUnknownTimelinesAndInvalidWindows() {
+        assertThatThrownBy(() -> controller.getTimelineWindow("missing", 0, null))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                error -> assertThat(error.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        assertThatThrownBy(() -> controller.getTimelineWindow("intro-chapter", 800, 800))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                error -> assertThat(error.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
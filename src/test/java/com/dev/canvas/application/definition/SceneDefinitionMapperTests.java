@@ -0,0 +1,121 @@
+package com.dev.canvas.application.definition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.CircleProperties;
+import com.dev.canvas.domain.animation.EasingFunction;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.PrimitiveType;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.audio.BeatList;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class SceneDefinitionMapperTests {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SceneDefinitionMapper mapper = new SceneDefinitionMapper();
+
+    @Test
+    void mapsBundledDefinition() throws IOException {
+        SceneDefinition definition = objectMapper.readValue(Path.of("scenes", "circle-pulse.json").toFile(), SceneDefinition.class);
+
+        AnimationScene scene = mapper.toScene(definition);
+
+        assertThat(scene.getName()).isEqualTo("circle-pulse");
+        assertThat(scene.getDurationMillis()).isEqualTo(1_600);
+        SceneElement circle = scene.getElements().getFirst();
+        assertThat(circle.getPrimitiveType()).isEqualTo(PrimitiveType.CIRCLE);
+        assertThat(((CircleProperties) circle.getProperties()).getRadius()).isEqualTo(120);
+        PropertyTween scaleX = circle.getTweens().getFirst();
+        assertThat(scaleX.getPropertyPath()).isEqualTo(PropertyPath.SCALE_X);
+        assertThat(scaleX.valueAt(800)).isEqualTo(1.2);
+        assertThat(scaleX.getKeyframes().get(1).getEasing()).isEqualTo(EasingFunction.EASE_IN_OUT);
+    }
+
+    @Test
+    void resolvesParentsByLocalId() throws IOException {
+        AnimationScene scene = mapper.toScene(definition("""
+            {"name": "nested", "durationMillis": 100, "elements": [
+              {"id": "card", "durationMillis": 100, "group": {"x": 10, "y": 20}},
+              {"id": "label", "parent": "card", "durationMillis": 100,
+               "circle": {"centerX": 0, "centerY": 0, "radius": 4}}
+            ]}
+            """));
+
+        SceneElement group = scene.getElements().get(0);
+        SceneElement child = scene.getElements().get(1);
+        assertThat(child.getParentId()).contains(group.getElementId());
+    }
+
+    @Test
+    void rejectsInvalidDefinitions() {
+        assertThatThrownBy(() -> mapper.toScene(definition("""
+            {"durationMillis": 100, "elements": []}
+            """))).hasMessageContaining("requires a name");
+        assertThatThrownBy(() -> mapper.toScene(definition("""
+            {"name": "orphan", "durationMillis": 100, "elements": [
+              {"id": "dot", "parent": "missing", "durationMillis": 100,
+               "circle": {"centerX": 0, "centerY": 0, "radius": 4}}
+            ]}
+            """))).hasMessageContaining("unknown parent");
+        assertThatThrownBy(() -> mapper.toScene(definition("""
+            {"name": "double", "durationMillis": 100, "elements": [
+              {"id": "dot", "durationMillis": 100,
+               "circle": {"centerX": 0, "centerY": 0, "radius": 4}, "group": {"x": 0, "y": 0}}
+            ]}
+            """))).hasMessageContaining("exactly one");
+        assertThatThrownBy(() -> mapper.toScene(definition("""
+            {"name": "unordered", "durationMillis": 100, "elements": [
+              {"id": "dot", "durationMillis": 100, "circle": {"centerX": 0, "centerY": 0, "radius": 4},
+               "tweens": [{"propertyPath": "positionX", "keyframes": [
+                 {"timeMillis": 50, "value": 1}, {"timeMillis": 10, "value": 2}]}]}
+            ]}
+            """))).hasMessageContaining("ordered by time");
+        assertThatThrownBy(() -> mapper.toScene(definition("""
+            {"name": "colored", "durationMillis": 100, "elements": [
+              {"id": "dot", "durationMillis": 100, "circle": {"centerX": 0, "centerY": 0, "radius": 4},
+               "tweens": [{"propertyPath": "opacity", "keyframes": [{"timeMillis": 0, "color": "#FFFFFF"}]}]}
+            ]}
+            """))).hasMessageContaining("color property path");
+    }
+
+    @Test
+    void snapsToBeatsWithoutMergingKeyframesOrMovingElementEnds() throws IOException {
+        BeatList beats = new BeatList(44_100, 2_000, new int[] {100, 400, 1_000}, List.of());
+
+        AnimationScene scene = mapper.toScene(definition("""
+            {"name": "beats", "durationMillis": 2000, "elements": [
+              {"id": "dot", "startMillis": 90, "durationMillis": 910, "circle": {"centerX": 0, "centerY": 0, "radius": 4},
+               "tweens": [{"propertyPath": "positionX", "keyframes": [
+                 {"timeMillis": 350, "value": 0},
+                 {"timeMillis": 380, "value": 10, "easing": "EASE_IN_OUT"},
+                 {"timeMillis": 450, "value": 20, "easing": "EASE_IN_OUT"}]}]},
+              {"id": "late", "startMillis": 960, "durationMillis": 100, "circle": {"centerX": 0, "centerY": 0, "radius": 4}},
+              {"id": "blip", "startMillis": 990, "durationMillis": 5, "circle": {"centerX": 0, "centerY": 0, "radius": 4}}
+            ]}
+            """), beats);
+
+        SceneElement dot = scene.getElements().get(0);
+        assertThat(dot.getStartMillis()).isEqualTo(100);
+        assertThat(dot.getStartMillis() + dot.getDurationMillis()).isEqualTo(1_000);
+        assertThat(dot.getTweens().getFirst().getKeyframes()).extracting(Keyframe::getTimeMillis)
+            .containsExactly(350, 400, 450);
+        assertThat(scene.getElements().get(1)).extracting(SceneElement::getStartMillis, SceneElement::getDurationMillis)
+            .containsExactly(1_000, 60);
+        assertThat(scene.getElements().get(2)).extracting(SceneElement::getStartMillis, SceneElement::getDurationMillis)
+            .containsExactly(990, 5);
+    }
+
+    private SceneDefinition definition(String json) throws IOException {
+        return objectMapper.readValue(json, SceneDefinition.class);
+    }
+}
@@ -0,0 +1,112 @@
+package com.dev.canvas.application.definition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dev.canvas.application.narration.NarrationLibrary;
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.SceneCatalog;
+import com.dev.canvas.domain.animation.SceneFixtures;
+import com.dev.canvas.domain.audio.AudioAnalyzer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class SceneDefinitionWatcherTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @TempDir
+    private Path directory;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SceneCatalog sceneCatalog = new SceneCatalog(SceneFixtures.sceneFactory());
+    private SceneDefinitionWatcher watcher;
+
+    @AfterEach
+    void stopWatcher() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    @Test
+    void loadsUpdatesAndRemovesDefinitions() throws Exception {
+        Path file = write("pulse.json", "pulse", 1_000);
+        start();
+        assertThat(duration("pulse")).contains(1_000);
+
+        write("pulse.json", "pulse", 2_000);
+        awaitScene("pulse", scene -> scene.getDurationMillis() == 2_000);
+
+        write("pulse.json", "{ broken");
+        write("other.json", "other", 500);
+        awaitScene("other", scene -> true);
+        assertThat(duration("pulse")).contains(2_000);
+
+        Files.delete(file);
+        awaitRemoved("pulse");
+    }
+
+    @Test
+    void duplicateNameDoesNotOverrideOrRemoveTheOwner() throws Exception {
+        Path owner = write("a.json", "shared", 1_000);
+        Path duplicate = write("b.json", "shared", 2_000);
+        start();
+        assertThat(duration("shared")).contains(1_000);
+
+        Files.delete(duplicate);
+        write("c.json", "marker", 100);
+        awaitScene("marker", scene -> true);
+        assertThat(duration("shared")).contains(1_000);
+
+        write("b.json", "shared", 2_000);
+        Files.delete(owner);
+        awaitScene("shared", scene -> scene.getDurationMillis() == 2_000);
+    }
+
+    private void start() throws IOException {
+        watcher = new SceneDefinitionWatcher(directory, objectMapper, new SceneDefinitionMapper(), sceneCatalog,
+            new NarrationLibrary(directory, new AudioAnalyzer()));
+        watcher.start();
+    }
+
+    private Optional<Integer> duration(String name) {
+        return sceneCatalog.findScene(name).map(AnimationScene::getDurationMillis);
+    }
+
+    private void awaitScene(String name, Predicate<AnimationScene> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!sceneCatalog.findScene(name).filter(condition).isPresent()) {
+            assertThat(System.nanoTime()).as("waiting for scene %s", name).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private void awaitRemoved(String name) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (sceneCatalog.findScene(name).isPresent()) {
+            assertThat(System.nanoTime()).as("waiting for removal of %s", name).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private Path write(String fileName, String sceneName, int durationMillis) throws IOException {
+        return write(fileName, """
+            {"name": "%s", "durationMillis": %d, "elements": [
+              {"id": "dot", "durationMillis": %d, "circle": {"centerX": 0, "centerY": 0, "radius": 8}}
+            ]}
+            """.formatted(sceneName, durationMillis, durationMillis));
+    }
+
+    private Path write(String fileName, String content) throws IOException {
+        return Files.writeString(directory.resolve(fileName), content);
+    }
+}
@@ -0,0 +1,15 @@
+package com.dev.canvas.application.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class BuildExecutorTests {
+
+    @Test
+    void inlineExecutorRunsBuildsOnTheCallingThread() {
+        BuildExecutor executor = BuildExecutor.inline();
+
+        assertThat(executor.call(() -> Thread.currentThread())).isSameAs(Thread.currentThread());
+    }
+}
@@ -0,0 +1,214 @@
+package com.dev.canvas.application.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.CircleProperties;
+import com.dev.canvas.domain.animation.EasingFunction;
+import com.dev.canvas.domain.animation.GroupProperties;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.LineProperties;
+import com.dev.canvas.domain.animation.ParticleProperties;
+import com.dev.canvas.domain.animation.PathProperties;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.RectProperties;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.SceneFactory;
+import com.dev.canvas.domain.animation.SceneFixtures;
+import com.dev.canvas.domain.animation.Shadow;
+import com.dev.canvas.domain.animation.Style;
+import com.dev.canvas.domain.animation.TextProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.w3c.dom.Document;
+
+class SceneExportTests {
+
+    private static final int LARGE_SCENE_CARDS = 20_000;
+    private static final int MAX_WRITE_BYTES = 64 * 1024;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SvgSceneExporter svgExporter = new SvgSceneExporter(1920, 1080);
+    private final LottieSceneExporter lottieExporter = new LottieSceneExporter(objectMapper.getFactory(), 1920, 1080, 60);
+    private final SceneFactory sceneFactory = SceneFixtures.sceneFactory();
+
+    @Test
+    void exportsWellFormedDocumentsForBuiltInScenes() throws Exception {
+        List<AnimationScene> scenes = List.of(
+            sceneFactory.createCircleSlideScene(),
+            sceneFactory.createClientServerScene(),
+            sceneFactory.createDominoFallScene(),
+            cardScene(3),
+            effectsScene());
+        for (AnimationScene scene : scenes) {
+            Document svg = parseSvg(export(svgExporter, scene));
+            assertThat(svg.getDocumentElement().getTagName()).as("scene %s", scene.getName()).isEqualTo("svg");
+
+            JsonNode lottie = objectMapper.readTree(export(lottieExporter, scene));
+            assertThat(lottie.get("layers").size()).as("scene %s", scene.getName())
+                .isEqualTo(scene.getElements().size() + (scene.getBackground() != null ? 1 : 0));
+        }
+    }
+
+    @Test
+    void mapsEasingsDrawOnAndGroupsToNativeAnimation() throws Exception {
+        AnimationScene scene = cardScene(1);
+
+        String svg = new String(export(svgExporter, scene));
+        assertThat(svg).contains("keySplines=\"0.32 0 0.67 0;");
+        assertThat(svg).contains("attributeName=\"stroke-dashoffset\"");
+        assertThat(svg).contains("feDropShadow");
+
+        JsonNode layers = objectMapper.readTree(export(lottieExporter, scene)).get("layers");
+        JsonNode card = layers.get(layers.size() - 2);
+        JsonNode circle = layers.get(layers.size() - 3);
+        assertThat(card.get("ty").asInt()).isEqualTo(3);
+        assertThat(circle.get("parent").asInt()).isEqualTo(card.get("ind").asInt());
+        JsonNode easing = card.at("/ks/p/x/k/0/o");
+        assertThat(easing.at("/x/0").asDouble()).isEqualTo(0.32);
+        assertThat(easing.at("/y/0").asDouble()).isEqualTo(0);
+        assertThat(layers.get(0).at("/shapes/0/it/1/ty").asText()).isEqualTo("tm");
+    }
+
+    @Test
+    void streamsLargeScenesInBoundedWrites() throws IOException {
+        AnimationScene scene = cardScene(LARGE_SCENE_CARDS);
+        for (SceneExporter exporter : List.of(svgExporter, lottieExporter)) {
+            WriteTrackingOutputStream output = new WriteTrackingOutputStream();
+            exporter.export(scene, output);
+
+            assertThat(output.total).isGreaterThan(100L * MAX_WRITE_BYTES);
+            assertThat(output.largest).isLessThanOrEqualTo(MAX_WRITE_BYTES);
+        }
+    }
+
+    private static AnimationScene cardScene(int cards) {
+        AnimationScene.Builder builder = AnimationScene.builder()
+            .sceneId("export-sample")
+            .name("export-sample")
+            .durationMillis(2_000)
+            .background("#F8FAFC");
+        Style cardStyle = Style.builder()
+            .fillColor("#FFFFFF")
+            .shadow(Shadow.builder().blur(20).offsetX(0).offsetY(8).color("rgba(0,0,0,0.2)").build())
+            .build();
+        for (int card = 0; card < cards; card++) {
+            String id = "card-" + card;
+            builder.addElement(SceneElement.builder()
+                .elementId(id)
+                .durationMillis(2_000)
+                .properties(GroupProperties.builder().x(card % 40 * 40 - 800).y(card / 40 % 20 * 40 - 400).build())
+                .addTween(tween(PropertyPath.POSITION_X, card % 40 * 40 - 800, card % 40 * 40 - 700, EasingFunction.EASE_IN))
+                .build());
+            builder.addElement(SceneElement.builder()
+                .elementId(id + "-dot")
+                .parentId(id)
+                .durationMillis(2_000)
+                .properties(CircleProperties.builder().centerX(0).centerY(0).radius(12)
+                    .style(Style.builder().fillColor("#2563EB").build()).build())
+                .addTween(tween(PropertyPath.OPACITY, 0, 1, EasingFunction.EASE_OUT))
+                .build());
+            builder.addElement(SceneElement.builder()
+                .elementId(id + "-box")
+                .parentId(id)
+                .durationMillis(2_000)
+                .properties(RectProperties.builder().centerX(0).centerY(30).width(80).height(40).radius(8)
+                    .style(cardStyle).build())
+                .build());
+            builder.addElement(SceneElement.builder()
+                .elementId(id + "-label")
+                .parentId(id)
+                .durationMillis(2_000)
+                .properties(TextProperties.builder().text("Card " + card).centerX(0).centerY(30).fontSize(16)
+                    .color("#111827").fontWeight("600").build())
+                .build());
+            builder.addElement(SceneElement.builder()
+                .elementId(id + "-link")
+                .startMillis(500)
+                .durationMillis(1_500)
+                .properties(LineProperties.builder().startX(-20).startY(0).endX(20).endY(0)
+                    .style(Style.builder().strokeColor("#111827").lineWidth(3).build()).build())
+                .addTween(tween(PropertyPath.END, 0, 1, EasingFunction.EASE_IN_OUT))
+                .build());
+        }
+        return builder.build();
+    }
+
+    private static AnimationScene effectsScene() {
+        return AnimationScene.builder()
+            .sceneId("effects-sample")
+            .name("effects-sample")
+            .durationMillis(2_000)
+            .addElement(SceneElement.builder()
+                .elementId("track")
+                .durationMillis(2_000)
+                .properties(PathProperties.builder()
+                    .data("M-400 0 Q-200 -300 0 0 C100 150 300 150 400 0 L400 200 Z")
+                    .style(Style.builder().strokeColor("#111827").lineWidth(4).build())
+                    .build())
+                .addTween(tween(PropertyPath.START, 0, 0.25, EasingFunction.EASE_OUT))
+                .addTween(tween(PropertyPath.END, 0, 1, EasingFunction.EASE_IN_OUT))
+                .build())
+            .addElement(SceneElement.builder()
+                .elementId("rider")
+                .parentId("track")
+                .durationMillis(2_000)
+                .properties(CircleProperties.builder().centerX(0).centerY(0).radius(10)
+                    .style(Style.builder().fillColor("#DC2626").build()).build())
+                .addTween(tween(PropertyPath.PATH_PROGRESS, 0, 1, EasingFunction.EASE_IN_OUT))
+                .build())
+            .addElement(SceneElement.builder()
+                .elementId("packets")
+                .startMillis(500)
+                .durationMillis(1_500)
+                .properties(ParticleProperties.builder().x(-400).y(300).rate(20).lifetimeMillis(800)
+                    .velocityX(600, 900).velocityY(-20, 20).size(6).seed(3)
+                    .style(Style.builder().fillColor("#2563EB").build()).build())
+                .build())
+            .build();
+    }
+
+    private static PropertyTween tween(PropertyPath path, double from, double to, EasingFunction easing) {
+        return PropertyTween.builder()
+            .propertyPath(path)
+            .addKeyframe(Keyframe.builder().timeMillis(0).value(from).easing(EasingFunction.LINEAR).build())
+            .addKeyframe(Keyframe.builder().timeMillis(1_000).value(to).easing(easing).build())
+            .build();
+    }
+
+    private static byte[] export(SceneExporter exporter, AnimationScene scene) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exporter.export(scene, output);
+        return output.toByteArray();
+    }
+
+    private static Document parseSvg(byte[] svg) throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(svg));
+    }
+
+    private static final class WriteTrackingOutputStream extends OutputStream {
+
+        private long total;
+        private int largest;
+
+        @Override
+        public void write(int b) {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            total += len;
+            largest = Math.max(largest, len);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.dev.canvas.application.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dev.canvas.application.writer.SceneJsonWriter;
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.CircleProperties;
+import com.dev.canvas.domain.animation.EasingFunction;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.SceneId;
+import com.dev.canvas.domain.animation.Style;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class RenderSchedulerTests {
+
+    private static final String SCENE_NAME = "render-sample";
+    private static final int FPS = 30;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final RenderChunkPlanner planner = new RenderChunkPlanner(new SceneJsonWriter(objectMapper.getFactory()));
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void spreadsChunksAcrossAllWorkers() throws Exception {
+        int workers = 4;
+        CountDownLatch allBusy = new CountDownLatch(workers);
+        StubRenderWorker worker = new StubRenderWorker().holdingUntilBusy(allBusy);
+        try (RenderScheduler scheduler = new RenderScheduler(worker, workers, 1, outputDirectory, ".bin")) {
+            List<RenderChunk> chunks = planner.plan(scene(4_000, 100), FPS, 3);
+            RenderJob job = scheduler.submit(SCENE_NAME, chunks).completion().get(1, TimeUnit.MINUTES);
+
+            assertThat(chunks).hasSize(40);
+            assertThat(job.getState()).isEqualTo(RenderJob.State.COMPLETED);
+            assertThat(job.count(RenderJob.ChunkState.RENDERED)).isEqualTo(chunks.size());
+            assertThat(worker.renders()).isEqualTo(chunks.size());
+            assertThat(worker.threads()).hasSize(workers);
+        }
+    }
+
+    @Test
+    void failsChunksThatExhaustTheirAttempts() throws Exception {
+        StubRenderWorker worker = new StubRenderWorker().alwaysFailing();
+        try (RenderScheduler scheduler = new RenderScheduler(worker, 2, 3, outputDirectory, ".bin")) {
+            List<RenderChunk> chunks = planner.plan(scene(4_000, 100), FPS, FPS);
+            RenderJob job = scheduler.submit(SCENE_NAME, chunks).completion().get(10, TimeUnit.SECONDS);
+
+            assertThat(job.getState()).isEqualTo(RenderJob.State.FAILED);
+            assertThat(job.count(RenderJob.ChunkState.FAILED)).isEqualTo(chunks.size());
+            assertThat(worker.renders()).isEqualTo(3 * chunks.size());
+        }
+    }
+
+    @Test
+    void rerendersOnlyChunksAffectedByAChange() throws Exception {
+        StubRenderWorker worker = new StubRenderWorker();
+        try (RenderScheduler scheduler = new RenderScheduler(worker, 2, 1, outputDirectory, ".bin")) {
+            List<RenderChunk> original = planner.plan(scene(4_000, 100), FPS, FPS);
+            RenderJob first = scheduler.submit(SCENE_NAME, original).completion().get(10, TimeUnit.SECONDS);
+
+            List<RenderChunk> edited = planner.plan(scene(4_000, 180), FPS, FPS);
+            RenderJob second = scheduler.submit(SCENE_NAME, edited).completion().get(10, TimeUnit.SECONDS);
+
+            assertThat(first.getState()).isEqualTo(RenderJob.State.COMPLETED);
+            assertThat(first.count(RenderJob.ChunkState.RENDERED)).isEqualTo(4);
+            assertThat(second.getState()).isEqualTo(RenderJob.State.COMPLETED);
+            assertThat(second.count(RenderJob.ChunkState.CACHED)).isEqualTo(3);
+            assertThat(second.chunkState(3)).isEqualTo(RenderJob.ChunkState.RENDERED);
+            assertThat(worker.renders()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void retriesFailedChunks() throws Exception {
+        StubRenderWorker worker = new StubRenderWorker().failingFirstAttempt();
+        try (RenderScheduler scheduler = new RenderScheduler(worker, 2, 2, outputDirectory, ".bin")) {
+            List<RenderChunk> chunks = planner.plan(scene(4_000, 100), FPS, FPS);
+            RenderJob job = scheduler.submit(SCENE_NAME, chunks).completion().get(10, TimeUnit.SECONDS);
+
+            assertThat(job.getState()).isEqualTo(RenderJob.State.COMPLETED);
+            for (int i = 0; i < chunks.size(); i++) {
+                assertThat(job.chunkAttempts(i)).isEqualTo(2);
+                assertThat(Files.readString(job.chunkOutput(i))).isEqualTo(chunks.get(i).contentHash());
+            }
+        }
+    }
+
+    private static AnimationScene scene(int durationMillis, int lastTarget) {
+        return AnimationScene.builder()
+            .sceneId(SceneId.generate(SCENE_NAME).getValue())
+            .name(SCENE_NAME)
+            .durationMillis(durationMillis)
+            .background("#F5F5DC")
+            .addElement(circle("first", 0, 100))
+            .addElement(circle("last", durationMillis - 1_000, lastTarget))
+            .build();
+    }
+
+    private static SceneElement circle(String localId, int startMillis, int target) {
+        return SceneElement.builder()
+            .elementId(SceneId.generateForElement(SCENE_NAME, localId, 0).getValue())
+            .startMillis(startMillis)
+            .durationMillis(1_000)
+            .properties(CircleProperties.builder()
+                .centerX(0)
+                .centerY(0)
+                .radius(20)
+                .style(Style.builder().fillColor("#EF4444").build())
+                .build())
+            .addTween(PropertyTween.builder()
+                .propertyPath(PropertyPath.POSITION_X)
+                .addKeyframe(Keyframe.builder().timeMillis(0).value(0).easing(EasingFunction.LINEAR).build())
+                .addKeyframe(Keyframe.builder().timeMillis(1_000).value(target).easing(EasingFunction.LINEAR).build())
+                .build())
+            .build();
+    }
+
+    private static final class StubRenderWorker implements RenderWorker {
+
+        private final AtomicInteger renders = new AtomicInteger();
+        private final Set<String> failedOnce = ConcurrentHashMap.newKeySet();
+        private final Set<String> threads = ConcurrentHashMap.newKeySet();
+        private boolean failFirstAttempt;
+        private boolean failAlways;
+        private CountDownLatch allBusy = new CountDownLatch(0);
+
+        private StubRenderWorker failingFirstAttempt() {
+            this.failFirstAttempt = true;
+            return this;
+        }
+
+        private StubRenderWorker alwaysFailing() {
+            this.failAlways = true;
+            return this;
+        }
+
+        private StubRenderWorker holdingUntilBusy(CountDownLatch latch) {
+            this.allBusy = latch;
+            return this;
+        }
+
+        private int renders() {
+            return renders.get();
+        }
+
+        private Set<String> threads() {
+            return threads;
+        }
+
+        @Override
+        public void render(RenderChunk chunk, Path output) throws IOException, InterruptedException {
+            renders.incrementAndGet();
+            threads.add(Thread.currentThread().getName());
+            if (failAlways || failFirstAttempt && failedOnce.add(chunk.contentHash())) {
+                throw new IOException("Simulated worker crash on chunk " + chunk.index());
+            }
+            allBusy.countDown();
+            if (!allBusy.await(10, TimeUnit.SECONDS)) {
+                throw new IOException("Workers never rendered concurrently");
+            }
+            Files.writeString(output, chunk.contentHash());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.dev.canvas.application.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.SceneFactory;
+import com.dev.canvas.domain.animation.SceneFixtures;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class ColumnarSceneJsonWriterTests {
+
+    private static final Map<String, String> TYPES = Map.of(
+        "c", "CIRCLE", "r", "RECT", "l", "LINE", "t", "TEXT",
+        "d", "DOMINO", "g", "GROUP", "p", "PATH", "pt", "PARTICLES");
+    private static final Map<String, String> PATHS = Map.ofEntries(
+        Map.entry("x", "positionX"), Map.entry("y", "positionY"), Map.entry("o", "opacity"),
+        Map.entry("sx", "scaleX"), Map.entry("sy", "scaleY"), Map.entry("r", "rotation"),
+        Map.entry("rx", "rotationX"), Map.entry("s", "start"), Map.entry("e", "end"),
+        Map.entry("pp", "pathProgress"), Map.entry("fc", "fillColor"), Map.entry("sc", "strokeColor"),
+        Map.entry("tc", "textColor"), Map.entry("hc", "shadowColor"));
+    private static final Map<String, String> EASINGS = Map.of(
+        "l", "linear", "i", "easeIn", "o", "easeOut", "io", "easeInOut");
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SceneJsonWriter rowWriter = new SceneJsonWriter(objectMapper.getFactory());
+    private final ColumnarSceneJsonWriter columnarWriter = new ColumnarSceneJsonWriter(objectMapper.getFactory());
+    private final SceneFactory sceneFactory = SceneFixtures.sceneFactory();
+
+    @Test
+    void columnarDocumentCarriesTheSameSceneAsVersionOne() throws IOException {
+        for (AnimationScene scene : scenes()) {
+            JsonNode rows = write(rowWriter, scene, SceneField.all());
+            JsonNode columns = write(columnarWriter, scene, SceneField.all());
+
+            assertThat(columns.get("schemaVersion").asText()).isEqualTo("2.0.0");
+            assertThat(columns.get("sceneId")).isEqualTo(rows.get("sceneId"));
+            assertThat(columns.get("durationMillis")).isEqualTo(rows.get("durationMillis"));
+            assertThat(columns.get("elements")).hasSameSizeAs(rows.get("elements"));
+
+            for (int i = 0; i < rows.get("elements").size(); i++) {
+                assertSameElement(rows.get("elements").get(i), columns.get("elements").get(i));
+            }
+        }
+    }
+
+    @Test
+    void omitsUnselectedFields() throws IOException {
+        AnimationScene scene = sceneFactory.createClientServerScene();
+
+        JsonNode tweensOnly = write(columnarWriter, scene, EnumSet.of(SceneField.TWEENS));
+        JsonNode unstyled = write(columnarWriter, scene, EnumSet.of(SceneField.PROPERTIES));
+
+        for (JsonNode element : tweensOnly.get("elements")) {
+            assertThat(element.has("tweens")).isTrue();
+            assertThat(element.has(propertiesField(element))).isFalse();
+        }
+        for (JsonNode element : unstyled.get("elements")) {
+            assertThat(element.has("tweens")).isFalse();
+            assertThat(element.get(propertiesField(element)).has("style")).isFalse();
+        }
+    }
+
+    @Test
+    void parsesFieldSelections() {
+        assertThat(SceneField.parse(null)).isEqualTo(SceneField.all());
+        assertThat(SceneField.parse("")).isEqualTo(SceneField.all());
+        assertThat(SceneField.parse(" tweens, styles ")).containsExactlyInAnyOrder(SceneField.TWEENS, SceneField.STYLES);
+        assertThatThrownBy(() -> SceneField.parse("tweens,colour")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void assertSameElement(JsonNode row, JsonNode column) {
+        assertThat(column.get("elementId")).isEqualTo(row.get("elementId"));
+        assertThat(TYPES.get(column.get("type").asText())).isEqualTo(row.get("primitiveType").asText());
+        assertThat(column.get("startMillis")).isEqualTo(row.get("startMillis"));
+        assertThat(column.get("durationMillis")).isEqualTo(row.get("durationMillis"));
+        assertThat(column.path("parentId")).isEqualTo(row.path("parentId"));
+
+        String properties = propertiesField(column);
+        assertSameValue(row.get(properties), column.get(properties));
+
+        JsonNode rowTweens = row.get("tweens");
+        JsonNode columnTweens = column.get("tweens");
+        assertThat(columnTweens).hasSameSizeAs(rowTweens);
+        for (int t = 0; t < rowTweens.size(); t++) {
+            JsonNode keyframes = rowTweens.get(t).get("keyframes");
+            JsonNode tween = columnTweens.get(t);
+            assertThat(PATHS.get(tween.get("propertyPath").asText())).isEqualTo(rowTweens.get(t).get("propertyPath").asText());
+            for (int k = 0; k < keyframes.size(); k++) {
+                assertThat(tween.get("times").get(k).asInt()).isEqualTo(keyframes.get(k).get("timeMillis").asInt());
+                assertSameValue(keyframes.get(k).get("value"), tween.get("values").get(k));
+                assertThat(tween.path("colors").path(k)).isEqualTo(keyframes.get(k).path("color"));
+                assertThat(EASINGS.get(tween.get("easings").get(k).asText())).isEqualTo(keyframes.get(k).get("easing").asText());
+            }
+        }
+    }
+
+    private static void assertSameValue(JsonNode expected, JsonNode actual) {
+        if (expected.isNumber()) {
+            assertThat(actual.asDouble()).isEqualTo(expected.asDouble());
+        } else if (expected.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = expected.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!field.getValue().isNull()) {
+                    assertSameValue(field.getValue(), actual.get(field.getKey()));
+                }
+            }
+        } else {
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    private static String propertiesField(JsonNode column) {
+        String type = TYPES.get(column.get("type").asText());
+        return type.equals("PARTICLES") ? "particles" : type.toLowerCase();
+    }
+
+    private JsonNode write(SceneWriter writer, AnimationScene scene, Set<SceneField> fields) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        writer.write(scene, fields, output);
+        return objectMapper.readTree(output.toByteArray());
+    }
+
+    private List<AnimationScene> scenes() {
+        return List.of(
+            sceneFactory.createCircleSlideScene(),
+            sceneFactory.createClientServerScene(),
+            sceneFactory.createDominoFallScene(),
+            WriterFixtures.colorScene());
+    }
+}
@@ -0,0 +1,104 @@
+package com.dev.canvas.application.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dev.canvas.application.assembler.SceneAssembler;
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.SceneFactory;
+import com.dev.canvas.domain.animation.SceneFixtures;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class SceneJsonWriterTests {
+
+    private static final int WARMUP_ITERATIONS = 5_000;
+    private static final int MEASURED_ITERATIONS = 20_000;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SceneAssembler sceneAssembler = new SceneAssembler();
+    private final SceneJsonWriter sceneJsonWriter = new SceneJsonWriter(objectMapper.getFactory());
+    private final SceneFactory sceneFactory = SceneFixtures.sceneFactory();
+
+    @Test
+    void producesSameBytesAsAssemblerPath() throws IOException {
+        for (AnimationScene scene : scenes()) {
+            ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+            sceneJsonWriter.write(scene, streamed);
+
+            byte[] assembled = objectMapper.writeValueAsBytes(sceneAssembler.toResponse(scene));
+
+            assertThat(streamed.toByteArray())
+                .as("scene %s", scene.getName())
+                .isEqualTo(assembled);
+        }
+    }
+
+    @Test
+    void writesColorKeyframesAsColorStrings() throws IOException {
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        sceneJsonWriter.write(WriterFixtures.colorScene(), streamed);
+
+        JsonNode tweens = objectMapper.readTree(streamed.toByteArray()).get("elements").get(0).get("tweens");
+        JsonNode fill = tweens.get(0).get("keyframes");
+        assertThat(fill.get(0).get("color").asText()).isEqualTo("#EF4444");
+        assertThat(fill.get(1).get("color").asText()).isEqualTo("rgba(59,130,246,0.502)");
+        assertThat(tweens.get(1).get("keyframes").get(0).has("color")).isFalse();
+    }
+
+    @Test
+    void allocatesLessPerRequestThanAssemblerPath() throws IOException {
+        AnimationScene scene = sceneFactory.createClientServerScene();
+        OutputStream sink = new DiscardingOutputStream();
+
+        long assembledBytes = allocatedPerOperation(() -> objectMapper.writeValue(sink, sceneAssembler.toResponse(scene)));
+        long streamedBytes = allocatedPerOperation(() -> sceneJsonWriter.write(scene, sink));
+
+        assertThat(streamedBytes).isLessThan(assembledBytes);
+    }
+
+    private List<AnimationScene> scenes() {
+        return List.of(
+            sceneFactory.createCircleSlideScene(),
+            sceneFactory.createClientServerScene(),
+            sceneFactory.createDominoFallScene(),
+            WriterFixtures.colorScene()
+        );
+    }
+
+    private static long allocatedPerOperation(IoOperation operation) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            operation.run();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / MEASURED_ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface IoOperation {
+        void run() throws IOException;
+    }
+
+    private static final class DiscardingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.dev.canvas.application.writer;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.CircleProperties;
+import com.dev.canvas.domain.animation.EasingFunction;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.SceneId;
+import com.dev.canvas.domain.animation.Style;
+
+final class WriterFixtures {
+
+    private static final String COLOR_SCENE = "color-fade";
+
+    private WriterFixtures() {
+    }
+
+    static AnimationScene colorScene() {
+        return AnimationScene.builder()
+            .sceneId(SceneId.generate(COLOR_SCENE).getValue())
+            .name(COLOR_SCENE)
+            .durationMillis(1_000)
+            .addElement(SceneElement.builder()
+                .elementId(SceneId.generateForElement(COLOR_SCENE, "dot", 0).getValue())
+                .startMillis(0)
+                .durationMillis(1_000)
+                .properties(CircleProperties.builder().centerX(0).centerY(0).radius(40)
+                    .style(Style.builder().fillColor("#EF4444").build()).build())
+                .addTween(PropertyTween.builder()
+                    .propertyPath(PropertyPath.FILL_COLOR)
+                    .addKeyframe(Keyframe.builder().timeMillis(0).color("#EF4444").easing(EasingFunction.LINEAR).build())
+                    .addKeyframe(Keyframe.builder().timeMillis(1_000).color("rgba(59,130,246,0.5)")
+                        .easing(EasingFunction.EASE_IN_OUT).build())
+                    .build())
+                .addTween(PropertyTween.builder()
+                    .propertyPath(PropertyPath.OPACITY)
+                    .addKeyframe(Keyframe.builder().timeMillis(0).value(1).easing(EasingFunction.LINEAR).build())
+                    .addKeyframe(Keyframe.builder().timeMillis(1_000).value(0.5).easing(EasingFunction.LINEAR).build())
+                    .build())
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.dev.canvas.domain.animation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public final class ElementFixtures {
+
+    private ElementFixtures() {
+    }
+
+    public static List<SceneElement> movingCircles(Random random, int count, int worldSize) {
+        Style style = Style.builder()
+            .fillColor("#EF4444")
+            .lineWidth(2)
+            .build();
+
+        List<SceneElement> created = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int x = random.nextInt(worldSize);
+            int y = random.nextInt(worldSize);
+            int start = random.nextInt(1_000);
+
+            created.add(SceneElement.builder()
+                .elementId("circle-" + i)
+                .startMillis(start)
+                .durationMillis(1_000)
+                .properties(CircleProperties.builder()
+                    .centerX(x)
+                    .centerY(y)
+                    .radius(5 + random.nextInt(20))
+                    .style(style)
+                    .build())
+                .addTween(PropertyTween.builder()
+                    .propertyPath(PropertyPath.POSITION_X)
+                    .addKeyframe(keyframe(start, x, EasingFunction.EASE_IN_OUT))
+                    .addKeyframe(keyframe(start + 1_000, x + random.nextInt(200) - 100, EasingFunction.EASE_IN_OUT))
+                    .build())
+                .build());
+        }
+        return created;
+    }
+
+    public static List<SceneElement> topplingDominos(Random random, int count) {
+        Style style = Style.builder()
+            .fillColor("#F59E0B")
+            .build();
+
+        List<SceneElement> created = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int start = random.nextInt(1_000);
+            created.add(SceneElement.builder()
+                .elementId("domino-" + i)
+                .startMillis(0)
+                .durationMillis(2_000)
+                .properties(DominoProperties.builder()
+                    .x(random.nextInt(4_000))
+                    .y(random.nextInt(2_000))
+                    .z(random.nextInt(200))
+                    .width(20)
+                    .height(80)
+                    .depth(10)
+                    .style(style)
+                    .build())
+                .addTween(PropertyTween.builder()
+                    .propertyPath(PropertyPath.ROTATION_X)
+                    .addKeyframe(keyframe(start, 0, EasingFunction.EASE_IN))
+                    .addKeyframe(keyframe(start + 600, 85, EasingFunction.EASE_IN))
+                    .build())
+                .build());
+        }
+        return created;
+    }
+
+    public static Keyframe keyframe(int timeMillis, double value, EasingFunction easing) {
+        return Keyframe.builder()
+            .timeMillis(timeMillis)
+            .value(value)
+            .easing(easing)
+            .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.dev.canvas.domain.animation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class ParticlePropertiesTests {
+
+    private static final int FRAME_PARTICLES = 100_000;
+    private static final int FRAMES = 120;
+
+    private static final ParticleProperties PACKETS = ParticleProperties.builder()
+        .x(-600)
+        .y(0)
+        .rate(40)
+        .lifetimeMillis(1_500)
+        .velocityX(700, 900)
+        .velocityY(-40, 40)
+        .size(6)
+        .seed(42)
+        .style(Style.builder().fillColor("#2563EB").build())
+        .build();
+
+    @Test
+    void evaluatesLiveParticlesInClosedForm() {
+        assertThat(PACKETS.countAt(-1)).isZero();
+        assertThat(PACKETS.countAt(0)).isEqualTo(1);
+        assertThat(PACKETS.countAt(10_000)).isEqualTo(60);
+
+        int time = 7_321;
+        float[] positions = new float[2 * PACKETS.countAt(time)];
+        int count = PACKETS.positionsAt(time, positions);
+        long first = PACKETS.firstAliveAt(time);
+        for (int i = 0; i < count; i++) {
+            long particle = first + i;
+            double age = (time - PACKETS.spawnMillis(particle)) / 1000;
+            assertThat(age).isBetween(0.0, 1.5);
+            assertThat(PACKETS.velocityX(particle)).isBetween(700.0, 900.0);
+            assertThat(PACKETS.velocityY(particle)).isBetween(-40.0, 40.0);
+            assertThat(positions[2 * i]).isCloseTo((float) (-600 + PACKETS.velocityX(particle) * age), within(1e-3f));
+            assertThat(positions[2 * i + 1]).isCloseTo((float) (PACKETS.velocityY(particle) * age), within(1e-3f));
+        }
+
+        float[] again = new float[positions.length];
+        PACKETS.positionsAt(time, again);
+        assertThat(again).containsExactly(positions);
+        assertThat(PACKETS.velocityX(first)).isNotEqualTo(PACKETS.velocityX(first + 1));
+    }
+
+    @Test
+    void rejectsInvalidEmitters() {
+        assertThatThrownBy(() -> ParticleProperties.builder().rate(0).lifetimeMillis(100).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParticleProperties.builder().rate(10).lifetimeMillis(100).velocityX(5, -5).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParticleProperties.builder().rate(1_000_000).lifetimeMillis(60_000).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void evaluatesHundredThousandParticlesPerFrame() {
+        ParticleProperties stream = ParticleProperties.builder()
+            .rate(FRAME_PARTICLES)
+            .lifetimeMillis(1_000)
+            .velocityX(-300, 300)
+            .velocityY(-300, 300)
+            .size(2)
+            .seed(7)
+            .build();
+        float[] positions = new float[2 * (FRAME_PARTICLES + 1)];
+
+        int evaluated = 0;
+        for (int frame = 0; frame < FRAMES; frame++) {
+            evaluated += stream.positionsAt(2_000 + frame * 16, positions);
+        }
+
+        assertThat(evaluated / FRAMES).isGreaterThanOrEqualTo(FRAME_PARTICLES);
+    }
+}
@@ -0,0 +1,150 @@
+package com.dev.canvas.domain.animation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.dev.canvas.domain.graph.SceneGraph;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PathPropertiesTests {
+
+    private static final int RADIUS = 1_000;
+    private static final int LOOKUPS = 200;
+    private static final int INTEGRATION_STEPS = 256;
+
+    private static final PathProperties QUARTER_CIRCLE = PathProperties.builder()
+        .moveTo(RADIUS, 0)
+        .cubicTo(RADIUS, 552, 552, RADIUS, 0, RADIUS)
+        .style(Style.builder().strokeColor("#111827").lineWidth(2).build())
+        .build();
+
+    @Test
+    void measuresCurvesAndPolylines() {
+        assertThat(QUARTER_CIRCLE.getLength()).isCloseTo(Math.PI / 2 * RADIUS, within(1.0));
+        assertThat(QUARTER_CIRCLE.getLength()).isCloseTo(integratedLength(1), within(0.5));
+
+        PathProperties polyline = PathProperties.builder()
+            .data("M0 0 L300 400 V0 Z")
+            .style(Style.builder().build())
+            .build();
+        assertThat(polyline.getLength()).isEqualTo(1_200);
+        assertThat(polyline.pointAt(0.5)).isEqualTo(new PathPoint(300, 300, -90));
+        assertThat(polyline.getMaxX()).isEqualTo(300);
+        assertThat(polyline.getMaxY()).isEqualTo(400);
+    }
+
+    @Test
+    void spacesPointsEvenlyAlongTheCurve() {
+        int steps = 20;
+        double expected = QUARTER_CIRCLE.getLength() / steps;
+        PathPoint previous = QUARTER_CIRCLE.pointAt(0);
+        for (int i = 1; i <= steps; i++) {
+            PathPoint point = QUARTER_CIRCLE.pointAt((double) i / steps);
+            assertThat(Math.hypot(point.x() - previous.x(), point.y() - previous.y())).isCloseTo(expected, within(expected * 0.01));
+            assertThat(Math.hypot(point.x(), point.y())).isCloseTo(RADIUS, within(RADIUS * 0.001));
+            previous = point;
+        }
+        assertThat(QUARTER_CIRCLE.pointAt(0).angleDegrees()).isCloseTo(90, within(0.01));
+        assertThat(QUARTER_CIRCLE.pointAt(1).angleDegrees()).isCloseTo(180, within(0.01));
+    }
+
+    @Test
+    void parsesAndFormatsPathData() {
+        PathProperties path = PathProperties.builder()
+            .data("m10,20 l5 5 h10 v-5 q5 5 10 0 c1 2 3 4 5.4 6 z M0 0 20 0")
+            .style(Style.builder().build())
+            .build();
+
+        assertThat(path.getData()).isEqualTo("M10 20 L15 25 L25 25 L25 20 Q30 25 35 20 C36 22 38 24 40 26 Z M0 0 L20 0");
+        assertThat(PathProperties.builder().data(path.getData()).style(path.getStyle()).build().getSegments())
+            .isEqualTo(path.getSegments());
+        assertThatThrownBy(() -> PathProperties.builder().data("L0 0").style(Style.builder().build()).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PathProperties.builder().data("M0 0 A1 1 0 0 1 5 5").style(Style.builder().build()).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void carriesChildrenAlongThePath() {
+        List<SceneElement> elements = List.of(
+            SceneElement.builder()
+                .elementId("track")
+                .durationMillis(1_000)
+                .properties(QUARTER_CIRCLE)
+                .build(),
+            SceneElement.builder()
+                .elementId("rider")
+                .parentId("track")
+                .durationMillis(1_000)
+                .properties(CircleProperties.builder().centerX(0).centerY(0).radius(8)
+                    .style(Style.builder().fillColor("#2563EB").build()).build())
+                .addTween(PropertyTween.builder()
+                    .propertyPath(PropertyPath.PATH_PROGRESS)
+                    .addKeyframe(Keyframe.builder().timeMillis(0).value(0).easing(EasingFunction.LINEAR).build())
+                    .addKeyframe(Keyframe.builder().timeMillis(1_000).value(1).easing(EasingFunction.LINEAR).build())
+                    .build())
+                .build());
+        SceneGraph graph = SceneGraph.of(elements);
+
+        graph.evaluate(500);
+        SceneGraph.Transform halfway = graph.parentTransform(1);
+        PathPoint expected = QUARTER_CIRCLE.pointAt(0.5);
+        assertThat(halfway.x(0, 0)).isEqualTo(expected.x());
+        assertThat(halfway.y(0, 0)).isEqualTo(expected.y());
+
+        graph.evaluate(1_000);
+        assertThat(graph.parentTransform(1).x(0, 0)).isCloseTo(0, within(1e-6));
+        assertThat(graph.parentTransform(1).y(0, 0)).isCloseTo(RADIUS, within(1e-6));
+    }
+
+    @Test
+    void looksUpSamePointsAsIntegratingPerFrame() {
+        double totalLength = integratedLength(1);
+        for (int i = 0; i <= LOOKUPS; i++) {
+            double fraction = (double) i / LOOKUPS;
+            double[] expected = integratedPoint(fraction * totalLength);
+            PathPoint actual = QUARTER_CIRCLE.pointAt(fraction);
+
+            assertThat(Math.hypot(actual.x() - expected[0], actual.y() - expected[1]))
+                .as("fraction %.3f", fraction)
+                .isLessThan(0.5);
+        }
+    }
+
+    private static double[] integratedPoint(double length) {
+        double low = 0;
+        double high = 1;
+        for (int i = 0; i < 40; i++) {
+            double middle = (low + high) / 2;
+            if (integratedLength(middle) < length) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        double s = (low + high) / 2;
+        double u = 1 - s;
+        return new double[] {
+            u * u * u * RADIUS + 3 * u * u * s * RADIUS + 3 * u * s * s * 552,
+            3 * u * u * s * 552 + 3 * u * s * s * RADIUS + s * s * s * RADIUS
+        };
+    }
+
+    private static double integratedLength(double t) {
+        double length = 0;
+        double previousX = RADIUS;
+        double previousY = 0;
+        for (int step = 1; step <= INTEGRATION_STEPS; step++) {
+            double s = t * step / INTEGRATION_STEPS;
+            double u = 1 - s;
+            double x = u * u * u * RADIUS + 3 * u * u * s * RADIUS + 3 * u * s * s * 552;
+            double y = 3 * u * u * s * 552 + 3 * u * s * s * RADIUS + s * s * s * RADIUS;
+            length += Math.hypot(x - previousX, y - previousY);
+            previousX = x;
+            previousY = y;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,137 @@
+package com.dev.canvas.domain.animation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dev.canvas.domain.text.TextMetricsService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SceneCatalogTests {
+
+    private final SceneFactory sceneFactory = SceneFixtures.sceneFactory();
+    private final SceneCatalog sceneCatalog = new SceneCatalog(sceneFactory);
+
+    @Test
+    void definedScenesJoinBuiltInScenes() {
+        sceneCatalog.putDefinedScene(scene("pulse", 800));
+
+        assertThat(sceneCatalog.sceneNames()).contains("circle-slide", "pulse").isSorted();
+        assertThat(sceneCatalog.findScene("pulse").orElseThrow().getDurationMillis()).isEqualTo(800);
+        assertThat(sceneCatalog.findParameters("pulse")).contains(List.of());
+        assertThat(sceneCatalog.findParameters("circle-slide").orElseThrow()).isNotEmpty();
+        assertThat(sceneCatalog.findScene("missing")).isEmpty();
+    }
+
+    @Test
+    void reusesDecodedDefinedScenes() {
+        sceneCatalog.putDefinedScene(scene("pulse", 800));
+
+        AnimationScene first = sceneCatalog.findScene("pulse").orElseThrow();
+
+        assertThat(sceneCatalog.findScene("pulse")).containsSame(first);
+        assertThat(sceneCatalog.findScene("pulse", SceneParameters.defaults(List.of()))).containsSame(first);
+        sceneCatalog.putDefinedScene(scene("pulse", 900));
+        assertThat(sceneCatalog.findScene("pulse").orElseThrow().getDurationMillis()).isEqualTo(900);
+    }
+
+    @Test
+    void reusesBuiltScenesPerParameterSet() {
+        List<SceneParameter> declared = sceneCatalog.findParameters("domino-fall").orElseThrow();
+        SceneParameters twenty = SceneParameters.resolve(declared, Map.of("count", "20"));
+        SceneParameters thirty = SceneParameters.resolve(declared, Map.of("count", "30"));
+
+        AnimationScene first = sceneCatalog.findScene("domino-fall", twenty).orElseThrow();
+
+        assertThat(sceneCatalog.findScene("domino-fall", SceneParameters.resolve(declared, Map.of("count", " 020"))))
+            .containsSame(first);
+        assertThat(sceneCatalog.findScene("domino-fall", thirty).orElseThrow()).isNotSameAs(first);
+        assertThat(sceneCatalog.findScene("domino-fall"))
+            .containsSame(sceneCatalog.findScene("domino-fall", SceneParameters.defaults(declared)).orElseThrow());
+    }
+
+    @Test
+    void keysDerivedCachesBySceneParameters() {
+        SceneDerivedCache<Integer> elementCounts = new SceneDerivedCache<>(sceneCatalog,
+            scene -> scene.getElements().size());
+
+        int twenty = elementCounts.find("domino-fall", Map.of("count", "20")).orElseThrow();
+        int thirty = elementCounts.find("domino-fall", Map.of("count", "30")).orElseThrow();
+
+        assertThat(thirty).isGreaterThan(twenty);
+        assertThat(elementCounts.find("domino-fall", Map.of("count", "20"))).contains(twenty);
+        assertThat(elementCounts.find("missing", Map.of())).isEmpty();
+        sceneCatalog.putDefinedScene(scene("domino-fall", 800));
+        assertThat(elementCounts.find("domino-fall")).contains(1);
+    }
+
+    @Test
+    void keepsOnlyRecentlyUsedDecodedScenes() {
+        SceneCatalog catalog = new SceneCatalog(sceneFactory, 1);
+        catalog.putDefinedScene(scene("pulse", 800));
+        catalog.putDefinedScene(scene("blink", 400));
+
+        AnimationScene pulse = catalog.findScene("pulse").orElseThrow();
+        assertThat(catalog.findScene("pulse")).containsSame(pulse);
+        AnimationScene blink = catalog.findScene("blink").orElseThrow();
+
+        assertThat(catalog.findScene("blink")).containsSame(blink);
+        AnimationScene decodedAgain = catalog.findScene("pulse").orElseThrow();
+        assertThat(decodedAgain).isNotSameAs(pulse);
+        assertThat(decodedAgain.getDurationMillis()).isEqualTo(800);
+    }
+
+    @Test
+    void notifiesListenersOnChange() {
+        List<String> changes = new ArrayList<>();
+        sceneCatalog.addChangeListener(changes::add);
+
+        sceneCatalog.putDefinedScene(scene("pulse", 800));
+        sceneCatalog.putDefinedScene(scene("pulse", 900));
+        sceneCatalog.removeDefinedScene("pulse");
+        sceneCatalog.removeDefinedScene("pulse");
+
+        assertThat(changes).containsExactly("pulse", "pulse", "pulse");
+        assertThat(sceneCatalog.findScene("pulse")).isEmpty();
+    }
+
+    @Test
+    void sizesClientServerCardsToFitTheirLabels() {
+        TextMetricsService textMetrics = new TextMetricsService("SansSerif");
+        AnimationScene scene = sceneCatalog.findScene("client-server").orElseThrow();
+
+        for (String id : List.of("client", "server")) {
+            RectProperties card = (RectProperties) properties(scene, "rect-" + id);
+            TextProperties label = (TextProperties) properties(scene, "text-" + id);
+
+            assertThat(card.getWidth()).isGreaterThanOrEqualTo(200)
+                .isGreaterThan((int) Math.ceil(textMetrics.measure(label).width()));
+            assertThat(card.getHeight()).isGreaterThanOrEqualTo(90);
+        }
+    }
+
+    private static PrimitiveProperties properties(AnimationScene scene, String elementName) {
+        String elementId = SceneId.generateForElement(scene.getName(), elementName, 0).getValue();
+        return scene.getElements().stream()
+            .filter(element -> element.getElementId().equals(elementId))
+            .findFirst()
+            .orElseThrow()
+            .getProperties();
+    }
+
+    private static AnimationScene scene(String name, int durationMillis) {
+        return AnimationScene.builder()
+            .sceneId(SceneId.generate(name).getValue())
+            .name(name)
+            .durationMillis(durationMillis)
+            .addElement(SceneElement.builder()
+                .elementId(SceneId.generateForElement(name, "dot", 0).getValue())
+                .startMillis(0)
+                .durationMillis(durationMillis)
+                .properties(CircleProperties.builder().centerX(0).centerY(0).radius(8)
+                    .style(Style.builder().fillColor("#EF4444").build()).build())
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.dev.canvas.domain.animation;
+
+import com.dev.canvas.domain.layout.LayeredLayout;
+import com.dev.canvas.domain.physics.DominoChainSimulator;
+import com.dev.canvas.domain.text.TextMetricsService;
+import java.util.concurrent.ForkJoinPool;
+
+public final class SceneFixtures {
+
+    private SceneFixtures() {
+    }
+
+    public static SceneFactory sceneFactory() {
+        return new SceneFactory(
+            new DominoChainSimulator(ForkJoinPool.commonPool()),
+            new LayeredLayout(),
+            new TextMetricsService("SansSerif")
+        );
+    }
+}
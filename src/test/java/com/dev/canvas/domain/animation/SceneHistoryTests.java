@@ -0,0 +1,138 @@
+package com.dev.canvas.domain.animation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.Test;
+
+class SceneHistoryTests {
+
+    private static final String SCENE_NAME = "edit-sample";
+    private static final int ELEMENT_COUNT = 50_000;
+    private static final int EDITS = 1_000;
+
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void editsOneKeyframeWithoutCopyingTheScene() {
+        AnimationScene scene = sampleScene();
+        String target = elementId(ELEMENT_COUNT / 2);
+        scene.findElement(target).orElseThrow();
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        AnimationScene edited = scene;
+        for (int i = 0; i < EDITS; i++) {
+            int value = i;
+            edited = edited.withElement(target, element -> element.withTween(PropertyPath.POSITION_X,
+                tween -> tween.withKeyframe(1, keyframe -> keyframe.withValue(value))));
+        }
+        long bytesPerEdit = (threads.getCurrentThreadAllocatedBytes() - before) / EDITS;
+
+        assertThat(bytesPerEdit).isLessThan(2_048);
+        assertThat(edited.findElement(target).orElseThrow().getTweens().getFirst().getKeyframes().get(1).getValue())
+            .isEqualTo(EDITS - 1);
+        assertThat(scene.findElement(target).orElseThrow().getTweens().getFirst().getKeyframes().get(1).getValue())
+            .isEqualTo(100);
+        assertThat(edited.getElements().get(7)).isSameAs(scene.getElements().get(7));
+    }
+
+    @Test
+    void undoesAndRedoesWithinBoundedHistory() {
+        AnimationScene initial = sampleScene();
+        SceneHistory history = new SceneHistory(initial, 3);
+
+        for (int i = 1; i <= 5; i++) {
+            int value = i;
+            history.apply(scene -> scene.withElement(elementId(0),
+                element -> element.withTween(PropertyPath.POSITION_X, tween -> tween.withKeyframe(1, keyframe -> keyframe.withValue(value)))));
+        }
+
+        assertThat(history.undoDepth()).isEqualTo(3);
+        assertThat(target(history.undo())).isEqualTo(4);
+        assertThat(target(history.undo())).isEqualTo(3);
+        assertThat(target(history.redo())).isEqualTo(4);
+        assertThat(target(history.undo())).isEqualTo(3);
+        assertThat(target(history.undo())).isEqualTo(2);
+        assertThat(history.undoDepth()).isZero();
+
+        history.apply(scene -> scene.withElement(elementId(0),
+            element -> element.withTween(PropertyPath.POSITION_X, tween -> tween.withKeyframe(1, keyframe -> keyframe.withValue(9)))));
+        assertThat(history.redoDepth()).isZero();
+        assertThat(target(history.current())).isEqualTo(9);
+    }
+
+    @Test
+    void rejectsEditsThatBreakElementInvariants() {
+        Style style = Style.builder().fillColor("#EF4444").build();
+        SceneElement group = SceneElement.builder()
+            .elementId(elementId(0))
+            .durationMillis(1_000)
+            .properties(GroupProperties.builder().x(0).y(0).build())
+            .build();
+        AnimationScene scene = AnimationScene.builder()
+            .sceneId(SceneId.generate(SCENE_NAME).getValue())
+            .name(SCENE_NAME)
+            .durationMillis(1_000)
+            .addElement(group)
+            .addElement(SceneElement.builder()
+                .elementId(elementId(1))
+                .parentId(group.getElementId())
+                .durationMillis(1_000)
+                .properties(CircleProperties.builder().centerX(0).centerY(0).radius(10).style(style).build())
+                .build())
+            .build();
+        AnimationScene flat = sampleScene();
+
+        assertThatThrownBy(() -> scene.withElement(elementId(0), element -> element.withProperties(
+            RectProperties.builder().centerX(0).centerY(0).width(10).height(10).radius(0).style(style).build())))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("has children");
+        assertThatThrownBy(() -> flat.withElement(elementId(0), element -> SceneElement.builder()
+            .elementId(element.getElementId())
+            .durationMillis(-1)
+            .properties(element.getProperties())
+            .build()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("negative duration");
+        assertThatThrownBy(() -> flat.withElement(elementId(0), element -> element.withTween(PropertyPath.POSITION_X,
+            tween -> tween.withKeyframe(0, keyframe -> Keyframe.builder()
+                .timeMillis(2_000).value(0).easing(EasingFunction.LINEAR).build()))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("ordered by time");
+        assertThat(flat.withElement(elementId(0), element -> element.withProperties(
+            RectProperties.builder().centerX(0).centerY(0).width(10).height(10).radius(0).style(style).build()))
+            .findElement(elementId(0)).orElseThrow().getPrimitiveType()).isEqualTo(PrimitiveType.RECT);
+    }
+
+    private static double target(AnimationScene scene) {
+        return scene.findElement(elementId(0)).orElseThrow().getTweens().getFirst().getKeyframes().get(1).getValue();
+    }
+
+    private static String elementId(int index) {
+        return SceneId.generateForElement(SCENE_NAME, "circle", index).getValue();
+    }
+
+    private static AnimationScene sampleScene() {
+        Style style = Style.builder().fillColor("#EF4444").build();
+        AnimationScene.Builder scene = AnimationScene.builder()
+            .sceneId(SceneId.generate(SCENE_NAME).getValue())
+            .name(SCENE_NAME)
+            .durationMillis(1_000);
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            scene.addElement(SceneElement.builder()
+                .elementId(elementId(i))
+                .startMillis(0)
+                .durationMillis(1_000)
+                .properties(CircleProperties.builder().centerX(i).centerY(0).radius(10).style(style).build())
+                .addTween(PropertyTween.builder()
+                    .propertyPath(PropertyPath.POSITION_X)
+                    .addKeyframe(Keyframe.builder().timeMillis(0).value(0).easing(EasingFunction.LINEAR).build())
+                    .addKeyframe(Keyframe.builder().timeMillis(1_000).value(100).easing(EasingFunction.LINEAR).build())
+                    .build())
+                .build());
+        }
+        return scene.build();
+    }
+}
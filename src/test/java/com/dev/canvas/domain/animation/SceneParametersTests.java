@@ -0,0 +1,54 @@
+package com.dev.canvas.domain.animation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SceneParametersTests {
+
+    private final SceneFactory sceneFactory = SceneFixtures.sceneFactory();
+
+    @Test
+    void canonicalizesRequestedValuesWithDefaults() {
+        List<SceneParameter> declared = sceneFactory.findParameters("domino-fall").orElseThrow();
+
+        SceneParameters explicit = SceneParameters.resolve(declared, Map.of("spacing", "40", "count", "2000"));
+        SceneParameters reordered = SceneParameters.resolve(declared, Map.of("count", " 2000", "spacing", "40", "startX", "-200"));
+
+        assertThat(explicit).isEqualTo(reordered).hasSameHashCodeAs(reordered);
+        assertThat(explicit).hasToString("count=2000&spacing=40&startX=-200");
+        assertThat(SceneParameters.resolve(declared, Map.of("count", "5")))
+            .isEqualTo(SceneParameters.defaults(declared));
+    }
+
+    @Test
+    void rejectsUndeclaredMalformedAndOutOfBoundsValues() {
+        List<SceneParameter> declared = sceneFactory.findParameters("domino-fall").orElseThrow();
+
+        assertThatThrownBy(() -> SceneParameters.resolve(declared, Map.of("colour", "1")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unknown parameter 'colour'");
+        assertThatThrownBy(() -> SceneParameters.resolve(declared, Map.of("count", "2.5")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must be an integer");
+        assertThatThrownBy(() -> SceneParameters.resolve(declared, Map.of("spacing", "10")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("between 11 and 1000");
+    }
+
+    @Test
+    void buildsRequestedVariant() {
+        List<SceneParameter> declared = sceneFactory.findParameters("domino-fall").orElseThrow();
+        SceneParameters parameters = SceneParameters.resolve(declared, Map.of("count", "40", "spacing", "40"));
+
+        AnimationScene scene = sceneFactory.findScene("domino-fall", parameters).orElseThrow();
+
+        assertThat(scene.getElements()).hasSize(40);
+        DominoProperties second = (DominoProperties) scene.getElements().get(1).getProperties();
+        DominoProperties first = (DominoProperties) scene.getElements().get(0).getProperties();
+        assertThat(second.x() - first.x()).isEqualTo(40);
+    }
+}
@@ -0,0 +1,133 @@
+package com.dev.canvas.domain.audio;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AudioAnalyzerTests {
+
+    private static final int SAMPLE_RATE = 48_000;
+    private static final int CHANNELS = 2;
+    private static final int NARRATION_SECONDS = 300;
+    private static final int ONSET_TOLERANCE_MILLIS = 30;
+
+    private final AudioAnalyzer analyzer = new AudioAnalyzer();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void detectsSyllableOnsetsAndPauses() throws IOException {
+        List<Integer> expected = new ArrayList<>();
+        Path wav = writeNarration(directory.resolve("narration.wav"), 30, expected);
+
+        BeatList beats = analyzer.analyze(wav);
+
+        int matched = 0;
+        for (int onset : expected) {
+            int snapped = beats.snap(onset, ONSET_TOLERANCE_MILLIS);
+            if (snapped != onset || contains(beats, onset)) {
+                matched++;
+            }
+        }
+        assertThat(beats.getDurationMillis()).isEqualTo(30_000);
+        assertThat(matched).isGreaterThanOrEqualTo(expected.size() * 95 / 100);
+        assertThat(beats.size()).isLessThanOrEqualTo(expected.size() * 105 / 100);
+        assertThat(beats.getSilences()).isNotEmpty();
+        assertThat(beats.getSilences()).allSatisfy(gap -> assertThat(gap.durationMillis()).isGreaterThanOrEqualTo(250));
+    }
+
+    @Test
+    void analyzesLongNarration() throws IOException {
+        List<Integer> expected = new ArrayList<>();
+        Path wav = writeNarration(directory.resolve("long.wav"), NARRATION_SECONDS, expected);
+
+        BeatList beats = analyzer.analyze(wav);
+
+        assertThat(beats.getDurationMillis()).isEqualTo(NARRATION_SECONDS * 1000);
+        assertThat(beats.size()).isBetween(expected.size() * 95 / 100, expected.size() * 105 / 100);
+        assertThat(beats.getSilences()).isNotEmpty();
+    }
+
+    @Test
+    void snapsTimesToNearestOnsetWithinTolerance() {
+        BeatList beats = new BeatList(SAMPLE_RATE, 2_000, new int[] {100, 400, 1_000}, List.of());
+
+        assertThat(beats.snap(90, 50)).isEqualTo(100);
+        assertThat(beats.snap(260, 200)).isEqualTo(400);
+        assertThat(beats.snap(250, 200)).isEqualTo(100);
+        assertThat(beats.snap(700, 100)).isEqualTo(700);
+        assertThat(beats.snap(1_900, 1_000)).isEqualTo(1_000);
+        assertThat(beats.snapping(0).applyAsInt(399)).isEqualTo(399);
+    }
+
+    private static boolean contains(BeatList beats, int onset) {
+        for (int i = 0; i < beats.size(); i++) {
+            if (Math.abs(beats.onsetMillis(i) - onset) <= ONSET_TOLERANCE_MILLIS) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Path writeNarration(Path path, int seconds, List<Integer> onsets) throws IOException {
+        Random random = new Random(48);
+        int frames = seconds * SAMPLE_RATE;
+        short[] mono = new short[frames];
+        for (int i = 0; i < frames; i++) {
+            mono[i] = (short) (random.nextGaussian() * 20);
+        }
+        int time = 400;
+        int syllable = 0;
+        while (time < seconds * 1000 - 600) {
+            onsets.add(time);
+            int length = 120 + random.nextInt(200);
+            double pitch = 110 + random.nextInt(160);
+            int first = (int) ((long) time * SAMPLE_RATE / 1000);
+            int samples = length * SAMPLE_RATE / 1000;
+            for (int i = 0; i < samples && first + i < frames; i++) {
+                double t = (double) i / SAMPLE_RATE;
+                double envelope = Math.min(1, Math.min(i, samples - i) / (0.005 * SAMPLE_RATE)) * Math.exp(-t * 6);
+                double voice = 0;
+                for (int harmonic = 1; harmonic <= 6; harmonic++) {
+                    voice += Math.sin(2 * Math.PI * pitch * harmonic * t) / harmonic;
+                }
+                mono[first + i] += (short) (6_000 * envelope * voice);
+            }
+            syllable++;
+            time += length + 60 + random.nextInt(200) + (syllable % 12 == 0 ? 900 : 0);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(44).order(ByteOrder.LITTLE_ENDIAN);
+        int dataBytes = frames * CHANNELS * 2;
+        header.put("RIFF".getBytes()).putInt(36 + dataBytes).put("WAVE".getBytes())
+            .put("fmt ".getBytes()).putInt(16).putShort((short) 1).putShort((short) CHANNELS)
+            .putInt(SAMPLE_RATE).putInt(SAMPLE_RATE * CHANNELS * 2).putShort((short) (CHANNELS * 2)).putShort((short) 16)
+            .put("data".getBytes()).putInt(dataBytes).flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.write(header);
+            ByteBuffer block = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            for (short sample : mono) {
+                if (block.remaining() < CHANNELS * 2) {
+                    channel.write(block.flip());
+                    block.clear();
+                }
+                for (int c = 0; c < CHANNELS; c++) {
+                    block.putShort(sample);
+                }
+            }
+            channel.write(block.flip());
+        }
+        return path;
+    }
+}
@@ -0,0 +1,99 @@
+package com.dev.canvas.domain.color;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.dev.canvas.domain.animation.EasingFunction;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.Test;
+
+class LinearRgbTests {
+
+    private static final int FRAMES = 1_000_000;
+
+    @Test
+    void parsesSupportedColorForms() {
+        assertThat(PackedColors.parse("#EF4444")).isEqualTo(0xFFEF4444);
+        assertThat(PackedColors.parse("#fff")).isEqualTo(0xFFFFFFFF);
+        assertThat(PackedColors.parse("#00000080")).isEqualTo(0x80000000);
+        assertThat(PackedColors.parse("rgb(16, 32, 48)")).isEqualTo(0xFF102030);
+        assertThat(PackedColors.parse("rgba(0,0,0,0.22)")).isEqualTo(0x38000000);
+        assertThat(PackedColors.parse("transparent")).isZero();
+        assertThatThrownBy(() -> PackedColors.parse("red")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void formatsPackedColorsBackToCssStrings() {
+        assertThat(PackedColors.format(PackedColors.parse("#ef4444"))).isEqualTo("#EF4444");
+        assertThat(PackedColors.format(PackedColors.parse("rgba(0,0,0,0.22)"))).isEqualTo("rgba(0,0,0,0.22)");
+        assertThat(PackedColors.parse(PackedColors.format(0x80102030))).isEqualTo(0x80102030);
+    }
+
+    @Test
+    void parsesColorsBeyondTheCacheBound() {
+        for (int i = 0; i < 10_000; i++) {
+            int red = i % 256;
+            assertThat(PackedColors.parse("rgb(" + red + ", " + (i / 256) + ", 0)")).isEqualTo(PackedColors.argb(0xFF, red, i / 256, 0));
+        }
+    }
+
+    @Test
+    void returnsEndpointsExactly() {
+        int from = PackedColors.parse("#EF4444");
+        int to = PackedColors.parse("rgba(59,130,246,0.5)");
+
+        assertThat(LinearRgb.mix(from, to, 0)).isEqualTo(from);
+        assertThat(LinearRgb.mix(from, to, LinearRgb.WEIGHT_ONE)).isEqualTo(to);
+    }
+
+    @Test
+    void matchesDoublePrecisionLinearInterpolation() {
+        int from = PackedColors.parse("#EF4444");
+        int to = PackedColors.parse("#3B82F6");
+
+        for (double progress = 0.1; progress < 1; progress += 0.1) {
+            int mixed = LinearRgb.mix(from, to, LinearRgb.weight(progress));
+            assertThat(PackedColors.red(mixed)).isCloseTo(reference(0xEF, 0x3B, progress), within(1));
+            assertThat(PackedColors.green(mixed)).isCloseTo(reference(0x44, 0x82, progress), within(1));
+            assertThat(PackedColors.blue(mixed)).isCloseTo(reference(0x44, 0xF6, progress), within(1));
+        }
+    }
+
+    @Test
+    void interpolatesTweenFramesWithoutAllocating() {
+        PropertyTween tween = PropertyTween.builder()
+            .propertyPath(PropertyPath.FILL_COLOR)
+            .addKeyframe(Keyframe.builder().timeMillis(0).color("#EF4444").easing(EasingFunction.LINEAR).build())
+            .addKeyframe(Keyframe.builder().timeMillis(1000).color("rgba(59,130,246,0.5)").easing(EasingFunction.EASE_IN_OUT).build())
+            .build();
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        int checksum = 0;
+        for (int t = 0; t <= 1000; t++) {
+            checksum ^= tween.colorAt(t);
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int frame = 0; frame < FRAMES; frame++) {
+            checksum ^= tween.colorAt(frame % 1001);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertThat(allocated).as("bytes allocated over %d frames (checksum %08X)", FRAMES, checksum).isLessThan(1024);
+    }
+
+    private static int reference(int from, int to, double progress) {
+        double linear = toLinear(from) + (toLinear(to) - toLinear(from)) * progress;
+        double srgb = linear <= 0.0031308 ? linear * 12.92 : 1.055 * Math.pow(linear, 1 / 2.4) - 0.055;
+        return (int) Math.round(srgb * 255);
+    }
+
+    private static double toLinear(int channel) {
+        double srgb = channel / 255.0;
+        return srgb <= 0.04045 ? srgb / 12.92 : Math.pow((srgb + 0.055) / 1.055, 2.4);
+    }
+}
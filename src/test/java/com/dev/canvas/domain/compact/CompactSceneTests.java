@@ -0,0 +1,288 @@
+package com.dev.canvas.domain.compact;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dev.canvas.application.writer.SceneJsonWriter;
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.CircleProperties;
+import com.dev.canvas.domain.animation.DominoProperties;
+import com.dev.canvas.domain.animation.EasingFunction;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.SceneCatalog;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.SceneFactory;
+import com.dev.canvas.domain.animation.SceneFixtures;
+import com.dev.canvas.domain.animation.SceneId;
+import com.dev.canvas.domain.animation.Shadow;
+import com.dev.canvas.domain.animation.Style;
+import com.dev.canvas.domain.animation.TextProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class CompactSceneTests {
+
+    private static final String SCENE_NAME = "catalogue-sample";
+    private static final int ELEMENT_COUNT = 5_000;
+    private static final int CATALOG_SCENES = 4;
+    private static final int DECODED_CAPACITY = 1;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SceneJsonWriter sceneJsonWriter = new SceneJsonWriter(objectMapper.getFactory());
+    private final SceneFactory sceneFactory = SceneFixtures.sceneFactory();
+
+    @Test
+    void decodesToTheSameSceneJson() throws IOException {
+        List<AnimationScene> scenes = List.of(
+            sceneFactory.createCircleSlideScene(),
+            sceneFactory.createClientServerScene(),
+            sceneFactory.createDominoFallScene(),
+            sampleScene()
+        );
+        for (AnimationScene scene : scenes) {
+            assertThat(json(CompactScene.of(scene).toScene()))
+                .as("scene %s", scene.getName())
+                .isEqualTo(json(scene));
+        }
+    }
+
+    @Test
+    void decodesSingleElementsOnAccess() throws IOException {
+        AnimationScene scene = sampleScene();
+        CompactScene compact = CompactScene.of(scene);
+
+        assertThat(compact.getElementCount()).isEqualTo(ELEMENT_COUNT);
+        assertThat(compact.element(1234).getElementId()).isEqualTo(scene.getElements().get(1234).getElementId());
+        assertThat(compact.element(7).getTweens().getFirst().valueAt(250))
+            .isEqualTo(scene.getElements().get(7).getTweens().getFirst().valueAt(250));
+    }
+
+    @Test
+    void reportsSmallerResidentFootprint() {
+        AnimationScene scene = sampleScene();
+        long domainBytes = GraphFootprint.of(scene);
+        long compactBytes = GraphFootprint.of(CompactScene.of(scene));
+
+        SceneCatalog catalog = new SceneCatalog(sceneFactory, DECODED_CAPACITY);
+        for (int i = 0; i < CATALOG_SCENES; i++) {
+            catalog.putDefinedScene(sampleScene(SCENE_NAME + "-" + i));
+        }
+        for (int i = 0; i < CATALOG_SCENES; i++) {
+            catalog.findScene(SCENE_NAME + "-" + i).orElseThrow();
+        }
+        long residentBytes = GraphFootprint.of(catalog, sceneFactory);
+
+        if (Boolean.getBoolean("load.test")) {
+            System.out.printf("elements=%d domainBytes=%d compactBytes=%d scenes=%d decodedCapacity=%d residentBytes=%d%n",
+                ELEMENT_COUNT, domainBytes, compactBytes, CATALOG_SCENES, DECODED_CAPACITY, residentBytes);
+        }
+
+        assertThat(compactBytes).isLessThan(domainBytes / 3);
+        assertThat(residentBytes).isLessThan(CATALOG_SCENES * compactBytes + 2 * DECODED_CAPACITY * domainBytes);
+    }
+
+    private byte[] json(AnimationScene scene) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        sceneJsonWriter.write(scene, output);
+        return output.toByteArray();
+    }
+
+    private static AnimationScene sampleScene() {
+        return sampleScene(SCENE_NAME);
+    }
+
+    private static AnimationScene sampleScene(String name) {
+        AnimationScene.Builder scene = AnimationScene.builder()
+            .sceneId(SceneId.generate(name).getValue())
+            .name(name)
+            .durationMillis(4_000)
+            .background("#F5F5DC");
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            String id = i % 10 == 0 ? "label-" + i : SceneId.generateForElement(name, "element", i).getValue();
+            scene.addElement(SceneElement.builder()
+                .elementId(id)
+                .startMillis(i)
+                .durationMillis(1_000)
+                .properties(switch (i % 3) {
+                    case 0 -> CircleProperties.builder()
+                        .centerX(i)
+                        .centerY(-i)
+                        .radius(20)
+                        .style(style(i))
+                        .build();
+                    case 1 -> TextProperties.builder()
+                        .text(i % 2 == 0 ? "Client" : "Server")
+                        .centerX(i)
+                        .centerY(40)
+                        .fontSize(24)
+                        .color("#1F2933")
+                        .fontWeight("500")
+                        .build();
+                    default -> DominoProperties.builder()
+                        .x(i * 30)
+                        .height(120)
+                        .width(20)
+                        .depth(10)
+                        .rotationX(i * 0.1)
+                        .style(style(i))
+                        .build();
+                })
+                .addTween(tween(PropertyPath.POSITION_X, i, 3))
+                .addTween(tween(PropertyPath.OPACITY, i, 2))
+                .build());
+        }
+        return scene.build();
+    }
+
+    private static Style style(int i) {
+        return Style.builder()
+            .fillColor(i % 2 == 0 ? "#EF4444" : "#3B82F6")
+            .strokeColor("#1F2933")
+            .lineWidth(4)
+            .shadow(i % 4 == 0 ? Shadow.builder().blur(8).offsetY(4).color("rgba(0,0,0,0.25)").build() : null)
+            .build();
+    }
+
+    private static PropertyTween tween(PropertyPath path, int seed, int keyframes) {
+        PropertyTween.Builder tween = PropertyTween.builder().propertyPath(path);
+        for (int k = 0; k < keyframes; k++) {
+            tween.addKeyframe(Keyframe.builder()
+                .timeMillis(seed + k * 250)
+                .value(seed * 0.5 + k)
+                .easing(EasingFunction.values()[k % EasingFunction.values().length])
+                .build());
+        }
+        return tween.build();
+    }
+
+    private static final class GraphFootprint {
+
+        private static final int OBJECT_HEADER = 12;
+        private static final int ARRAY_HEADER = 16;
+        private static final int REFERENCE = 4;
+
+        private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Deque<Object> pending = new ArrayDeque<>();
+        private final Map<Class<?>, List<Field>> fields = new IdentityHashMap<>();
+
+        static long of(Object root, Object... excluded) {
+            GraphFootprint footprint = new GraphFootprint();
+            footprint.visited.addAll(List.of(excluded));
+            footprint.pending.push(root);
+            long total = 0;
+            while (!footprint.pending.isEmpty()) {
+                total += footprint.visit(footprint.pending.pop());
+            }
+            return total;
+        }
+
+        private long visit(Object object) {
+            if (object instanceof Enum<?> || !visited.add(object)) {
+                return 0;
+            }
+            Class<?> type = object.getClass();
+            if (object instanceof String string) {
+                return align(OBJECT_HEADER + 12) + align(ARRAY_HEADER + string.length());
+            }
+            if (object instanceof List<?> list && type.getName().startsWith("java.util.ImmutableCollections")) {
+                list.forEach(this::push);
+                return list.isEmpty() ? 0 : align(OBJECT_HEADER + 2 * REFERENCE)
+                    + (list.size() > 2 ? align(ARRAY_HEADER + (long) REFERENCE * list.size()) : 0);
+            }
+            if (object instanceof Map<?, ?> map) {
+                map.forEach((key, value) -> {
+                    push(key);
+                    push(value);
+                });
+                return align(OBJECT_HEADER + 6 * REFERENCE)
+                    + align(ARRAY_HEADER + (long) REFERENCE * Integer.highestOneBit(Math.max(1, map.size()) * 2))
+                    + map.size() * align(OBJECT_HEADER + 4 + 5 * REFERENCE);
+            }
+            if (object instanceof Collection<?> collection) {
+                collection.forEach(this::push);
+                return align(OBJECT_HEADER + 2 * REFERENCE) + align(ARRAY_HEADER + (long) REFERENCE * collection.size());
+            }
+            if (type.isArray()) {
+                int length = Array.getLength(object);
+                Class<?> component = type.getComponentType();
+                if (!component.isPrimitive()) {
+                    for (int i = 0; i < length; i++) {
+                        push(Array.get(object, i));
+                    }
+                }
+                return align(ARRAY_HEADER + (long) length * sizeOf(component));
+            }
+            long shallow = OBJECT_HEADER;
+            for (Field field : fieldsOf(type)) {
+                shallow += sizeOf(field.getType());
+                if (!field.getType().isPrimitive()) {
+                    try {
+                        push(field.get(object));
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+            return align(shallow);
+        }
+
+        private void push(Object object) {
+            if (object != null) {
+                pending.push(object);
+            }
+        }
+
+        private List<Field> fieldsOf(Class<?> type) {
+            return fields.computeIfAbsent(type, key -> {
+                List<Field> instanceFields = new ArrayList<>();
+                for (Class<?> c = key; c != null && c != Object.class; c = c.getSuperclass()) {
+                    for (Field field : c.getDeclaredFields()) {
+                        if (!Modifier.isStatic(field.getModifiers())) {
+                            if (!field.getType().isPrimitive()) {
+                                field.setAccessible(true);
+                            }
+                            instanceFields.add(field);
+                        }
+                    }
+                }
+                return instanceFields;
+            });
+        }
+
+        private static int sizeOf(Class<?> type) {
+            if (type == long.class || type == double.class) {
+                return 8;
+            }
+            if (type == int.class || type == float.class) {
+                return 4;
+            }
+            if (type == short.class || type == char.class) {
+                return 2;
+            }
+            if (type == byte.class || type == boolean.class) {
+                return 1;
+            }
+            return REFERENCE;
+        }
+
+        private static long align(long bytes) {
+            return (bytes + 7) & ~7L;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.dev.canvas.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.EasingFunction;
+import com.dev.canvas.domain.animation.GroupProperties;
+import com.dev.canvas.domain.animation.Keyframe;
+import com.dev.canvas.domain.animation.PrimitiveType;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.RectProperties;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.Style;
+import com.dev.canvas.domain.spatial.Bounds;
+import com.dev.canvas.domain.spatial.ElementBounds;
+import com.dev.canvas.domain.spatial.SpatialIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SceneGraphTests {
+
+    private static final int CARDS = 1_000;
+    private static final int FRAMES = 600;
+
+    @Test
+    void composesLocalTransformsIntoWorldTransforms() {
+        List<SceneElement> elements = List.of(
+            group("arm", null, 100, 0, tween(PropertyPath.ROTATION, 0, 1_000, 0, 90)),
+            group("hand", "arm", 10, 0, tween(PropertyPath.SCALE_X, 0, 1_000, 1, 2)),
+            rect("finger", "hand", 5, 0));
+        SceneGraph graph = SceneGraph.of(elements);
+
+        graph.evaluate(0);
+        assertThat(graph.parentTransform(2).x(5, 0)).isCloseTo(115, within(1e-9));
+        assertThat(graph.parentTransform(2).y(5, 0)).isCloseTo(0, within(1e-9));
+
+        graph.evaluate(1_000);
+        SceneGraph.Transform hand = graph.parentTransform(2);
+        assertThat(hand.x(5, 0)).isCloseTo(100, within(1e-9));
+        assertThat(hand.y(5, 0)).isCloseTo(20, within(1e-9));
+        assertThat(graph.parentTransform(0)).isEqualTo(SceneGraph.Transform.IDENTITY);
+    }
+
+    @Test
+    void reevaluatesOnlySubtreesWithActiveTweens() {
+        List<SceneElement> elements = new ArrayList<>();
+        for (int card = 0; card < CARDS; card++) {
+            PropertyTween slide = card == CARDS / 2 ? tween(PropertyPath.POSITION_X, 0, FRAMES, 0, 300) : null;
+            elements.add(group("card-" + card, null, card * 10, 0, slide));
+            elements.add(group("label-" + card, "card-" + card, 0, 20, null));
+            elements.add(rect("box-" + card, "card-" + card, 0, 0));
+            elements.add(rect("text-" + card, "label-" + card, 0, 0));
+        }
+        SceneGraph graph = SceneGraph.of(elements);
+
+        graph.evaluate(0);
+        long initial = graph.getRecomputedNodes();
+        for (int frame = 1; frame <= FRAMES; frame++) {
+            graph.evaluate(frame);
+        }
+        long perFrame = (graph.getRecomputedNodes() - initial) / FRAMES;
+        graph.evaluate(FRAMES + 100);
+        long afterAnimation = graph.getRecomputedNodes() - initial - perFrame * FRAMES;
+
+        assertThat(initial).isEqualTo(2 * CARDS);
+        assertThat(perFrame).isEqualTo(2);
+        assertThat(afterAnimation).isZero();
+        assertThat(graph.parentTransform(4 * (CARDS / 2) + 3).x(0, 0)).isEqualTo(300);
+    }
+
+    @Test
+    void hitTestsGroupedElementsInWorldSpace() {
+        List<SceneElement> elements = List.of(
+            group("card", null, 0, 0, tween(PropertyPath.POSITION_X, 0, 1_000, 0, 500)),
+            rect("box", "card", 0, 0),
+            rect("static", null, 0, 0));
+        SpatialIndex index = SpatialIndex.of(elements);
+
+        assertThat(index.hit(500, 0, 1_000)).extracting(SceneElement::getElementId).containsExactly("box");
+        assertThat(index.hit(0, 0, 0)).extracting(SceneElement::getElementId).containsExactly("static", "box");
+    }
+
+    @Test
+    void evaluatesTransformsWithoutTouchingSharedState() {
+        List<SceneElement> elements = List.of(
+            group("arm", null, 100, 0, tween(PropertyPath.ROTATION, 0, 1_000, 0, 90)),
+            group("hand", "arm", 10, 0, tween(PropertyPath.SCALE_X, 0, 1_000, 1, 2)),
+            rect("finger", "hand", 5, 0));
+        SceneGraph graph = SceneGraph.of(elements);
+        SceneGraph.TransformRange range = graph.parentTransformRange(2);
+
+        for (int t = 0; t <= 1_000; t += 50) {
+            graph.evaluate(t);
+            SceneGraph.Transform transform = graph.parentTransformAt(2, t);
+
+            assertThat(transform).isEqualTo(graph.parentTransform(2));
+            assertThat(transform.tx()).isBetween(range.tx().min(), range.tx().max());
+            assertThat(transform.ty()).isBetween(range.ty().min(), range.ty().max());
+            assertThat(transform.a()).isBetween(range.a().min(), range.a().max());
+            assertThat(transform.b()).isBetween(range.b().min(), range.b().max());
+        }
+        assertThat(graph.getRecomputedNodes()).isEqualTo(2 * 21);
+    }
+
+    @Test
+    void gridsGroupedElementsByTheirAnimatedReach() {
+        List<SceneElement> elements = new ArrayList<>();
+        for (int card = 0; card < CARDS; card++) {
+            int x = (card % 40) * 200;
+            int y = (card / 40) * 200;
+            PropertyTween motion = switch (card % 3) {
+                case 0 -> tween(PropertyPath.POSITION_X, 0, 1_000, x, x + 150);
+                case 1 -> tween(PropertyPath.ROTATION, 0, 1_000, 0, 180);
+                default -> null;
+            };
+            elements.add(group("card-" + card, null, x, y, motion));
+            elements.add(group("label-" + card, "card-" + card, 30, 0, tween(PropertyPath.SCALE_Y, 0, 1_000, 1, 2)));
+            elements.add(rect("box-" + card, "card-" + card, 0, 0));
+            elements.add(rect("text-" + card, "label-" + card, 0, 20));
+        }
+        SpatialIndex index = SpatialIndex.of(elements);
+        SceneGraph graph = SceneGraph.of(elements);
+        Random random = new Random(7);
+
+        for (int i = 0; i < 200; i++) {
+            double x = random.nextDouble() * 8_000;
+            double y = random.nextDouble() * 5_000;
+            int t = random.nextInt(1_000);
+            Bounds viewport = new Bounds(x, y, x + 640, y + 360);
+
+            List<SceneElement> expectedHits = new ArrayList<>();
+            List<SceneElement> expectedVisible = new ArrayList<>();
+            for (int item = 0; item < elements.size(); item++) {
+                SceneElement element = elements.get(item);
+                if (element.getPrimitiveType() == PrimitiveType.GROUP) {
+                    continue;
+                }
+                Bounds world = ElementBounds.at(element, t, graph.parentTransformAt(item, t));
+                if (world.contains(x, y)) {
+                    expectedHits.add(element);
+                }
+                if (world.intersects(viewport)) {
+                    expectedVisible.add(element);
+                }
+            }
+
+            assertThat(index.hit(x, y, t)).containsExactlyElementsOf(expectedHits.reversed());
+            assertThat(index.visible(viewport, t)).containsExactlyElementsOf(expectedVisible);
+        }
+    }
+
+    @Test
+    void rejectsParentsThatAreNotEarlierGroups() {
+        assertThatThrownBy(() -> scene(rect("box", "card", 0, 0), group("card", null, 0, 0, null)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scene(rect("card", null, 0, 0), rect("box", "card", 0, 0)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(scene(group("card", null, 0, 0, null), rect("box", "card", 0, 0)).getElements()).hasSize(2);
+    }
+
+    private static AnimationScene scene(SceneElement... elements) {
+        AnimationScene.Builder builder = AnimationScene.builder()
+            .sceneId("graph-sample")
+            .name("graph-sample")
+            .durationMillis(1_000);
+        for (SceneElement element : elements) {
+            builder.addElement(element);
+        }
+        return builder.build();
+    }
+
+    private static SceneElement group(String id, String parentId, int x, int y, PropertyTween tween) {
+        SceneElement.Builder builder = SceneElement.builder()
+            .elementId(id)
+            .parentId(parentId)
+            .durationMillis(1_000)
+            .properties(GroupProperties.builder().x(x).y(y).build());
+        if (tween != null) {
+            builder.addTween(tween);
+        }
+        return builder.build();
+    }
+
+    private static SceneElement rect(String id, String parentId, int centerX, int centerY) {
+        return SceneElement.builder()
+            .elementId(id)
+            .parentId(parentId)
+            .durationMillis(1_000)
+            .properties(RectProperties.builder().centerX(centerX).centerY(centerY).width(40).height(40)
+                .style(Style.builder().fillColor("#FFFFFF").build()).build())
+            .build();
+    }
+
+    private static PropertyTween tween(PropertyPath path, int fromMillis, int toMillis, double from, double to) {
+        return PropertyTween.builder()
+            .propertyPath(path)
+            .addKeyframe(Keyframe.builder().timeMillis(fromMillis).value(from).easing(EasingFunction.LINEAR).build())
+            .addKeyframe(Keyframe.builder().timeMillis(toMillis).value(to).easing(EasingFunction.LINEAR).build())
+            .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.dev.canvas.domain.layout;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+@EnabledIfSystemProperty(named = "load.test", matches = "true")
+class LayeredLayoutBenchmarkTests {
+
+    private final LayeredLayout layeredLayout = new LayeredLayout();
+
+    @Test
+    void reportsFiveThousandNodeLayoutTime() {
+        Diagram diagram = LayeredLayoutTests.randomDiagram(new Random(11));
+        layeredLayout.layout(diagram, LayoutOptions.defaults());
+
+        long start = System.nanoTime();
+        layeredLayout.layout(diagram, LayoutOptions.defaults());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("nodes=%d edges=%d elapsedMillis=%d%n",
+            diagram.getNodes().size(), diagram.getEdges().size(), elapsedMillis);
+    }
+}
@@ -0,0 +1,152 @@
+package com.dev.canvas.domain.layout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LayeredLayoutTests {
+
+    private static final int NODE_COUNT = 5_000;
+
+    private final LayeredLayout layeredLayout = new LayeredLayout();
+
+    @Test
+    void placesChainLeftToRightAroundOrigin() {
+        Diagram diagram = Diagram.builder()
+            .addNode(new DiagramNode("client", "Client", 200, 90))
+            .addNode(new DiagramNode("server", "Server", 200, 90))
+            .addEdge("client", "server")
+            .build();
+
+        DiagramLayout layout = layeredLayout.layout(diagram, LayoutOptions.builder().layerGap(560).build());
+
+        assertThat(layout.findPlacement("client")).get()
+            .extracting(NodePlacement::centerX, NodePlacement::centerY)
+            .containsExactly(-380.0, 0.0);
+        assertThat(layout.findPlacement("server")).get()
+            .extracting(NodePlacement::centerX, NodePlacement::centerY)
+            .containsExactly(380.0, 0.0);
+        assertThat(layout.getRoutes().getFirst().points())
+            .containsExactly(new LayoutPoint(-280, 0), new LayoutPoint(280, 0));
+    }
+
+    @Test
+    void untanglesCrossingEdges() {
+        Diagram diagram = Diagram.builder()
+            .addNode(node("a"))
+            .addNode(node("b"))
+            .addNode(node("c"))
+            .addNode(node("d"))
+            .addEdge("a", "d")
+            .addEdge("b", "c")
+            .build();
+
+        DiagramLayout layout = layeredLayout.layout(diagram, LayoutOptions.defaults());
+
+        double a = layout.findPlacement("a").orElseThrow().centerY();
+        double b = layout.findPlacement("b").orElseThrow().centerY();
+        double c = layout.findPlacement("c").orElseThrow().centerY();
+        double d = layout.findPlacement("d").orElseThrow().centerY();
+        assertThat(a < b).isEqualTo(d < c);
+    }
+
+    @Test
+    void routesCyclesAndLongEdgesOrthogonally() {
+        Diagram diagram = Diagram.builder()
+            .addNode(node("a"))
+            .addNode(node("b"))
+            .addNode(node("c"))
+            .addEdge("a", "b")
+            .addEdge("b", "c")
+            .addEdge("c", "a")
+            .addEdge("a", "c")
+            .build();
+
+        DiagramLayout layout = layeredLayout.layout(diagram, LayoutOptions.builder()
+            .direction(LayoutDirection.TOP_TO_BOTTOM)
+            .routing(EdgeRouting.ORTHOGONAL)
+            .build());
+
+        assertThat(layout.getRoutes()).hasSize(4);
+        for (EdgeRoute route : layout.getRoutes()) {
+            List<LayoutPoint> points = route.points();
+            for (int i = 1; i < points.size(); i++) {
+                LayoutPoint from = points.get(i - 1);
+                LayoutPoint to = points.get(i);
+                assertThat(from.x() == to.x() || from.y() == to.y()).as("%s segment %d", route, i).isTrue();
+            }
+            NodePlacement source = layout.findPlacement(route.from()).orElseThrow();
+            assertThat(points.getFirst().x()).isEqualTo(source.centerX());
+        }
+    }
+
+    @Test
+    void relayoutKeepsUnchangedNodesPinned() {
+        Diagram.Builder builder = Diagram.builder()
+            .addNode(node("gateway"))
+            .addNode(node("orders"))
+            .addNode(node("billing"))
+            .addEdge("gateway", "orders")
+            .addEdge("gateway", "billing");
+        DiagramLayout before = layeredLayout.layout(builder.build(), LayoutOptions.defaults());
+
+        Diagram grown = builder
+            .addNode(node("inventory"))
+            .addEdge("gateway", "inventory")
+            .addEdge("orders", "inventory")
+            .build();
+        DiagramLayout after = layeredLayout.relayout(grown, LayoutOptions.defaults(), before);
+
+        for (NodePlacement placement : before.getPlacements()) {
+            assertThat(after.findPlacement(placement.id())).contains(placement);
+        }
+        assertNoOverlaps(after);
+    }
+
+    @Test
+    void laysOutFiveThousandNodesWithoutOverlaps() {
+        Diagram diagram = randomDiagram(new Random(11));
+
+        DiagramLayout layout = layeredLayout.layout(diagram, LayoutOptions.defaults());
+
+        assertThat(layout.getPlacements()).hasSize(NODE_COUNT);
+        assertNoOverlaps(layout);
+    }
+
+    private static void assertNoOverlaps(DiagramLayout layout) {
+        List<NodePlacement> placements = layout.getPlacements().stream()
+            .sorted((left, right) -> Double.compare(left.centerX(), right.centerX()))
+            .toList();
+        for (int i = 0; i < placements.size(); i++) {
+            NodePlacement left = placements.get(i);
+            for (int j = i + 1; j < placements.size(); j++) {
+                NodePlacement right = placements.get(j);
+                if (right.centerX() - right.width() / 2.0 >= left.centerX() + left.width() / 2.0) {
+                    break;
+                }
+                boolean separated = Math.abs(left.centerY() - right.centerY()) >= (left.height() + right.height()) / 2.0;
+                assertThat(separated).as("%s overlaps %s", left.id(), right.id()).isTrue();
+            }
+        }
+    }
+
+    static Diagram randomDiagram(Random random) {
+        Diagram.Builder builder = Diagram.builder();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            builder.addNode(new DiagramNode("n" + i, "Node " + i, 80 + random.nextInt(80), 40 + random.nextInt(30)));
+        }
+        for (int i = 1; i < NODE_COUNT; i++) {
+            builder.addEdge("n" + Math.max(0, i - 1 - random.nextInt(40)), "n" + i);
+            if (random.nextInt(3) == 0) {
+                builder.addEdge("n" + i, "n" + Math.min(NODE_COUNT - 1, i + 1 + random.nextInt(120)));
+            }
+        }
+        return builder.build();
+    }
+
+    private static DiagramNode node(String id) {
+        return new DiagramNode(id, id, 120, 60);
+    }
+}
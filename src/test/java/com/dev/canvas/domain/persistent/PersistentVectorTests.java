@@ -0,0 +1,42 @@
+package com.dev.canvas.domain.persistent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class PersistentVectorTests {
+
+    @Test
+    void matchesArrayListAcrossTrieDepths() {
+        for (int size : new int[] {0, 1, 31, 32, 33, 1_024, 1_025, 32_768, 50_000}) {
+            List<Integer> expected = new ArrayList<>(IntStream.range(0, size).boxed().toList());
+            PersistentVector<Integer> vector = PersistentVector.copyOf(expected);
+
+            Random random = new Random(size);
+            for (int edit = 0; edit < 200 && size > 0; edit++) {
+                int index = random.nextInt(size);
+                int value = random.nextInt();
+                expected.set(index, value);
+                vector = vector.with(index, value);
+            }
+
+            assertThat(vector).as("size %d", size).hasSize(size).containsExactlyElementsOf(expected);
+            for (int i = 0; i < size; i += 97) {
+                assertThat(vector.get(i)).isEqualTo(expected.get(i));
+            }
+        }
+    }
+
+    @Test
+    void leavesEarlierVersionsUntouched() {
+        PersistentVector<String> original = PersistentVector.copyOf(List.of("a", "b", "c"));
+        PersistentVector<String> edited = original.with(1, "B");
+
+        assertThat(original).containsExactly("a", "b", "c");
+        assertThat(edited).containsExactly("a", "B", "c");
+    }
+}
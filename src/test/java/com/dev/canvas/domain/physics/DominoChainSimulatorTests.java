@@ -0,0 +1,89 @@
+package com.dev.canvas.domain.physics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.dev.canvas.domain.animation.PropertyTween;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class DominoChainSimulatorTests {
+
+    private static final int SPACING = 100;
+    private static final int HEIGHT = 120;
+    private static final int DEPTH = 10;
+
+    @Test
+    void producesIdenticalKeyframesRegardlessOfParallelism() {
+        DominoChain chain = chain(2_000);
+
+        DominoChainSimulation sequential;
+        DominoChainSimulation parallel;
+        try (ForkJoinPool single = new ForkJoinPool(1); ForkJoinPool quad = new ForkJoinPool(4)) {
+            sequential = simulate(chain, single);
+            parallel = simulate(chain, quad);
+        }
+
+        for (int i = 0; i < chain.getCount(); i++) {
+            assertThat(keyframes(parallel.getRotationTween(i)))
+                .as("domino %d", i)
+                .isEqualTo(keyframes(sequential.getRotationTween(i)));
+        }
+    }
+
+    @Test
+    void topplesEveryDominoInOrderAndLeavesThemLeaning() {
+        DominoChain chain = chain(1_000);
+        DominoChainSimulation simulation = simulate(chain, ForkJoinPool.commonPool());
+        double restingDegrees = Math.toDegrees(Math.acos((double) DEPTH / SPACING));
+
+        assertThat(simulation.getToppledCount()).isEqualTo(chain.getCount());
+        for (int i = 1; i < chain.getCount(); i++) {
+            assertThat(simulation.getRotationTween(i).getStartMillis())
+                .isGreaterThan(simulation.getRotationTween(i - 1).getStartMillis());
+        }
+        for (int i = 0; i < chain.getCount() - 1; i++) {
+            assertThat(simulation.getRotationTween(i).getKeyframes().getLast().getValue())
+                .isCloseTo(restingDegrees, within(1.0));
+        }
+        assertThat(simulation.getRotationTween(chain.getCount() - 1).getKeyframes().getLast().getValue())
+            .isCloseTo(90, within(1e-9));
+    }
+
+    @Test
+    void stopsWhenThePushCannotTopple() {
+        DominoChain chain = DominoChain.builder()
+            .count(10)
+            .spacing(SPACING)
+            .height(HEIGHT)
+            .depth(DEPTH)
+            .pushVelocity(0.05)
+            .build();
+
+        DominoChainSimulation simulation = simulate(chain, ForkJoinPool.commonPool());
+
+        assertThat(simulation.getToppledCount()).isZero();
+        assertThat(simulation.getRotationTweens()).allSatisfy(tween ->
+            assertThat(tween.getKeyframes().getLast().getValue()).isZero());
+    }
+
+    private static DominoChain chain(int count) {
+        return DominoChain.builder()
+            .count(count)
+            .spacing(SPACING)
+            .height(HEIGHT)
+            .depth(DEPTH)
+            .build();
+    }
+
+    private static DominoChainSimulation simulate(DominoChain chain, ForkJoinPool pool) {
+        return new DominoChainSimulator(pool).simulate(chain);
+    }
+
+    private static List<String> keyframes(PropertyTween tween) {
+        return tween.getKeyframes().stream()
+            .map(keyframe -> keyframe.getTimeMillis() + ":" + Double.doubleToLongBits(keyframe.getValue()))
+            .toList();
+    }
+}
@@ -0,0 +1,40 @@
+package com.dev.canvas.domain.projection;
+
+import com.dev.canvas.domain.animation.ElementFixtures;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+@EnabledIfSystemProperty(named = "load.test", matches = "true")
+class DominoProjectionKernelBenchmarkTests {
+
+    private static final int DOMINO_COUNT = 100_003;
+    private static final int FRAME_COUNT = 200;
+
+    private final DominoBatch batch = DominoBatch.of(ElementFixtures.topplingDominos(new Random(7), DOMINO_COUNT));
+
+    @Test
+    void reportsMillisPerHundredThousandDominoFrame() {
+        float[] radians = new float[batch.size()];
+        ProjectedFrame frame = new ProjectedFrame(batch.size());
+        batch.rotationsAt(1_000, radians);
+        DominoProjectionKernel vector = DominoProjectionKernel.best();
+
+        double scalarMillis = millisPerFrame(new ScalarDominoProjectionKernel(), radians, frame);
+        double vectorMillis = millisPerFrame(vector, radians, frame);
+
+        System.out.printf("dominos=%d kernel=%s scalarMillis=%.2f vectorMillis=%.2f%n",
+            batch.size(), vector.getName(), scalarMillis, vectorMillis);
+    }
+
+    private double millisPerFrame(DominoProjectionKernel kernel, float[] radians, ProjectedFrame frame) {
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            kernel.project(batch, radians, frame);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            kernel.project(batch, radians, frame);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / FRAME_COUNT;
+    }
+}
@@ -0,0 +1,32 @@
+package com.dev.canvas.domain.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.dev.canvas.domain.animation.ElementFixtures;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class DominoProjectionKernelTests {
+
+    private static final int DOMINO_COUNT = 100_003;
+
+    private final DominoBatch batch = DominoBatch.of(ElementFixtures.topplingDominos(new Random(7), DOMINO_COUNT));
+    private final DominoProjectionKernel scalar = new ScalarDominoProjectionKernel();
+    private final DominoProjectionKernel vector = DominoProjectionKernel.best();
+
+    @Test
+    void vectorKernelMatchesScalarKernel() {
+        for (int t = 0; t <= 2_000; t += 250) {
+            ProjectedFrame expected = scalar.projectAt(batch, t);
+            ProjectedFrame actual = vector.projectAt(batch, t);
+
+            for (int domino = 0; domino < batch.size(); domino++) {
+                for (int corner = 0; corner < DominoCamera.CORNER_COUNT; corner++) {
+                    assertThat(actual.x(domino, corner)).isCloseTo(expected.x(domino, corner), within(1e-2f));
+                    assertThat(actual.y(domino, corner)).isCloseTo(expected.y(domino, corner), within(1e-2f));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.dev.canvas.domain.spatial;
+
+import static com.dev.canvas.domain.animation.ElementFixtures.keyframe;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dev.canvas.domain.animation.CircleProperties;
+import com.dev.canvas.domain.animation.EasingFunction;
+import com.dev.canvas.domain.animation.ElementFixtures;
+import com.dev.canvas.domain.animation.PropertyPath;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.Style;
+import com.dev.canvas.domain.animation.TextProperties;
+import com.dev.canvas.domain.text.TextMeasurement;
+import com.dev.canvas.domain.text.TextMetricsService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SpatialIndexTests {
+
+    private static final int ELEMENT_COUNT = 100_000;
+    private static final int WORLD_SIZE = 20_000;
+
+    private final Random random = new Random(42);
+    private final List<SceneElement> elements = ElementFixtures.movingCircles(random, ELEMENT_COUNT, WORLD_SIZE);
+    private final SpatialIndex index = SpatialIndex.of(elements);
+
+    @Test
+    void hitMatchesLinearScan() {
+        for (int i = 0; i < 500; i++) {
+            double x = random.nextDouble() * WORLD_SIZE;
+            double y = random.nextDouble() * WORLD_SIZE;
+            int t = random.nextInt(2_000);
+
+            List<SceneElement> expected = new ArrayList<>();
+            for (SceneElement element : elements.reversed()) {
+                if (ElementBounds.isActive(element, t) && ElementBounds.at(element, t).contains(x, y)) {
+                    expected.add(element);
+                }
+            }
+
+            assertThat(index.hit(x, y, t)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void visibleMatchesLinearScan() {
+        for (int i = 0; i < 50; i++) {
+            double minX = random.nextDouble() * WORLD_SIZE;
+            double minY = random.nextDouble() * WORLD_SIZE;
+            Bounds viewport = new Bounds(minX, minY, minX + 1_920, minY + 1_080);
+            int t = random.nextInt(2_000);
+
+            List<SceneElement> expected = elements.stream()
+                .filter(element -> ElementBounds.isActive(element, t))
+                .filter(element -> ElementBounds.at(element, t).intersects(viewport))
+                .toList();
+
+            assertThat(index.visible(viewport, t)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void keepsSweepingElementsOutOfTheGrid() {
+        List<SceneElement> mixed = new ArrayList<>(elements.subList(0, 10_000));
+        Style style = Style.builder().fillColor("#3B82F6").build();
+        for (int i = 0; i < 100; i++) {
+            mixed.add(SceneElement.builder()
+                .elementId("sweep-" + i)
+                .startMillis(0)
+                .durationMillis(2_000)
+                .properties(CircleProperties.builder().centerX(0).centerY(0).radius(40).style(style).build())
+                .addTween(PropertyTween.builder()
+                    .propertyPath(PropertyPath.POSITION_X)
+                    .addKeyframe(keyframe(0, 0, EasingFunction.EASE_IN_OUT))
+                    .addKeyframe(keyframe(2_000, WORLD_SIZE, EasingFunction.EASE_IN_OUT))
+                    .build())
+                .addTween(PropertyTween.builder()
+                    .propertyPath(PropertyPath.POSITION_Y)
+                    .addKeyframe(keyframe(0, random.nextInt(WORLD_SIZE), EasingFunction.EASE_IN_OUT))
+                    .addKeyframe(keyframe(2_000, random.nextInt(WORLD_SIZE), EasingFunction.EASE_IN_OUT))
+                    .build())
+                .build());
+        }
+        SpatialIndex sweeping = SpatialIndex.of(mixed);
+
+        assertThat(sweeping.cellEntries()).isLessThan(4 * mixed.size());
+        for (int i = 0; i < 200; i++) {
+            double x = random.nextDouble() * WORLD_SIZE;
+            double y = random.nextDouble() * WORLD_SIZE;
+            Bounds viewport = new Bounds(x, y, x + 1_920, y + 1_080);
+            int t = random.nextInt(2_000);
+
+            assertThat(sweeping.visible(viewport, t)).containsExactlyElementsOf(mixed.stream()
+                .filter(element -> ElementBounds.isActive(element, t))
+                .filter(element -> ElementBounds.at(element, t).intersects(viewport))
+                .toList());
+            assertThat(sweeping.hit(x, y, t)).containsExactlyElementsOf(mixed.reversed().stream()
+                .filter(element -> ElementBounds.isActive(element, t))
+                .filter(element -> ElementBounds.at(element, t).contains(x, y))
+                .toList());
+        }
+    }
+
+    @Test
+    void textBoundsContainMeasuredGlyphs() {
+        TextMetricsService textMetrics = new TextMetricsService("SansSerif");
+        for (String label : List.of("WWWWWWWW", "MMM mmm @@@", "漢字のラベル", "😀😀😀", "502\nBad Gateway Timeout")) {
+            for (String weight : List.of("400", "700")) {
+                TextProperties text = TextProperties.builder()
+                    .text(label)
+                    .centerX(500)
+                    .centerY(300)
+                    .fontSize(48)
+                    .color("#111827")
+                    .fontWeight(weight)
+                    .build();
+                SceneElement element = SceneElement.builder()
+                    .elementId("label")
+                    .startMillis(0)
+                    .durationMillis(1_000)
+                    .properties(text)
+                    .build();
+
+                Bounds bounds = ElementBounds.at(element, 0);
+                TextMeasurement measured = textMetrics.measure(text);
+
+                assertThat(bounds.maxX() - bounds.minX()).as(label).isGreaterThanOrEqualTo(measured.width());
+                assertThat(bounds.maxY() - bounds.minY()).as(label).isGreaterThanOrEqualTo(measured.height());
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.dev.canvas.domain.text;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextLayout;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TextMetricsServiceTests {
+
+    private static final FontSpec LABEL_FONT = FontSpec.of("SansSerif", 32, "500");
+    private static final int LABEL_COUNT = 10_000;
+
+    private final TextMetricsService textMetrics = new TextMetricsService("SansSerif");
+
+    @Test
+    void glyphCacheMatchesTextLayoutAdvance() {
+        FontRenderContext renderContext = new FontRenderContext(null, true, true);
+
+        for (String text : List.of("Client", "Server", "HTTP Request", "Gateway: 502 Bad Gateway")) {
+            double expected = new TextLayout(text, LABEL_FONT.toAwtFont(), renderContext).getAdvance();
+
+            assertThat(textMetrics.measure(text, LABEL_FONT).width())
+                .as(text)
+                .isCloseTo(expected, within(0.01));
+        }
+    }
+
+    @Test
+    void breaksLinesAtWordBoundariesWithinMaxWidth() {
+        String text = "Requests fan out to three services before the gateway replies";
+        double maxWidth = 320;
+
+        TextMeasurement measurement = textMetrics.measure(text, LABEL_FONT, maxWidth);
+
+        assertThat(measurement.lines()).hasSizeGreaterThan(1);
+        assertThat(measurement.lines()).allSatisfy(line -> {
+            assertThat(line.width()).isLessThanOrEqualTo(maxWidth);
+            assertThat(line.text()).doesNotEndWith(" ");
+        });
+        assertThat(String.join(" ", measurement.lines().stream().map(TextLine::text).toList())).isEqualTo(text);
+        assertThat(measurement.height()).isGreaterThan(measurement.lineHeight());
+    }
+
+    @Test
+    void keepsExplicitLineBreaksAndOverlongWords() {
+        TextMeasurement measurement = textMetrics.measure("Client\nSupercalifragilistic", LABEL_FONT, 50);
+
+        assertThat(measurement.lines()).extracting(TextLine::text)
+            .containsExactly("Client", "Supercalifragilistic");
+        assertThat(measurement.width()).isEqualTo(measurement.lines().get(1).width());
+    }
+
+    @Test
+    void measuresTenThousandLabelsFromSharedGlyphCache() {
+        List<String> labels = IntStream.range(0, LABEL_COUNT)
+            .mapToObj(i -> "Service " + i + " -> queue-" + (i % 97))
+            .toList();
+        TextMetricsService fresh = new TextMetricsService("SansSerif");
+
+        for (String label : labels) {
+            assertThat(textMetrics.measure(label, LABEL_FONT).width())
+                .as(label)
+                .isEqualTo(fresh.measure(label, LABEL_FONT).width())
+                .isPositive();
+        }
+    }
+}
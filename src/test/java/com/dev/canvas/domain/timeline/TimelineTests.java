@@ -0,0 +1,90 @@
+package com.dev.canvas.domain.timeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.dev.canvas.domain.animation.AnimationScene;
+import com.dev.canvas.domain.animation.PropertyTween;
+import com.dev.canvas.domain.animation.SceneElement;
+import com.dev.canvas.domain.animation.SceneFactory;
+import com.dev.canvas.domain.animation.SceneFixtures;
+import com.dev.canvas.domain.animation.SceneId;
+import org.junit.jupiter.api.Test;
+
+class TimelineTests {
+
+    private final SceneFactory sceneFactory = SceneFixtures.sceneFactory();
+
+    @Test
+    void chainsScenesWithGaps() {
+        Timeline timeline = new TimelineFactory(sceneFactory).createIntroChapter();
+        AnimationScene circle = sceneFactory.createCircleSlideScene();
+        AnimationScene clientServer = sceneFactory.createClientServerScene();
+
+        assertThat(timeline.getSegments()).hasSize(3);
+        assertThat(timeline.getSegments().get(1).getOffsetMillis()).isEqualTo(circle.getDurationMillis() + 400);
+        assertThat(timeline.getSegments().get(2).getOffsetMillis())
+            .isEqualTo(circle.getDurationMillis() + 400 + clientServer.getDurationMillis() + 400);
+        assertThat(timeline.getDurationMillis()).isEqualTo(timeline.getSegments().getLast().getEndMillis());
+    }
+
+    @Test
+    void windowKeepsOnlyOverlappingSegments() {
+        Timeline timeline = new TimelineFactory(sceneFactory).createIntroChapter();
+        int circleEnd = timeline.getSegments().getFirst().getEndMillis();
+
+        TimelineWindow head = timeline.window(0, circleEnd);
+        assertThat(head.getSegments()).hasSize(1);
+
+        TimelineWindow gap = timeline.window(circleEnd, circleEnd + 400);
+        assertThat(gap.getSegments()).isEmpty();
+
+        TimelineWindow tail = timeline.window(circleEnd + 400, timeline.getDurationMillis() + 10_000);
+        assertThat(tail.getToMillis()).isEqualTo(timeline.getDurationMillis());
+        assertThat(tail.getSegments().getFirst().getOffsetMillis()).isZero();
+    }
+
+    @Test
+    void clippedTweensReproduceSourceValuesInsideWindow() {
+        AnimationScene scene = sceneFactory.createCircleSlideScene();
+        Timeline timeline = Timeline.builder()
+            .timelineId(SceneId.generate("clip-check").getValue())
+            .name("clip-check")
+            .append(scene)
+            .build();
+
+        int[][] windows = {{1200, 2400}, {0, 700}, {300, scene.getDurationMillis()}, {1, 2}};
+        for (int[] bounds : windows) {
+            int fromMillis = bounds[0];
+            int toMillis = bounds[1];
+            TimelineWindow window = timeline.window(fromMillis, toMillis);
+
+            for (SceneElement source : scene.getElements()) {
+                String clippedId = SceneId.generateForElement(timeline.getTimelineId(), source.getElementId(), 0).getValue();
+                SceneElement clipped = window.getElements().stream()
+                    .filter(element -> element.getElementId().equals(clippedId))
+                    .findFirst()
+                    .orElseThrow();
+
+                for (int index = 0; index < source.getTweens().size(); index++) {
+                    PropertyTween sourceTween = source.getTweens().get(index);
+                    PropertyTween clippedTween = clipped.getTweens().get(index);
+                    for (int timeMillis = fromMillis; timeMillis <= toMillis; timeMillis++) {
+                        assertThat(clippedTween.valueAt(timeMillis - fromMillis))
+                            .as("%s at %d in [%d, %d]", sourceTween.getPropertyPath(), timeMillis, fromMillis, toMillis)
+                            .isCloseTo(sourceTween.valueAt(timeMillis), within(0.5));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void rejectsEmptyWindows() {
+        Timeline timeline = new TimelineFactory(sceneFactory).createIntroChapter();
+
+        assertThatThrownBy(() -> timeline.window(500, 500)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> timeline.window(-1, 500)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
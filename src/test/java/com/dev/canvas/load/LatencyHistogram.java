@@ -0,0 +1,63 @@
+package com.dev.canvas.load;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 11;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+    private static final int BUCKET_COUNT = Long.SIZE - SUB_BUCKET_BITS + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT * SUB_BUCKET_HALF + SUB_BUCKET_HALF);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    void recordNanos(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        counts.incrementAndGet(indexOf(micros));
+        totalCount.incrementAndGet();
+        maxValue.accumulateAndGet(micros, Math::max);
+    }
+
+    long count() {
+        return totalCount.get();
+    }
+
+    long maxMicros() {
+        return maxValue.get();
+    }
+
+    long percentileMicros(double percentile) {
+        long total = totalCount.get();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int index = 0; index < counts.length(); index++) {
+            seen += counts.get(index);
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(index), maxValue.get());
+            }
+        }
+        return maxValue.get();
+    }
+
+    private static int indexOf(long value) {
+        int bucket = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        int subBucket = (int) (value >>> bucket);
+        return bucket == 0 ? subBucket : bucket * SUB_BUCKET_HALF + subBucket;
+    }
+
+    private static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int bucket = (index - SUB_BUCKET_HALF) / SUB_BUCKET_HALF;
+        long subBucket = index - bucket * SUB_BUCKET_HALF;
+        return ((subBucket + 1) << bucket) - 1;
+    }
+}
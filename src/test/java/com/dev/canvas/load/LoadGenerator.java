@@ -0,0 +1,96 @@
+package com.dev.canvas.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+final class LoadGenerator {
+
+    private final URI baseUri;
+    private final LoadMix mix;
+    private final int requestsPerSecond;
+    private final Duration requestTimeout;
+
+    LoadGenerator(URI baseUri, LoadMix mix, int requestsPerSecond, Duration requestTimeout) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive");
+        }
+        this.baseUri = baseUri;
+        this.mix = mix;
+        this.requestsPerSecond = requestsPerSecond;
+        this.requestTimeout = requestTimeout;
+    }
+
+    LoadReport run(Duration duration) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        long requestCount = duration.toNanos() / intervalNanos;
+        SplittableRandom random = new SplittableRandom(42);
+
+        LatencyHistogram corrected = new LatencyHistogram();
+        LatencyHistogram uncorrected = new LatencyHistogram();
+        Map<String, LatencyHistogram> perPath = new ConcurrentHashMap<>();
+        Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                 .version(HttpClient.Version.HTTP_1_1)
+                 .executor(clientExecutor)
+                 .build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long startNanos = System.nanoTime();
+            for (long i = 0; i < requestCount; i++) {
+                long intendedNanos = startNanos + i * intervalNanos;
+                String path = mix.next(random);
+                HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                    .timeout(requestTimeout)
+                    .GET()
+                    .build();
+
+                parkUntil(intendedNanos);
+                executor.execute(() -> {
+                    long sentNanos = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() / 100 != 2) {
+                            failures.computeIfAbsent("HTTP " + response.statusCode(), key -> new LongAdder())
+                                .increment();
+                        }
+                    } catch (Exception e) {
+                        failures.computeIfAbsent(e.getClass().getSimpleName() + ": " + e.getMessage(), key -> new LongAdder()).increment();
+                    }
+                    long completedNanos = System.nanoTime();
+                    corrected.recordNanos(completedNanos - intendedNanos);
+                    uncorrected.recordNanos(completedNanos - sentNanos);
+                    perPath.computeIfAbsent(path, key -> new LatencyHistogram())
+                        .recordNanos(completedNanos - intendedNanos);
+                });
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(requestTimeout.toMillis() + 1_000, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+            Map<String, Long> failureCounts = new TreeMap<>();
+            failures.forEach((reason, count) -> failureCounts.put(reason, count.sum()));
+            return new LoadReport(requestsPerSecond, elapsedNanos, corrected, uncorrected, perPath, failureCounts);
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.dev.canvas.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfSystemProperty(named = "load.test", matches = "true")
+class LoadGeneratorTests {
+
+    private static final String DEFAULT_MIX = String.join(",",
+        "/api/v1/animations/circle-slide=30",
+        "/api/v1/animations/client-server=20",
+        "/api/v1/animations/domino-fall=10",
+        "/api/v1/animations/client-server?schemaVersion=2.0.0&fields=tweens=10",
+        "/api/v1/animations/domino-fall/frame-geometry?t=400=20",
+        "/api/v1/animations/client-server/hit?x=400&y=300&t=1000=10"
+    );
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void reportsLatencyPercentilesAtFixedArrivalRate() throws Exception {
+        LoadGenerator generator = new LoadGenerator(
+            URI.create("http://localhost:" + port),
+            LoadMix.parse(System.getProperty("load.mix", DEFAULT_MIX)),
+            Integer.getInteger("load.rate", 200),
+            Duration.ofSeconds(5)
+        );
+
+        generator.run(Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 5)));
+        LoadReport report = generator.run(Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 20)));
+        report.print(System.out);
+
+        assertThat(report.failures()).isEmpty();
+    }
+}
@@ -0,0 +1,39 @@
+package com.dev.canvas.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+record LoadMix(List<Entry> entries, int totalWeight) {
+
+    static LoadMix parse(String mix) {
+        List<Entry> entries = new ArrayList<>();
+        int totalWeight = 0;
+        for (String part : mix.split(",")) {
+            int separator = part.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Mix entries must look like path=weight: " + part);
+            }
+            int weight = Integer.parseInt(part.substring(separator + 1).trim());
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Mix weights must be positive: " + part);
+            }
+            totalWeight += weight;
+            entries.add(new Entry(part.substring(0, separator).trim(), totalWeight));
+        }
+        return new LoadMix(List.copyOf(entries), totalWeight);
+    }
+
+    String next(RandomGenerator random) {
+        int pick = random.nextInt(totalWeight);
+        for (Entry entry : entries) {
+            if (pick < entry.cumulativeWeight()) {
+                return entry.path();
+            }
+        }
+        throw new IllegalStateException("Weights do not cover " + pick);
+    }
+
+    record Entry(String path, int cumulativeWeight) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.dev.canvas.load;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+record LoadReport(
+    int targetRequestsPerSecond,
+    long elapsedNanos,
+    LatencyHistogram corrected,
+    LatencyHistogram uncorrected,
+    Map<String, LatencyHistogram> perPath,
+    Map<String, Long> failures
+) {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    long failureCount() {
+        return failures.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    double throughput() {
+        return corrected.count() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    void print(PrintStream out) {
+        out.printf("target=%d req/s achieved=%.1f req/s requests=%d failures=%d %s%n",
+            targetRequestsPerSecond, throughput(), corrected.count(), failureCount(), failures);
+        out.printf("%-56s %9s %9s %9s %9s %9s%n", "latency (ms)", "p50", "p90", "p99", "p999", "max");
+        printRow(out, "all, corrected for coordinated omission", corrected);
+        printRow(out, "all, service time only", uncorrected);
+        new TreeMap<>(perPath).forEach((path, histogram) -> printRow(out, path, histogram));
+    }
+
+    private static void printRow(PrintStream out, String label, LatencyHistogram histogram) {
+        StringBuilder row = new StringBuilder(String.format("%-56s", label));
+        for (double percentile : PERCENTILES) {
+            row.append(String.format(" %9.2f", histogram.percentileMicros(percentile) / 1_000.0));
+        }
+        row.append(String.format(" %9.2f", histogram.maxMicros() / 1_000.0));
+        out.println(row);
+    }
+}